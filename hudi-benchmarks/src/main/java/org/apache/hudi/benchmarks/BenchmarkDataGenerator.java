@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.benchmarks;
+
+import org.apache.hudi.io.hfile.HFileContext;
+import org.apache.hudi.io.hfile.HFileWriter;
+import org.apache.hudi.io.hfile.HFileWriterImpl;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic synthetic data shared by the benchmarks, so that results are comparable across runs and releases.
+ */
+public class BenchmarkDataGenerator {
+
+  public static final String KEY_FIELD = "key";
+  public static final String PARTITION_FIELD = "partition";
+  public static final String ORDERING_FIELD = "ts";
+
+  public static final String SCHEMA_STR = "{\"type\":\"record\",\"name\":\"benchmark_record\",\"namespace\":\"hudi.benchmarks\",\"fields\":["
+      + "{\"name\":\"key\",\"type\":\"string\"},"
+      + "{\"name\":\"partition\",\"type\":\"string\"},"
+      + "{\"name\":\"ts\",\"type\":\"long\"},"
+      + "{\"name\":\"rider\",\"type\":\"string\"},"
+      + "{\"name\":\"driver\",\"type\":\"string\"},"
+      + "{\"name\":\"fare\",\"type\":\"double\"},"
+      + "{\"name\":\"tip\",\"type\":[\"null\",\"double\"],\"default\":null},"
+      + "{\"name\":\"city\",\"type\":\"string\"},"
+      + "{\"name\":\"seq\",\"type\":\"int\"}]}";
+
+  // Same as SCHEMA_STR with one extra nullable column, used to benchmark schema evolution rewrites
+  public static final String EVOLVED_SCHEMA_STR = SCHEMA_STR.substring(0, SCHEMA_STR.length() - 2)
+      + ",{\"name\":\"notes\",\"type\":[\"null\",\"string\"],\"default\":null}]}";
+
+  public static final Schema SCHEMA = new Schema.Parser().parse(SCHEMA_STR);
+  public static final Schema EVOLVED_SCHEMA = new Schema.Parser().parse(EVOLVED_SCHEMA_STR);
+
+  private static final String[] CITIES = {"san_francisco", "sao_paulo", "chennai", "amsterdam", "seattle", "tokyo"};
+
+  private final Random random;
+
+  public BenchmarkDataGenerator(long seed) {
+    this.random = new Random(seed);
+  }
+
+  /**
+   * @return random UUID record keys, as generated by most ingestion pipelines.
+   */
+  public List<String> uuidKeys(int numKeys) {
+    List<String> keys = new ArrayList<>(numKeys);
+    for (int i = 0; i < numKeys; i++) {
+      keys.add(new UUID(random.nextLong(), random.nextLong()).toString());
+    }
+    return keys;
+  }
+
+  /**
+   * @return zero-padded sequential keys in lexicographic order, e.g. for HFiles that require sorted keys.
+   */
+  public static List<String> sortedKeys(int numKeys) {
+    List<String> keys = new ArrayList<>(numKeys);
+    for (int i = 0; i < numKeys; i++) {
+      keys.add(sortedKey(i));
+    }
+    return keys;
+  }
+
+  public static String sortedKey(int index) {
+    return String.format("key-%010d", index);
+  }
+
+  public String partition() {
+    return String.format("2025/%02d/%02d", 1 + random.nextInt(12), 1 + random.nextInt(28));
+  }
+
+  /**
+   * Generates records of {@link #SCHEMA} with the given keys.
+   */
+  public List<GenericRecord> records(List<String> keys, long ts) {
+    List<GenericRecord> records = new ArrayList<>(keys.size());
+    for (int i = 0; i < keys.size(); i++) {
+      records.add(record(keys.get(i), ts, i));
+    }
+    return records;
+  }
+
+  public GenericRecord record(String key, long ts, int seq) {
+    GenericRecord record = new GenericData.Record(SCHEMA);
+    record.put(KEY_FIELD, key);
+    record.put(PARTITION_FIELD, partition());
+    record.put(ORDERING_FIELD, ts);
+    record.put("rider", "rider-" + random.nextInt(1000));
+    record.put("driver", "driver-" + random.nextInt(1000));
+    record.put("fare", random.nextDouble() * 100);
+    record.put("tip", random.nextBoolean() ? null : random.nextDouble() * 10);
+    record.put("city", CITIES[random.nextInt(CITIES.length)]);
+    record.put("seq", seq);
+    return record;
+  }
+
+  public byte[] randomBytes(int size) {
+    byte[] bytes = new byte[size];
+    random.nextBytes(bytes);
+    return bytes;
+  }
+
+  /**
+   * Writes an HFile in memory with the given sorted keys and random values.
+   *
+   * @param sortedKeys keys in lexicographic order.
+   * @param valueSize  size of each value in bytes.
+   * @param blockSize  HFile data block size in bytes.
+   * @return the bytes of the HFile.
+   */
+  public byte[] hfile(List<String> sortedKeys, int valueSize, int blockSize) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    HFileContext context = HFileContext.builder().blockSize(blockSize).build();
+    try (HFileWriter writer = new HFileWriterImpl(context, outputStream)) {
+      for (String key : sortedKeys) {
+        writer.append(key, randomBytes(valueSize));
+      }
+    }
+    return outputStream.toByteArray();
+  }
+}
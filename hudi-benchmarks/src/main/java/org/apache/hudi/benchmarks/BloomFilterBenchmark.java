@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.benchmarks;
+
+import org.apache.hudi.common.bloom.BloomFilter;
+import org.apache.hudi.common.bloom.BloomFilterFactory;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the probes of the {@link BloomFilter} implementations, as done by the bloom index for every
+ * incoming record key against every candidate file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BloomFilterBenchmark {
+
+  @Param({"SIMPLE", "DYNAMIC_V0", "SPLIT_BLOCK"})
+  private String bloomFilterTypeCode;
+
+  @Param({"60000"})
+  private int numEntries;
+
+  @Param({"0.000000001", "0.0001"})
+  private double errorRate;
+
+  // Number of probed keys per invocation, half of which are in the filter
+  @Param({"10000"})
+  private int numProbes;
+
+  private BloomFilter bloomFilter;
+  private String serializedBloomFilter;
+  private String[] probeKeys;
+  private String[] absentKeys;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    BenchmarkDataGenerator generator = new BenchmarkDataGenerator(42L);
+    List<String> keys = generator.uuidKeys(numEntries);
+    bloomFilter = BloomFilterFactory.createBloomFilter(numEntries, errorRate, numEntries * 2, bloomFilterTypeCode);
+    keys.forEach(bloomFilter::add);
+    serializedBloomFilter = bloomFilter.serializeToString();
+
+    absentKeys = generator.uuidKeys(numProbes).toArray(new String[0]);
+    probeKeys = new String[numProbes];
+    for (int i = 0; i < numProbes; i++) {
+      probeKeys[i] = i % 2 == 0 ? keys.get(i % numEntries) : absentKeys[i / 2];
+    }
+  }
+
+  /**
+   * Number of probes of absent keys and false positives among them, reported by JMH as secondary
+   * results, to compare the false positive rates of the filter types along with the probe speed.
+   */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class FalsePositiveCounters {
+    public long absentProbes;
+    public long falsePositives;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      absentProbes = 0;
+      falsePositives = 0;
+    }
+  }
+
+  @Benchmark
+  public void mightContain(Blackhole blackhole) {
+    for (String key : probeKeys) {
+      blackhole.consume(bloomFilter.mightContain(key));
+    }
+  }
+
+  @Benchmark
+  public void mightContainAbsentKeys(FalsePositiveCounters counters) {
+    for (String key : absentKeys) {
+      if (bloomFilter.mightContain(key)) {
+        counters.falsePositives++;
+      }
+    }
+    counters.absentProbes += absentKeys.length;
+  }
+
+  @Benchmark
+  public void add() {
+    BloomFilter filter = BloomFilterFactory.createBloomFilter(numEntries, errorRate, numEntries * 2, bloomFilterTypeCode);
+    for (String key : probeKeys) {
+      filter.add(key);
+    }
+  }
+
+  @Benchmark
+  public BloomFilter deserialize() {
+    return BloomFilterFactory.fromString(serializedBloomFilter, bloomFilterTypeCode);
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.benchmarks;
+
+import org.apache.hudi.avro.HoodieAvroReaderContext;
+import org.apache.hudi.common.config.RecordMergeMode;
+import org.apache.hudi.common.config.TypedProperties;
+import org.apache.hudi.common.engine.RecordContext;
+import org.apache.hudi.common.model.DeleteRecord;
+import org.apache.hudi.common.schema.HoodieSchema;
+import org.apache.hudi.common.table.HoodieTableConfig;
+import org.apache.hudi.common.table.read.BufferedRecord;
+import org.apache.hudi.common.table.read.BufferedRecordMerger;
+import org.apache.hudi.common.table.read.BufferedRecordMergerFactory;
+import org.apache.hudi.common.table.read.BufferedRecords;
+import org.apache.hudi.common.util.Option;
+import org.apache.hudi.storage.hadoop.HadoopStorageConfiguration;
+
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the log-log, log-delete and base-log merges of {@link BufferedRecordMerger} with Avro records.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BufferedRecordMergerBenchmark {
+
+  private static final String[] ORDERING_FIELDS = {BenchmarkDataGenerator.ORDERING_FIELD};
+
+  @Param({"EVENT_TIME_ORDERING", "COMMIT_TIME_ORDERING"})
+  private RecordMergeMode recordMergeMode;
+
+  @Param({"10000"})
+  private int numRecords;
+
+  private BufferedRecordMerger<IndexedRecord> merger;
+  private BufferedRecord<IndexedRecord>[] olderRecords;
+  private BufferedRecord<IndexedRecord>[] newerRecords;
+  private DeleteRecord[] deleteRecords;
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    HoodieTableConfig tableConfig = new HoodieTableConfig();
+    tableConfig.setValue(HoodieTableConfig.RECORDKEY_FIELDS, BenchmarkDataGenerator.KEY_FIELD);
+    tableConfig.setValue(HoodieTableConfig.ORDERING_FIELDS, BenchmarkDataGenerator.ORDERING_FIELD);
+    HoodieAvroReaderContext readerContext = new HoodieAvroReaderContext(
+        new HadoopStorageConfiguration(false), tableConfig, Option.empty(), Option.empty());
+    RecordContext<IndexedRecord> recordContext = readerContext.getRecordContext();
+    HoodieSchema schema = HoodieSchema.fromAvroSchema(BenchmarkDataGenerator.SCHEMA);
+    merger = BufferedRecordMergerFactory.create(readerContext, recordMergeMode, false, Option.empty(),
+        Option.empty(), schema, new TypedProperties(), Option.empty());
+
+    BenchmarkDataGenerator generator = new BenchmarkDataGenerator(42L);
+    List<String> keys = generator.uuidKeys(numRecords);
+    List<GenericRecord> older = generator.records(keys, 1L);
+    List<GenericRecord> newer = generator.records(keys, 2L);
+    olderRecords = new BufferedRecord[numRecords];
+    newerRecords = new BufferedRecord[numRecords];
+    deleteRecords = new DeleteRecord[numRecords];
+    for (int i = 0; i < numRecords; i++) {
+      olderRecords[i] = BufferedRecords.fromEngineRecord(older.get(i), schema, recordContext, ORDERING_FIELDS, keys.get(i), false);
+      newerRecords[i] = BufferedRecords.fromEngineRecord(newer.get(i), schema, recordContext, ORDERING_FIELDS, keys.get(i), false);
+      deleteRecords[i] = DeleteRecord.create(keys.get(i), "", 3L);
+    }
+  }
+
+  @Benchmark
+  public void deltaMerge(Blackhole blackhole) throws IOException {
+    for (int i = 0; i < numRecords; i++) {
+      blackhole.consume(merger.deltaMerge(newerRecords[i], olderRecords[i]));
+    }
+  }
+
+  @Benchmark
+  public void deltaMergeDelete(Blackhole blackhole) {
+    for (int i = 0; i < numRecords; i++) {
+      blackhole.consume(merger.deltaMerge(deleteRecords[i], olderRecords[i]));
+    }
+  }
+
+  @Benchmark
+  public void finalMerge(Blackhole blackhole) throws IOException {
+    for (int i = 0; i < numRecords; i++) {
+      blackhole.consume(merger.finalMerge(olderRecords[i], newerRecords[i]));
+    }
+  }
+}
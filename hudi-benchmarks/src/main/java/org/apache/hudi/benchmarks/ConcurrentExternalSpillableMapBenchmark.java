@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.benchmarks;
+
+import org.apache.hudi.common.serialization.DefaultSerializer;
+import org.apache.hudi.common.util.DefaultSizeEstimator;
+import org.apache.hudi.common.util.collection.ConcurrentExternalSpillableMap;
+import org.apache.hudi.common.util.collection.ExternalSpillableMap;
+import org.apache.hudi.io.util.FileIOUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks filling a {@link ConcurrentExternalSpillableMap} from several threads, each of them
+ * putting a slice of the entries as the threads reading different log files of a file group would,
+ * with most of the entries spilled to disk. Compare with {@link ExternalSpillableMapBenchmark#put}
+ * for the single threaded baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ConcurrentExternalSpillableMapBenchmark {
+
+  @Param({"BITCASK", "ROCKS_DB", "MEMORY_MAPPED"})
+  private ExternalSpillableMap.DiskMapType diskMapType;
+
+  @Param({"1", "4", "8"})
+  private int numThreads;
+
+  @Param({"16"})
+  private int numSegments;
+
+  @Param({"100000"})
+  private int numEntries;
+
+  @Param({"256"})
+  private int valueSize;
+
+  // Memory budget of the in-memory part of the map
+  @Param({"4194304"})
+  private long maxInMemorySizeInBytes;
+
+  private File tempDir;
+  private String[] keys;
+  private byte[][] values;
+  private ExecutorService executor;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("hudi-concurrent-spillable-map-benchmark").toFile();
+    BenchmarkDataGenerator generator = new BenchmarkDataGenerator(42L);
+    keys = generator.uuidKeys(numEntries).toArray(new String[0]);
+    values = new byte[numEntries][];
+    for (int i = 0; i < numEntries; i++) {
+      values[i] = generator.randomBytes(valueSize);
+    }
+    executor = Executors.newFixedThreadPool(numThreads);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    executor.shutdownNow();
+    FileIOUtils.deleteDirectory(tempDir);
+  }
+
+  @Benchmark
+  public void concurrentPut() throws Exception {
+    try (ConcurrentExternalSpillableMap<String, byte[]> map = new ConcurrentExternalSpillableMap<>(maxInMemorySizeInBytes, numSegments,
+        tempDir.getAbsolutePath(), new DefaultSizeEstimator<>(), new DefaultSizeEstimator<>(), diskMapType, new DefaultSerializer<>(), false, "benchmark")) {
+      List<Future<?>> futures = new ArrayList<>(numThreads);
+      for (int t = 0; t < numThreads; t++) {
+        int thread = t;
+        futures.add(executor.submit(() -> {
+          for (int i = thread; i < numEntries; i += numThreads) {
+            map.put(keys[i], values[i]);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.benchmarks;
+
+import org.apache.hudi.common.serialization.DefaultSerializer;
+import org.apache.hudi.common.util.DefaultSizeEstimator;
+import org.apache.hudi.common.util.collection.ExternalSpillableMap;
+import org.apache.hudi.io.util.FileIOUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks put and get on {@link ExternalSpillableMap}, with most of the entries spilled to disk,
+ * as in merge handles and log record readers with a small memory budget.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExternalSpillableMapBenchmark {
+
+  @Param({"BITCASK", "ROCKS_DB", "MEMORY_MAPPED"})
+  private ExternalSpillableMap.DiskMapType diskMapType;
+
+  @Param({"false", "true"})
+  private boolean compressionEnabled;
+
+  @Param({"100000"})
+  private int numEntries;
+
+  @Param({"256"})
+  private int valueSize;
+
+  // Memory budget of the in-memory part of the map
+  @Param({"4194304"})
+  private long maxInMemorySizeInBytes;
+
+  private File tempDir;
+  private String[] keys;
+  private byte[][] values;
+  private ExternalSpillableMap<String, byte[]> populatedMap;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    tempDir = Files.createTempDirectory("hudi-spillable-map-benchmark").toFile();
+    BenchmarkDataGenerator generator = new BenchmarkDataGenerator(42L);
+    List<String> keyList = generator.uuidKeys(numEntries);
+    keys = keyList.toArray(new String[0]);
+    values = new byte[numEntries][];
+    for (int i = 0; i < numEntries; i++) {
+      values[i] = generator.randomBytes(valueSize);
+    }
+    populatedMap = newMap();
+    for (int i = 0; i < numEntries; i++) {
+      populatedMap.put(keys[i], values[i]);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    populatedMap.close();
+    FileIOUtils.deleteDirectory(tempDir);
+  }
+
+  @Benchmark
+  public void put() throws IOException {
+    try (ExternalSpillableMap<String, byte[]> map = newMap()) {
+      for (int i = 0; i < numEntries; i++) {
+        map.put(keys[i], values[i]);
+      }
+    }
+  }
+
+  @Benchmark
+  public void get(Blackhole blackhole) {
+    for (String key : keys) {
+      blackhole.consume(populatedMap.get(key));
+    }
+  }
+
+  @Benchmark
+  public void iterate(Blackhole blackhole) {
+    populatedMap.iterator().forEachRemaining(blackhole::consume);
+  }
+
+  private ExternalSpillableMap<String, byte[]> newMap() throws IOException {
+    return new ExternalSpillableMap<>(maxInMemorySizeInBytes, tempDir.getAbsolutePath(), new DefaultSizeEstimator<>(),
+        new DefaultSizeEstimator<>(), diskMapType, new DefaultSerializer<>(), compressionEnabled, "benchmark");
+  }
+}
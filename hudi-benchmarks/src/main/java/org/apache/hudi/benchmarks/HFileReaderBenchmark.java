@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.benchmarks;
+
+import org.apache.hudi.io.ByteArraySeekableDataInputStream;
+import org.apache.hudi.io.ByteBufferBackedInputStream;
+import org.apache.hudi.io.hfile.HFileReader;
+import org.apache.hudi.io.hfile.HFileReaderImpl;
+import org.apache.hudi.io.hfile.KeyValue;
+import org.apache.hudi.io.hfile.UTF8StringKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.apache.hudi.io.hfile.HFileReader.SEEK_TO_BEFORE_BLOCK_FIRST_KEY;
+import static org.apache.hudi.io.hfile.HFileReader.SEEK_TO_BEFORE_FILE_FIRST_KEY;
+import static org.apache.hudi.io.hfile.HFileReader.SEEK_TO_EOF;
+import static org.apache.hudi.io.hfile.HFileReader.SEEK_TO_FOUND;
+
+/**
+ * Benchmarks the point and prefix lookups of {@link HFileReaderImpl}, which back the metadata table reads.
+ * The HFile is kept in memory so that only the block decoding and key comparison costs are measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HFileReaderBenchmark {
+
+  @Param({"1000000"})
+  private int numKeys;
+
+  @Param({"64", "1024"})
+  private int valueSize;
+
+  @Param({"65536"})
+  private int blockSize;
+
+  // Number of sorted keys looked up per invocation, as done by the metadata table readers
+  @Param({"1000"})
+  private int lookupBatchSize;
+
+  private byte[] hfileBytes;
+  private UTF8StringKey[] lookupKeys;
+  private UTF8StringKey[] prefixes;
+  private HFileReader reader;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    BenchmarkDataGenerator generator = new BenchmarkDataGenerator(42L);
+    List<String> keys = BenchmarkDataGenerator.sortedKeys(numKeys);
+    hfileBytes = generator.hfile(keys, valueSize, blockSize);
+
+    Random random = new Random(7L);
+    int[] indexes = random.ints(lookupBatchSize, 0, numKeys).sorted().toArray();
+    lookupKeys = new UTF8StringKey[lookupBatchSize];
+    for (int i = 0; i < lookupBatchSize; i++) {
+      lookupKeys[i] = new UTF8StringKey(keys.get(indexes[i]));
+    }
+    // Each prefix matches 100 consecutive keys
+    prefixes = new UTF8StringKey[10];
+    int[] prefixIndexes = random.ints(prefixes.length, 0, numKeys / 100).sorted().toArray();
+    for (int i = 0; i < prefixes.length; i++) {
+      String key = BenchmarkDataGenerator.sortedKey(prefixIndexes[i] * 100);
+      prefixes[i] = new UTF8StringKey(key.substring(0, key.length() - 2));
+    }
+    reader = newReader();
+    reader.initializeMetadata();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    reader.close();
+  }
+
+  @Benchmark
+  public void openAndInitialize(Blackhole blackhole) throws IOException {
+    try (HFileReader newReader = newReader()) {
+      newReader.initializeMetadata();
+      blackhole.consume(newReader.getNumKeyValueEntries());
+    }
+  }
+
+  @Benchmark
+  public void sortedPointLookups(Blackhole blackhole) throws IOException {
+    reader.seekTo();
+    for (UTF8StringKey key : lookupKeys) {
+      if (reader.seekTo(key) == SEEK_TO_FOUND) {
+        blackhole.consume(reader.getKeyValue().get());
+      }
+    }
+  }
+
+  @Benchmark
+  public void prefixScans(Blackhole blackhole) throws IOException {
+    reader.seekTo();
+    for (UTF8StringKey prefix : prefixes) {
+      int result = reader.seekTo(prefix);
+      if (result == SEEK_TO_EOF) {
+        break;
+      }
+      // Unless the cursor already points to the first key after the prefix,
+      // it points to the greatest key smaller than the prefix
+      boolean hasNext = result == SEEK_TO_BEFORE_BLOCK_FIRST_KEY || result == SEEK_TO_BEFORE_FILE_FIRST_KEY || reader.next();
+      while (hasNext) {
+        KeyValue keyValue = reader.getKeyValue().get();
+        if (!keyValue.getKey().getContentInString().startsWith(prefix.getContentInString())) {
+          break;
+        }
+        blackhole.consume(keyValue);
+        hasNext = reader.next();
+      }
+    }
+  }
+
+  @Benchmark
+  public void fullScan(Blackhole blackhole) throws IOException {
+    if (reader.seekTo()) {
+      do {
+        blackhole.consume(reader.getKeyValue().get());
+      } while (reader.next());
+    }
+  }
+
+  private HFileReader newReader() {
+    return new HFileReaderImpl(
+        new ByteArraySeekableDataInputStream(new ByteBufferBackedInputStream(hfileBytes)), hfileBytes.length);
+  }
+}
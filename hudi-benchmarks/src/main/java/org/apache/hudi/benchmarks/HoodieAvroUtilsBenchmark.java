@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.benchmarks;
+
+import org.apache.hudi.avro.HoodieAvroUtils;
+
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Avro record conversions of {@link HoodieAvroUtils} that sit on the read and write paths:
+ * schema evolution rewrites and binary (de)serialization.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HoodieAvroUtilsBenchmark {
+
+  // Number of records converted per invocation
+  @Param({"10000"})
+  private int numRecords;
+
+  private List<GenericRecord> records;
+  private byte[][] serializedRecords;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    BenchmarkDataGenerator generator = new BenchmarkDataGenerator(42L);
+    records = generator.records(generator.uuidKeys(numRecords), System.currentTimeMillis());
+    serializedRecords = new byte[numRecords][];
+    for (int i = 0; i < numRecords; i++) {
+      serializedRecords[i] = HoodieAvroUtils.avroToBytes(records.get(i));
+    }
+  }
+
+  @Benchmark
+  public void rewriteRecord(Blackhole blackhole) {
+    for (GenericRecord record : records) {
+      blackhole.consume(HoodieAvroUtils.rewriteRecord(record, BenchmarkDataGenerator.EVOLVED_SCHEMA));
+    }
+  }
+
+  @Benchmark
+  public void rewriteRecordWithNewSchema(Blackhole blackhole) {
+    for (GenericRecord record : records) {
+      blackhole.consume(HoodieAvroUtils.rewriteRecordWithNewSchema(record, BenchmarkDataGenerator.EVOLVED_SCHEMA));
+    }
+  }
+
+  @Benchmark
+  public void avroToBytes(Blackhole blackhole) {
+    for (GenericRecord record : records) {
+      blackhole.consume(HoodieAvroUtils.avroToBytes(record));
+    }
+  }
+
+  @Benchmark
+  public void bytesToAvro(Blackhole blackhole) throws IOException {
+    for (byte[] bytes : serializedRecords) {
+      blackhole.consume(HoodieAvroUtils.bytesToAvro(bytes, BenchmarkDataGenerator.SCHEMA));
+    }
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.benchmarks;
+
+import org.apache.hudi.common.model.HoodieAvroIndexedRecord;
+import org.apache.hudi.common.model.HoodieLogFile;
+import org.apache.hudi.common.model.HoodieRecord;
+import org.apache.hudi.common.schema.HoodieSchema;
+import org.apache.hudi.common.table.log.HoodieLogFileReader;
+import org.apache.hudi.common.table.log.HoodieLogFormat;
+import org.apache.hudi.common.table.log.HoodieLogFormatWriter;
+import org.apache.hudi.common.table.log.block.HoodieAvroDataBlock;
+import org.apache.hudi.common.table.log.block.HoodieDataBlock;
+import org.apache.hudi.common.table.log.block.HoodieLogBlock;
+import org.apache.hudi.common.util.collection.ClosableIterator;
+import org.apache.hudi.io.util.FileIOUtils;
+import org.apache.hudi.storage.HoodieStorage;
+import org.apache.hudi.storage.HoodieStorageUtils;
+import org.apache.hudi.storage.StoragePath;
+import org.apache.hudi.storage.hadoop.HadoopStorageConfiguration;
+
+import org.apache.avro.generic.IndexedRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks reading and decoding Avro data blocks with {@link HoodieLogFileReader} from a local log file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class HoodieLogFileReaderBenchmark {
+
+  private static final String INSTANT_TIME = "20250101000000000";
+
+  @Param({"10"})
+  private int numBlocks;
+
+  @Param({"10000"})
+  private int recordsPerBlock;
+
+  private File tempDir;
+  private HoodieStorage storage;
+  private HoodieLogFile logFile;
+  private HoodieSchema schema;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException, InterruptedException {
+    tempDir = Files.createTempDirectory("hudi-log-benchmark").toFile();
+    StoragePath basePath = new StoragePath(tempDir.getAbsolutePath());
+    storage = HoodieStorageUtils.getStorage(basePath, new HadoopStorageConfiguration(true));
+    schema = HoodieSchema.fromAvroSchema(BenchmarkDataGenerator.SCHEMA);
+
+    BenchmarkDataGenerator generator = new BenchmarkDataGenerator(42L);
+    Map<HoodieLogBlock.HeaderMetadataType, String> header = new HashMap<>();
+    header.put(HoodieLogBlock.HeaderMetadataType.INSTANT_TIME, INSTANT_TIME);
+    header.put(HoodieLogBlock.HeaderMetadataType.SCHEMA, schema.toString());
+    try (HoodieLogFormat.Writer writer = HoodieLogFormatWriter.builder()
+        .withParentPath(basePath)
+        .withFileExtension(HoodieLogFile.DELTA_EXTENSION)
+        .withLogFileId("benchmark-file-id")
+        .withInstantTime(INSTANT_TIME)
+        .withStorage(storage)
+        .build()) {
+      for (int i = 0; i < numBlocks; i++) {
+        List<HoodieRecord> records = generator.records(generator.uuidKeys(recordsPerBlock), i).stream()
+            .map(HoodieAvroIndexedRecord::new)
+            .collect(Collectors.toList());
+        writer.appendBlock(new HoodieAvroDataBlock(records, header, BenchmarkDataGenerator.KEY_FIELD));
+      }
+      logFile = writer.getLogFile();
+    }
+    logFile = new HoodieLogFile(storage.getPathInfo(logFile.getPath()));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    storage.close();
+    FileIOUtils.deleteDirectory(tempDir);
+  }
+
+  /**
+   * Reads the block headers and contents without decoding the records.
+   */
+  @Benchmark
+  public void readBlocks(Blackhole blackhole) throws IOException {
+    try (HoodieLogFileReader reader = new HoodieLogFileReader(storage, logFile, schema, HoodieLogFileReader.DEFAULT_BUFFER_SIZE)) {
+      while (reader.hasNext()) {
+        blackhole.consume(reader.next());
+      }
+    }
+  }
+
+  /**
+   * Reads the blocks and decodes all the records.
+   */
+  @Benchmark
+  public void readAndDecodeRecords(Blackhole blackhole) throws IOException {
+    try (HoodieLogFileReader reader = new HoodieLogFileReader(storage, logFile, schema, HoodieLogFileReader.DEFAULT_BUFFER_SIZE)) {
+      while (reader.hasNext()) {
+        HoodieLogBlock block = reader.next();
+        if (block instanceof HoodieDataBlock) {
+          try (ClosableIterator<HoodieRecord<IndexedRecord>> records =
+                   ((HoodieDataBlock) block).getRecordIterator(HoodieRecord.HoodieRecordType.AVRO)) {
+            while (records.hasNext()) {
+              blackhole.consume(records.next());
+            }
+          }
+        }
+      }
+    }
+  }
+}
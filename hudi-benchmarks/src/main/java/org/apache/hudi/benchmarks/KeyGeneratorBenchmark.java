@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.benchmarks;
+
+import org.apache.hudi.common.config.TimestampKeyGeneratorConfig;
+import org.apache.hudi.common.config.TypedProperties;
+import org.apache.hudi.keygen.BaseKeyGenerator;
+import org.apache.hudi.keygen.ComplexAvroKeyGenerator;
+import org.apache.hudi.keygen.SimpleAvroKeyGenerator;
+import org.apache.hudi.keygen.TimestampBasedAvroKeyGenerator;
+import org.apache.hudi.keygen.constant.KeyGeneratorOptions;
+
+import org.apache.avro.generic.GenericRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the record key and partition path extraction done by the key generators for every written record.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class KeyGeneratorBenchmark {
+
+  @Param({"SIMPLE", "COMPLEX", "TIMESTAMP"})
+  private String keyGeneratorType;
+
+  // Number of records keyed per invocation
+  @Param({"10000"})
+  private int numRecords;
+
+  private BaseKeyGenerator keyGenerator;
+  private List<GenericRecord> records;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    BenchmarkDataGenerator generator = new BenchmarkDataGenerator(42L);
+    records = generator.records(generator.uuidKeys(numRecords), System.currentTimeMillis());
+
+    TypedProperties props = new TypedProperties();
+    props.setProperty(KeyGeneratorOptions.RECORDKEY_FIELD_NAME.key(), BenchmarkDataGenerator.KEY_FIELD);
+    props.setProperty(KeyGeneratorOptions.PARTITIONPATH_FIELD_NAME.key(), BenchmarkDataGenerator.PARTITION_FIELD);
+    switch (keyGeneratorType) {
+      case "SIMPLE":
+        keyGenerator = new SimpleAvroKeyGenerator(props);
+        break;
+      case "COMPLEX":
+        props.setProperty(KeyGeneratorOptions.RECORDKEY_FIELD_NAME.key(),
+            BenchmarkDataGenerator.KEY_FIELD + ",city");
+        props.setProperty(KeyGeneratorOptions.PARTITIONPATH_FIELD_NAME.key(),
+            BenchmarkDataGenerator.PARTITION_FIELD + ",city");
+        keyGenerator = new ComplexAvroKeyGenerator(props);
+        break;
+      case "TIMESTAMP":
+        props.setProperty(KeyGeneratorOptions.PARTITIONPATH_FIELD_NAME.key(), BenchmarkDataGenerator.ORDERING_FIELD);
+        props.setProperty(TimestampKeyGeneratorConfig.TIMESTAMP_TYPE_FIELD.key(), "EPOCHMILLISECONDS");
+        props.setProperty(TimestampKeyGeneratorConfig.TIMESTAMP_OUTPUT_DATE_FORMAT.key(), "yyyy/MM/dd");
+        keyGenerator = new TimestampBasedAvroKeyGenerator(props);
+        break;
+      default:
+        throw new IllegalArgumentException("Unsupported key generator type: " + keyGeneratorType);
+    }
+  }
+
+  @Benchmark
+  public void getKey(Blackhole blackhole) {
+    for (GenericRecord record : records) {
+      blackhole.consume(keyGenerator.getKey(record));
+    }
+  }
+
+  @Benchmark
+  public void getRecordKey(Blackhole blackhole) {
+    for (GenericRecord record : records) {
+      blackhole.consume(keyGenerator.getRecordKey(record));
+    }
+  }
+
+  @Benchmark
+  public void getPartitionPath(Blackhole blackhole) {
+    for (GenericRecord record : records) {
+      blackhole.consume(keyGenerator.getPartitionPath(record));
+    }
+  }
+}
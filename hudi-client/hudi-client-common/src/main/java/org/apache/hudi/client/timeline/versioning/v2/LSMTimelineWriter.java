@@ -52,10 +52,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.IndexedRecord;
 
+import javax.annotation.Nullable;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
@@ -136,11 +139,13 @@ public class LSMTimelineWriter {
     } catch (IOException ioe) {
       throw new HoodieIOException("Failed to check archiving file before write: " + filePath, ioe);
     }
+    FileStats fileStats = new FileStats();
     try (HoodieFileWriter writer = openWriter(filePath)) {
       Schema wrapperSchema = HoodieLSMTimelineInstant.getClassSchema();
       log.info("Writing schema " + wrapperSchema.toString());
       HoodieSchema schema = HoodieSchema.fromAvroSchema(wrapperSchema);
       for (ActiveAction activeAction : activeActions) {
+        fileStats.add(activeAction);
         try {
           preWriteCallback.ifPresent(callback -> callback.accept(activeAction));
           // in local FS and HDFS, there could be empty completed instants due to crash.
@@ -155,7 +160,7 @@ public class LSMTimelineWriter {
       throw new HoodieCommitException("Failed to write commits", e);
     }
     try {
-      updateManifest(filePath.getName());
+      updateManifest(Collections.emptyList(), fileName -> fileStats.toFileEntry(fileName, getFileLen(fileName)), filePath.getName());
     } catch (IOException e) {
       throw new HoodieIOException("Failed to update archiving manifest", e);
     }
@@ -192,10 +197,25 @@ public class LSMTimelineWriter {
    * @param fileToAdd     New file name to add
    */
   public void updateManifest(List<String> filesToRemove, String fileToAdd) throws IOException {
+    // the statistics of the compacted file are merged from the removed source files
+    updateManifest(filesToRemove, null, fileToAdd);
+  }
+
+  private void updateManifest(
+      List<String> filesToRemove,
+      @Nullable FileEntryFactory fileEntryFactory,
+      String fileToAdd) throws IOException {
     int latestVersion = LSMTimeline.latestSnapshotVersion(metaClient, archivePath);
     HoodieLSMTimelineManifest latestManifest = LSMTimeline.latestSnapshotManifest(metaClient, latestVersion, archivePath);
     HoodieLSMTimelineManifest newManifest = latestManifest.copy(filesToRemove);
-    newManifest.addFile(getFileEntry(fileToAdd));
+    if (fileEntryFactory != null) {
+      newManifest.addFile(fileEntryFactory.create(fileToAdd));
+    } else {
+      List<HoodieLSMTimelineManifest.LSMFileEntry> sourceEntries = latestManifest.getFiles().stream()
+          .filter(fileEntry -> filesToRemove.contains(fileEntry.getFileName()))
+          .collect(Collectors.toList());
+      newManifest.addFile(HoodieLSMTimelineManifest.LSMFileEntry.getInstance(fileToAdd, getFileLen(fileToAdd), sourceEntries));
+    }
     createManifestFile(newManifest, latestVersion);
   }
 
@@ -370,9 +390,11 @@ public class LSMTimelineWriter {
   }
 
   private HoodieLSMTimelineManifest.LSMFileEntry getFileEntry(String fileName) throws IOException {
-    long fileLen = metaClient.getStorage().getPathInfo(
-        new StoragePath(archivePath, fileName)).getLength();
-    return HoodieLSMTimelineManifest.LSMFileEntry.getInstance(fileName, fileLen);
+    return HoodieLSMTimelineManifest.LSMFileEntry.getInstance(fileName, getFileLen(fileName));
+  }
+
+  private long getFileLen(String fileName) throws IOException {
+    return metaClient.getStorage().getPathInfo(new StoragePath(archivePath, fileName)).getLength();
   }
 
   /**
@@ -460,4 +482,49 @@ public class LSMTimelineWriter {
       throw new HoodieException("Unable to initialize archiving writer", e);
     }
   }
+
+  // -------------------------------------------------------------------------
+  //  Inner Class
+  // -------------------------------------------------------------------------
+
+  /**
+   * Factory of the manifest entry for a new file.
+   */
+  @FunctionalInterface
+  private interface FileEntryFactory {
+    HoodieLSMTimelineManifest.LSMFileEntry create(String fileName) throws IOException;
+  }
+
+  /**
+   * Statistics of the instants written into a file, recorded in the manifest for pruning the files on read.
+   */
+  private static class FileStats {
+    private final Set<String> actions = new HashSet<>();
+    private String minCompletionTime;
+    private String maxCompletionTime;
+    // the statistics are dropped if any instant has no completion time
+    private boolean valid = true;
+
+    void add(ActiveAction activeAction) {
+      actions.add(activeAction.getAction());
+      String completionTime = activeAction.getCompletionTime();
+      if (completionTime == null) {
+        valid = false;
+        return;
+      }
+      if (minCompletionTime == null || completionTime.compareTo(minCompletionTime) < 0) {
+        minCompletionTime = completionTime;
+      }
+      if (maxCompletionTime == null || completionTime.compareTo(maxCompletionTime) > 0) {
+        maxCompletionTime = completionTime;
+      }
+    }
+
+    HoodieLSMTimelineManifest.LSMFileEntry toFileEntry(String fileName, long fileLen) {
+      if (!valid || minCompletionTime == null) {
+        return HoodieLSMTimelineManifest.LSMFileEntry.getInstance(fileName, fileLen);
+      }
+      return HoodieLSMTimelineManifest.LSMFileEntry.getInstance(fileName, fileLen, minCompletionTime, maxCompletionTime, actions);
+    }
+  }
 }
@@ -22,7 +22,6 @@ import org.apache.hudi.index.bucket.BucketIdentifier;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashSet;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -33,23 +32,20 @@ import java.util.stream.Collectors;
 public class BucketIndexConcurrentFileWritesConflictResolutionStrategy
     extends SimpleConcurrentFileWritesConflictResolutionStrategy {
 
+  // The buckets of the current operation, which is checked against all the candidate instants of a commit
+  private ConcurrentOperation lastFirstOperation;
+  private Set<String> lastFirstOperationBuckets;
+
   @Override
   public boolean hasConflict(ConcurrentOperation thisOperation, ConcurrentOperation otherOperation) {
     // TODO : UUID's can clash even for insert/insert, handle that case.
-    Set<String> partitionBucketIdSetForFirstInstant = thisOperation
-        .getMutatedPartitionAndFileIds()
-        .stream()
-        .map(partitionAndFileId ->
-            BucketIdentifier.partitionBucketIdStr(partitionAndFileId.getLeft(), BucketIdentifier.bucketIdFromFileId(partitionAndFileId.getRight()))
-        ).collect(Collectors.toSet());
-    Set<String> partitionBucketIdSetForSecondInstant = otherOperation
-        .getMutatedPartitionAndFileIds()
-        .stream()
-        .map(partitionAndFileId ->
-            BucketIdentifier.partitionBucketIdStr(partitionAndFileId.getLeft(), BucketIdentifier.bucketIdFromFileId(partitionAndFileId.getRight()))
-        ).collect(Collectors.toSet());
-    Set<String> intersection = new HashSet<>(partitionBucketIdSetForFirstInstant);
-    intersection.retainAll(partitionBucketIdSetForSecondInstant);
+    if (thisOperation != lastFirstOperation) {
+      lastFirstOperationBuckets = getPartitionBucketIds(thisOperation);
+      lastFirstOperation = thisOperation;
+    }
+    Set<String> partitionBucketIdSetForFirstInstant = lastFirstOperationBuckets;
+    Set<String> partitionBucketIdSetForSecondInstant = getPartitionBucketIds(otherOperation);
+    Set<String> intersection = intersect(partitionBucketIdSetForFirstInstant, partitionBucketIdSetForSecondInstant);
     if (!intersection.isEmpty()) {
       log.info("Found conflicting writes between first operation = " + thisOperation
           + ", second operation = " + otherOperation + " , intersecting bucket ids " + intersection);
@@ -57,4 +53,13 @@ public class BucketIndexConcurrentFileWritesConflictResolutionStrategy
     }
     return false;
   }
+
+  private static Set<String> getPartitionBucketIds(ConcurrentOperation operation) {
+    return operation
+        .getMutatedPartitionAndFileIds()
+        .stream()
+        .map(partitionAndFileId ->
+            BucketIdentifier.partitionBucketIdStr(partitionAndFileId.getLeft(), BucketIdentifier.bucketIdFromFileId(partitionAndFileId.getRight()))
+        ).collect(Collectors.toSet());
+  }
 }
@@ -61,7 +61,6 @@ public class ConcurrentOperation {
 
   @Getter
   private WriteOperationType operationType;
-  private final HoodieMetadataWrapper metadataWrapper;
   @Getter
   private final Option<HoodieCommitMetadata> commitMetadataOption;
   @ToString.Include
@@ -70,7 +69,6 @@ public class ConcurrentOperation {
   private final String actionType;
   @ToString.Include
   private final String instantTime;
-  private final HoodieTableMetaClient metaClient;
   @Getter
   private Set<Pair<String, String>> mutatedPartitionAndFileIds = Collections.emptySet();
   @Getter
@@ -82,24 +80,21 @@ public class ConcurrentOperation {
         && instant.getState().equals(HoodieInstant.State.INFLIGHT)) {
       instant = metaClient.createNewInstant(HoodieInstant.State.REQUESTED, instant.getAction(), instant.requestedTime());
     }
-    this.metadataWrapper = new HoodieMetadataWrapper(MetadataConversionUtils.createMetaWrapper(instant, metaClient));
     this.commitMetadataOption = Option.empty();
     this.actionState = instant.getState().name();
     this.actionType = instant.getAction();
     this.instantTime = instant.requestedTime();
-    this.metaClient = metaClient;  // used only by the other concurrent operation (which reads from timeline)
-    init(instant);
+    // the metaClient is used only by the other concurrent operation (which reads from timeline)
+    init(instant, new HoodieMetadataWrapper(MetadataConversionUtils.createMetaWrapper(instant, metaClient)), metaClient);
   }
 
   public ConcurrentOperation(HoodieInstant instant, HoodieCommitMetadata commitMetadata) {
     this.commitMetadataOption = Option.of(commitMetadata);
-    this.metadataWrapper = new HoodieMetadataWrapper(commitMetadata);
     this.actionState = instant.getState().name();
     this.actionType = instant.getAction();
     this.instantTime = instant.requestedTime();
-    this.metaClient = null;  // used only by the other concurrent operation (which reads from timeline)
     try {
-      init(instant);
+      init(instant, new HoodieMetadataWrapper(commitMetadata), null);
     } catch (IOException e) {
       // This should never happen since we are initializing with commit metadata
       throw new RuntimeException("Failed to initialize ConcurrentOperation for instant: " + instant, e);
@@ -118,12 +113,12 @@ public class ConcurrentOperation {
     return instantTime;
   }
 
-  private void init(HoodieInstant instant) throws IOException {
-    if (this.metadataWrapper.isAvroMetadata()) {
+  private void init(HoodieInstant instant, HoodieMetadataWrapper metadataWrapper, HoodieTableMetaClient metaClient) throws IOException {
+    if (metadataWrapper.isAvroMetadata()) {
       switch (getInstantActionType()) {
         case COMPACTION_ACTION:
           this.operationType = WriteOperationType.COMPACT;
-          this.mutatedPartitionAndFileIds = this.metadataWrapper.getMetadataFromTimeline().getHoodieCompactionPlan().getOperations()
+          this.mutatedPartitionAndFileIds = metadataWrapper.getMetadataFromTimeline().getHoodieCompactionPlan().getOperations()
               .stream()
               .map(operation -> Pair.of(operation.getPartitionPath(), operation.getFileId()))
               .collect(Collectors.toSet());
@@ -134,7 +129,7 @@ public class ConcurrentOperation {
           // commit metadata will be null. In that case we leave mutatedPartitionAndFileIds
           // empty and operationType unset, since the write has not started yet.
           org.apache.hudi.avro.model.HoodieCommitMetadata avroCommitMeta =
-              this.metadataWrapper.getMetadataFromTimeline().getHoodieCommitMetadata();
+              metadataWrapper.getMetadataFromTimeline().getHoodieCommitMetadata();
           if (avroCommitMeta != null) {
             this.mutatedPartitionAndFileIds = getPartitionAndFileIdWithoutSuffixFromSpecificRecord(avroCommitMeta.getPartitionToWriteStats());
             this.operationType = WriteOperationType.fromValue(avroCommitMeta.getOperationType());
@@ -145,7 +140,7 @@ public class ConcurrentOperation {
           if (!instant.isCompleted()) {
             // requested rollback instants have rollback plan in the details; (inflight rollback is empty).
             // irrespective of requested/inflight, always read rollback plan.
-            if (this.metaClient != null) {
+            if (metaClient != null) {
               HoodieInstant requested = metaClient.getInstantGenerator().getRollbackRequestedInstant(instant);
               HoodieRollbackPlan rollbackPlan = metaClient.getActiveTimeline().readRollbackPlan(requested);
               this.rolledbackCommit = rollbackPlan.getInstantToRollback().getCommitTime();
@@ -156,16 +151,16 @@ public class ConcurrentOperation {
         case CLUSTERING_ACTION:
           if (instant.isCompleted()) {
             this.mutatedPartitionAndFileIds = getPartitionAndFileIdWithoutSuffixFromSpecificRecord(
-                this.metadataWrapper.getMetadataFromTimeline().getHoodieReplaceCommitMetadata().getPartitionToWriteStats());
-            Map<String, List<String>> partitionToReplaceFileIds = this.metadataWrapper.getMetadataFromTimeline().getHoodieReplaceCommitMetadata().getPartitionToReplaceFileIds();
+                metadataWrapper.getMetadataFromTimeline().getHoodieReplaceCommitMetadata().getPartitionToWriteStats());
+            Map<String, List<String>> partitionToReplaceFileIds = metadataWrapper.getMetadataFromTimeline().getHoodieReplaceCommitMetadata().getPartitionToReplaceFileIds();
             this.mutatedPartitionAndFileIds.addAll(CommitUtils.flattenPartitionToReplaceFileIds(partitionToReplaceFileIds));
-            this.operationType = WriteOperationType.fromValue(this.metadataWrapper.getMetadataFromTimeline().getHoodieReplaceCommitMetadata().getOperationType());
+            this.operationType = WriteOperationType.fromValue(metadataWrapper.getMetadataFromTimeline().getHoodieReplaceCommitMetadata().getOperationType());
           } else {
             // we need to have different handling for requested and inflight replacecommit because
             // for requested replacecommit, clustering will generate a plan and HoodieRequestedReplaceMetadata will not be empty, but insert_overwrite/insert_overwrite_table could have empty content
             // for inflight replacecommit, clustering will have no content in metadata, but insert_overwrite/insert_overwrite_table will have some commit metadata
-            HoodieRequestedReplaceMetadata requestedReplaceMetadata = this.metadataWrapper.getMetadataFromTimeline().getHoodieRequestedReplaceMetadata();
-            org.apache.hudi.avro.model.HoodieCommitMetadata inflightCommitMetadata = this.metadataWrapper.getMetadataFromTimeline().getHoodieInflightReplaceMetadata();
+            HoodieRequestedReplaceMetadata requestedReplaceMetadata = metadataWrapper.getMetadataFromTimeline().getHoodieRequestedReplaceMetadata();
+            org.apache.hudi.avro.model.HoodieCommitMetadata inflightCommitMetadata = metadataWrapper.getMetadataFromTimeline().getHoodieInflightReplaceMetadata();
             if (instant.isRequested()) {
               // for insert_overwrite/insert_overwrite_table clusteringPlan will be empty
               if (requestedReplaceMetadata != null && requestedReplaceMetadata.getClusteringPlan() != null) {
@@ -175,7 +170,7 @@ public class ConcurrentOperation {
             } else {
               if (inflightCommitMetadata != null) {
                 this.mutatedPartitionAndFileIds = getPartitionAndFileIdWithoutSuffixFromSpecificRecord(inflightCommitMetadata.getPartitionToWriteStats());
-                this.operationType = WriteOperationType.fromValue(this.metadataWrapper.getMetadataFromTimeline().getHoodieInflightReplaceMetadata().getOperationType());
+                this.operationType = WriteOperationType.fromValue(metadataWrapper.getMetadataFromTimeline().getHoodieInflightReplaceMetadata().getOperationType());
               } else if (requestedReplaceMetadata != null) {
                 // inflight replacecommit metadata is empty due to clustering, read fileIds from requested replacecommit
                 this.mutatedPartitionAndFileIds = getPartitionAndFileIdsFromRequestedReplaceMetadata(requestedReplaceMetadata);
@@ -191,17 +186,17 @@ public class ConcurrentOperation {
     } else {
       switch (getInstantActionType()) {
         // the enumerations should be kept in sync with the timeline metadata fetching code path,
-        // e.g. when this.metadataWrapper.isAvroMetadata() is true.
+        // e.g. when metadataWrapper.isAvroMetadata() is true.
         case COMPACTION_ACTION:
         case COMMIT_ACTION:
         case DELTA_COMMIT_ACTION:
         case REPLACE_COMMIT_ACTION:
         case CLUSTERING_ACTION:
         case LOG_COMPACTION_ACTION:
-          this.mutatedPartitionAndFileIds = CommitUtils.getPartitionAndFileIdWithoutSuffix(this.metadataWrapper.getCommitMetadata().getPartitionToWriteStats());
-          this.operationType = this.metadataWrapper.getCommitMetadata().getOperationType();
+          this.mutatedPartitionAndFileIds = CommitUtils.getPartitionAndFileIdWithoutSuffix(metadataWrapper.getCommitMetadata().getPartitionToWriteStats());
+          this.operationType = metadataWrapper.getCommitMetadata().getOperationType();
           if (this.operationType.equals(WriteOperationType.CLUSTER) || WriteOperationType.isOverwrite(this.operationType)) {
-            HoodieReplaceCommitMetadata replaceCommitMetadata = (HoodieReplaceCommitMetadata) this.metadataWrapper.getCommitMetadata();
+            HoodieReplaceCommitMetadata replaceCommitMetadata = (HoodieReplaceCommitMetadata) metadataWrapper.getCommitMetadata();
             mutatedPartitionAndFileIds.addAll(CommitUtils.flattenPartitionToReplaceFileIds(replaceCommitMetadata.getPartitionToReplaceFileIds()));
           }
           break;
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.client.transaction;
+
+import org.apache.hudi.common.table.HoodieTableMetaClient;
+import org.apache.hudi.common.table.timeline.HoodieInstant;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of the {@link ConcurrentOperation}s of the completed instants, shared by all the writers of the JVM.
+ * <p>
+ * With frequent concurrent writers, the same completed instants are candidates for the conflict resolution of
+ * many commits, and the cache avoids reading and parsing their metadata from the timeline for each of these commits.
+ * The metadata of a completed instant never changes, so the cached operations are identified by the table, the
+ * action and the requested and completion times of the instants, and do not need to be invalidated. The pending
+ * instants are always read from the timeline.
+ */
+public class ConcurrentOperationCache {
+
+  // Maximum number of mutated file ids held by the cached operations
+  private static final long MAX_CACHED_FILE_IDS = 500_000L;
+  private static final long EXPIRE_AFTER_ACCESS_MINUTES = 60L;
+  private static final char KEY_SEPARATOR = '|';
+
+  private static final Cache<String, ConcurrentOperation> OPERATIONS = Caffeine.newBuilder()
+      .maximumWeight(MAX_CACHED_FILE_IDS)
+      .weigher((String key, ConcurrentOperation operation) -> operation.getMutatedPartitionAndFileIds().size() + 1)
+      .expireAfterAccess(EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES)
+      .build();
+
+  private ConcurrentOperationCache() {
+  }
+
+  /**
+   * Returns the {@link ConcurrentOperation} of the given instant, read from the timeline if it is not cached.
+   */
+  public static ConcurrentOperation get(HoodieInstant instant, HoodieTableMetaClient metaClient) throws IOException {
+    if (!instant.isCompleted()) {
+      return new ConcurrentOperation(instant, metaClient);
+    }
+    String key = metaClient.getBasePath().toString() + KEY_SEPARATOR + instant.getAction()
+        + KEY_SEPARATOR + instant.requestedTime() + KEY_SEPARATOR + instant.getCompletionTime();
+    ConcurrentOperation operation = OPERATIONS.getIfPresent(key);
+    if (operation == null) {
+      operation = new ConcurrentOperation(instant, metaClient);
+      OPERATIONS.put(key, operation);
+    }
+    return operation;
+  }
+
+  static void clear() {
+    OPERATIONS.invalidateAll();
+  }
+}
@@ -49,9 +49,10 @@ public class DirectMarkerTransactionManager extends TransactionManager {
   public void beginTransaction(String newTxnOwnerInstantTime, InstantGenerator instantGenerator) {
     if (isLockRequired) {
       LOG.info("Transaction starting for " + newTxnOwnerInstantTime + " and " + filePath);
-      lockManager.lock();
+      Option<HoodieInstant> newTxnOwnerInstant = Option.of(getInstant(newTxnOwnerInstantTime, instantGenerator));
+      lockManager.lock(newTxnOwnerInstant);
 
-      reset(changeActionInstant, Option.of(getInstant(newTxnOwnerInstantTime, instantGenerator)), Option.empty());
+      reset(changeActionInstant, newTxnOwnerInstant, Option.empty());
       LOG.info("Transaction started for " + newTxnOwnerInstantTime + " and " + filePath);
     }
   }
@@ -139,8 +139,7 @@ public class SimpleConcurrentFileWritesConflictResolutionStrategy
     // TODO : UUID's can clash even for insert/insert, handle that case.
     Set<Pair<String, String>> partitionAndFileIdsSetForFirstInstant = thisOperation.getMutatedPartitionAndFileIds();
     Set<Pair<String, String>> partitionAndFileIdsSetForSecondInstant = otherOperation.getMutatedPartitionAndFileIds();
-    Set<Pair<String, String>> intersection = new HashSet<>(partitionAndFileIdsSetForFirstInstant);
-    intersection.retainAll(partitionAndFileIdsSetForSecondInstant);
+    Set<Pair<String, String>> intersection = intersect(partitionAndFileIdsSetForFirstInstant, partitionAndFileIdsSetForSecondInstant);
     if (!intersection.isEmpty()) {
       log.info("Found conflicting writes between first operation = " + thisOperation
           + ", second operation = " + otherOperation + " , intersecting file ids " + intersection);
@@ -149,6 +148,23 @@ public class SimpleConcurrentFileWritesConflictResolutionStrategy
     return false;
   }
 
+  /**
+   * Returns the intersection of the two sets, probing the larger set with the elements of the smaller one, so that
+   * checking a write touching many file groups against many small concurrent writes does not copy its file ids for
+   * each of them.
+   */
+  protected static <E> Set<E> intersect(Set<E> first, Set<E> second) {
+    Set<E> smaller = first.size() <= second.size() ? first : second;
+    Set<E> larger = smaller == first ? second : first;
+    Set<E> intersection = new HashSet<>();
+    for (E element : smaller) {
+      if (larger.contains(element)) {
+        intersection.add(element);
+      }
+    }
+    return intersection;
+  }
+
   /**
    * Check whether there is a rollback operation in progress that tries to rollback the commit created by this
    * operation.
@@ -18,10 +18,14 @@
 
 package org.apache.hudi.client.transaction.lock;
 
+import org.apache.hudi.client.transaction.lock.audit.LockContentionEvent;
+import org.apache.hudi.client.transaction.lock.audit.LockContentionTracer;
 import org.apache.hudi.client.transaction.lock.metrics.HoodieLockMetrics;
 import org.apache.hudi.common.config.LockConfiguration;
 import org.apache.hudi.common.config.TypedProperties;
 import org.apache.hudi.common.lock.LockProvider;
+import org.apache.hudi.common.table.timeline.HoodieInstant;
+import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.ReflectionUtils;
 import org.apache.hudi.common.util.RetryHelper;
 import org.apache.hudi.config.HoodieLockConfig;
@@ -29,6 +33,7 @@ import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.exception.HoodieException;
 import org.apache.hudi.exception.HoodieLockException;
 import org.apache.hudi.storage.HoodieStorage;
+import org.apache.hudi.storage.HoodieStorageUtils;
 import org.apache.hudi.storage.StorageConfiguration;
 
 import lombok.extern.slf4j.Slf4j;
@@ -52,6 +57,7 @@ public class LockManager implements Serializable, AutoCloseable {
   private final long maxWaitTimeInMs;
   private final RetryHelper<Boolean, HoodieLockException> lockRetryHelper;
   private transient HoodieLockMetrics metrics;
+  private transient LockContentionTracer contentionTracer;
   private volatile LockProvider lockProvider;
 
   public LockManager(HoodieWriteConfig writeConfig, HoodieStorage storage) {
@@ -75,20 +81,47 @@ public class LockManager implements Serializable, AutoCloseable {
   }
 
   public void lock() {
-    lockRetryHelper.start(() -> {
-      try {
-        metrics.startLockApiTimerContext();
-        if (!getLockProvider().tryLock(writeConfig.getLockAcquireWaitTimeoutInMs(), TimeUnit.MILLISECONDS)) {
-          metrics.updateLockNotAcquiredMetric();
-          throw new HoodieLockException("Unable to acquire the lock. Current lock owner information : "
-              + getLockProvider().getCurrentOwnerLockInfo());
+    lock(Option.empty());
+  }
+
+  /**
+   * Acquires the lock on behalf of the given instant, which tags the acquisition in the contention trace.
+   */
+  public void lock(Option<HoodieInstant> ownerInstant) {
+    LockContentionTracer tracer = getContentionTracer();
+    tracer.startAcquire(ownerInstant.map(instant -> instant.requestedTime() + "_" + instant.getAction()));
+    try {
+      lockRetryHelper.start(() -> {
+        try {
+          metrics.startLockApiTimerContext();
+          boolean acquired;
+          try {
+            acquired = getLockProvider().tryLock(writeConfig.getLockAcquireWaitTimeoutInMs(), TimeUnit.MILLISECONDS);
+          } catch (HoodieLockException e) {
+            tracer.recordFailedAttempt(getLockProvider().getCurrentOwnerLockInfo());
+            throw e;
+          }
+          if (!acquired) {
+            metrics.updateLockNotAcquiredMetric();
+            String currentOwnerLockInfo = getLockProvider().getCurrentOwnerLockInfo();
+            tracer.recordFailedAttempt(currentOwnerLockInfo);
+            throw new HoodieLockException("Unable to acquire the lock. Current lock owner information : "
+                + currentOwnerLockInfo);
+          }
+          metrics.updateLockAcquiredMetric();
+          return true;
+        } catch (InterruptedException e) {
+          throw new HoodieLockException(e);
         }
-        metrics.updateLockAcquiredMetric();
-        return true;
-      } catch (InterruptedException e) {
-        throw new HoodieLockException(e);
-      }
-    });
+      });
+    } catch (RuntimeException e) {
+      tracer.failed().ifPresent(event -> {
+        metrics.updateLockWaitTimeMetric(event.getWaitTimeMs());
+        exportContentionTrace(event);
+      });
+      throw e;
+    }
+    metrics.updateLockWaitTimeMetric(tracer.acquired());
   }
 
   /**
@@ -103,9 +136,34 @@ public class LockManager implements Serializable, AutoCloseable {
       log.error(String.format("Exception encountered when updating lock metrics: %s", e));
     }
     metrics.updateLockReleaseSuccessMetric();
+    getContentionTracer().released().ifPresent(event -> {
+      metrics.updateLockHoldTimeMetric(event.getHoldTimeMs());
+      exportContentionTrace(event);
+    });
     close();
   }
 
+  /**
+   * @return The tracer of the acquisitions of the lock through this lock manager
+   */
+  public synchronized LockContentionTracer getContentionTracer() {
+    if (contentionTracer == null) {
+      contentionTracer = new LockContentionTracer(writeConfig.getBasePath(), HoodieLockMetrics.getLockProviderName(writeConfig));
+    }
+    return contentionTracer;
+  }
+
+  private void exportContentionTrace(LockContentionEvent event) {
+    // Only the contended acquisitions are exported, after the lock is released to not extend the critical section
+    if (writeConfig.isLockContentionTraceEnabled() && event.getWaitTimeMs() >= writeConfig.getLockContentionTraceThresholdMs()) {
+      try {
+        getContentionTracer().export(HoodieStorageUtils.getStorage(writeConfig.getBasePath(), storageConf), event);
+      } catch (Exception e) {
+        log.warn("Unable to export the lock contention trace", e);
+      }
+    }
+  }
+
   public synchronized LockProvider getLockProvider() {
     // Perform lazy initialization of lock provider only if needed
     if (lockProvider == null) {
@@ -55,6 +55,7 @@ import java.net.URI;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
@@ -86,6 +87,11 @@ public class StorageBasedLockProvider implements LockProvider<StorageLockFile> {
   // However, since our lock leases are pretty long, we can use a high buffer.
   private static final long CLOCK_DRIFT_BUFFER_MS = 500;
 
+  // Wait between two polls of the lock file or the wait queue in blocking calls, a random jitter of up to
+  // half of it is added so that the writers of different processes do not poll in lockstep.
+  @VisibleForTesting
+  static final long ACQUIRE_RETRY_WAIT_MS = Long.parseLong(DEFAULT_LOCK_ACQUIRE_RETRY_WAIT_TIME_IN_MILLIS);
+
   // Max number of retry attempts on the lock-expire write after a THROTTLED response.
   @VisibleForTesting
   static final int THROTTLE_MAX_RETRIES = 3;
@@ -106,6 +112,7 @@ public class StorageBasedLockProvider implements LockProvider<StorageLockFile> {
   private final String ownerId;
   private final String lockFilePath;
   private final HeartbeatManager heartbeatManager;
+  private final StorageLockWaitQueue waitQueue;
   private final transient Thread shutdownThread;
   private final Option<HoodieLockMetrics> hoodieLockMetrics;
   private Option<AuditService> auditService;
@@ -199,6 +206,8 @@ public class StorageBasedLockProvider implements LockProvider<StorageLockFile> {
     this.lockFilePath = new StoragePath(lockFolderPath, DEFAULT_TABLE_LOCK_FILE_NAME).toString();
     this.heartbeatManager = heartbeatManagerLoader.apply(ownerId, TimeUnit.SECONDS.toMillis(heartbeatPollSeconds), this::renewLock);
     this.storageLockClient = storageLockClientLoader.apply(ownerId, lockFilePath, properties);
+    this.waitQueue = new StorageLockWaitQueue(storageLockClient,
+        new StoragePath(lockFolderPath, StorageLockWaitQueue.WAIT_QUEUE_FILE_NAME).toString());
     this.ownerId = ownerId;
     this.logger = logger;
     this.hoodieLockMetrics = Option.ofNullable(hoodieLockMetrics);
@@ -219,28 +228,57 @@ public class StorageBasedLockProvider implements LockProvider<StorageLockFile> {
 
   /**
    * Attempts to acquire the lock within the given timeout.
+   *
+   * <p>The waiters of this process line up and only the first one takes part in the wait, see
+   * {@link StorageLockWaiterCoalescer}. It then joins the {@link StorageLockWaitQueue} shared by the
+   * writers of all the processes, and only polls the lock file with conditional writes once at the
+   * head of that queue. The polls are spaced by the retry wait with a random jitter.
    */
   @Override
   public boolean tryLock(long time, TimeUnit unit) {
     long deadlineNanos = System.nanoTime() + unit.toNanos(time);
-
-    while (System.nanoTime() < deadlineNanos) {
-      try {
-        logDebugLockState(ACQUIRING);
-        if (tryLock()) {
-          return true;
+    StorageLockWaiterCoalescer.Waiter waiter = StorageLockWaiterCoalescer.join(lockFilePath);
+    StorageLockWaitQueue.Ticket ticket = null;
+    try {
+      while (System.nanoTime() < deadlineNanos && waiter.awaitHead(deadlineNanos)) {
+        if (ticket == null) {
+          long deadlineMs = System.currentTimeMillis() + TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+          ticket = waitQueue.enqueue(StorageLockWaitQueue.newWaiterId(ownerId), deadlineMs);
         }
-        Thread.sleep(Long.parseLong(DEFAULT_LOCK_ACQUIRE_RETRY_WAIT_TIME_IN_MILLIS));
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
-        hoodieLockMetrics.ifPresent(HoodieLockMetrics::updateLockInterruptedMetric);
-        throw new HoodieLockException(generateLockStateMessage(LockState.FAILED_TO_ACQUIRE), e);
+        if (waitQueue.isHead(ticket)) {
+          logDebugLockState(ACQUIRING);
+          if (tryLock()) {
+            return true;
+          }
+        }
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+        if (remainingMs <= 0) {
+          break;
+        }
+        waiter.awaitRelease(Math.min(remainingMs, getAcquireRetryWaitMs()));
       }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      hoodieLockMetrics.ifPresent(HoodieLockMetrics::updateLockInterruptedMetric);
+      throw new HoodieLockException(generateLockStateMessage(LockState.FAILED_TO_ACQUIRE), e);
+    } finally {
+      if (ticket != null) {
+        waitQueue.dequeue(ticket);
+      }
+      waiter.leave();
     }
 
     return false;
   }
 
+  /**
+   * Returns the wait before the next poll, the retry wait plus a random jitter of up to half of it.
+   */
+  @VisibleForTesting
+  static long getAcquireRetryWaitMs() {
+    return ACQUIRE_RETRY_WAIT_MS + ThreadLocalRandom.current().nextLong(ACQUIRE_RETRY_WAIT_MS / 2 + 1);
+  }
+
   @Override
   public synchronized void close() {
     shutdown(false);
@@ -570,6 +608,7 @@ public class StorageBasedLockProvider implements LockProvider<StorageLockFile> {
         logInfoLockState(RELEASED);
         recordAuditOperation(AuditOperationState.END, lockExpirationTimeMs);
         setLock(null);
+        StorageLockWaiterCoalescer.signalRelease(lockFilePath);
         return ExpireLockResult.SUCCESS;
       case ACQUIRED_BY_OTHERS:
         // Lock was acquired by others, indicating heartbeat failure during lock hold period.
@@ -617,6 +656,8 @@ public class StorageBasedLockProvider implements LockProvider<StorageLockFile> {
       Pair<LockUpsertResult, Option<StorageLockFile>> currentLock = this.storageLockClient.tryUpsertLockFile(
           new StorageLockData(false, lockExpirationMs, ownerId),
           Option.of(getLock()));
+      // The renewal holds the monitor of the provider, stalling the lock operations meanwhile
+      hoodieLockMetrics.ifPresent(metrics -> metrics.updateLockRenewalLatencyMetric(getCurrentEpochMs() - acquisitionTimestamp));
       switch (currentLock.getLeft()) {
         case ACQUIRED_BY_OTHERS:
           logger.error("Owner {}: Unable to renew lock as it is acquired by others.", ownerId);
@@ -0,0 +1,225 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.client.transaction.lock;
+
+import org.apache.hudi.common.util.Option;
+import org.apache.hudi.common.util.VisibleForTesting;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * FIFO queue of the writers of all the processes waiting for a storage based lock.
+ * <p>
+ * The queue is stored as a small object next to the lock file, read and written through
+ * {@link StorageLockClient#readObject} and {@link StorageLockClient#writeObject}. Each waiter adds an entry with
+ * its arrival time, and only the waiter at the head of the queue polls the lock file with conditional writes,
+ * the other waiters only read the queue object.
+ * <p>
+ * The queue object is written without preconditions, so a concurrent update may drop an entry or bring back the
+ * entry of a waiter that left. A waiter adds its entry back with its original arrival time whenever it is missing,
+ * and the entries are leased: a waiter renews the lease of its entry while waiting, and the entries of the waiters
+ * that left or crashed are skipped once their lease expires. The queue is only advisory, when it can not be read
+ * or written the waiters poll the lock file directly.
+ */
+@Slf4j
+final class StorageLockWaitQueue {
+  static final String WAIT_QUEUE_FILE_NAME = "table_lock_waiters.json";
+
+  // Lease of a queue entry, renewed by its waiter once half of it has passed.
+  @VisibleForTesting
+  static final long ENTRY_LEASE_MS = 10_000L;
+
+  // Same as the clock drift buffer of the lock file, the entries are written with the clocks of other nodes.
+  private static final long CLOCK_DRIFT_BUFFER_MS = 500L;
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final TypeReference<List<WaiterEntry>> ENTRIES_TYPE = new TypeReference<List<WaiterEntry>>() {
+  };
+  private static final Comparator<WaiterEntry> ARRIVAL_ORDER =
+      Comparator.comparingLong(WaiterEntry::getEnqueuedAtMs).thenComparing(WaiterEntry::getWaiterId);
+
+  private final StorageLockClient storageLockClient;
+  private final String queueFilePath;
+  private final LongSupplier clock;
+
+  StorageLockWaitQueue(StorageLockClient storageLockClient, String queueFilePath) {
+    this(storageLockClient, queueFilePath, System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  StorageLockWaitQueue(StorageLockClient storageLockClient, String queueFilePath, LongSupplier clock) {
+    this.storageLockClient = storageLockClient;
+    this.queueFilePath = queueFilePath;
+    this.clock = clock;
+  }
+
+  /**
+   * Adds a waiter at the tail of the queue.
+   *
+   * @param waiterId   The id of the waiter, unique across the processes
+   * @param deadlineMs The epoch in ms when the waiter gives up, its entry is not leased past it
+   * @return The ticket of the waiter, to be dequeued once done waiting
+   */
+  Ticket enqueue(String waiterId, long deadlineMs) {
+    long now = clock.getAsLong();
+    Ticket ticket = new Ticket(waiterId, now, deadlineMs);
+    ticket.renew(now);
+    List<WaiterEntry> entries = readLiveEntries(now);
+    entries.add(ticket.toEntry());
+    write(entries);
+    return ticket;
+  }
+
+  /**
+   * Returns whether the waiter is at the head of the queue, adding its entry back if it was dropped by a
+   * concurrent update, or renewing its lease once half of it has passed.
+   *
+   * @return true if the waiter is at the head of the queue, or if the queue could not be updated
+   */
+  boolean isHead(Ticket ticket) {
+    long now = clock.getAsLong();
+    List<WaiterEntry> entries = readLiveEntries(now);
+    boolean missing = entries.stream().noneMatch(entry -> entry.getWaiterId().equals(ticket.waiterId));
+    if (missing || ticket.needsRenewal(now)) {
+      ticket.renew(now);
+      entries.removeIf(entry -> entry.getWaiterId().equals(ticket.waiterId));
+      entries.add(ticket.toEntry());
+      if (!write(entries)) {
+        return true;
+      }
+    }
+    entries.sort(ARRIVAL_ORDER);
+    return entries.get(0).getWaiterId().equals(ticket.waiterId);
+  }
+
+  /**
+   * Removes the waiter from the queue. If a concurrent update brings the entry back, it is skipped once its
+   * lease expires.
+   */
+  void dequeue(Ticket ticket) {
+    List<WaiterEntry> entries = readLiveEntries(clock.getAsLong());
+    if (entries.removeIf(entry -> entry.getWaiterId().equals(ticket.waiterId))) {
+      write(entries);
+    }
+  }
+
+  /**
+   * @return The ids of the waiters in the queue, in arrival order
+   */
+  @VisibleForTesting
+  List<String> getWaiterIds() {
+    return readLiveEntries(clock.getAsLong()).stream()
+        .sorted(ARRIVAL_ORDER)
+        .map(WaiterEntry::getWaiterId)
+        .collect(Collectors.toList());
+  }
+
+  private List<WaiterEntry> readLiveEntries(long now) {
+    Option<String> content = storageLockClient.readObject(queueFilePath, false);
+    if (!content.isPresent()) {
+      return new ArrayList<>();
+    }
+    try {
+      List<WaiterEntry> entries = OBJECT_MAPPER.readValue(content.get(), ENTRIES_TYPE);
+      entries.removeIf(entry -> entry.getLeaseExpiresAtMs() + CLOCK_DRIFT_BUFFER_MS < now);
+      return entries;
+    } catch (Exception e) {
+      // The next write replaces the corrupted queue
+      log.warn("Failed to parse the lock wait queue {}", queueFilePath, e);
+      return new ArrayList<>();
+    }
+  }
+
+  private boolean write(List<WaiterEntry> entries) {
+    try {
+      return storageLockClient.writeObject(queueFilePath, OBJECT_MAPPER.writeValueAsString(entries));
+    } catch (Exception e) {
+      log.warn("Failed to write the lock wait queue {}", queueFilePath, e);
+      return false;
+    }
+  }
+
+  /**
+   * Creates a waiter id unique across the processes for the given lock owner.
+   */
+  static String newWaiterId(String ownerId) {
+    return ownerId + "-" + UUID.randomUUID();
+  }
+
+  /**
+   * The place of a waiter in the queue.
+   */
+  static final class Ticket {
+    private final String waiterId;
+    private final long enqueuedAtMs;
+    private final long deadlineMs;
+    private long leaseExpiresAtMs;
+
+    private Ticket(String waiterId, long enqueuedAtMs, long deadlineMs) {
+      this.waiterId = waiterId;
+      this.enqueuedAtMs = enqueuedAtMs;
+      this.deadlineMs = deadlineMs;
+    }
+
+    private boolean needsRenewal(long now) {
+      return leaseExpiresAtMs < deadlineMs && leaseExpiresAtMs - now < ENTRY_LEASE_MS / 2;
+    }
+
+    private void renew(long now) {
+      this.leaseExpiresAtMs = Math.min(deadlineMs, now + ENTRY_LEASE_MS);
+    }
+
+    private WaiterEntry toEntry() {
+      return new WaiterEntry(waiterId, enqueuedAtMs, leaseExpiresAtMs);
+    }
+  }
+
+  /**
+   * Entry of a waiter in the queue object.
+   */
+  @Getter
+  static final class WaiterEntry {
+    private final String waiterId;
+    private final long enqueuedAtMs;
+    private final long leaseExpiresAtMs;
+
+    @JsonCreator
+    WaiterEntry(
+        @JsonProperty(value = "waiterId", required = true) String waiterId,
+        @JsonProperty(value = "enqueuedAtMs", required = true) long enqueuedAtMs,
+        @JsonProperty(value = "leaseExpiresAtMs", required = true) long leaseExpiresAtMs) {
+      this.waiterId = Objects.requireNonNull(waiterId);
+      this.enqueuedAtMs = enqueuedAtMs;
+      this.leaseExpiresAtMs = leaseExpiresAtMs;
+    }
+  }
+}
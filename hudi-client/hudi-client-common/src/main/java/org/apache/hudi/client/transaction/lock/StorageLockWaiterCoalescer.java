@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.client.transaction.lock;
+
+import org.apache.hudi.common.util.VisibleForTesting;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Coalesces the threads of this process waiting for the same storage based lock.
+ * <p>
+ * The waiters line up in arrival order and only the waiter at the head polls the lock file, so that
+ * the process sends a single stream of requests to the storage instead of one per thread. A release
+ * of the lock through this process wakes the head waiter up, handing the lock over without waiting
+ * for the next poll.
+ * <p>
+ * This only orders the waiters of this process. The head waiter then lines up with the waiters of
+ * the other processes in the {@link StorageLockWaitQueue}.
+ */
+@ThreadSafe
+final class StorageLockWaiterCoalescer {
+  private static final Map<String, StorageLockWaiterCoalescer> COALESCERS = new ConcurrentHashMap<>();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+  private StorageLockWaiterCoalescer() {
+  }
+
+  /**
+   * Lines a new waiter up for the given lock file.
+   *
+   * @return The waiter, to be left once done waiting
+   */
+  static Waiter join(String lockFilePath) {
+    Waiter[] joined = new Waiter[1];
+    COALESCERS.compute(lockFilePath, (path, existing) -> {
+      StorageLockWaiterCoalescer coalescer = existing != null ? existing : new StorageLockWaiterCoalescer();
+      joined[0] = coalescer.add(path);
+      return coalescer;
+    });
+    return joined[0];
+  }
+
+  /**
+   * Wakes the head waiter of the given lock file up after the lock is released through this process.
+   */
+  static void signalRelease(String lockFilePath) {
+    StorageLockWaiterCoalescer coalescer = COALESCERS.get(lockFilePath);
+    if (coalescer != null) {
+      coalescer.signalHead();
+    }
+  }
+
+  /**
+   * @return Whether waiters are lined up for the given lock file
+   */
+  @VisibleForTesting
+  static boolean hasWaiters(String lockFilePath) {
+    return COALESCERS.containsKey(lockFilePath);
+  }
+
+  private Waiter add(String lockFilePath) {
+    lock.lock();
+    try {
+      Waiter waiter = new Waiter(lockFilePath, this, lock.newCondition());
+      waiters.addLast(waiter);
+      return waiter;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Removes the waiter, waking the next one up if the waiter was at the head.
+   *
+   * @return Whether no waiter is left
+   */
+  private boolean remove(Waiter waiter) {
+    lock.lock();
+    try {
+      boolean wasHead = waiters.peekFirst() == waiter;
+      waiters.remove(waiter);
+      if (wasHead && !waiters.isEmpty()) {
+        waiters.peekFirst().condition.signal();
+      }
+      return waiters.isEmpty();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void signalHead() {
+    lock.lock();
+    try {
+      Waiter head = waiters.peekFirst();
+      if (head != null) {
+        head.condition.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * A thread waiting for the lock, with its own condition so that only the head waiter is woken up.
+   */
+  static final class Waiter {
+    private final String lockFilePath;
+    private final StorageLockWaiterCoalescer coalescer;
+    private final Condition condition;
+
+    private Waiter(String lockFilePath, StorageLockWaiterCoalescer coalescer, Condition condition) {
+      this.lockFilePath = lockFilePath;
+      this.coalescer = coalescer;
+      this.condition = condition;
+    }
+
+    /**
+     * Waits until the waiter is at the head of the line.
+     *
+     * @return true if the waiter is at the head, false if the deadline passed before
+     */
+    boolean awaitHead(long deadlineNanos) throws InterruptedException {
+      coalescer.lock.lock();
+      try {
+        while (coalescer.waiters.peekFirst() != this) {
+          long remainingNanos = deadlineNanos - System.nanoTime();
+          if (remainingNanos <= 0) {
+            return false;
+          }
+          condition.awaitNanos(remainingNanos);
+        }
+        return true;
+      } finally {
+        coalescer.lock.unlock();
+      }
+    }
+
+    /**
+     * Waits for the given time, or until the lock is released through this process.
+     */
+    void awaitRelease(long timeMs) throws InterruptedException {
+      if (timeMs <= 0) {
+        return;
+      }
+      coalescer.lock.lock();
+      try {
+        condition.await(timeMs, TimeUnit.MILLISECONDS);
+      } finally {
+        coalescer.lock.unlock();
+      }
+    }
+
+    /**
+     * Leaves the line, letting the next waiter poll the lock file. The lock file is no longer tracked
+     * once its last waiter left.
+     */
+    void leave() {
+      // The coalescer of a lock file is only dropped once empty, so it is still the current one here
+      COALESCERS.computeIfPresent(lockFilePath, (path, current) -> coalescer.remove(this) ? null : current);
+    }
+  }
+}
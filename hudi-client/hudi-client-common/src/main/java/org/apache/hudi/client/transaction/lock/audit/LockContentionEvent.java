@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.client.transaction.lock.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * A traced lock acquisition: who asked for the lock, how long it waited for it and held it,
+ * and the owners observed holding the lock while it was waiting.
+ */
+@AllArgsConstructor
+@Getter
+public class LockContentionEvent implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final String lockProvider;
+  private final String owner;
+  private final long requestTimeMs;
+  // -1 if the lock could not be acquired
+  private final long acquireTimeMs;
+  // Time the lock was released, or the acquisition gave up if the lock could not be acquired
+  private final long endTimeMs;
+  private final int failedAttempts;
+  private final List<String> observedHolders;
+
+  public boolean isAcquired() {
+    return acquireTimeMs >= 0;
+  }
+
+  public long getWaitTimeMs() {
+    return (isAcquired() ? acquireTimeMs : endTimeMs) - requestTimeMs;
+  }
+
+  public long getHoldTimeMs() {
+    return isAcquired() ? endTimeMs - acquireTimeMs : 0L;
+  }
+}
@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.client.transaction.lock.audit;
+
+import org.apache.hudi.common.util.Option;
+import org.apache.hudi.common.util.StringUtils;
+import org.apache.hudi.storage.HoodieStorage;
+import org.apache.hudi.storage.StoragePath;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.apache.hudi.common.table.HoodieTableMetaClient.LOCKS_FOLDER_NAME;
+
+/**
+ * Traces the acquisitions of the lock of a table by a lock manager, tagging each of them with
+ * the owner asking for the lock and the holders observed while it was waiting.
+ * <p>
+ * The holders are the owners reported by the lock provider on each failed attempt, plus the
+ * owner holding the lock through another lock manager of the same process, if any. The most
+ * recent acquisitions are kept in memory, and the contended ones can be exported as JSONL files
+ * to the contention folder of the table, next to the lock audit folder.
+ */
+@ThreadSafe
+@Slf4j
+public class LockContentionTracer {
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  public static final String CONTENTION_FOLDER_NAME = "contention";
+  public static final String UNKNOWN_OWNER = "unknown";
+  static final int MAX_RECENT_EVENTS = 100;
+  private static final int MAX_OBSERVED_HOLDERS = 16;
+
+  // Owners holding the lock through a lock manager of this process, by table base path
+  private static final Map<String, String> LOCAL_HOLDERS = new ConcurrentHashMap<>();
+
+  private final String basePath;
+  private final String lockProvider;
+  private final Deque<LockContentionEvent> recentEvents = new ArrayDeque<>();
+  // State of the acquisition in progress or of the lock held
+  private String owner;
+  private long requestTimeMs = -1;
+  private long acquireTimeMs = -1;
+  private int failedAttempts;
+  private final Set<String> observedHolders = new LinkedHashSet<>();
+
+  public LockContentionTracer(String basePath, String lockProvider) {
+    this.basePath = basePath;
+    this.lockProvider = lockProvider;
+  }
+
+  /**
+   * Constructs the full path to the folder of the exported contention traces for a given table.
+   *
+   * @param basePath The base path of the Hudi table
+   * @return The full path to the contention folder
+   */
+  public static String getContentionFolderPath(String basePath) {
+    return new StoragePath(new StoragePath(basePath, LOCKS_FOLDER_NAME), CONTENTION_FOLDER_NAME).toString();
+  }
+
+  /**
+   * Starts tracing an acquisition of the lock.
+   *
+   * @param owner The owner asking for the lock, e.g. the instant of the transaction
+   */
+  public synchronized void startAcquire(Option<String> owner) {
+    this.owner = owner.orElse(UNKNOWN_OWNER);
+    this.requestTimeMs = System.currentTimeMillis();
+    this.acquireTimeMs = -1;
+    this.failedAttempts = 0;
+    this.observedHolders.clear();
+  }
+
+  /**
+   * Records a failed attempt of the acquisition in progress.
+   *
+   * @param holderInfo The owner of the lock reported by the lock provider
+   */
+  public synchronized void recordFailedAttempt(String holderInfo) {
+    failedAttempts++;
+    addObservedHolder(holderInfo);
+    String localHolder = LOCAL_HOLDERS.get(basePath);
+    if (localHolder != null && !localHolder.equals(owner)) {
+      addObservedHolder("local:" + localHolder);
+    }
+  }
+
+  /**
+   * Records the acquisition in progress as successful.
+   *
+   * @return The time waited for the lock in ms
+   */
+  public synchronized long acquired() {
+    acquireTimeMs = System.currentTimeMillis();
+    LOCAL_HOLDERS.put(basePath, owner);
+    return acquireTimeMs - requestTimeMs;
+  }
+
+  /**
+   * Records the acquisition in progress as failed.
+   *
+   * @return The traced acquisition, or empty if no acquisition is in progress
+   */
+  public synchronized Option<LockContentionEvent> failed() {
+    return requestTimeMs < 0 || acquireTimeMs >= 0 ? Option.empty() : Option.of(end());
+  }
+
+  /**
+   * Records the release of the lock.
+   *
+   * @return The traced acquisition, or empty if the lock was not acquired through this tracer
+   */
+  public synchronized Option<LockContentionEvent> released() {
+    if (acquireTimeMs < 0) {
+      return Option.empty();
+    }
+    LOCAL_HOLDERS.remove(basePath, owner);
+    return Option.of(end());
+  }
+
+  /**
+   * @return The most recent traced acquisitions, oldest first
+   */
+  public synchronized List<LockContentionEvent> getRecentEvents() {
+    return new ArrayList<>(recentEvents);
+  }
+
+  /**
+   * Exports a traced acquisition as a JSONL file in the contention folder of the table.
+   * Failures are logged and do not throw, so that tracing never breaks the lock operations.
+   *
+   * @param storage The storage of the table
+   * @param event   The traced acquisition
+   */
+  public void export(HoodieStorage storage, LockContentionEvent event) {
+    // <request-time>_<owner>.jsonl
+    String fileName = String.format("%d_%s.jsonl", event.getRequestTimeMs(), event.getOwner().replaceAll("[^A-Za-z0-9._-]", "_"));
+    StoragePath path = new StoragePath(getContentionFolderPath(basePath), fileName);
+    try (OutputStream out = storage.create(path, true)) {
+      out.write(toJsonLine(event).getBytes(StandardCharsets.UTF_8));
+      log.debug("Exported lock contention trace to: {}", path);
+    } catch (IOException e) {
+      log.warn("Failed to export lock contention trace to: {}", path, e);
+    }
+  }
+
+  /**
+   * @return The traced acquisition as a line of JSON
+   */
+  public static String toJsonLine(LockContentionEvent event) throws IOException {
+    Map<String, Object> record = new HashMap<>();
+    record.put("lockProvider", event.getLockProvider());
+    record.put("owner", event.getOwner());
+    record.put("requestTime", event.getRequestTimeMs());
+    record.put("acquireTime", event.getAcquireTimeMs());
+    record.put("endTime", event.getEndTimeMs());
+    record.put("acquired", event.isAcquired());
+    record.put("waitTimeMs", event.getWaitTimeMs());
+    record.put("holdTimeMs", event.getHoldTimeMs());
+    record.put("failedAttempts", event.getFailedAttempts());
+    record.put("observedHolders", event.getObservedHolders());
+    return OBJECT_MAPPER.writeValueAsString(record) + "\n";
+  }
+
+  private void addObservedHolder(String holder) {
+    if (!StringUtils.isNullOrEmpty(holder) && observedHolders.size() < MAX_OBSERVED_HOLDERS) {
+      observedHolders.add(holder);
+    }
+  }
+
+  private LockContentionEvent end() {
+    LockContentionEvent event = new LockContentionEvent(lockProvider, owner, requestTimeMs, acquireTimeMs,
+        System.currentTimeMillis(), failedAttempts, new ArrayList<>(observedHolders));
+    if (recentEvents.size() >= MAX_RECENT_EVENTS) {
+      recentEvents.removeFirst();
+    }
+    recentEvents.addLast(event);
+    requestTimeMs = -1;
+    acquireTimeMs = -1;
+    return event;
+  }
+}
@@ -50,6 +50,10 @@ public class HoodieLockMetrics {
   public static final String LOCK_DANGLING_COUNTER_NAME = "lock.dangling";
   public static final String LOCK_INTERRUPTED_COUNTER_NAME = "lock.interrupted";
   public static final String LOCK_THROTTLED_COUNTER_NAME = "lock.throttled";
+  // Per lock provider, including the retries of the lock manager
+  public static final String LOCK_WAIT_TIMER_NAME_FORMAT = "lock.%s.wait";
+  public static final String LOCK_HOLD_TIMER_NAME_FORMAT = "lock.%s.hold";
+  public static final String LOCK_RENEWAL_LATENCY_TIMER_NAME = "lock.renewal.latency";
   private final HoodieWriteConfig writeConfig;
   private final boolean isMetricsEnabled;
   private final int keepLastNtimes = 100;
@@ -69,6 +73,9 @@ public class HoodieLockMetrics {
   private transient Counter lockThrottled;
   private transient Timer lockDuration;
   private transient Timer lockApiRequestDuration;
+  private transient Timer lockWaitTime;
+  private transient Timer lockHoldTime;
+  private transient Timer lockRenewalLatency;
   private static final Object REGISTRY_LOCK = new Object();
   private Metrics metrics;
 
@@ -94,9 +101,21 @@ public class HoodieLockMetrics {
       lockThrottled = registry.counter(getMetricsName(LOCK_THROTTLED_COUNTER_NAME));
       lockDuration = createTimerForMetrics(registry, LOCK_ACQUIRE_DURATION_TIMER_NAME);
       lockApiRequestDuration = createTimerForMetrics(registry, LOCK_REQUEST_LATENCY_TIMER_NAME);
+      String lockProviderName = getLockProviderName(writeConfig);
+      lockWaitTime = createTimerForMetrics(registry, String.format(LOCK_WAIT_TIMER_NAME_FORMAT, lockProviderName));
+      lockHoldTime = createTimerForMetrics(registry, String.format(LOCK_HOLD_TIMER_NAME_FORMAT, lockProviderName));
+      lockRenewalLatency = createTimerForMetrics(registry, LOCK_RENEWAL_LATENCY_TIMER_NAME);
     }
   }
 
+  /**
+   * @return The simple class name of the lock provider, used to tag the metrics of the lock provider
+   */
+  public static String getLockProviderName(HoodieWriteConfig writeConfig) {
+    String lockProviderClass = writeConfig.getLockProviderClass();
+    return lockProviderClass == null ? "unknown" : lockProviderClass.substring(lockProviderClass.lastIndexOf('.') + 1);
+  }
+
   private String getMetricsName(String metric) {
     return writeConfig == null ? null : String.format("%s.%s", writeConfig.getMetricReporterMetricsNamePrefix(), metric);
   }
@@ -152,6 +171,24 @@ public class HoodieLockMetrics {
     }
   }
 
+  public void updateLockWaitTimeMetric(long waitTimeMs) {
+    if (isMetricsEnabled) {
+      lockWaitTime.update(waitTimeMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  public void updateLockHoldTimeMetric(long holdTimeMs) {
+    if (isMetricsEnabled) {
+      lockHoldTime.update(holdTimeMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  public void updateLockRenewalLatencyMetric(long latencyMs) {
+    if (isMetricsEnabled) {
+      lockRenewalLatency.update(latencyMs, TimeUnit.MILLISECONDS);
+    }
+  }
+
   public void updateLockReleaseSuccessMetric() {
     if (isMetricsEnabled) {
       lockReleaseSuccess.inc();
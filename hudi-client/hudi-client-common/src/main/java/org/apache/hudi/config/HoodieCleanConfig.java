@@ -149,6 +149,16 @@ public class HoodieCleanConfig extends HoodieConfig {
           + "in the timeline, since the last cleaner run. This is much more efficient than obtaining listings for the full "
           + "table for each planning (even with a metadata table).");
 
+  public static final ConfigProperty<Boolean> CLEANER_INCREMENTAL_ON_SAVEPOINT_DELETION_ENABLE = ConfigProperty
+      .key("hoodie.clean.incremental.savepoint.deletion.enabled")
+      .defaultValue(true)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("When enabled along with " + CLEANER_INCREMENTAL_MODE_ENABLE.key() + ", the clean planning after the "
+          + "deletion of a savepoint only looks up the partitions written by the commits since the deleted savepoint, "
+          + "derived from the commit metadata in the timeline, instead of listing all the partitions of the table. "
+          + "The planning falls back to all the partitions if some of these commits are archived.");
+
   public static final ConfigProperty<String> FAILED_WRITES_CLEANER_POLICY = ConfigProperty
       .key("hoodie.clean.failed.writes.policy")
       .defaultValue(HoodieFailedWritesCleaningPolicy.EAGER.name())
@@ -371,6 +381,11 @@ public class HoodieCleanConfig extends HoodieConfig {
       return this;
     }
 
+    public HoodieCleanConfig.Builder withIncrementalCleaningOnSavepointDeletion(boolean incrementalCleaningOnSavepointDeletion) {
+      cleanConfig.setValue(CLEANER_INCREMENTAL_ON_SAVEPOINT_DELETION_ENABLE, String.valueOf(incrementalCleaningOnSavepointDeletion));
+      return this;
+    }
+
     public HoodieCleanConfig.Builder withCleaningTriggerStrategy(String cleaningTriggerStrategy) {
       cleanConfig.setValue(CLEAN_TRIGGER_STRATEGY, cleaningTriggerStrategy);
       return this;
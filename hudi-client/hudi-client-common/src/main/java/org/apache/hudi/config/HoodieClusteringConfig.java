@@ -251,6 +251,9 @@ public class HoodieClusteringConfig extends HoodieConfig {
   static final String SPARK_REJECT_UPDATE_STRATEGY_CLASS_NAME =
       "org.apache.hudi.client.clustering.update.strategy.SparkRejectUpdateStrategy";
 
+  static final String SPARK_CONSISTENT_BUCKET_DUPLICATE_UPDATE_STRATEGY_CLASS_NAME =
+      "org.apache.hudi.client.clustering.update.strategy.SparkConsistentBucketDuplicateUpdateStrategy";
+
   public static final ConfigProperty<String> UPDATES_STRATEGY = ConfigProperty
       .key("hoodie.clustering.updates.strategy")
       .noDefaultValue()
@@ -732,6 +735,10 @@ public class HoodieClusteringConfig extends HoodieConfig {
     private void setDefaults() {
       clusteringConfig.setDefaultValue(PLAN_STRATEGY_CLASS_NAME, getDefaultPlanStrategyClassName(engineType));
       clusteringConfig.setDefaultValue(EXECUTION_STRATEGY_CLASS_NAME, getDefaultExecutionStrategyClassName(engineType));
+      if (engineType != EngineType.FLINK && isConsistentHashingBucketIndexResizeOnlyClustering()) {
+        // The writes to the buckets being resized go to both the old and the new buckets
+        clusteringConfig.setDefaultValue(UPDATES_STRATEGY, SPARK_CONSISTENT_BUCKET_DUPLICATE_UPDATE_STRATEGY_CLASS_NAME);
+      }
       clusteringConfig.setDefaults(HoodieClusteringConfig.class.getName());
     }
 
@@ -756,6 +763,12 @@ public class HoodieClusteringConfig extends HoodieConfig {
               clusteringConfigString.equals(SPARK_CONSISTENT_BUCKET_EXECUTION_STRATEGY) || clusteringConfigString.equals(SINGLE_SPARK_JOB_CONSISTENT_HASHING_EXECUTION_STRATEGY),
               "Consistent hashing bucket index only supports clustering execution strategy : " + SPARK_CONSISTENT_BUCKET_EXECUTION_STRATEGY + " or "
                   + SINGLE_SPARK_JOB_CONSISTENT_HASHING_EXECUTION_STRATEGY);
+          if (isConsistentHashingBucketIndexResizeOnlyClustering()) {
+            ValidationUtils.checkArgument(
+                clusteringConfig.getString(UPDATES_STRATEGY).equals(SPARK_CONSISTENT_BUCKET_DUPLICATE_UPDATE_STRATEGY_CLASS_NAME),
+                "Resize only clustering (" + HoodieIndexConfig.BUCKET_INDEX_RESIZE_ONLY_CLUSTERING_ENABLE.key() + ") only supports clustering updates strategy : "
+                    + SPARK_CONSISTENT_BUCKET_DUPLICATE_UPDATE_STRATEGY_CLASS_NAME);
+          }
         }
       }
     }
@@ -767,6 +780,11 @@ public class HoodieClusteringConfig extends HoodieConfig {
           && clusteringConfig.getString(HoodieIndexConfig.BUCKET_INDEX_ENGINE_TYPE.key()).equalsIgnoreCase(HoodieIndex.BucketIndexEngineType.CONSISTENT_HASHING.name());
     }
 
+    private boolean isConsistentHashingBucketIndexResizeOnlyClustering() {
+      return isConsistentHashingBucketIndex()
+          && clusteringConfig.getBooleanOrDefault(HoodieIndexConfig.BUCKET_INDEX_RESIZE_ONLY_CLUSTERING_ENABLE);
+    }
+
     private String getDefaultPlanStrategyClassName(EngineType engineType) {
       switch (engineType) {
         case SPARK:
@@ -109,6 +109,32 @@ public class HoodieIndexConfig extends HoodieConfig {
           + "If the record key is completely random, it is better to turn this off, since range pruning will only "
           + " add extra overhead to the index lookup.");
 
+  public static final ConfigProperty<Double> BLOOM_INDEX_PRUNE_BY_RANGES_OVERLAP_THRESHOLD = ConfigProperty
+      .key("hoodie.bloom.index.prune.by.ranges.overlap.threshold")
+      .defaultValue(0.9)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("Only applies if index type is BLOOM and range pruning is enabled. "
+          + "The key ranges of the files of a partition are ignored when the average fraction of the files overlapping "
+          + "the range of each file is above this threshold, as it is the case for random keys, such as UUIDs. "
+          + "This avoids the overhead of comparing the keys with the ranges, e.g. building and probing the interval tree, "
+          + "as the overlapping ranges would barely prune any file. The files of such a partition are then pruned with the key "
+          + "hash sketches of the metadata table if available, see hoodie.bloom.index.key.hash.sketch.max.false.positive.rate, "
+          + "otherwise every key is checked against the bloom filters of all the files. Set to 1.0 or more to always use the ranges.");
+
+  public static final ConfigProperty<Double> BLOOM_INDEX_KEY_HASH_SKETCH_MAX_FALSE_POSITIVE_RATE = ConfigProperty
+      .key("hoodie.bloom.index.key.hash.sketch.max.false.positive.rate")
+      .defaultValue(0.5)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("Only applies if index type is BLOOM, the metadata table is used for the bloom index and its key hash "
+          + "sketches are enabled (hoodie.metadata.index.bloom.filter.key.hash.sketch.enable). For the partitions whose key "
+          + "ranges are ignored, see " + BLOOM_INDEX_PRUNE_BY_RANGES_OVERLAP_THRESHOLD.key() + ", the keys are first probed "
+          + "against the key hash sketches of the files, and only checked against the bloom filters of the files whose sketch "
+          + "may contain them. The sketches are skipped for a partition when the average false positive rate of the sketches "
+          + "of its files is above this value, as they would barely prune any file, and the keys are checked against all "
+          + "the bloom filters of the partition.");
+
   public static final ConfigProperty<String> BLOOM_INDEX_USE_CACHING = ConfigProperty
       .key("hoodie.bloom.index.use.caching")
       .defaultValue("true")
@@ -356,6 +382,32 @@ public class HoodieIndexConfig extends HoodieConfig {
           + "Specifically, if a file slice size is smaller than `hoodie.xxxx.max.file.size` * threshold, then it will be considered"
           + "as a merge candidate.");
 
+  public static final ConfigProperty<Boolean> BUCKET_INDEX_RESIZE_ONLY_CLUSTERING_ENABLE = ConfigProperty
+      .key("hoodie.bucket.index.resize.only.clustering.enabled")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("Only applies to the consistent hashing bucket index. When true, the clustering plans only contain the "
+          + "groups which split or merge buckets, the largest buckets are split first. The buckets which are neither split nor "
+          + "merged are not rewritten, while by default each clustering also rewrites them to sort their records. Combined with `hoodie.clustering.plan.strategy.max.num.groups`, each clustering resizes a bounded "
+          + "number of buckets. On Spark, `hoodie.clustering.updates.strategy` defaults to "
+          + "`org.apache.hudi.client.clustering.update.strategy.SparkConsistentBucketDuplicateUpdateStrategy` with this option, "
+          + "which routes the writes to the buckets being resized to both the old and the new buckets, and other update strategies "
+          + "are rejected.");
+
+  public static final ConfigProperty<Boolean> BUCKET_INDEX_SORT_MERGE_ENABLE = ConfigProperty
+      .key("hoodie.bucket.index.sort.merge.enabled")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("Only applies to the simple bucket index, on the Spark and Java write paths. When true, "
+          + "the incoming records are sorted by record key within each bucket and merged with the base file by streaming both "
+          + "sides, instead of loading the incoming records of the bucket in a spillable map. The base file must be sorted by "
+          + "record key, which holds for the files written with this option enabled or with a sorted bulk insert. The writers "
+          + "record whether the keys of a file are sorted in its footer; the record keys are only read to check it for the "
+          + "files written without it. A file group whose base file is not sorted is merged with the default merge handle instead, "
+          + "so the option can be turned on for existing tables.");
+
   public static final ConfigProperty<String> RECORD_INDEX_USE_CACHING = ConfigProperty
       .key("hoodie.record.index.use.caching")
       .defaultValue("true")
@@ -373,6 +425,16 @@ public class HoodieIndexConfig extends HoodieConfig {
       .withDocumentation("Only applies when #recordIndexUseCaching is set. Determine what level of persistence is used to cache input RDDs. "
           + "Refer to org.apache.spark.storage.StorageLevel for different values");
 
+  public static final ConfigProperty<Boolean> RECORD_INDEX_LOOKUP_LOCALITY_ENABLE = ConfigProperty
+      .key("hoodie.record.index.lookup.locality.enabled")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("Only applies if index type is RECORD_INDEX. When true, the lookup of each record index file group "
+          + "is scheduled on the executor which looked it up in the previous batch of the same driver, so that the HFile "
+          + "blocks cached by the executor are reused across batches. The lookup time of the file groups is reported "
+          + "through the index metrics whether or not this is enabled.");
+
   public static final ConfigProperty<Boolean> BUCKET_QUERY_INDEX = ConfigProperty
       .key("hoodie.bucket.index.query.pruning")
       .defaultValue(true)
@@ -628,6 +690,16 @@ public class HoodieIndexConfig extends HoodieConfig {
       return this;
     }
 
+    public Builder bloomIndexPruneByRangesOverlapThreshold(double overlapThreshold) {
+      hoodieIndexConfig.setValue(BLOOM_INDEX_PRUNE_BY_RANGES_OVERLAP_THRESHOLD, String.valueOf(overlapThreshold));
+      return this;
+    }
+
+    public Builder bloomIndexKeyHashSketchMaxFalsePositiveRate(double maxFalsePositiveRate) {
+      hoodieIndexConfig.setValue(BLOOM_INDEX_KEY_HASH_SKETCH_MAX_FALSE_POSITIVE_RATE, String.valueOf(maxFalsePositiveRate));
+      return this;
+    }
+
     public Builder bloomIndexTreebasedFilter(boolean useTreeFilter) {
       hoodieIndexConfig.setValue(BLOOM_INDEX_TREE_BASED_FILTER, String.valueOf(useTreeFilter));
       return this;
@@ -708,6 +780,16 @@ public class HoodieIndexConfig extends HoodieConfig {
       return this;
     }
 
+    public Builder enableBucketIndexSortMerge(boolean enable) {
+      hoodieIndexConfig.setValue(BUCKET_INDEX_SORT_MERGE_ENABLE, String.valueOf(enable));
+      return this;
+    }
+
+    public Builder enableBucketIndexResizeOnlyClustering(boolean enable) {
+      hoodieIndexConfig.setValue(BUCKET_INDEX_RESIZE_ONLY_CLUSTERING_ENABLE, String.valueOf(enable));
+      return this;
+    }
+
     public Builder enableBucketRemotePartitioner(boolean enableRemotePartitioner) {
       hoodieIndexConfig.setValue(BUCKET_PARTITIONER, String.valueOf(enableRemotePartitioner));
       return this;
@@ -743,6 +825,11 @@ public class HoodieIndexConfig extends HoodieConfig {
       return this;
     }
 
+    public Builder recordIndexLookupLocalityEnable(boolean enable) {
+      hoodieIndexConfig.setValue(RECORD_INDEX_LOOKUP_LOCALITY_ENABLE, String.valueOf(enable));
+      return this;
+    }
+
     public Builder withRecordIndexInputStorageLevel(String level) {
       hoodieIndexConfig.setValue(RECORD_INDEX_INPUT_STORAGE_LEVEL_VALUE, level);
       return this;
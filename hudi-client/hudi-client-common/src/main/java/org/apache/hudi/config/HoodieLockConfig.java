@@ -232,6 +232,23 @@ public class HoodieLockConfig extends HoodieConfig {
       .withDocumentation("Lock provider class name, this should be subclass of "
           + "org.apache.hudi.client.transaction.ConflictResolutionStrategy");
 
+  public static final ConfigProperty<Boolean> LOCK_CONTENTION_TRACE_ENABLE = ConfigProperty
+      .key(LOCK_PREFIX + "contention.trace.enabled")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("Whether to export a trace of the contended lock acquisitions, with the owner asking for the lock, "
+          + "the wait and hold times and the owners observed holding the lock meanwhile, to the .hoodie/.locks/contention "
+          + "folder of the table.");
+
+  public static final ConfigProperty<Long> LOCK_CONTENTION_TRACE_THRESHOLD_MS = ConfigProperty
+      .key(LOCK_PREFIX + "contention.trace.threshold.ms")
+      .defaultValue(1000L)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("Minimum time in ms waited for the lock, for a lock acquisition to be exported to the contention "
+          + "trace, when " + LOCK_PREFIX + "contention.trace.enabled is enabled.");
+
   /**
    * @deprecated Use {@link #WRITE_CONFLICT_RESOLUTION_STRATEGY_CLASS_NAME} and its methods instead
    */
@@ -471,6 +488,16 @@ public class HoodieLockConfig extends HoodieConfig {
       return this;
     }
 
+    public HoodieLockConfig.Builder withContentionTrace(boolean enabled) {
+      lockConfig.setValue(LOCK_CONTENTION_TRACE_ENABLE, String.valueOf(enabled));
+      return this;
+    }
+
+    public HoodieLockConfig.Builder withContentionTraceThresholdInMillis(long thresholdInMillis) {
+      lockConfig.setValue(LOCK_CONTENTION_TRACE_THRESHOLD_MS, String.valueOf(thresholdInMillis));
+      return this;
+    }
+
     public HoodieLockConfig.Builder withConflictResolutionStrategy(ConflictResolutionStrategy conflictResolutionStrategy) {
       lockConfig.setValue(WRITE_CONFLICT_RESOLUTION_STRATEGY_CLASS_NAME, conflictResolutionStrategy.getClass().getName());
       return this;
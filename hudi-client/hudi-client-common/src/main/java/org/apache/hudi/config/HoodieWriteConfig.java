@@ -1544,6 +1544,13 @@ public class HoodieWriteConfig extends HoodieConfig {
         && HoodieIndex.BucketIndexEngineType.SIMPLE.equals(getBucketIndexEngineType());
   }
 
+  /**
+   * Returns whether the records of the simple bucket index are sorted and merged with the sorted base files.
+   */
+  public boolean isBucketIndexSortMergeEnabled() {
+    return isSimpleBucketIndex() && getBoolean(HoodieIndexConfig.BUCKET_INDEX_SORT_MERGE_ENABLE);
+  }
+
   /**
    * Returns whether the table writer would generate pure log files at the very first place.
    */
@@ -1901,6 +1908,10 @@ public class HoodieWriteConfig extends HoodieConfig {
     return getBoolean(HoodieCleanConfig.CLEANER_INCREMENTAL_MODE_ENABLE);
   }
 
+  public boolean incrementalCleanerOnSavepointDeletionEnabled() {
+    return getBoolean(HoodieCleanConfig.CLEANER_INCREMENTAL_ON_SAVEPOINT_DELETION_ENABLE);
+  }
+
   public String getCleanerPartitionFilterRegex() {
     return getString(HoodieCleanConfig.CLEAN_PARTITION_FILTER_REGEX);
   }
@@ -2191,6 +2202,14 @@ public class HoodieWriteConfig extends HoodieConfig {
     return getBoolean(HoodieIndexConfig.BLOOM_INDEX_PRUNE_BY_RANGES);
   }
 
+  public double getBloomIndexPruneByRangesOverlapThreshold() {
+    return getDouble(HoodieIndexConfig.BLOOM_INDEX_PRUNE_BY_RANGES_OVERLAP_THRESHOLD);
+  }
+
+  public double getBloomIndexKeyHashSketchMaxFalsePositiveRate() {
+    return getDouble(HoodieIndexConfig.BLOOM_INDEX_KEY_HASH_SKETCH_MAX_FALSE_POSITIVE_RATE);
+  }
+
   public boolean getBloomIndexUseCaching() {
     return getBoolean(HoodieIndexConfig.BLOOM_INDEX_USE_CACHING);
   }
@@ -2355,6 +2374,10 @@ public class HoodieWriteConfig extends HoodieConfig {
     return getDouble(HoodieIndexConfig.BUCKET_MERGE_THRESHOLD);
   }
 
+  public boolean isBucketIndexResizeOnlyClusteringEnabled() {
+    return getBoolean(HoodieIndexConfig.BUCKET_INDEX_RESIZE_ONLY_CLUSTERING_ENABLE);
+  }
+
   public String getBucketIndexHashField() {
     return getString(HoodieIndexConfig.BUCKET_INDEX_HASH_FIELD);
   }
@@ -2367,6 +2390,10 @@ public class HoodieWriteConfig extends HoodieConfig {
     return getBoolean(HoodieIndexConfig.RECORD_INDEX_USE_CACHING);
   }
 
+  public boolean isRecordIndexLookupLocalityEnabled() {
+    return getBoolean(HoodieIndexConfig.RECORD_INDEX_LOOKUP_LOCALITY_ENABLE);
+  }
+
   public boolean getRecordIndexUpdatePartitionPath() {
     return getBoolean(HoodieIndexConfig.RECORD_INDEX_UPDATE_PARTITION_PATH_ENABLE);
   }
@@ -2845,6 +2872,14 @@ public class HoodieWriteConfig extends HoodieConfig {
     return getLong(HoodieLockConfig.LOCK_ACQUIRE_WAIT_TIMEOUT_MS);
   }
 
+  public boolean isLockContentionTraceEnabled() {
+    return getBoolean(HoodieLockConfig.LOCK_CONTENTION_TRACE_ENABLE);
+  }
+
+  public long getLockContentionTraceThresholdMs() {
+    return getLongOrDefault(HoodieLockConfig.LOCK_CONTENTION_TRACE_THRESHOLD_MS);
+  }
+
   public WriteConcurrencyMode getWriteConcurrencyMode() {
     return WriteConcurrencyMode.valueOf(getStringOrDefault(WRITE_CONCURRENCY_MODE).toUpperCase());
   }
@@ -21,6 +21,7 @@ package org.apache.hudi.index.bloom;
 
 import org.apache.hudi.avro.model.HoodieMetadataColumnStats;
 import org.apache.hudi.client.WriteStatus;
+import org.apache.hudi.common.bloom.KeyHashSketch;
 import org.apache.hudi.common.data.HoodieData;
 import org.apache.hudi.common.data.HoodiePairData;
 import org.apache.hudi.common.engine.HoodieEngineContext;
@@ -45,8 +46,10 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.groupingBy;
@@ -54,6 +57,7 @@ import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
 import static org.apache.hudi.common.util.CollectionUtils.isNullOrEmpty;
 import static org.apache.hudi.index.HoodieIndexUtils.getLatestBaseFilesForAllPartitions;
+import static org.apache.hudi.metadata.MetadataPartitionType.BLOOM_FILTERS;
 import static org.apache.hudi.metadata.MetadataPartitionType.COLUMN_STATS;
 
 /**
@@ -62,6 +66,9 @@ import static org.apache.hudi.metadata.MetadataPartitionType.COLUMN_STATS;
 @Slf4j
 public class HoodieBloomIndex extends HoodieIndex<Object, Object> {
 
+  // Minimum number of files of a partition for estimating the overlap of their key ranges
+  private static final int MIN_FILES_TO_ESTIMATE_OVERLAP = 8;
+
   private final BaseHoodieBloomIndexHelper bloomIndexHelper;
 
   public HoodieBloomIndex(HoodieWriteConfig config, BaseHoodieBloomIndexHelper bloomIndexHelper) {
@@ -121,12 +128,24 @@ public class HoodieBloomIndex extends HoodieIndex<Object, Object> {
     List<Pair<String, BloomIndexFileInfo>> fileInfoList = getBloomIndexFileInfoForPartitions(context, hoodieTable, affectedPartitionPathList);
     final Map<String, List<BloomIndexFileInfo>> partitionToFileInfo =
         fileInfoList.stream().collect(groupingBy(Pair::getLeft, mapping(Pair::getRight, toList())));
+    Set<String> partitionsWithoutRanges = config.getBloomIndexPruneByRanges()
+        ? dropIneffectiveKeyRanges(partitionToFileInfo) : Collections.emptySet();
 
     // Step 3: Obtain a HoodieData, for each incoming record, that already exists, with the file id,
     // that contains it.
     HoodiePairData<HoodieFileGroupId, String> fileComparisonPairs =
         explodeRecordsWithFileComparisons(partitionToFileInfo, partitionRecordKeyPairs);
 
+    // Step 4: Drop the comparisons with the files whose key hash sketch does not contain the key, for the partitions
+    // where the key ranges could not prune the files
+    Map<HoodieFileGroupId, KeyHashSketch> fileGroupToSketch = loadKeyHashSketches(partitionsWithoutRanges, context, hoodieTable);
+    if (!fileGroupToSketch.isEmpty()) {
+      fileComparisonPairs = fileComparisonPairs.filter((fileGroupId, recordKey) -> {
+        KeyHashSketch sketch = fileGroupToSketch.get(fileGroupId);
+        return sketch == null || sketch.mightContain(recordKey);
+      });
+    }
+
     return bloomIndexHelper.findMatchingFilesForRecordKeys(config, context, hoodieTable,
         partitionRecordKeyPairs, fileComparisonPairs, partitionToFileInfo, recordsPerPartition);
   }
@@ -251,6 +270,81 @@ public class HoodieBloomIndex extends HoodieIndex<Object, Object> {
     return result;
   }
 
+  /**
+   * Drops the key ranges of the partitions where the ranges overlap too much to prune any file, e.g. with random keys,
+   * so that the record keys are directly checked against the bloom filters of all the files of these partitions.
+   * This only saves the comparisons of the keys with the ranges, it does not prune any file by itself.
+   */
+  Set<String> dropIneffectiveKeyRanges(Map<String, List<BloomIndexFileInfo>> partitionToFileInfo) {
+    double overlapThreshold = config.getBloomIndexPruneByRangesOverlapThreshold();
+    Set<String> droppedPartitions = new HashSet<>();
+    partitionToFileInfo.replaceAll((partition, fileInfos) -> {
+      if (fileInfos.size() < MIN_FILES_TO_ESTIMATE_OVERLAP) {
+        return fileInfos;
+      }
+      double overlapFraction = KeyRangeOverlapEstimator.estimateOverlapFraction(fileInfos);
+      if (overlapFraction <= overlapThreshold) {
+        return fileInfos;
+      }
+      log.info("Ignoring the key ranges of the {} files in partition {}, as their overlap fraction {} is above {}",
+          fileInfos.size(), partition, overlapFraction, overlapThreshold);
+      droppedPartitions.add(partition);
+      return fileInfos.stream().map(fileInfo -> new BloomIndexFileInfo(fileInfo.getFileId())).collect(toList());
+    });
+    return droppedPartitions;
+  }
+
+  /**
+   * Loads the key hash sketches of the latest base files of the given partitions from the metadata table, keeping only
+   * the partitions where the average false positive rate of the sketches is low enough to prune files. The keys of the
+   * other partitions, and of the files without a sketch, are checked against all their bloom filters.
+   *
+   * @param partitions  - Partitions whose key ranges were dropped
+   * @param context     - Engine context
+   * @param hoodieTable - Hoodie table
+   * @return Map of file group to the key hash sketch of its latest base file
+   */
+  Map<HoodieFileGroupId, KeyHashSketch> loadKeyHashSketches(
+      Set<String> partitions, final HoodieEngineContext context, final HoodieTable<?, ?, ?, ?> hoodieTable) {
+    if (partitions.isEmpty()
+        || !config.getBloomIndexUseMetadata()
+        || !config.isMetadataBloomFilterIndexEnabled()
+        || !config.getMetadataConfig().isBloomFilterIndexKeyHashSketchEnabled()
+        || !hoodieTable.getMetaClient().getTableConfig().getMetadataPartitions().contains(BLOOM_FILTERS.getPartitionPath())) {
+      return Collections.emptyMap();
+    }
+    context.setJobStatus(this.getClass().getName(), "Load meta index key hash sketches for file slices: " + config.getTableName());
+    List<Pair<String, HoodieBaseFile>> baseFiles = getLatestBaseFilesForAllPartitions(new ArrayList<>(partitions), context, hoodieTable);
+    List<Pair<String, String>> partitionFileNameList = new ArrayList<>(baseFiles.size());
+    Map<Pair<String, String>, String> partitionAndFileNameToFileId = new HashMap<>(baseFiles.size(), 1);
+    baseFiles.forEach(pair -> {
+      Pair<String, String> partitionAndFileName = Pair.of(pair.getKey(), pair.getValue().getFileName());
+      partitionFileNameList.add(partitionAndFileName);
+      partitionAndFileNameToFileId.put(partitionAndFileName, pair.getValue().getFileId());
+    });
+    Map<Pair<String, String>, KeyHashSketch> sketches = partitionFileNameList.isEmpty()
+        ? Collections.emptyMap() : hoodieTable.getTableMetadata().getKeyHashSketches(partitionFileNameList);
+    context.clearJobStatus();
+
+    double maxFalsePositiveRate = config.getBloomIndexKeyHashSketchMaxFalsePositiveRate();
+    Map<HoodieFileGroupId, KeyHashSketch> fileGroupToSketch = new HashMap<>();
+    sketches.entrySet().stream()
+        .collect(groupingBy(entry -> entry.getKey().getLeft()))
+        .forEach((partition, entries) -> {
+          double falsePositiveRate = entries.stream().mapToDouble(entry -> entry.getValue().getFalsePositiveRate()).average().orElse(1.0);
+          if (falsePositiveRate > maxFalsePositiveRate) {
+            log.info("Checking the keys against all the bloom filters of partition {}, as the false positive rate {} "
+                + "of its key hash sketches is above {}", partition, falsePositiveRate, maxFalsePositiveRate);
+            return;
+          }
+          log.info("Pruning the {} files of partition {} with their key hash sketches, of false positive rate {}",
+              entries.size(), partition, falsePositiveRate);
+          entries.forEach(entry -> fileGroupToSketch.put(
+              new HoodieFileGroupId(partition, partitionAndFileNameToFileId.get(entry.getKey())), entry.getValue()));
+        });
+    return fileGroupToSketch;
+  }
+
   @Override
   public boolean rollbackCommit(String instantTime) {
     // Nope, don't need to do anything.
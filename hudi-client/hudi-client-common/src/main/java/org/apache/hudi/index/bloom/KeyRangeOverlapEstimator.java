@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.hudi.index.bloom;
+
+import java.util.List;
+
+/**
+ * Estimates how much the key ranges of the files of a partition overlap, to tell whether range pruning is worth it.
+ * <p>
+ * For each file, counts the files whose range overlaps its range, using binary searches over the sorted min and
+ * max keys. With keys having an increasing prefix, the ranges are mostly disjoint and the fraction is close to
+ * {@code 1 / numFiles}; with random keys, every range spans almost the whole key space and the fraction is close
+ * to {@code 1}.
+ */
+class KeyRangeOverlapEstimator {
+
+  private KeyRangeOverlapEstimator() {
+  }
+
+  /**
+   * Returns the average fraction of the files overlapping the key range of each file, among the files with key ranges.
+   */
+  static double estimateOverlapFraction(List<BloomIndexFileInfo> fileInfos) {
+    String[] minKeys = fileInfos.stream().filter(BloomIndexFileInfo::hasKeyRanges)
+        .map(BloomIndexFileInfo::getMinRecordKey).sorted().toArray(String[]::new);
+    String[] maxKeys = fileInfos.stream().filter(BloomIndexFileInfo::hasKeyRanges)
+        .map(BloomIndexFileInfo::getMaxRecordKey).sorted().toArray(String[]::new);
+    int numFiles = minKeys.length;
+    if (numFiles == 0) {
+      return 0;
+    }
+    long numOverlaps = 0;
+    for (BloomIndexFileInfo fileInfo : fileInfos) {
+      if (fileInfo.hasKeyRanges()) {
+        // The files not overlapping the range either start after its max key, or end before its min key
+        int numStartingAfter = numFiles - countLessThanOrEqual(minKeys, fileInfo.getMaxRecordKey());
+        int numEndingBefore = countLessThan(maxKeys, fileInfo.getMinRecordKey());
+        numOverlaps += numFiles - numStartingAfter - numEndingBefore;
+      }
+    }
+    return (double) numOverlaps / ((long) numFiles * numFiles);
+  }
+
+  private static int countLessThan(String[] sortedKeys, String key) {
+    int low = 0;
+    int high = sortedKeys.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (sortedKeys[mid].compareTo(key) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  private static int countLessThanOrEqual(String[] sortedKeys, String key) {
+    int low = 0;
+    int high = sortedKeys.length;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (sortedKeys[mid].compareTo(key) <= 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+}
@@ -64,6 +64,12 @@ public class HoodieMergeHandleFactory {
     boolean isFallbackEnabled = writeConfig.isMergeHandleFallbackEnabled();
     Pair<String, String> mergeHandleClasses = getMergeHandleClassesWrite(operationType, writeConfig, table);
     String logContext = String.format("for fileId %s and partition path %s at commit %s", fileId, partitionPath, instantTime);
+    if (HoodieSortMergeJoinHandle.class.getName().equals(mergeHandleClasses.getLeft())
+        && !HoodieSortMergeJoinHandle.isBaseFileSortedByRecordKey(table, partitionPath, fileId, keyGeneratorOpt)) {
+      // e.g. a base file written before the sort merge was enabled
+      log.warn("Base file is not sorted by record key, merging it with {} {}", HoodieWriteMergeHandle.class.getName(), logContext);
+      mergeHandleClasses = Pair.of(HoodieWriteMergeHandle.class.getName(), null);
+    }
     log.info("Create HoodieMergeHandle implementation {} {}", mergeHandleClasses.getLeft(), logContext);
 
     Class<?>[] constructorParamTypes = new Class<?>[] {
@@ -177,6 +183,9 @@ public class HoodieMergeHandleFactory {
       if (!mergeHandleClass.equals(HoodieWriteConfig.CONCAT_HANDLE_CLASS_NAME.defaultValue())) {
         fallbackMergeHandleClass = HoodieWriteConfig.CONCAT_HANDLE_CLASS_NAME.defaultValue();
       }
+    } else if (writeConfig.isBucketIndexSortMergeEnabled() && !table.getMetaClient().getTableConfig().isCDCEnabled()) {
+      // The incoming records of each bucket are sorted by record key, so they are merged by streaming with the base file
+      mergeHandleClass = HoodieSortMergeJoinHandle.class.getName();
     } else if (table.getMetaClient().getTableConfig().isCDCEnabled()) {
       if (writeConfig.getMergeHandleClassName().equals(FileGroupReaderBasedMergeHandle.class.getName())) {
         mergeHandleClass = writeConfig.getMergeHandleClassName();
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.hudi.io;
+
+import org.apache.hudi.avro.HoodieBloomFilterWriteSupport;
+import org.apache.hudi.common.engine.TaskContextSupplier;
+import org.apache.hudi.common.model.HoodieBaseFile;
+import org.apache.hudi.common.model.HoodieKey;
+import org.apache.hudi.common.model.HoodieRecord;
+import org.apache.hudi.common.util.FileFormatUtils;
+import org.apache.hudi.common.util.Option;
+import org.apache.hudi.common.util.collection.ClosableIterator;
+import org.apache.hudi.config.HoodieWriteConfig;
+import org.apache.hudi.exception.HoodieUpsertException;
+import org.apache.hudi.io.storage.HoodieIOFactory;
+import org.apache.hudi.keygen.BaseKeyGenerator;
+import org.apache.hudi.table.HoodieTable;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+
+/**
+ * Hoodie merge handle which merges the incoming records with the base file by streaming both of them
+ * in record key order, used by the tables with simple bucket index and sort merge enabled.
+ *
+ * <p>The incoming records are expected to be sorted by record key, as done by the Spark and Java write paths when
+ * the sort merge is enabled, and the base file is expected to be sorted by record key, as the files written by this
+ * handle are. {@link HoodieMergeHandleFactory} checks the base file with {@link #isBaseFileSortedByRecordKey}
+ * and uses {@link HoodieWriteMergeHandle} for the base files which are not sorted. Unlike
+ * {@link HoodieWriteMergeHandle}, the incoming records are not loaded in a spillable map: only the record
+ * matching the current record of the base file is kept in memory.
+ */
+@NotThreadSafe
+public class HoodieSortMergeJoinHandle<T, I, K, O> extends HoodieWriteMergeHandle<T, I, K, O> {
+
+  // NOTE: The fields below are not explicitly initialized, as the incoming records are set up
+  //       by #populateIncomingRecordsMap, which is invoked from the parent constructor
+  private Iterator<HoodieRecord<T>> newRecordsItr;
+  // Next incoming record to merge, with its new location set
+  private HoodieRecord<T> nextNewRecord;
+  // Incoming record read ahead to find the records with the same key
+  private HoodieRecord<T> readAheadNewRecord;
+  private String lastOldRecordKey;
+
+  public HoodieSortMergeJoinHandle(HoodieWriteConfig config, String instantTime, HoodieTable<T, I, K, O> hoodieTable,
+                                   Iterator<HoodieRecord<T>> recordItr, String partitionPath, String fileId, TaskContextSupplier taskContextSupplier,
+                                   Option<BaseKeyGenerator> keyGeneratorOpt) {
+    super(config, instantTime, hoodieTable, recordItr, partitionPath, fileId, taskContextSupplier, keyGeneratorOpt);
+  }
+
+  /**
+   * Returns whether the latest base file of the file group is sorted by record key. The writers record it in the file
+   * footer, see {@link HoodieBloomFilterWriteSupport#HOODIE_RECORD_KEYS_SORTED_FOOTER}; the record keys are only read
+   * for the files without it, e.g. written by an older version or without the bloom filter.
+   */
+  public static boolean isBaseFileSortedByRecordKey(HoodieTable<?, ?, ?, ?> hoodieTable, String partitionPath, String fileId,
+                                                    Option<BaseKeyGenerator> keyGeneratorOpt) {
+    HoodieBaseFile baseFile = getLatestBaseFile(hoodieTable, partitionPath, fileId);
+    FileFormatUtils fileFormatUtils = HoodieIOFactory.getIOFactory(hoodieTable.getStorage()).getFileFormatUtils(baseFile.getStoragePath());
+    Option<Boolean> sortedFooter = readSortedFooter(hoodieTable, fileFormatUtils, baseFile);
+    if (sortedFooter.isPresent()) {
+      return sortedFooter.get();
+    }
+    try (ClosableIterator<HoodieKey> keyIterator = fileFormatUtils.getHoodieKeyIterator(
+        hoodieTable.getStorage(), baseFile.getStoragePath(), keyGeneratorOpt, Option.of(partitionPath))) {
+      String lastKey = null;
+      while (keyIterator.hasNext()) {
+        String key = keyIterator.next().getRecordKey();
+        if (lastKey != null && key.compareTo(lastKey) < 0) {
+          return false;
+        }
+        lastKey = key;
+      }
+    }
+    return true;
+  }
+
+  private static Option<Boolean> readSortedFooter(HoodieTable<?, ?, ?, ?> hoodieTable, FileFormatUtils fileFormatUtils,
+                                                  HoodieBaseFile baseFile) {
+    try {
+      return Option.ofNullable(fileFormatUtils.readFooter(hoodieTable.getStorage(), false, baseFile.getStoragePath(),
+              HoodieBloomFilterWriteSupport.HOODIE_RECORD_KEYS_SORTED_FOOTER)
+          .get(HoodieBloomFilterWriteSupport.HOODIE_RECORD_KEYS_SORTED_FOOTER))
+          .map(Boolean::parseBoolean);
+    } catch (UnsupportedOperationException e) {
+      // the footer of some formats can not be read, e.g. HFile
+      return Option.empty();
+    }
+  }
+
+  @Override
+  protected void populateIncomingRecordsMap(Iterator<HoodieRecord<T>> newRecordsItr) {
+    // The incoming records are consumed while merging, the map only holds the record matching the current old record
+    this.keyToNewRecords = new HashMap<>();
+    this.newRecordsItr = newRecordsItr;
+  }
+
+  /**
+   * Go through an old record. Any incoming record with a smaller key is written first as an insert, and the incoming
+   * record with the same key is merged with the old record.
+   */
+  @Override
+  public void write(HoodieRecord<T> oldRecord) {
+    String key = oldRecord.getRecordKey(writeSchemaWithMetaFields, keyGeneratorOpt);
+    if (lastOldRecordKey != null && key.compareTo(lastOldRecordKey) < 0) {
+      throw new HoodieUpsertException("Base file " + getOldFilePath() + " is not sorted by record key, found key "
+          + key + " after " + lastOldRecordKey + ", the sort merge requires base files sorted by record key");
+    }
+    lastOldRecordKey = key;
+
+    HoodieRecord<T> newRecord;
+    try {
+      while ((newRecord = peekNewRecord()) != null && newRecord.getRecordKey().compareTo(key) < 0) {
+        pollNewRecord();
+        writeInsertRecord(newRecord);
+      }
+    } catch (IOException e) {
+      throw new HoodieUpsertException("Failed to write records", e);
+    }
+    if (newRecord != null && newRecord.getRecordKey().equals(key)) {
+      pollNewRecord();
+      keyToNewRecords.put(key, newRecord);
+    }
+
+    super.write(oldRecord);
+    keyToNewRecords.clear();
+    writtenRecordKeys.clear();
+  }
+
+  @Override
+  protected void writeIncomingRecords() throws IOException {
+    // write out the incoming records with keys greater than all the old records
+    HoodieRecord<T> newRecord;
+    while ((newRecord = pollNewRecord()) != null) {
+      writeInsertRecord(newRecord);
+    }
+  }
+
+  private HoodieRecord<T> pollNewRecord() {
+    HoodieRecord<T> newRecord = peekNewRecord();
+    nextNewRecord = null;
+    return newRecord;
+  }
+
+  private HoodieRecord<T> peekNewRecord() {
+    if (nextNewRecord != null) {
+      return nextNewRecord;
+    }
+    HoodieRecord<T> newRecord = readAheadNewRecord != null ? readAheadNewRecord : (newRecordsItr.hasNext() ? newRecordsItr.next() : null);
+    readAheadNewRecord = null;
+    while (newRecord != null && newRecordsItr.hasNext()) {
+      HoodieRecord<T> followingRecord = newRecordsItr.next();
+      int comparison = followingRecord.getRecordKey().compareTo(newRecord.getRecordKey());
+      if (comparison > 0) {
+        readAheadNewRecord = followingRecord;
+        break;
+      }
+      if (comparison < 0) {
+        throw new HoodieUpsertException("Incoming records are not sorted by record key, found key "
+            + followingRecord.getRecordKey() + " after " + newRecord.getRecordKey());
+      }
+      // Keeps the last of the records with the same key, as the map of the incoming records does
+      newRecord = followingRecord;
+    }
+    if (newRecord != null && needsUpdateLocation()) {
+      // update the new location of the record, so we know where to find it next
+      newRecord.unseal();
+      newRecord.setNewLocation(newRecordLocation);
+      newRecord.seal();
+    }
+    nextNewRecord = newRecord;
+    return newRecord;
+  }
+}
@@ -614,7 +614,9 @@ public abstract class HoodieBackedTableMetadataWriter<I, O> implements HoodieTab
   private Pair<Integer, HoodieData<HoodieRecord>> initializeBloomFiltersPartition(String createInstantTime, Map<String, Map<String, Long>> partitionIdToAllFilesMap) {
     HoodieData<HoodieRecord> records = HoodieTableMetadataUtil.convertFilesToBloomFilterRecords(
         engineContext, Collections.emptyMap(), partitionIdToAllFilesMap, createInstantTime, dataMetaClient,
-        dataWriteConfig.getBloomIndexParallelism(), dataWriteConfig.getBloomFilterType());
+        dataWriteConfig.getBloomIndexParallelism(), dataWriteConfig.getBloomFilterType(),
+        dataWriteConfig.getMetadataConfig().isBloomFilterIndexKeyHashSketchEnabled()
+            ? dataWriteConfig.getMetadataConfig().getBloomFilterIndexKeyHashSketchBitsPerKey() : 0);
 
     final int fileGroupCount = dataWriteConfig.getMetadataConfig().getBloomFilterIndexFileGroupCount();
     return Pair.of(fileGroupCount, records);
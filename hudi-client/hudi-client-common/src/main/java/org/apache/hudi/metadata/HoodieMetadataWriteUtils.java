@@ -301,6 +301,10 @@ public class HoodieMetadataWriteUtils {
         writeConfig.getIntOrDefault(HoodieReaderConfig.HFILE_BLOCK_CACHE_SIZE));
     properties.put(HoodieReaderConfig.HFILE_BLOCK_CACHE_TTL_MINUTES.key(),
         writeConfig.getIntOrDefault(HoodieReaderConfig.HFILE_BLOCK_CACHE_TTL_MINUTES));
+    properties.put(HoodieReaderConfig.HFILE_BLOCK_CACHE_SIZE_BYTES.key(),
+        writeConfig.getLongOrDefault(HoodieReaderConfig.HFILE_BLOCK_CACHE_SIZE_BYTES));
+    properties.put(HoodieReaderConfig.HFILE_BLOCK_CACHE_OFF_HEAP_ENABLED.key(),
+        writeConfig.getBooleanOrDefault(HoodieReaderConfig.HFILE_BLOCK_CACHE_OFF_HEAP_ENABLED));
     builder.withProperties(properties);
 
     if (writeConfig.isMetricsOn()) {
@@ -87,6 +87,10 @@ public class HoodieMetrics {
   public static final String PENDING_CLEAN_INSTANT_COUNT_STR = "pendingCleanInstantCount";
   public static final String PENDING_ROLLBACK_INSTANT_COUNT_STR = "pendingRollbackInstantCount";
   public static final String POST_COMMIT_STR = "postCommit";
+  public static final String RECORD_INDEX_LOOKUP_FILE_GROUPS_STR = "record_index_lookup.numFileGroups";
+  public static final String RECORD_INDEX_LOOKUP_KEYS_STR = "record_index_lookup.numKeys";
+  public static final String RECORD_INDEX_LOOKUP_MAX_FILE_GROUP_DURATION_STR = "record_index_lookup.maxFileGroupDuration";
+  public static final String RECORD_INDEX_LOOKUP_AVG_FILE_GROUP_DURATION_STR = "record_index_lookup.avgFileGroupDuration";
   public static final String SUCCESS_EXTENSION = ".success";
   public static final String FAILURE_EXTENSION = ".failure";
 
@@ -433,6 +437,19 @@ public class HoodieMetrics {
     }
   }
 
+  public void updateRecordIndexLookupMetrics(long numFileGroups, long numKeys, long maxFileGroupLookupTimeMs,
+                                             long avgFileGroupLookupTimeMs) {
+    if (config.isMetricsOn()) {
+      log.debug("Sending record index lookup metrics ({}={}, {}={}, {}={}, {}={})", RECORD_INDEX_LOOKUP_FILE_GROUPS_STR, numFileGroups,
+          RECORD_INDEX_LOOKUP_KEYS_STR, numKeys, RECORD_INDEX_LOOKUP_MAX_FILE_GROUP_DURATION_STR, maxFileGroupLookupTimeMs,
+          RECORD_INDEX_LOOKUP_AVG_FILE_GROUP_DURATION_STR, avgFileGroupLookupTimeMs);
+      metrics.registerGauge(getMetricsName(INDEX_ACTION, RECORD_INDEX_LOOKUP_FILE_GROUPS_STR), numFileGroups);
+      metrics.registerGauge(getMetricsName(INDEX_ACTION, RECORD_INDEX_LOOKUP_KEYS_STR), numKeys);
+      metrics.registerGauge(getMetricsName(INDEX_ACTION, RECORD_INDEX_LOOKUP_MAX_FILE_GROUP_DURATION_STR), maxFileGroupLookupTimeMs);
+      metrics.registerGauge(getMetricsName(INDEX_ACTION, RECORD_INDEX_LOOKUP_AVG_FILE_GROUP_DURATION_STR), avgFileGroupLookupTimeMs);
+    }
+  }
+
   public void updateSourceReadAndIndexMetrics(final String action, final long durationInMs) {
     if (config.isMetricsOn()) {
       log.debug("Sending {} metrics ({}.duration, {})", SOURCE_READ_AND_INDEX_ACTION, action, durationInMs);
@@ -27,11 +27,10 @@ import org.apache.hudi.common.model.CompactionOperation;
 import org.apache.hudi.common.model.FileSlice;
 import org.apache.hudi.common.model.HoodieBaseFile;
 import org.apache.hudi.common.model.HoodieCleaningPolicy;
-import org.apache.hudi.common.model.HoodieCommitMetadata;
+import org.apache.hudi.common.model.HoodieCommitMetadataView;
 import org.apache.hudi.common.model.HoodieFileGroup;
 import org.apache.hudi.common.model.HoodieFileGroupId;
 import org.apache.hudi.common.model.HoodieLogFile;
-import org.apache.hudi.common.model.HoodieReplaceCommitMetadata;
 import org.apache.hudi.common.model.HoodieTableType;
 import org.apache.hudi.common.model.WriteOperationType;
 import org.apache.hudi.common.table.timeline.HoodieInstant;
@@ -64,6 +63,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -227,36 +227,75 @@ public class CleanPlanner<T, I, K, O> implements Serializable {
   private List<String> getPartitionPathsForIncrementalCleaning(HoodieCleanMetadata cleanMetadata,
       Option<HoodieInstant> newInstantToRetain) {
 
-    boolean isAnySavepointDeleted = isAnySavepointDeleted(cleanMetadata);
-    if (isAnySavepointDeleted) {
-      log.info("Since savepoints have been removed compared to previous clean, triggering clean planning for all partitions");
-      return getPartitionPathsForFullCleaning();
-    } else {
+    List<String> deletedSavepointTimestamps = getDeletedSavepointTimestamps(cleanMetadata);
+    if (deletedSavepointTimestamps.isEmpty()) {
       log.info(
           "Incremental Cleaning mode is enabled. Looking up partition-paths that have changed "
               + "since last clean at {}. New Instant to retain {}.",
           cleanMetadata.getEarliestCommitToRetain(),
           newInstantToRetain);
+      return getPartitionsForCommits(instant -> compareTimestamps(instant.requestedTime(), GREATER_THAN_OR_EQUALS,
+          cleanMetadata.getEarliestCommitToRetain()), newInstantToRetain);
+    }
+
+    String earliestDeletedSavepoint = deletedSavepointTimestamps.stream().min(String::compareTo).get();
+    if (!canCleanIncrementallyAfterSavepointDeletion(earliestDeletedSavepoint)) {
+      log.info("Since savepoints have been removed compared to previous clean, triggering clean planning for all partitions");
+      return getPartitionPathsForFullCleaning();
+    }
+    // The files retained only by the deleted savepoints are the file slices which were the latest at the time of
+    // a savepoint, so they can only become eligible for cleaning in the partitions written after that time.
+    log.info(
+        "Savepoints {} have been removed compared to previous clean. Looking up partition-paths that have changed "
+            + "since the savepoint at {} or since last clean at {}. New Instant to retain {}.",
+        deletedSavepointTimestamps,
+        earliestDeletedSavepoint,
+        cleanMetadata.getEarliestCommitToRetain(),
+        newInstantToRetain);
+    return getPartitionsForCommits(instant -> compareTimestamps(instant.requestedTime(), GREATER_THAN_OR_EQUALS, cleanMetadata.getEarliestCommitToRetain())
+        || compareTimestamps(instant.requestedTime(), GREATER_THAN, earliestDeletedSavepoint)
+        || (instant.getCompletionTime() != null && compareTimestamps(instant.getCompletionTime(), GREATER_THAN, earliestDeletedSavepoint)),
+        newInstantToRetain);
+  }
 
-      return hoodieTable.getCompletedCommitsTimeline().getInstantsAsStream()
-          .filter(instant -> compareTimestamps(instant.requestedTime(), GREATER_THAN_OR_EQUALS,
-              cleanMetadata.getEarliestCommitToRetain()) && compareTimestamps(instant.requestedTime(),
-              LESSER_THAN, newInstantToRetain.get().requestedTime()))
-          .flatMap(this::getPartitionsForInstants).distinct().collect(Collectors.toList());
+  /**
+   * Returns whether the partitions holding the files retained by a deleted savepoint can be derived from the
+   * timeline, i.e. all the commits after the savepoint are still in the active timeline.
+   */
+  private boolean canCleanIncrementallyAfterSavepointDeletion(String deletedSavepointTimestamp) {
+    return config.incrementalCleanerOnSavepointDeletionEnabled()
+        && !config.shouldArchiveBeyondSavepoint()
+        && !hoodieTable.getActiveTimeline().getCommitsTimeline().isBeforeTimelineStarts(deletedSavepointTimestamp);
+  }
+
+  /**
+   * Returns the distinct partitions written by the completed commits before the new instant to retain which match
+   * the given filter. The metadata of the commits is read in parallel.
+   */
+  private List<String> getPartitionsForCommits(Predicate<HoodieInstant> instantFilter, Option<HoodieInstant> newInstantToRetain) {
+    List<HoodieInstant> instants = hoodieTable.getCompletedCommitsTimeline().getInstantsAsStream()
+        .filter(instant -> instantFilter.test(instant)
+            && compareTimestamps(instant.requestedTime(), LESSER_THAN, newInstantToRetain.get().requestedTime()))
+        .collect(Collectors.toList());
+    if (instants.isEmpty()) {
+      return Collections.emptyList();
     }
+    int parallelism = Math.min(instants.size(), config.getCleanerParallelism());
+    return context.flatMap(instants, this::getPartitionsForInstants, parallelism).stream()
+        .distinct().collect(Collectors.toList());
   }
 
-  private boolean isAnySavepointDeleted(HoodieCleanMetadata cleanMetadata) {
+  private List<String> getDeletedSavepointTimestamps(HoodieCleanMetadata cleanMetadata) {
     List<String> savepointedTimestampsFromLastClean = cleanMetadata.getExtraMetadata() == null ? Collections.emptyList()
         : Arrays.stream(cleanMetadata.getExtraMetadata().getOrDefault(CleanerUtils.SAVEPOINTED_TIMESTAMPS, StringUtils.EMPTY_STRING).split(","))
         .filter(partition -> !StringUtils.isNullOrEmpty(partition)).collect(Collectors.toList());
     if (savepointedTimestampsFromLastClean.isEmpty()) {
-      return false;
+      return Collections.emptyList();
     }
     // check for any savepointed removed in latest compared to previous saved list
     List<String> removedSavepointedTimestamps = new ArrayList<>(savepointedTimestampsFromLastClean);
     removedSavepointedTimestamps.removeAll(savepointedTimestamps);
-    return !removedSavepointedTimestamps.isEmpty();
+    return removedSavepointedTimestamps;
   }
 
   /**
@@ -266,13 +305,11 @@ public class CleanPlanner<T, I, K, O> implements Serializable {
    */
   private Stream<String> getPartitionsForInstants(HoodieInstant instant) {
     try {
+      // only the partitions and the file groups are needed, the write stats are not materialized
+      HoodieCommitMetadataView commitMetadata = hoodieTable.getActiveTimeline().readCommitMetadataView(instant);
       if (HoodieTimeline.REPLACE_COMMIT_ACTION.equals(instant.getAction())) {
-        HoodieReplaceCommitMetadata replaceCommitMetadata =
-            hoodieTable.getActiveTimeline().readReplaceCommitMetadata(instant);
-        return Stream.concat(replaceCommitMetadata.getPartitionToReplaceFileIds().keySet().stream(), replaceCommitMetadata.getPartitionToWriteStats().keySet().stream());
+        return commitMetadata.getPartitionPaths().stream();
       } else {
-        HoodieCommitMetadata commitMetadata =
-            hoodieTable.getActiveTimeline().readCommitMetadata(instant);
         WriteOperationType operationType = commitMetadata.getOperationType();
         if ((WriteOperationType.isUpsert(operationType) || WriteOperationType.isInsertWithoutReplace(operationType))
             && HoodieTimeline.COMMIT_ACTION.equals(instant.getAction())
@@ -284,7 +321,7 @@ public class CleanPlanner<T, I, K, O> implements Serializable {
         // For MOR, small file handling during inserts can cause deltacommits to create new base files (file slices)
         // in existing file groups, so their partitions must still be returned.
         // TODO: filter MOR deltacommit operation types guaranteed to not create new file slices for existing file groups
-        return commitMetadata.getPartitionToWriteStats().keySet().stream();
+        return commitMetadata.getWritePartitionPaths().stream();
       }
     } catch (IOException e) {
       throw new HoodieIOException(e.getMessage(), e);
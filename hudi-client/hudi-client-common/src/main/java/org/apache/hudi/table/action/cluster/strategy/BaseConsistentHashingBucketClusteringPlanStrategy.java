@@ -114,7 +114,10 @@ public abstract class BaseConsistentHashingBucketClusteringPlanStrategy<T extend
       ret.addAll(mergeResult.getLeft());
       remainedSlices = mergeResult.getRight();
     }
-    if (isBucketClusteringSortEnabled()) {
+    if (isBucketClusteringSortEnabled() && getWriteConfig().isBucketIndexResizeOnlyClusteringEnabled()) {
+      log.info("Resize only clustering is enabled, skip the sort of the {} remaining file groups of partition {}",
+          remainedSlices.size(), partitionPath);
+    } else if (isBucketClusteringSortEnabled()) {
       // Apply sort only to the remaining file groups
       ret.addAll(remainedSlices.stream().map(fs -> {
         ConsistentHashingNode oldNode = identifier.getBucketByFileId(fs.getFileId());
@@ -179,6 +182,7 @@ public abstract class BaseConsistentHashingBucketClusteringPlanStrategy<T extend
   /**
    * Generate clustering groups according to split rules.
    * Currently, we always split bucket into two sub-buckets.
+   * With the resize only clustering, the largest buckets are split first, so that the hottest buckets get the split slots.
    *
    * @param identifier bucket identifier
    * @param fileSlices file slice candidate to be built as split clustering groups
@@ -191,7 +195,12 @@ public abstract class BaseConsistentHashingBucketClusteringPlanStrategy<T extend
     List<FileSlice> fsUntouched = new ArrayList<>();
     long splitSize = getSplitSize();
     int remainingSplitSlot = splitSlot;
-    for (FileSlice fs : fileSlices) {
+    List<FileSlice> candidates = fileSlices;
+    if (getWriteConfig().isBucketIndexResizeOnlyClusteringEnabled()) {
+      candidates = new ArrayList<>(fileSlices);
+      candidates.sort(Comparator.comparingLong(FileSlice::getTotalFileSize).reversed());
+    }
+    for (FileSlice fs : candidates) {
       boolean needSplit = fs.getTotalFileSize() > splitSize;
       if (!needSplit || remainingSplitSlot == 0) {
         fsUntouched.add(fs);
@@ -101,6 +101,8 @@ public class TestHoodieAvroParquetWriter {
     assertEquals(extraMetadata.get(HoodieBloomFilterWriteSupport.HOODIE_MIN_RECORD_KEY_FOOTER), minKey);
     assertEquals(extraMetadata.get(HoodieBloomFilterWriteSupport.HOODIE_MAX_RECORD_KEY_FOOTER), maxKey);
     assertEquals(extraMetadata.get(HoodieBloomFilterWriteSupport.HOODIE_BLOOM_FILTER_TYPE_CODE), BloomFilterTypeCode.DYNAMIC_V0.name());
+    boolean sortedKeys = recordKeys.equals(recordKeys.stream().sorted().collect(Collectors.toList()));
+    assertEquals(String.valueOf(sortedKeys), extraMetadata.get(HoodieBloomFilterWriteSupport.HOODIE_RECORD_KEYS_SORTED_FOOTER));
 
     // Step 3: Make sure Bloom Filter contains all the record keys
     BloomFilter bloomFilter = utils.readBloomFilterFromMetadata(storage, filePath);
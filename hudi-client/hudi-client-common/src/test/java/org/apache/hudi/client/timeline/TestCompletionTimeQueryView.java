@@ -150,6 +150,25 @@ public class TestCompletionTimeQueryView {
     }
   }
 
+  @Test
+  void testReadStartTimeSkipsArchivedFilesOutOfRange() throws Exception {
+    String tableName = "testTable";
+    String tablePath = tempFile.getAbsolutePath() + StoragePath.SEPARATOR + tableName;
+    HoodieTableMetaClient metaClient = HoodieTestUtils.init(
+        HoodieTestUtils.getDefaultStorageConf(), tablePath, HoodieTableType.COPY_ON_WRITE, tableName);
+    prepareTimeline(tablePath, metaClient);
+    try (CompletionTimeQueryView view =
+             metaClient.getTableFormat().getTimelineFactory().createCompletionTimeQueryView(metaClient)) {
+      // the archived file of [5, 6] has no instant completed in the range, it is skipped
+      assertThat(getInstantTimeSetFormattedString(view, 3 + 1000, 4 + 1000), is("00000003,00000004"));
+      assertThat("The cursor instant should not be slided over the skipped file", view.getCursorInstant(), is(String.format("%08d", 7)));
+      // lazy loading of the skipped file
+      assertThat(view.getCompletionTime(String.format("%08d", 5)).orElse(""), is(String.format("%08d", 1005)));
+      assertThat("The cursor instant should be slided", view.getCursorInstant(), is(String.format("%08d", 5)));
+      assertThat(view.getCompletionTime(String.format("%08d", 3)).orElse(""), is(String.format("%08d", 1003)));
+    }
+  }
+
   @Test
   void testGetInstantTimesWithOnlyEndCompletionTime() throws Exception {
     String tableName = "testTable";
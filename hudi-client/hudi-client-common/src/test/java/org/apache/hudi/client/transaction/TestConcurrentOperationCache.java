@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.client.transaction;
+
+import org.apache.hudi.client.WriteClientTestUtils;
+import org.apache.hudi.common.model.HoodieCommitMetadata;
+import org.apache.hudi.common.table.timeline.HoodieInstant;
+import org.apache.hudi.common.table.timeline.HoodieInstant.State;
+import org.apache.hudi.common.table.timeline.HoodieTimeline;
+import org.apache.hudi.common.testutils.HoodieCommonTestHarness;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.apache.hudi.client.transaction.TestConflictResolutionStrategyUtil.createCommit;
+import static org.apache.hudi.client.transaction.TestConflictResolutionStrategyUtil.createCommitMetadata;
+import static org.apache.hudi.client.transaction.TestConflictResolutionStrategyUtil.createInflightCommit;
+import static org.apache.hudi.common.testutils.HoodieTestUtils.INSTANT_GENERATOR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TestConcurrentOperationCache extends HoodieCommonTestHarness {
+
+  @BeforeEach
+  public void setUp() throws Exception {
+    initMetaClient();
+    ConcurrentOperationCache.clear();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    ConcurrentOperationCache.clear();
+  }
+
+  @Test
+  public void testCompletedInstantsAreCached() throws Exception {
+    String completedInstantTime = WriteClientTestUtils.createNewInstantTime();
+    createCommit(completedInstantTime, metaClient);
+    HoodieInstant completedInstant = metaClient.reloadActiveTimeline().getCommitsTimeline().filterCompletedInstants().lastInstant().get();
+
+    ConcurrentOperation operation = ConcurrentOperationCache.get(completedInstant, metaClient);
+    assertSame(operation, ConcurrentOperationCache.get(completedInstant, metaClient));
+    ConcurrentOperation expected = new ConcurrentOperation(completedInstant, metaClient);
+    assertEquals(expected.getMutatedPartitionAndFileIds(), operation.getMutatedPartitionAndFileIds());
+    assertEquals(expected.getOperationType(), operation.getOperationType());
+  }
+
+  @Test
+  public void testPendingInstantsAreNotCached() throws Exception {
+    String inflightInstantTime = WriteClientTestUtils.createNewInstantTime();
+    createInflightCommit(inflightInstantTime, metaClient);
+    HoodieInstant inflightInstant = INSTANT_GENERATOR.createNewInstant(State.INFLIGHT, HoodieTimeline.COMMIT_ACTION, inflightInstantTime);
+
+    assertNotSame(ConcurrentOperationCache.get(inflightInstant, metaClient), ConcurrentOperationCache.get(inflightInstant, metaClient));
+  }
+
+  @Test
+  public void testConflictWithCachedOperation() throws Exception {
+    String currentWriterInstant = WriteClientTestUtils.createNewInstantTime();
+    createInflightCommit(currentWriterInstant, metaClient);
+    createCommit(WriteClientTestUtils.createNewInstantTime(), metaClient);
+    HoodieInstant completedInstant = metaClient.reloadActiveTimeline().getCommitsTimeline().filterCompletedInstants().lastInstant().get();
+
+    HoodieInstant currentInstant = INSTANT_GENERATOR.createNewInstant(State.INFLIGHT, HoodieTimeline.COMMIT_ACTION, currentWriterInstant);
+    HoodieCommitMetadata currentMetadata = createCommitMetadata(currentWriterInstant);
+    ConcurrentOperation thisOperation = new ConcurrentOperation(currentInstant, currentMetadata);
+    ConcurrentOperation otherOperation = ConcurrentOperationCache.get(completedInstant, metaClient);
+    Set<?> otherFileIds = new HashSet<>(otherOperation.getMutatedPartitionAndFileIds());
+
+    SimpleConcurrentFileWritesConflictResolutionStrategy strategy = new SimpleConcurrentFileWritesConflictResolutionStrategy();
+    assertTrue(strategy.hasConflict(thisOperation, otherOperation));
+    // The cached operation is not altered by the conflict checks
+    assertEquals(otherFileIds, ConcurrentOperationCache.get(completedInstant, metaClient).getMutatedPartitionAndFileIds());
+    assertFalse(otherFileIds.isEmpty());
+  }
+}
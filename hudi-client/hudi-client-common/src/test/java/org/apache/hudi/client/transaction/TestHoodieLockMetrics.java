@@ -19,7 +19,9 @@
 
 package org.apache.hudi.client.transaction;
 
+import org.apache.hudi.client.transaction.lock.InProcessLockProvider;
 import org.apache.hudi.client.transaction.lock.metrics.HoodieLockMetrics;
+import org.apache.hudi.config.HoodieLockConfig;
 import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.config.metrics.HoodieMetricsConfig;
 import org.apache.hudi.metrics.Metrics;
@@ -32,10 +34,13 @@ import com.codahale.metrics.MetricRegistry;
 import com.codahale.metrics.Timer;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 public class TestHoodieLockMetrics {
@@ -427,4 +432,37 @@ public class TestHoodieLockMetrics {
     assertNotSame(lockDurationTimer, lockRequestLatencyTimer,
         "Different timer metrics should not share the same Timer instance");
   }
+
+  @Test
+  public void testLockProviderWaitAndHoldTimeMetrics() {
+    HoodieStorage storage = mock(HoodieStorage.class);
+    HoodieMetricsConfig metricsConfig = HoodieMetricsConfig.newBuilder().withPath("/test")
+        .withReporterType(MetricsReporterType.INMEMORY.name()).withLockingMetrics(true).build();
+    HoodieWriteConfig writeConfig = HoodieWriteConfig.newBuilder()
+        .forTable("testTable").withPath("/test/path")
+        .withLockConfig(HoodieLockConfig.newBuilder().withLockProvider(InProcessLockProvider.class).build())
+        .withMetricsConfig(metricsConfig)
+        .build();
+    HoodieLockMetrics lockMetrics = new HoodieLockMetrics(writeConfig, storage);
+    MetricRegistry registry = Metrics.getInstance(metricsConfig, storage).getRegistry();
+    String prefix = writeConfig.getMetricReporterMetricsNamePrefix() + ".";
+    Timer waitTimer = registry.getTimers().get(prefix + String.format(HoodieLockMetrics.LOCK_WAIT_TIMER_NAME_FORMAT, "InProcessLockProvider"));
+    Timer holdTimer = registry.getTimers().get(prefix + String.format(HoodieLockMetrics.LOCK_HOLD_TIMER_NAME_FORMAT, "InProcessLockProvider"));
+    Timer renewalTimer = registry.getTimers().get(prefix + HoodieLockMetrics.LOCK_RENEWAL_LATENCY_TIMER_NAME);
+    assertNotNull(waitTimer, "Lock wait timer of the lock provider should exist");
+    assertNotNull(holdTimer, "Lock hold timer of the lock provider should exist");
+    assertNotNull(renewalTimer, "Lock renewal latency timer should exist");
+
+    long initialWaitCount = waitTimer.getCount();
+    for (int i = 1; i <= 100; i++) {
+      lockMetrics.updateLockWaitTimeMetric(i);
+      lockMetrics.updateLockHoldTimeMetric(10L * i);
+    }
+    lockMetrics.updateLockRenewalLatencyMetric(5L);
+    assertEquals(initialWaitCount + 100, waitTimer.getCount());
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(100), waitTimer.getSnapshot().getMax());
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(1), waitTimer.getSnapshot().getMin());
+    assertTrue(holdTimer.getSnapshot().get99thPercentile() > holdTimer.getSnapshot().getMedian());
+    assertEquals(TimeUnit.MILLISECONDS.toNanos(5), renewalTimer.getSnapshot().getMax());
+  }
 }
@@ -21,13 +21,20 @@ package org.apache.hudi.client.transaction;
 import org.apache.hudi.client.transaction.lock.LockManager;
 import org.apache.hudi.client.transaction.lock.StorageBasedLockProvider;
 import org.apache.hudi.client.transaction.lock.ZookeeperBasedLockProvider;
+import org.apache.hudi.client.transaction.lock.audit.LockContentionEvent;
+import org.apache.hudi.client.transaction.lock.audit.LockContentionTracer;
 import org.apache.hudi.common.model.HoodieFailedWritesCleaningPolicy;
 import org.apache.hudi.common.model.WriteConcurrencyMode;
+import org.apache.hudi.common.table.timeline.HoodieInstant;
+import org.apache.hudi.common.table.timeline.HoodieTimeline;
 import org.apache.hudi.common.testutils.HoodieCommonTestHarness;
+import org.apache.hudi.common.util.Option;
 import org.apache.hudi.config.HoodieCleanConfig;
 import org.apache.hudi.config.HoodieLockConfig;
 import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.exception.HoodieException;
+import org.apache.hudi.exception.HoodieLockException;
+import org.apache.hudi.storage.StoragePath;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.curator.test.TestingServer;
@@ -40,8 +47,12 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mockito;
 
 import java.io.IOException;
+import java.util.List;
 
+import static org.apache.hudi.common.testutils.HoodieTestUtils.INSTANT_GENERATOR;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -95,6 +106,45 @@ public class TestLockManager extends HoodieCommonTestHarness {
     Mockito.verify(mockLockManager).close();
   }
 
+  @Test
+  void testContentionTrace() throws IOException {
+    HoodieWriteConfig writeConfig = HoodieWriteConfig.newBuilder()
+        .withPath(basePath)
+        .withLockConfig(HoodieLockConfig.newBuilder()
+            .withLockProvider(ZookeeperBasedLockProvider.class)
+            .withZkBasePath(ZK_BASE_PATH)
+            .withZkLockKey(KEY)
+            .withZkQuorum(server.getConnectString())
+            .withLockWaitTimeInMillis(100L)
+            .withClientNumRetries(0)
+            .withContentionTrace(true)
+            .withContentionTraceThresholdInMillis(0L)
+            .build())
+        .build();
+    LockManager holderLockManager = new LockManager(writeConfig, this.metaClient.getStorage());
+    LockManager waiterLockManager = new LockManager(writeConfig, this.metaClient.getStorage());
+
+    holderLockManager.lock(Option.of(INSTANT_GENERATOR.createNewInstant(HoodieInstant.State.INFLIGHT, HoodieTimeline.COMMIT_ACTION, "001")));
+    assertThrows(HoodieLockException.class,
+        () -> waiterLockManager.lock(Option.of(INSTANT_GENERATOR.createNewInstant(HoodieInstant.State.INFLIGHT, HoodieTimeline.COMMIT_ACTION, "002"))));
+    holderLockManager.unlock();
+    waiterLockManager.close();
+
+    List<LockContentionEvent> waiterEvents = waiterLockManager.getContentionTracer().getRecentEvents();
+    assertEquals(1, waiterEvents.size());
+    assertFalse(waiterEvents.get(0).isAcquired());
+    assertEquals("002_commit", waiterEvents.get(0).getOwner());
+    assertEquals(ZookeeperBasedLockProvider.class.getSimpleName(), waiterEvents.get(0).getLockProvider());
+    assertTrue(waiterEvents.get(0).getObservedHolders().contains("local:001_commit"));
+    List<LockContentionEvent> holderEvents = holderLockManager.getContentionTracer().getRecentEvents();
+    assertEquals(1, holderEvents.size());
+    assertTrue(holderEvents.get(0).isAcquired());
+
+    // Both acquisitions waited more than the threshold
+    assertEquals(2, this.metaClient.getStorage().listDirectEntries(
+        new StoragePath(LockContentionTracer.getContentionFolderPath(basePath))).size());
+  }
+
   private HoodieWriteConfig getMultiWriterWriteConfig() {
     return HoodieWriteConfig.newBuilder()
         .withPath(basePath)
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.client.transaction.lock;
+
+import org.apache.hudi.client.transaction.lock.models.LockGetResult;
+import org.apache.hudi.client.transaction.lock.models.LockUpsertResult;
+import org.apache.hudi.client.transaction.lock.models.StorageLockData;
+import org.apache.hudi.client.transaction.lock.models.StorageLockFile;
+import org.apache.hudi.common.util.Option;
+import org.apache.hudi.common.util.collection.Pair;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link StorageLockWaitQueue}.
+ */
+public class TestStorageLockWaitQueue {
+  private static final String QUEUE_FILE_PATH = "s3://bucket/tbl/.hoodie/.locks/" + StorageLockWaitQueue.WAIT_QUEUE_FILE_NAME;
+
+  private final InMemoryStorageLockClient storageLockClient = new InMemoryStorageLockClient();
+  private final AtomicLong clock = new AtomicLong(1_000_000L);
+
+  @Test
+  public void testWaitersOfProcessesServedInArrivalOrder() {
+    // The waiters of two processes share the queue object through the storage
+    StorageLockWaitQueue process1 = new StorageLockWaitQueue(storageLockClient, QUEUE_FILE_PATH, clock::get);
+    StorageLockWaitQueue process2 = new StorageLockWaitQueue(storageLockClient, QUEUE_FILE_PATH, clock::get);
+    long deadlineMs = clock.get() + 60_000L;
+
+    StorageLockWaitQueue.Ticket first = process1.enqueue("w1", deadlineMs);
+    clock.addAndGet(10);
+    StorageLockWaitQueue.Ticket second = process2.enqueue("w2", deadlineMs);
+    clock.addAndGet(10);
+    StorageLockWaitQueue.Ticket third = process1.enqueue("w3", deadlineMs);
+
+    assertEquals(Arrays.asList("w1", "w2", "w3"), process2.getWaiterIds());
+    assertTrue(process1.isHead(first));
+    assertFalse(process2.isHead(second));
+    assertFalse(process1.isHead(third));
+
+    process1.dequeue(first);
+    assertTrue(process2.isHead(second));
+    assertFalse(process1.isHead(third));
+    process2.dequeue(second);
+    assertTrue(process1.isHead(third));
+    process1.dequeue(third);
+    assertEquals(Collections.emptyList(), process1.getWaiterIds());
+  }
+
+  @Test
+  public void testDroppedEntryIsAddedBackInArrivalOrder() {
+    StorageLockWaitQueue queue = new StorageLockWaitQueue(storageLockClient, QUEUE_FILE_PATH, clock::get);
+    long deadlineMs = clock.get() + 60_000L;
+    StorageLockWaitQueue.Ticket first = queue.enqueue("w1", deadlineMs);
+    clock.addAndGet(10);
+    StorageLockWaitQueue.Ticket second = queue.enqueue("w2", deadlineMs);
+
+    // A concurrent update overwrites the queue with a stale content without the first waiter
+    String staleContent = storageLockClient.objects.get(QUEUE_FILE_PATH).replaceFirst("\\{[^}]*\"w1\"[^}]*},", "");
+    storageLockClient.objects.put(QUEUE_FILE_PATH, staleContent);
+    assertEquals(Collections.singletonList("w2"), queue.getWaiterIds());
+
+    // The second waiter does not jump ahead, the first one adds its entry back with its arrival time
+    assertTrue(queue.isHead(second));
+    assertTrue(queue.isHead(first));
+    assertFalse(queue.isHead(second));
+    assertEquals(Arrays.asList("w1", "w2"), queue.getWaiterIds());
+  }
+
+  @Test
+  public void testEntryOfLeftWaiterSkippedOnceLeaseExpires() {
+    StorageLockWaitQueue queue = new StorageLockWaitQueue(storageLockClient, QUEUE_FILE_PATH, clock::get);
+    long deadlineMs = clock.get() + 60_000L;
+    // The first waiter crashed without leaving the queue
+    queue.enqueue("w1", deadlineMs);
+    clock.addAndGet(10);
+    StorageLockWaitQueue.Ticket second = queue.enqueue("w2", deadlineMs);
+    assertFalse(queue.isHead(second));
+
+    // The second waiter renews its lease while waiting, the lease of the first one expires
+    clock.addAndGet(StorageLockWaitQueue.ENTRY_LEASE_MS / 2 + 1);
+    assertFalse(queue.isHead(second));
+    clock.addAndGet(StorageLockWaitQueue.ENTRY_LEASE_MS);
+    assertTrue(queue.isHead(second));
+    assertEquals(Collections.singletonList("w2"), queue.getWaiterIds());
+  }
+
+  @Test
+  public void testWaiterPollsWhenQueueCanNotBeWritten() {
+    storageLockClient.writable = false;
+    StorageLockWaitQueue queue = new StorageLockWaitQueue(storageLockClient, QUEUE_FILE_PATH, clock::get);
+    StorageLockWaitQueue.Ticket first = queue.enqueue("w1", clock.get() + 60_000L);
+    StorageLockWaitQueue.Ticket second = queue.enqueue("w2", clock.get() + 60_000L);
+    assertTrue(queue.isHead(first));
+    assertTrue(queue.isHead(second));
+  }
+
+  /**
+   * Storage lock client keeping the objects in memory.
+   */
+  private static class InMemoryStorageLockClient implements StorageLockClient {
+    private final Map<String, String> objects = new ConcurrentHashMap<>();
+    private boolean writable = true;
+
+    @Override
+    public Pair<LockUpsertResult, Option<StorageLockFile>> tryUpsertLockFile(
+        StorageLockData newLockData, Option<StorageLockFile> previousLockFile) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Pair<LockGetResult, Option<StorageLockFile>> readCurrentLockFile() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Option<String> readObject(String filePath, boolean checkExistsFirst) {
+      return Option.ofNullable(objects.get(filePath));
+    }
+
+    @Override
+    public boolean writeObject(String filePath, String content) {
+      if (writable) {
+        objects.put(filePath, content);
+      }
+      return writable;
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
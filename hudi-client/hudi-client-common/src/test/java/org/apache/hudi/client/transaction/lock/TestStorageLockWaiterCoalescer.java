@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.client.transaction.lock;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link StorageLockWaiterCoalescer}.
+ */
+public class TestStorageLockWaiterCoalescer {
+
+  @Test
+  public void testWaitersServedInArrivalOrder() throws Exception {
+    String lockFilePath = "s3://bucket/order/.hoodie/.locks/table_lock.json";
+    StorageLockWaiterCoalescer.Waiter firstWaiter = StorageLockWaiterCoalescer.join(lockFilePath);
+    List<Integer> servedWaiters = Collections.synchronizedList(new ArrayList<>());
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      int index = i;
+      StorageLockWaiterCoalescer.Waiter waiter = StorageLockWaiterCoalescer.join(lockFilePath);
+      Thread thread = new Thread(() -> {
+        try {
+          assertTrue(waiter.awaitHead(System.nanoTime() + TimeUnit.SECONDS.toNanos(10)));
+          servedWaiters.add(index);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        } finally {
+          waiter.leave();
+        }
+      });
+      threads.add(thread);
+    }
+    // Start the waiters in reverse order, they are still served in the order they joined
+    for (int i = threads.size() - 1; i >= 0; i--) {
+      threads.get(i).start();
+    }
+    assertTrue(firstWaiter.awaitHead(System.nanoTime()));
+    firstWaiter.leave();
+    for (Thread thread : threads) {
+      thread.join(TimeUnit.SECONDS.toMillis(10));
+    }
+    assertEquals(Arrays.asList(0, 1, 2, 3, 4), servedWaiters);
+    assertFalse(StorageLockWaiterCoalescer.hasWaiters(lockFilePath));
+  }
+
+  @Test
+  public void testAwaitHeadTimesOut() throws Exception {
+    String lockFilePath = "s3://bucket/timeout/.hoodie/.locks/table_lock.json";
+    StorageLockWaiterCoalescer.Waiter firstWaiter = StorageLockWaiterCoalescer.join(lockFilePath);
+    StorageLockWaiterCoalescer.Waiter secondWaiter = StorageLockWaiterCoalescer.join(lockFilePath);
+    assertFalse(secondWaiter.awaitHead(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50)));
+    firstWaiter.leave();
+    assertTrue(secondWaiter.awaitHead(System.nanoTime()));
+    secondWaiter.leave();
+  }
+
+  @Test
+  public void testReleaseWakesHeadWaiter() throws Exception {
+    String lockFilePath = "s3://bucket/release/.hoodie/.locks/table_lock.json";
+    StorageLockWaiterCoalescer.Waiter waiter = StorageLockWaiterCoalescer.join(lockFilePath);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch woken = new CountDownLatch(1);
+    Thread thread = new Thread(() -> {
+      try {
+        started.countDown();
+        waiter.awaitRelease(TimeUnit.MINUTES.toMillis(1));
+        woken.countDown();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    thread.start();
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    // Signals until the waiter is woken up, as it may not be waiting yet
+    while (!woken.await(10, TimeUnit.MILLISECONDS)) {
+      StorageLockWaiterCoalescer.signalRelease(lockFilePath);
+    }
+    thread.join();
+    waiter.leave();
+  }
+
+  @Test
+  public void testReleaseDoesNotWakeOtherWaiters() throws Exception {
+    String lockFilePath = "s3://bucket/head/.hoodie/.locks/table_lock.json";
+    StorageLockWaiterCoalescer.Waiter head = StorageLockWaiterCoalescer.join(lockFilePath);
+    StorageLockWaiterCoalescer.Waiter next = StorageLockWaiterCoalescer.join(lockFilePath);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch woken = new CountDownLatch(1);
+    Thread thread = new Thread(() -> {
+      try {
+        started.countDown();
+        next.awaitRelease(TimeUnit.MINUTES.toMillis(1));
+        woken.countDown();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    thread.start();
+    assertTrue(started.await(10, TimeUnit.SECONDS));
+    for (int i = 0; i < 10; i++) {
+      StorageLockWaiterCoalescer.signalRelease(lockFilePath);
+      assertFalse(woken.await(10, TimeUnit.MILLISECONDS));
+    }
+    // Leaving the head hands over to the next waiter
+    head.leave();
+    assertTrue(woken.await(10, TimeUnit.SECONDS));
+    thread.join();
+    next.leave();
+  }
+
+  @Test
+  public void testLockFileDroppedOnceWaitersLeft() {
+    String lockFilePath = "s3://bucket/table/.hoodie/.locks/table_lock.json";
+    String otherLockFilePath = "s3://bucket/table2/.hoodie/.locks/table_lock.json";
+    StorageLockWaiterCoalescer.Waiter firstWaiter = StorageLockWaiterCoalescer.join(lockFilePath);
+    StorageLockWaiterCoalescer.Waiter secondWaiter = StorageLockWaiterCoalescer.join(lockFilePath);
+    assertFalse(StorageLockWaiterCoalescer.hasWaiters(otherLockFilePath));
+    firstWaiter.leave();
+    assertTrue(StorageLockWaiterCoalescer.hasWaiters(lockFilePath));
+    secondWaiter.leave();
+    assertFalse(StorageLockWaiterCoalescer.hasWaiters(lockFilePath));
+    // Signaling a lock file without waiters is a no-op
+    StorageLockWaiterCoalescer.signalRelease(lockFilePath);
+  }
+
+  @Test
+  public void testAcquireRetryWaitIsJitteredAndBounded() {
+    for (int i = 0; i < 20; i++) {
+      long waitMs = StorageBasedLockProvider.getAcquireRetryWaitMs();
+      assertTrue(waitMs >= StorageBasedLockProvider.ACQUIRE_RETRY_WAIT_MS
+          && waitMs <= StorageBasedLockProvider.ACQUIRE_RETRY_WAIT_MS * 3 / 2, "Unexpected wait " + waitMs);
+    }
+  }
+}
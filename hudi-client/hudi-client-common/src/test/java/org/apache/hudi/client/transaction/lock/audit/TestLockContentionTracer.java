@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.client.transaction.lock.audit;
+
+import org.apache.hudi.common.util.Option;
+import org.apache.hudi.storage.HoodieStorage;
+import org.apache.hudi.storage.HoodieStorageUtils;
+import org.apache.hudi.storage.StoragePath;
+import org.apache.hudi.storage.StoragePathInfo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.hudi.common.testutils.HoodieTestUtils.getDefaultStorageConf;
+import static org.apache.hudi.io.util.FileIOUtils.readAsUTFString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link LockContentionTracer}.
+ */
+class TestLockContentionTracer {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String LOCK_PROVIDER = "ZookeeperBasedLockProvider";
+
+  @TempDir
+  Path tempDir;
+
+  @Test
+  void testTraceContendedAcquisition() {
+    String basePath = tempDir.toString();
+    LockContentionTracer holderTracer = new LockContentionTracer(basePath, LOCK_PROVIDER);
+    LockContentionTracer waiterTracer = new LockContentionTracer(basePath, LOCK_PROVIDER);
+
+    holderTracer.startAcquire(Option.of("001_commit"));
+    holderTracer.acquired();
+
+    waiterTracer.startAcquire(Option.of("002_commit"));
+    waiterTracer.recordFailedAttempt("zk-owner-1");
+    waiterTracer.recordFailedAttempt("zk-owner-1");
+    waiterTracer.recordFailedAttempt("");
+    LockContentionEvent failedEvent = waiterTracer.failed().get();
+    assertFalse(failedEvent.isAcquired());
+    assertEquals("002_commit", failedEvent.getOwner());
+    assertEquals(LOCK_PROVIDER, failedEvent.getLockProvider());
+    assertEquals(3, failedEvent.getFailedAttempts());
+    assertEquals(Arrays.asList("zk-owner-1", "local:001_commit"), failedEvent.getObservedHolders());
+    assertEquals(0L, failedEvent.getHoldTimeMs());
+    assertTrue(failedEvent.getWaitTimeMs() >= 0);
+    // Nothing to release as the lock was not acquired
+    assertFalse(waiterTracer.released().isPresent());
+
+    LockContentionEvent heldEvent = holderTracer.released().get();
+    assertTrue(heldEvent.isAcquired());
+    assertEquals("001_commit", heldEvent.getOwner());
+    assertTrue(heldEvent.getObservedHolders().isEmpty());
+    assertTrue(heldEvent.getHoldTimeMs() >= 0);
+
+    // The holder is not reported anymore once the lock is released
+    waiterTracer.startAcquire(Option.empty());
+    waiterTracer.recordFailedAttempt(null);
+    waiterTracer.acquired();
+    LockContentionEvent event = waiterTracer.released().get();
+    assertEquals(LockContentionTracer.UNKNOWN_OWNER, event.getOwner());
+    assertEquals(1, event.getFailedAttempts());
+    assertTrue(event.getObservedHolders().isEmpty());
+    assertEquals(Arrays.asList(failedEvent, event), waiterTracer.getRecentEvents());
+  }
+
+  @Test
+  void testRecentEventsBounded() {
+    LockContentionTracer tracer = new LockContentionTracer(tempDir.toString(), LOCK_PROVIDER);
+    for (int i = 0; i < LockContentionTracer.MAX_RECENT_EVENTS + 10; i++) {
+      tracer.startAcquire(Option.of(String.valueOf(i)));
+      tracer.acquired();
+      tracer.released();
+    }
+    List<LockContentionEvent> events = tracer.getRecentEvents();
+    assertEquals(LockContentionTracer.MAX_RECENT_EVENTS, events.size());
+    assertEquals("10", events.get(0).getOwner());
+    assertEquals(String.valueOf(LockContentionTracer.MAX_RECENT_EVENTS + 9), events.get(events.size() - 1).getOwner());
+  }
+
+  @Test
+  void testExport() throws IOException {
+    String basePath = tempDir.toString();
+    HoodieStorage storage = HoodieStorageUtils.getStorage(basePath, getDefaultStorageConf());
+    LockContentionTracer tracer = new LockContentionTracer(basePath, LOCK_PROVIDER);
+    LockContentionEvent event = new LockContentionEvent(LOCK_PROVIDER, "001_commit", 100L, 250L, 300L, 2,
+        Collections.singletonList("zk-owner-1"));
+    tracer.export(storage, event);
+
+    List<StoragePathInfo> files = storage.listDirectEntries(new StoragePath(LockContentionTracer.getContentionFolderPath(basePath)));
+    assertEquals(1, files.size());
+    assertEquals("100_001_commit.jsonl", files.get(0).getPath().getName());
+    try (InputStream in = storage.open(files.get(0).getPath())) {
+      Map<?, ?> record = OBJECT_MAPPER.readValue(readAsUTFString(in), Map.class);
+      assertEquals("001_commit", record.get("owner"));
+      assertEquals(150, record.get("waitTimeMs"));
+      assertEquals(50, record.get("holdTimeMs"));
+      assertEquals(2, record.get("failedAttempts"));
+      assertEquals(Collections.singletonList("zk-owner-1"), record.get("observedHolders"));
+    }
+  }
+}
@@ -25,9 +25,12 @@ import org.apache.hudi.common.engine.HoodieEngineContext;
 import org.apache.hudi.common.engine.HoodieLocalEngineContext;
 import org.apache.hudi.common.engine.LocalTaskContextSupplier;
 import org.apache.hudi.common.model.HoodieCommitMetadata;
+import org.apache.hudi.common.model.HoodieLSMTimelineManifest;
 import org.apache.hudi.common.model.WriteOperationType;
+import org.apache.hudi.common.table.timeline.versioning.v2.ArchivedTimelineLoaderV2;
 import org.apache.hudi.common.testutils.HoodieCommonTestHarness;
 import org.apache.hudi.common.testutils.HoodieTestTable;
+import org.apache.hudi.common.util.Option;
 import org.apache.hudi.config.HoodieIndexConfig;
 import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.index.HoodieIndex;
@@ -38,7 +41,10 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
 
 import static org.apache.hudi.common.testutils.HoodieTestUtils.INSTANT_GENERATOR;
 import static org.apache.hudi.common.testutils.HoodieTestUtils.TIMELINE_FACTORY;
@@ -46,7 +52,10 @@ import static org.apache.hudi.common.testutils.HoodieTestUtils.convertMetadataTo
 import static org.apache.hudi.common.testutils.HoodieTestUtils.getDefaultStorageConf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test cases for {@link org.apache.hudi.common.table.timeline.versioning.v2.ArchivedTimelineV2}.
@@ -77,6 +86,62 @@ public class TestArchivedTimelineV2 extends HoodieCommonTestHarness {
     assertThat(archivedTimeline.firstInstant().map(HoodieInstant::requestedTime).orElse(""), is("10000011"));
   }
 
+  @Test
+  void testLoadingInstantsWithFileFilter() throws Exception {
+    LSMTimelineWriter writer = writeArchivedTimeline(10, 10000000);
+    List<HoodieLSMTimelineManifest.LSMFileEntry> fileEntries = LSMTimeline.latestSnapshotManifest(metaClient, metaClient.getArchivePath()).getFiles();
+    assertEquals(5, fileEntries.size());
+    fileEntries.sort(HoodieLSMTimelineManifest.LSMFileEntry::compareTo);
+    // the completion time is 10 ms after the instant time
+    for (int i = 0; i < fileEntries.size(); i++) {
+      HoodieLSMTimelineManifest.LSMFileEntry fileEntry = fileEntries.get(i);
+      assertTrue(fileEntry.hasStats());
+      assertEquals(String.valueOf(10000000 + i * 10 + 11), fileEntry.getMinCompletionTime());
+      assertEquals(String.valueOf(10000000 + i * 10 + 20), fileEntry.getMaxCompletionTime());
+      assertEquals(Collections.singletonList("commit"), fileEntry.getActions());
+    }
+
+    // only the file of instants [10000021, 10000030] is read
+    ConcurrentSkipListSet<String> loadedInstants = new ConcurrentSkipListSet<>();
+    new ArchivedTimelineLoaderV2().loadInstants(metaClient, null,
+        fileEntry -> fileEntry.mayContainCompletionTimeInRange("10000033", "10000035"),
+        HoodieArchivedTimeline.LoadMode.TIME, r -> true, (instantTime, record) -> loadedInstants.add(instantTime), Option.empty());
+    assertEquals(10, loadedInstants.size());
+    assertEquals("10000021", loadedInstants.first());
+    assertEquals("10000030", loadedInstants.last());
+
+    // no file is read for the actions not in the timeline
+    loadedInstants.clear();
+    new ArchivedTimelineLoaderV2().loadInstants(metaClient, null,
+        fileEntry -> fileEntry.mayContainAnyAction(Collections.singleton("clean")),
+        HoodieArchivedTimeline.LoadMode.TIME, r -> true, (instantTime, record) -> loadedInstants.add(instantTime), Option.empty());
+    assertTrue(loadedInstants.isEmpty());
+
+    // the statistics of the compacted file are merged from the source files
+    List<String> candidateFiles = fileEntries.subList(0, 2).stream().map(HoodieLSMTimelineManifest.LSMFileEntry::getFileName).collect(Collectors.toList());
+    String compactedFileName = LSMTimelineWriter.compactedFileName(candidateFiles);
+    writer.compactFiles(candidateFiles, compactedFileName);
+    writer.updateManifest(candidateFiles, compactedFileName);
+    HoodieLSMTimelineManifest.LSMFileEntry compactedEntry = LSMTimeline.latestSnapshotManifest(metaClient, metaClient.getArchivePath()).getFiles().stream()
+        .filter(fileEntry -> fileEntry.getFileName().equals(compactedFileName)).findFirst().get();
+    assertEquals("10000011", compactedEntry.getMinCompletionTime());
+    assertEquals("10000030", compactedEntry.getMaxCompletionTime());
+    assertFalse(compactedEntry.mayContainCompletionTimeInRange("10000031", null));
+    assertEquals(Collections.singletonList("commit"), compactedEntry.getActions());
+  }
+
+  @Test
+  void testLoadingCompletedInstantsInCompletionTimeRange() throws Exception {
+    writeArchivedTimeline(10, 10000000);
+    HoodieArchivedTimeline archivedTimeline = TIMELINE_FACTORY.createArchivedTimeline(metaClient, false);
+    // the completion time is 10 ms after the instant time, only the file of instants [10000021, 10000030] is read
+    archivedTimeline.loadCompletedInstantDetailsInMemory("10000001", "10000050", "10000033", "10000035");
+    assertEquals(10, archivedTimeline.countInstants());
+    assertEquals("10000021", archivedTimeline.firstInstant().map(HoodieInstant::requestedTime).orElse(""));
+    assertEquals("10000030", archivedTimeline.lastInstant().map(HoodieInstant::requestedTime).orElse(""));
+    assertTrue(archivedTimeline.getInstantDetails(archivedTimeline.firstInstant().get()).isPresent());
+  }
+
   @Test
   void getInstantReaderReferencesSelf() {
     HoodieArchivedTimeline timeline = TIMELINE_FACTORY.createArchivedTimeline(metaClient);
@@ -86,7 +151,7 @@ public class TestArchivedTimelineV2 extends HoodieCommonTestHarness {
   //  Utilities
   // -------------------------------------------------------------------------
 
-  private void writeArchivedTimeline(int batchSize, long startTs) throws Exception {
+  private LSMTimelineWriter writeArchivedTimeline(int batchSize, long startTs) throws Exception {
     HoodieTestTable testTable = HoodieTestTable.of(this.metaClient);
     HoodieWriteConfig writeConfig = HoodieWriteConfig.newBuilder().withPath(this.metaClient.getBasePath())
         .withIndexConfig(HoodieIndexConfig.newBuilder().withIndexType(HoodieIndex.IndexType.INMEMORY).build())
@@ -110,5 +175,6 @@ public class TestArchivedTimelineV2 extends HoodieCommonTestHarness {
         instantBuffer.clear();
       }
     }
+    return writer;
   }
 }
@@ -583,6 +583,23 @@ public class TestHoodieWriteConfig {
     assertEquals(HoodieClusteringConfig.SINGLE_SPARK_JOB_CONSISTENT_HASHING_EXECUTION_STRATEGY, writeConfig.getClusteringExecutionStrategyClass());
   }
 
+  @Test
+  public void testConsistentBucketIndexResizeOnlyClusteringUpdatesStrategy() {
+    Properties props = new Properties();
+    props.setProperty(KeyGeneratorOptions.RECORDKEY_FIELD_NAME.key(), "uuid");
+    TypedProperties resizeOnlyProps = HoodieIndexConfig.newBuilder().fromProperties(props).withIndexType(HoodieIndex.IndexType.BUCKET)
+        .withBucketIndexEngineType(HoodieIndex.BucketIndexEngineType.CONSISTENT_HASHING)
+        .enableBucketIndexResizeOnlyClustering(true).build().getProps();
+    HoodieWriteConfig writeConfig = HoodieWriteConfig.newBuilder().withPath("/tmp").withProperties(resizeOnlyProps).build();
+    assertEquals(HoodieClusteringConfig.SPARK_CONSISTENT_BUCKET_DUPLICATE_UPDATE_STRATEGY_CLASS_NAME, writeConfig.getClusteringUpdatesStrategyClass());
+
+    HoodieWriteConfig.Builder writeConfigBuilder = HoodieWriteConfig.newBuilder().withPath("/tmp");
+    assertThrows(IllegalArgumentException.class,
+        () -> writeConfigBuilder.withClusteringConfig(HoodieClusteringConfig.newBuilder()
+            .fromProperties(resizeOnlyProps)
+            .withClusteringUpdatesStrategy(HoodieClusteringConfig.SPARK_REJECT_UPDATE_STRATEGY_CLASS_NAME).build()));
+  }
+
   @Test
   public void testConsistentBucketIndexInvalidClusteringConfig() {
     Properties props = new Properties();
@@ -22,7 +22,9 @@ import org.apache.hudi.common.model.WriteOperationType;
 import org.apache.hudi.common.table.HoodieTableConfig;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
 import org.apache.hudi.common.util.collection.Pair;
+import org.apache.hudi.config.HoodieIndexConfig;
 import org.apache.hudi.config.HoodieWriteConfig;
+import org.apache.hudi.index.HoodieIndex;
 import org.apache.hudi.table.HoodieTable;
 
 import org.junit.jupiter.api.Assertions;
@@ -131,6 +133,32 @@ public class TestHoodieMergeHandleFactory {
     validateMergeClasses(mergeHandleClasses, FileGroupReaderBasedMergeHandle.class.getName(), null);
   }
 
+  @Test
+  public void validateBucketIndexSortMergeFactoryImpl() {
+    Properties properties = new Properties();
+    properties.setProperty(HoodieIndexConfig.INDEX_TYPE.key(), HoodieIndex.IndexType.BUCKET.name());
+    properties.setProperty(HoodieIndexConfig.BUCKET_INDEX_SORT_MERGE_ENABLE.key(), "true");
+    Pair mergeHandleClasses = HoodieMergeHandleFactory.getMergeHandleClassesWrite(WriteOperationType.UPSERT, getWriterConfig(properties), mockHoodieTable);
+    validateMergeClasses(mergeHandleClasses, HoodieSortMergeJoinHandle.class.getName());
+
+    // the sorted merge handles take precedence
+    when(mockHoodieTable.requireSortedRecords()).thenReturn(true);
+    mergeHandleClasses = HoodieMergeHandleFactory.getMergeHandleClassesWrite(WriteOperationType.UPSERT, getWriterConfig(properties), mockHoodieTable);
+    validateMergeClasses(mergeHandleClasses, HoodieSortedMergeHandle.class.getName());
+
+    // CDC enabled
+    when(mockHoodieTable.requireSortedRecords()).thenReturn(false);
+    when(mockHoodieTableConfig.isCDCEnabled()).thenReturn(true);
+    mergeHandleClasses = HoodieMergeHandleFactory.getMergeHandleClassesWrite(WriteOperationType.UPSERT, getWriterConfig(properties), mockHoodieTable);
+    validateMergeClasses(mergeHandleClasses, FileGroupReaderBasedMergeHandle.class.getName());
+
+    // consistent hashing bucket index
+    when(mockHoodieTableConfig.isCDCEnabled()).thenReturn(false);
+    properties.setProperty(HoodieIndexConfig.BUCKET_INDEX_ENGINE_TYPE.key(), HoodieIndex.BucketIndexEngineType.CONSISTENT_HASHING.name());
+    mergeHandleClasses = HoodieMergeHandleFactory.getMergeHandleClassesWrite(WriteOperationType.UPSERT, getWriterConfig(properties), mockHoodieTable);
+    validateMergeClasses(mergeHandleClasses, FileGroupReaderBasedMergeHandle.class.getName());
+  }
+
   @Test
   public void validateCompactionPathFactoryImpl() {
     // default case
@@ -31,6 +31,7 @@ import org.apache.hudi.common.model.CleanFileInfo;
 import org.apache.hudi.common.model.HoodieBaseFile;
 import org.apache.hudi.common.model.HoodieCleaningPolicy;
 import org.apache.hudi.common.model.HoodieCommitMetadata;
+import org.apache.hudi.common.model.HoodieCommitMetadataView;
 import org.apache.hudi.common.model.HoodieFileGroup;
 import org.apache.hudi.common.model.HoodieFileGroupId;
 import org.apache.hudi.common.model.HoodieWriteStat;
@@ -443,11 +444,18 @@ public class TestCleanPlanner {
         activeInstantsPartitionsMap2, Collections.emptyList(), twoPartitionsInActiveTimeline, false,
         Collections.singletonMap(savepoint2, Collections.singletonList(PARTITION1))));
 
-    // savepoint tracked in previous clean was removed(touching partition1). latest uncleaned touched 2 other partitions. But when savepoint is removed, entire list of partitions are expected.
+    // savepoint tracked in previous clean was removed(touching partition1). latest uncleaned touched 2 other partitions. Since partition1 was not
+    // written after the savepoint, its savepointed files are still the latest ones, and only the 2 partitions touched by the commits after the
+    // savepoint are expected.
     // earliest savepoint in last clean is empty since there is no savepoint in the timeline
     arguments.addAll(buildArgumentsForCleanByHoursAndCommitsIncrCleanPartitionsCases(true,
         earliestInstant, lastCompletedInLastClean, lastCleanInstant, earliestInstantInLastClean, Collections.singletonList(PARTITION1),
         Collections.singletonMap(savepoint2, Collections.singletonList(PARTITION1)), Option.empty(),
+        activeInstantsPartitionsMap2, Collections.emptyList(), twoPartitionsInActiveTimeline, false, Collections.emptyMap()));
+
+    // same as above with the incremental cleaning on savepoint deletion disabled. entire list of partitions are expected.
+    arguments.add(Arguments.of(true, getCleanByCommitsConfig(false), earliestInstant, lastCompletedInLastClean, lastCleanInstant,
+        earliestInstantInLastClean, Collections.singletonList(PARTITION1), Collections.singletonMap(savepoint2, Collections.singletonList(PARTITION1)), Option.empty(),
         activeInstantsPartitionsMap2, Collections.emptyList(), threePartitionsInActiveTimeline, false, Collections.emptyMap()));
 
     // previous savepoint still exists and touches partition1. uncleaned touches only partition2 and partition3. expected partition2 and partition3.
@@ -470,7 +478,8 @@ public class TestCleanPlanner {
         Collections.singletonMap(savepoint3, Collections.singletonList(PARTITION1)), Option.of(savepoint3),
         activeInstantsPartitionsMap2, Collections.singletonList(earliestInstantMinusOneWeek), twoPartitionsInActiveTimeline, false, latestSavepoints));
 
-    // 2 savepoints were tracked in previous clean. one of them is removed in latest. When savepoint is removed, entire list of partitions are expected.
+    // 2 savepoints were tracked in previous clean. one of them is removed in latest. Only the partitions touched by the commits after
+    // the removed savepoint are expected.
     // earliest savepoint in last clean is same as savepoint3 since savepoint3 is part of the timeline
     // and there is a replace commit earliestInstantMinusOneWeek after the savepoint but before earliestInstantInLastClean (earliestInstantToRetain)
     Map<String, List<String>> previousSavepoints = new HashMap<>();
@@ -478,12 +487,12 @@ public class TestCleanPlanner {
     previousSavepoints.put(savepoint3, Collections.singletonList(PARTITION2));
     arguments.addAll(buildArgumentsForCleanByHoursAndCommitsIncrCleanPartitionsCases(true,
         earliestInstant, lastCompletedInLastClean, lastCleanInstant, earliestInstantInLastClean, Collections.singletonList(PARTITION1),
-        previousSavepoints, Option.of(savepoint3), activeInstantsPartitionsMap2, Collections.singletonList(earliestInstantMinusOneWeek), threePartitionsInActiveTimeline, false,
+        previousSavepoints, Option.of(savepoint3), activeInstantsPartitionsMap2, Collections.singletonList(earliestInstantMinusOneWeek), twoPartitionsInActiveTimeline, false,
         Collections.singletonMap(savepoint3, Collections.singletonList(PARTITION2))
     ));
 
     // 2 savepoints were tracked in previous clean. one of them is removed in latest. But a partition part of removed savepoint is already touched by uncleaned commits.
-    // Anyways, when savepoint is removed, entire list of partitions are expected.
+    // entire list of partitions are expected, since all of them are touched by the commits after the removed savepoint.
     // earliest savepoint in last clean is empty even though savepoint3 is part of the timeline
     // since there is no replace commit between the savepoint3 and earliestInstantInLastClean (earliestInstantToRetain)
     // The replace commit earliestInstantMinusThreeDays is after the earliestInstantInLastClean
@@ -505,7 +514,7 @@ public class TestCleanPlanner {
         activeInstantsUnPartitionsMap, Collections.emptyList(), unPartitionsInActiveTimeline, false, Collections.emptyMap()));
 
     // savepoint tracked in previous clean was removed(touching partition1). active instants does not have the instant corresponding to the savepoint.
-    // latest uncleaned touched 2 other partitions. But when savepoint is removed, entire list of partitions are expected.
+    // latest uncleaned touched 2 other partitions. Since the commits after the savepoint may be archived, entire list of partitions are expected.
     // earliest savepoint in last clean is empty since there is no savepoint in the timeline
     activeInstantsPartitionsMap2.remove(earliestInstantMinusOneWeek);
     arguments.addAll(buildArgumentsForCleanByHoursAndCommitsIncrCleanPartitionsCases(true,
@@ -534,10 +543,15 @@ public class TestCleanPlanner {
   }
 
   private static HoodieWriteConfig getCleanByCommitsConfig() {
+    return getCleanByCommitsConfig(true);
+  }
+
+  private static HoodieWriteConfig getCleanByCommitsConfig(boolean incrementalCleaningOnSavepointDeletion) {
     return HoodieWriteConfig.newBuilder().withPath("/tmp")
         .withCleanConfig(HoodieCleanConfig.newBuilder()
             .retainCommits(5)
             .withCleanerPolicy(HoodieCleaningPolicy.KEEP_LATEST_COMMITS)
+            .withIncrementalCleaningOnSavepointDeletion(incrementalCleaningOnSavepointDeletion)
             .build())
         .build();
   }
@@ -650,6 +664,8 @@ public class TestCleanPlanner {
     instantstoProcess.putAll(activeInstantsToPartitions);
     if (!areCommitsForSavepointsRemoved) {
       instantstoProcess.putAll(savepointedCommitsToAdd);
+    } else {
+      savepointedCommitsToAdd.keySet().forEach(savepoint -> when(activeTimeline.getCommitsTimeline().isBeforeTimelineStarts(savepoint)).thenReturn(true));
     }
     instantstoProcess.forEach((k, v) -> {
       HoodieInstant hoodieInstant = INSTANT_GENERATOR.createNewInstant(COMPLETED, HoodieTimeline.COMMIT_ACTION, k);
@@ -661,8 +677,8 @@ public class TestCleanPlanner {
         commitMetadata.getPartitionToWriteStats().put(partition, Collections.emptyList());
       });
       try {
-        when(hoodieTable.getActiveTimeline().readCommitMetadata(hoodieInstant)).thenReturn(
-            commitMetadata);
+        when(hoodieTable.getActiveTimeline().readCommitMetadataView(hoodieInstant)).thenReturn(
+            HoodieCommitMetadataView.fromCommitMetadata(commitMetadata));
       } catch (IOException e) {
         throw new RuntimeException("Should not have failed", e);
       }
@@ -25,11 +25,17 @@ import org.apache.hudi.common.model.HoodieKey;
 import org.apache.hudi.common.model.HoodieRecord;
 import org.apache.hudi.common.model.HoodieRecordLocation;
 import org.apache.hudi.common.model.WriteOperationType;
+import org.apache.hudi.common.schema.HoodieSchema;
+import org.apache.hudi.common.serialization.DefaultSerializer;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
 import org.apache.hudi.common.table.timeline.HoodieInstant;
 import org.apache.hudi.common.util.CommitUtils;
+import org.apache.hudi.common.util.DefaultSizeEstimator;
+import org.apache.hudi.common.util.HoodieRecordSizeEstimator;
 import org.apache.hudi.common.util.HoodieTimer;
 import org.apache.hudi.common.util.Option;
+import org.apache.hudi.common.util.collection.ExternalSpillableMap;
+import org.apache.hudi.common.util.collection.MappingIterator;
 import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.exception.HoodieCommitException;
@@ -53,6 +59,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -239,11 +246,36 @@ public abstract class BaseJavaCommitActionExecutor<T> extends
       log.info("Empty partition with fileId => " + fileId);
       return Collections.singletonList((List<WriteStatus>) Collections.EMPTY_LIST).iterator();
     }
+    if (config.isBucketIndexSortMergeEnabled()) {
+      return handleSortedUpdate(partitionPath, fileId, recordItr);
+    }
     // these are updates
     HoodieMergeHandle<?, ?, ?, ?> mergeHandle = getUpdateHandle(partitionPath, fileId, recordItr);
     return IOUtils.runMerge(mergeHandle, instantTime, fileId);
   }
 
+  /**
+   * Merges the records of a bucket in record key order, as the sort merge handle streams them against the base file.
+   * The records are buffered in a spillable map, so that only their keys are sorted in memory. Like the map of the
+   * default merge handle, the map keeps the last of the records with the same key.
+   */
+  private Iterator<List<WriteStatus>> handleSortedUpdate(String partitionPath, String fileId,
+                                                         Iterator<HoodieRecord<T>> recordItr) throws IOException {
+    long memoryForSort = IOUtils.getMaxMemoryPerPartitionMerge(taskContextSupplier, config);
+    try (ExternalSpillableMap<String, HoodieRecord<T>> sortBuffer = new ExternalSpillableMap<>(memoryForSort,
+        config.getSpillableMapBasePath(), new DefaultSizeEstimator<>(),
+        new HoodieRecordSizeEstimator<>(HoodieSchema.parse(config.getWriteSchema())),
+        config.getCommonConfig().getSpillableDiskMapType(), new DefaultSerializer<>(),
+        config.getCommonConfig().isBitCaskDiskMapCompressionEnabled(), getClass().getSimpleName())) {
+      recordItr.forEachRemaining(record -> sortBuffer.put(record.getRecordKey(), record));
+      List<String> sortedKeys = new ArrayList<>(sortBuffer.keySet());
+      Collections.sort(sortedKeys);
+      HoodieMergeHandle<?, ?, ?, ?> mergeHandle = getUpdateHandle(partitionPath, fileId,
+          new MappingIterator<>(sortedKeys.iterator(), sortBuffer::get));
+      return IOUtils.runMerge(mergeHandle, instantTime, fileId);
+    }
+  }
+
   protected HoodieMergeHandle<?, ?, ?, ?> getUpdateHandle(String partitionPath, String fileId, Iterator<HoodieRecord<T>> recordItr) {
     Option<BaseKeyGenerator> keyGeneratorOpt = Option.empty();
     if (!config.populateMetaFields()) {
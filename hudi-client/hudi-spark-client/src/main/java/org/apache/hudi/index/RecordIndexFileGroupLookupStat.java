@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.hudi.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.Serializable;
+
+/**
+ * Stats of the lookup of the keys in one file group of the record index, reported by the lookup tasks.
+ */
+@AllArgsConstructor
+@Getter
+public class RecordIndexFileGroupLookupStat implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final int fileGroupIndex;
+  // Executor running the lookup, as a Spark task location
+  private final String executorLocation;
+  private final int numKeys;
+  private final long lookupTimeMs;
+
+  @Override
+  public String toString() {
+    return "RecordIndexFileGroupLookupStat{"
+        + "fileGroupIndex=" + fileGroupIndex
+        + ", executorLocation='" + executorLocation + '\''
+        + ", numKeys=" + numKeys
+        + ", lookupTimeMs=" + lookupTimeMs
+        + '}';
+  }
+}
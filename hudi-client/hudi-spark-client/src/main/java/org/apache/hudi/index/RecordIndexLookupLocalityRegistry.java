@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.index;
+
+import org.apache.hudi.common.util.Option;
+import org.apache.hudi.common.util.VisibleForTesting;
+
+import lombok.Getter;
+import org.apache.spark.util.CollectionAccumulator;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JVM-wide registry of the locality of the record index lookups of each table.
+ * <p>
+ * The write client creates a new index for each write, so the executor which looked up each file group of the
+ * record index is kept here, across the writes of the table. The lookups of a batch report their stats through an
+ * accumulator, collected when the next batch looks up its keys. The locality of a table is reset when the number of
+ * its record index file groups changes, and the least recently used tables are evicted beyond {@link #MAX_TABLES}.
+ */
+@ThreadSafe
+public final class RecordIndexLookupLocalityRegistry {
+
+  @VisibleForTesting
+  static final int MAX_TABLES = 64;
+
+  // Keyed by table base path, in access order for the eviction
+  private static final Map<String, TableLocality> TABLES = new LinkedHashMap<String, TableLocality>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, TableLocality> eldest) {
+      return size() > MAX_TABLES;
+    }
+  };
+
+  private RecordIndexLookupLocalityRegistry() {
+  }
+
+  /**
+   * @return The locality of the lookups of the given table, reset if the number of record index file groups changed
+   */
+  public static synchronized TableLocality forTable(String basePath, int numFileGroups) {
+    TableLocality locality = TABLES.get(basePath);
+    if (locality == null || locality.getNumFileGroups() != numFileGroups) {
+      // The file groups were re-initialized, the executors of the previous ones are irrelevant
+      locality = new TableLocality(numFileGroups);
+      TABLES.put(basePath, locality);
+    }
+    return locality;
+  }
+
+  @VisibleForTesting
+  public static synchronized Option<TableLocality> getIfPresent(String basePath) {
+    return Option.ofNullable(TABLES.get(basePath));
+  }
+
+  @VisibleForTesting
+  static synchronized int size() {
+    return TABLES.size();
+  }
+
+  @VisibleForTesting
+  static synchronized void clear() {
+    TABLES.clear();
+  }
+
+  /**
+   * Locality of the lookups of the record index file groups of one table.
+   */
+  @ThreadSafe
+  public static class TableLocality {
+    @Getter
+    private final int numFileGroups;
+    // Executor which looked up each file group of the record index last, keyed by file group index
+    private final Map<Integer, String> fileGroupLocations = new HashMap<>();
+    // Stats of the lookups not collected yet
+    private final List<CollectionAccumulator<RecordIndexFileGroupLookupStat>> pendingLookupStats = new ArrayList<>();
+    private int numBatchesWithPreferredLocations = 0;
+
+    TableLocality(int numFileGroups) {
+      this.numFileGroups = numFileGroups;
+    }
+
+    /**
+     * Tracks the stats reported by the lookups of a batch, to be collected once the lookups completed.
+     */
+    synchronized void trackLookups(CollectionAccumulator<RecordIndexFileGroupLookupStat> lookupStats) {
+      pendingLookupStats.add(lookupStats);
+    }
+
+    /**
+     * Collects the stats reported by the lookups tracked so far, remembering the executor of each file group.
+     */
+    public synchronized List<RecordIndexFileGroupLookupStat> collectLookupStats() {
+      List<RecordIndexFileGroupLookupStat> stats = new ArrayList<>();
+      pendingLookupStats.forEach(accumulator -> stats.addAll(accumulator.value()));
+      pendingLookupStats.clear();
+      stats.forEach(stat -> fileGroupLocations.put(stat.getFileGroupIndex(), stat.getExecutorLocation()));
+      return stats;
+    }
+
+    /**
+     * @return The executor which looked up each file group last, keyed by file group index
+     */
+    public synchronized Map<Integer, String> getFileGroupLocations() {
+      return new HashMap<>(fileGroupLocations);
+    }
+
+    synchronized void onPreferredLocationsSet() {
+      numBatchesWithPreferredLocations++;
+    }
+
+    /**
+     * @return The number of batches whose lookups were scheduled with the preferred locations of the file groups
+     */
+    @VisibleForTesting
+    public synchronized int getNumBatchesWithPreferredLocations() {
+      return numBatchesWithPreferredLocations;
+    }
+  }
+}
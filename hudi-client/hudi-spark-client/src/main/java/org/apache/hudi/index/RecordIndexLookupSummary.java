@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Summary of the lookups of the record index file groups of a batch, aggregated from the stats of each file group.
+ */
+@AllArgsConstructor
+@Getter
+public class RecordIndexLookupSummary {
+  private final int numFileGroups;
+  private final long numKeys;
+  // Lookup time of the slowest file group
+  private final long maxLookupTimeMs;
+  // Mean lookup time of the file groups
+  private final long avgLookupTimeMs;
+  // Slowest lookups first
+  private final List<RecordIndexFileGroupLookupStat> slowestLookups;
+
+  /**
+   * Aggregates the stats of the file group lookups, which must not be empty.
+   *
+   * @param stats             stats of the file group lookups
+   * @param numSlowestLookups number of the slowest lookups to keep, at least one
+   */
+  public static RecordIndexLookupSummary of(List<RecordIndexFileGroupLookupStat> stats, int numSlowestLookups) {
+    long numKeys = stats.stream().mapToLong(RecordIndexFileGroupLookupStat::getNumKeys).sum();
+    long totalLookupTimeMs = stats.stream().mapToLong(RecordIndexFileGroupLookupStat::getLookupTimeMs).sum();
+    List<RecordIndexFileGroupLookupStat> slowestLookups = stats.stream()
+        .sorted(Comparator.comparingLong(RecordIndexFileGroupLookupStat::getLookupTimeMs).reversed())
+        .limit(numSlowestLookups)
+        .collect(Collectors.toList());
+    return new RecordIndexLookupSummary(stats.size(), numKeys, slowestLookups.get(0).getLookupTimeMs(),
+        totalLookupTimeMs / stats.size(), slowestLookups);
+  }
+}
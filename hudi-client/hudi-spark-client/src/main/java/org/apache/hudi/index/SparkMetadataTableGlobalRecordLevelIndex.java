@@ -19,6 +19,7 @@
 package org.apache.hudi.index;
 
 import org.apache.hudi.client.WriteStatus;
+import org.apache.hudi.client.common.HoodieSparkEngineContext;
 import org.apache.hudi.common.data.HoodieData;
 import org.apache.hudi.common.data.HoodieListData;
 import org.apache.hudi.common.data.HoodiePairData;
@@ -28,6 +29,7 @@ import org.apache.hudi.common.model.HoodieRecord;
 import org.apache.hudi.common.model.HoodieRecordGlobalLocation;
 import org.apache.hudi.common.util.Either;
 import org.apache.hudi.common.util.HoodieDataUtils;
+import org.apache.hudi.common.util.HoodieTimer;
 import org.apache.hudi.common.util.ValidationUtils;
 import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.config.HoodieIndexConfig;
@@ -38,12 +40,15 @@ import org.apache.hudi.exception.HoodieIndexException;
 import org.apache.hudi.exception.TableNotFoundException;
 import org.apache.hudi.metadata.HoodieIndexVersion;
 import org.apache.hudi.metadata.MetadataPartitionType;
+import org.apache.hudi.metrics.HoodieMetrics;
 import org.apache.hudi.table.HoodieTable;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.spark.Partitioner;
+import org.apache.spark.TaskContext;
 import org.apache.spark.api.java.JavaRDD;
 import org.apache.spark.api.java.function.PairFlatMapFunction;
+import org.apache.spark.util.CollectionAccumulator;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -62,6 +67,9 @@ import static org.apache.hudi.metadata.MetadataPartitionType.RECORD_INDEX;
 @Slf4j
 public class SparkMetadataTableGlobalRecordLevelIndex extends HoodieIndex<Object, Object> {
 
+  // Number of the slowest file group lookups logged after each batch
+  private static final int NUM_SLOWEST_LOOKUPS_TO_LOG = 5;
+
   public SparkMetadataTableGlobalRecordLevelIndex(HoodieWriteConfig config) {
     super(config);
   }
@@ -128,9 +136,38 @@ public class SparkMetadataTableGlobalRecordLevelIndex extends HoodieIndex<Object
     // keyToLocationPairRDD and records RDD.
     ValidationUtils.checkState(partitionedKeyRDD.getNumPartitions() <= numFileGroups);
 
+    // The write client creates a new index for each write, so the locality is kept per table in a JVM-wide registry
+    RecordIndexLookupLocalityRegistry.TableLocality locality = RecordIndexLookupLocalityRegistry.forTable(
+        hoodieTable.getMetaClient().getBasePath().toString(), numFileGroups);
+    // The lookups of the last batch have completed by now
+    reportLookupStats(locality.collectLookupStats(), hoodieTable);
+    Map<Integer, String> fileGroupLocations = locality.getFileGroupLocations();
+    if (config.isRecordIndexLookupLocalityEnabled() && !fileGroupLocations.isEmpty()) {
+      // Each partition looks up the file group with the same index, so it is scheduled on the executor
+      // which looked up the file group in the last batch and has its HFile blocks cached
+      partitionedKeyRDD = HoodiePreferredLocationRDD.withPreferredLocations(partitionedKeyRDD, fileGroupLocations);
+      locality.onPreferredLocationsSet();
+    }
+    CollectionAccumulator<RecordIndexFileGroupLookupStat> lookupStats =
+        HoodieSparkEngineContext.getSparkContext(context).sc().collectionAccumulator("Record index lookup stats");
+    locality.trackLookups(lookupStats);
+
     // Lookup the keys in the record index
+    return HoodieJavaPairRDD.of(partitionedKeyRDD.mapPartitionsToPair(new RecordIndexFileGroupLookupFunction(hoodieTable, lookupStats)));
+  }
 
-    return HoodieJavaPairRDD.of(partitionedKeyRDD.mapPartitionsToPair(new RecordIndexFileGroupLookupFunction(hoodieTable)));
+  /**
+   * Logs the slowest lookups of the last batch and reports the lookup times of the file groups as metrics.
+   */
+  private void reportLookupStats(List<RecordIndexFileGroupLookupStat> stats, HoodieTable hoodieTable) {
+    if (stats.isEmpty()) {
+      return;
+    }
+    RecordIndexLookupSummary summary = RecordIndexLookupSummary.of(stats, NUM_SLOWEST_LOOKUPS_TO_LOG);
+    log.info("Looked up {} keys in {} record index file groups, average lookup {} ms, slowest lookups: {}",
+        summary.getNumKeys(), summary.getNumFileGroups(), summary.getAvgLookupTimeMs(), summary.getSlowestLookups());
+    new HoodieMetrics(config, hoodieTable.getStorage()).updateRecordIndexLookupMetrics(summary.getNumFileGroups(),
+        summary.getNumKeys(), summary.getMaxLookupTimeMs(), summary.getAvgLookupTimeMs());
   }
 
   protected Either<Integer, Map<String, Integer>> fetchFileGroupSize(HoodieTable hoodieTable) {
@@ -181,9 +218,11 @@ public class SparkMetadataTableGlobalRecordLevelIndex extends HoodieIndex<Object
    */
   private static class RecordIndexFileGroupLookupFunction implements PairFlatMapFunction<Iterator<String>, String, HoodieRecordGlobalLocation> {
     private final HoodieTable hoodieTable;
+    private final CollectionAccumulator<RecordIndexFileGroupLookupStat> lookupStats;
 
-    public RecordIndexFileGroupLookupFunction(HoodieTable hoodieTable) {
+    public RecordIndexFileGroupLookupFunction(HoodieTable hoodieTable, CollectionAccumulator<RecordIndexFileGroupLookupStat> lookupStats) {
       this.hoodieTable = hoodieTable;
+      this.lookupStats = lookupStats;
     }
 
     @Override
@@ -191,11 +230,18 @@ public class SparkMetadataTableGlobalRecordLevelIndex extends HoodieIndex<Object
       List<String> keysToLookup = new ArrayList<>();
       recordKeyIterator.forEachRemaining(keysToLookup::add);
 
+      HoodieTimer timer = HoodieTimer.start();
       // recordIndexInfo object only contains records that are present in record_index.
       HoodiePairData<String, HoodieRecordGlobalLocation> recordIndexData =
           hoodieTable.getTableMetadata().readRecordIndexLocationsWithKeys(HoodieListData.eager(keysToLookup));
       try {
         List<Pair<String, HoodieRecordGlobalLocation>> recordIndexInfo = HoodieDataUtils.dedupeAndCollectAsList(recordIndexData);
+        if (!keysToLookup.isEmpty()) {
+          RecordIndexFileGroupLookupStat stat = new RecordIndexFileGroupLookupStat(TaskContext.getPartitionId(),
+              HoodiePreferredLocationRDD.currentExecutorLocation(), keysToLookup.size(), timer.endTimer());
+          log.debug("Looked up record index file group: {}", stat);
+          lookupStats.add(stat);
+        }
         return recordIndexInfo.stream()
             .map(e -> new Tuple2<>(e.getKey(), e.getValue())).iterator();
       } finally {
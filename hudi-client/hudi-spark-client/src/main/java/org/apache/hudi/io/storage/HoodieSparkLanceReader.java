@@ -20,7 +20,7 @@ package org.apache.hudi.io.storage;
 
 import org.apache.hudi.HoodieSchemaConversionUtils;
 import org.apache.hudi.common.bloom.BloomFilter;
-import org.apache.hudi.common.bloom.HoodieDynamicBoundedBloomFilter;
+import org.apache.hudi.common.bloom.BloomFilterFactory;
 import org.apache.hudi.common.bloom.SimpleBloomFilter;
 import org.apache.hudi.common.config.HoodieStorageConfig;
 import org.apache.hudi.common.model.HoodieRecord;
@@ -126,8 +126,8 @@ public class HoodieSparkLanceReader implements HoodieSparkFileReader {
       if (metadata.containsKey(HOODIE_AVRO_BLOOM_FILTER_METADATA_KEY)) {
         String bloomSer = metadata.get(HOODIE_AVRO_BLOOM_FILTER_METADATA_KEY);
         String filterType = metadata.get(HOODIE_BLOOM_FILTER_TYPE_CODE);
-        if (filterType != null && filterType.contains(HoodieDynamicBoundedBloomFilter.TYPE_CODE_PREFIX)) {
-          toReturn = new HoodieDynamicBoundedBloomFilter(bloomSer);
+        if (filterType != null) {
+          toReturn = BloomFilterFactory.fromString(bloomSer, filterType);
         } else {
           toReturn = new SimpleBloomFilter(bloomSer);
         }
@@ -276,7 +276,9 @@ public abstract class BaseSparkCommitActionExecutor<T> extends
         dedupedRecords.mapToPair(record -> Pair.of(new Tuple2<>(record.getKey(), Option.ofNullable(record.getCurrentLocation())), record)));
 
     JavaPairRDD<Tuple2<HoodieKey, Option<HoodieRecordLocation>>, HoodieRecord<T>> partitionedRDD;
-    if (table.requireSortedRecords()) {
+    // With the sort merge of the bucket index, each partition holds the records of one bucket, which are sorted to be
+    // merged by streaming with the sorted base file of the bucket
+    if (table.requireSortedRecords() || config.isBucketIndexSortMergeEnabled()) {
       // Partition and sort within each partition as a single step. This is faster than partitioning first and then
       // applying a sort.
       Comparator<Tuple2<HoodieKey, Option<HoodieRecordLocation>>> comparator = (Comparator<Tuple2<HoodieKey, Option<HoodieRecordLocation>>> & Serializable) (t1, t2) -> {
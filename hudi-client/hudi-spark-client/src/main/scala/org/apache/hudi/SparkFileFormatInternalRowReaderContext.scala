@@ -26,6 +26,7 @@ import org.apache.hudi.common.fs.FSUtils
 import org.apache.hudi.common.model.{HoodieFileFormat, HoodieRecord}
 import org.apache.hudi.common.schema.{HoodieSchema, HoodieSchemaUtils}
 import org.apache.hudi.common.table.HoodieTableConfig
+import org.apache.hudi.common.table.read.HoodieRecordBatch
 import org.apache.hudi.common.table.read.buffer.PositionBasedFileGroupRecordBuffer.ROW_INDEX_TEMPORARY_COLUMN_NAME
 import org.apache.hudi.common.util.HoodieVectorUtils
 import org.apache.hudi.common.util.{Option => HOption}
@@ -33,8 +34,9 @@ import org.apache.hudi.common.util.ValidationUtils.checkState
 import org.apache.hudi.common.util.collection.{CachingIterator, ClosableIterator, Pair => HPair}
 import org.apache.hudi.io.storage.{HoodieSparkFileReaderFactory, HoodieSparkParquetReader, VectorConversionUtils}
 import org.apache.hudi.storage.{HoodieStorage, StorageConfiguration, StoragePath}
-import org.apache.hudi.util.CloseableInternalRowIterator
+import org.apache.hudi.util.{CloseableInternalRowIterator, CloseableRecordBatchIterator}
 import org.apache.parquet.avro.HoodieAvroParquetSchemaConverter.getAvroSchemaConverter
+import org.apache.parquet.schema.MessageType
 import org.apache.spark.sql.HoodieInternalRowUtils
 import org.apache.spark.sql.catalyst.InternalRow
 import org.apache.spark.sql.catalyst.expressions.{JoinedRow, UnsafeProjection}
@@ -61,13 +63,16 @@ import scala.collection.JavaConverters._
  *                          not required for reading a file group with only log files.
  * @param filters           spark filters that might be pushed down into the reader
  * @param requiredFilters   filters that are required and should always be used, even in merging situations
+ * @param batchBaseFileReader optional vectorized reader returning [[ColumnarBatch]]es, used to read the base
+ *                            files in batches for the file group reader to merge them batch by batch.
  */
 class SparkFileFormatInternalRowReaderContext(baseFileReader: SparkColumnarFileReader,
                                               filters: Seq[Filter],
                                               requiredFilters: Seq[Filter],
                                               storageConfiguration: StorageConfiguration[_],
                                               tableConfig: HoodieTableConfig,
-                                              sparkRequiredSchema: Option[StructType] = None)
+                                              sparkRequiredSchema: Option[StructType] = None,
+                                              batchBaseFileReader: Option[SparkColumnarFileReader] = None)
   extends BaseSparkInternalRowReaderContext(storageConfiguration, tableConfig, SparkFileFormatInternalRecordContext.apply(tableConfig)) {
 
   // Java-friendly auxiliary constructor (Scala default args don't generate matching Java overloads).
@@ -76,7 +81,7 @@ class SparkFileFormatInternalRowReaderContext(baseFileReader: SparkColumnarFileR
            requiredFilters: Seq[Filter],
            storageConfiguration: StorageConfiguration[_],
            tableConfig: HoodieTableConfig) =
-    this(baseFileReader, filters, requiredFilters, storageConfiguration, tableConfig, None)
+    this(baseFileReader, filters, requiredFilters, storageConfiguration, tableConfig, None, None)
 
   lazy val sparkAdapter: SparkAdapter = SparkAdapterSupport.sparkAdapter
   private lazy val recordKeyFields = Option(tableConfig.getRecordKeyFields.orElse(null)).map(_.map(_.toLowerCase).toSet).getOrElse(Set.empty)
@@ -170,17 +175,9 @@ class SparkFileFormatInternalRowReaderContext(baseFileReader: SparkColumnarFileR
       val fileInfo = sparkAdapter.getSparkPartitionedFileUtils
         .createPartitionedFile(InternalRow.empty, filePath, start, length)
 
-      // Convert Avro dataSchema to Parquet MessageType for timestamp precision conversion
-      val tableSchemaOpt = if (dataSchema != null) {
-        val hadoopConf = storage.getConf.unwrapAs(classOf[Configuration])
-        val parquetSchema = getAvroSchemaConverter(hadoopConf).convert(dataSchema)
-        org.apache.hudi.common.util.Option.of(parquetSchema)
-      } else {
-        org.apache.hudi.common.util.Option.empty[org.apache.parquet.schema.MessageType]()
-      }
       val rawIterator = new CloseableInternalRowIterator(baseFileReader.read(fileInfo,
         readSchema, StructType(Seq.empty), getSchemaHandler.getInternalSchemaOpt,
-        readFilters, storage.getConf.asInstanceOf[StorageConfiguration[Configuration]], tableSchemaOpt))
+        readFilters, storage.getConf.asInstanceOf[StorageConfiguration[Configuration]], getTableSchemaForRead(dataSchema, storage)))
 
       // Post-process: convert binary VECTOR columns back to typed arrays
       if (vectorColumnInfo.nonEmpty) {
@@ -191,6 +188,50 @@ class SparkFileFormatInternalRowReaderContext(baseFileReader: SparkColumnarFileR
     }
   }
 
+  /**
+   * Reads the base file in [[ColumnarBatch]]es with the vectorized batch reader if it is given. The reads
+   * which need row level conversions, i.e. of vector columns or of projected variants, are not supported.
+   */
+  override def getFileBatchIterator(filePath: StoragePath,
+                                    start: Long,
+                                    length: Long,
+                                    dataSchema: HoodieSchema,
+                                    requiredSchema: HoodieSchema,
+                                    storage: HoodieStorage): HOption[ClosableIterator[HoodieRecordBatch[InternalRow]]] = {
+    val structType = HoodieInternalRowUtils.getCachedSchema(requiredSchema)
+    if (batchBaseFileReader.isEmpty
+      || FSUtils.isLogFile(filePath)
+      || requiredSchema.getField(ROW_INDEX_TEMPORARY_COLUMN_NAME).isPresent
+      || SparkFileFormatInternalRowReaderContext.detectVectorColumns(requiredSchema).nonEmpty
+      || sparkRequiredSchema.exists(sparkReq => overlayVariantProjections(structType, sparkReq) != structType)) {
+      return HOption.empty[ClosableIterator[HoodieRecordBatch[InternalRow]]]()
+    }
+    val (readSchema, readFilters) = getSchemaAndFiltersForRead(structType, hasRowIndexField = false)
+    val fileInfo = sparkAdapter.getSparkPartitionedFileUtils
+      .createPartitionedFile(InternalRow.empty, filePath, start, length)
+    val batches = batchBaseFileReader.get.read(fileInfo,
+      readSchema, StructType(Seq.empty), getSchemaHandler.getInternalSchemaOpt,
+      readFilters, storage.getConf.asInstanceOf[StorageConfiguration[Configuration]], getTableSchemaForRead(dataSchema, storage))
+    val keyOrdinal = if (tableConfig.populateMetaFields()) {
+      readSchema.getFieldIndex(HoodieRecord.RECORD_KEY_METADATA_FIELD).getOrElse(-1)
+    } else {
+      -1
+    }
+    HOption.of(new CloseableRecordBatchIterator(batches, keyOrdinal, row => getRecordContext.getRecordKey(row, requiredSchema)))
+  }
+
+  /**
+   * Converts the data schema to a Parquet MessageType for timestamp precision conversion.
+   */
+  private def getTableSchemaForRead(dataSchema: HoodieSchema, storage: HoodieStorage): HOption[MessageType] = {
+    if (dataSchema != null) {
+      val hadoopConf = storage.getConf.unwrapAs(classOf[Configuration])
+      HOption.of(getAvroSchemaConverter(hadoopConf).convert(dataSchema))
+    } else {
+      HOption.empty[MessageType]()
+    }
+  }
+
   private def getSchemaAndFiltersForRead(structType: StructType, hasRowIndexField: Boolean): (StructType, Seq[Filter]) = {
     val schemaForRead = getAppliedRequiredSchema(structType, hasRowIndexField)
     if (!getHasLogFiles && !getNeedsBootstrapMerge) {
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.index
+
+import org.apache.spark.{Partition, SparkEnv, TaskContext}
+import org.apache.spark.api.java.JavaRDD
+import org.apache.spark.rdd.RDD
+
+import scala.collection.JavaConverters._
+import scala.reflect.ClassTag
+
+/**
+ * RDD passing through the partitions of its parent, with the given preferred locations.
+ *
+ * Used to schedule the task of each partition on the executor which processed the same partition
+ * previously, so that the data cached by the executor is reused. The locations are only a hint to
+ * the scheduler, which falls back to any executor after the locality wait.
+ *
+ * @param prev      the parent RDD
+ * @param locations preferred location of each partition, keyed by partition index, formatted as
+ *                  Spark task locations (e.g. `executor_<host>_<executorId>`)
+ */
+class HoodiePreferredLocationRDD[T: ClassTag](prev: RDD[T], locations: Map[Int, String])
+  extends RDD[T](prev) {
+
+  override def compute(split: Partition, context: TaskContext): Iterator[T] =
+    firstParent[T].iterator(split, context)
+
+  override protected def getPartitions: Array[Partition] = firstParent[T].partitions
+
+  override protected def getPreferredLocations(split: Partition): Seq[String] =
+    locations.get(split.index).toSeq
+}
+
+object HoodiePreferredLocationRDD {
+
+  /**
+   * Returns the given RDD with the preferred locations of its partitions set.
+   */
+  def withPreferredLocations[T](rdd: JavaRDD[T], locations: java.util.Map[Integer, String]): JavaRDD[T] = {
+    implicit val classTag: ClassTag[T] = rdd.classTag
+    val locationsByIndex = locations.asScala.map { case (index, location) => (index.intValue(), location) }.toMap
+    new HoodiePreferredLocationRDD[T](rdd.rdd, locationsByIndex).toJavaRDD()
+  }
+
+  /**
+   * Returns the location of the current executor, as a Spark task location.
+   */
+  def currentExecutorLocation(): String = {
+    val blockManagerId = SparkEnv.get.blockManager.blockManagerId
+    s"executor_${blockManagerId.host}_${blockManagerId.executorId}"
+  }
+}
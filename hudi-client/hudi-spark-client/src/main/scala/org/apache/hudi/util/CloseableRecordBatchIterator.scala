@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.util
+
+import org.apache.hudi.common.table.read.HoodieRecordBatch
+import org.apache.hudi.common.util.collection.ClosableIterator
+
+import org.apache.spark.sql.catalyst.InternalRow
+import org.apache.spark.sql.vectorized.ColumnarBatch
+
+import java.io.Closeable
+
+/**
+ * A [[ClosableIterator]] returning [[HoodieRecordBatch]]es of [[InternalRow]] by wrapping the entries
+ * returned by a vectorized Spark reader.
+ *
+ * @param iterator     the input iterator that contains [[ColumnarBatch]] (vectorized) or [[InternalRow]]
+ *                     (non-vectorized), the rows being returned as batches of a single row.
+ * @param keyOrdinal   ordinal of the record key meta field in the rows, or -1 if the record keys are
+ *                     extracted from the rows by the key extractor.
+ * @param keyExtractor extracts the record key of a row when there is no record key meta field.
+ */
+class CloseableRecordBatchIterator(iterator: Iterator[_],
+                                   keyOrdinal: Int,
+                                   keyExtractor: InternalRow => String) extends ClosableIterator[HoodieRecordBatch[InternalRow]] {
+
+  override def close(): Unit = {
+    iterator match {
+      case iterator: Iterator[_] with Closeable => iterator.close()
+      case _ =>
+    }
+  }
+
+  override def hasNext: Boolean = iterator.hasNext
+
+  override def next: HoodieRecordBatch[InternalRow] = {
+    iterator.next match {
+      case batch: ColumnarBatch => new ColumnarRecordBatch(batch)
+      case row: InternalRow => new SingleRecordBatch(row)
+    }
+  }
+
+  private class ColumnarRecordBatch(batch: ColumnarBatch) extends HoodieRecordBatch[InternalRow] {
+    override def numRows(): Int = batch.numRows()
+
+    // Reads the key column vector directly, without going through the reused row of the batch
+    override def getRecordKey(rowId: Int): String = if (keyOrdinal >= 0) {
+      batch.column(keyOrdinal).getUTF8String(rowId).toString
+    } else {
+      keyExtractor(batch.getRow(rowId))
+    }
+
+    override def getRecord(rowId: Int): InternalRow = batch.getRow(rowId)
+  }
+
+  private class SingleRecordBatch(row: InternalRow) extends HoodieRecordBatch[InternalRow] {
+    override def numRows(): Int = 1
+
+    override def getRecordKey(rowId: Int): String = if (keyOrdinal >= 0) {
+      row.getUTF8String(keyOrdinal).toString
+    } else {
+      keyExtractor(row)
+    }
+
+    override def getRecord(rowId: Int): InternalRow = row
+  }
+}
@@ -111,6 +111,46 @@ public class TestSparkConsistentBucketClusteringPlanStrategy extends HoodieSpark
     Assertions.assertEquals(fileSlices.get(3), fsUntouched.get(1));
   }
 
+  @Test
+  public void testBuildSplitClusteringGroupWithResizeOnlyClustering() throws IOException {
+    setup();
+    int maxFileSize = 5120;
+    Properties props = new Properties();
+    props.setProperty(KeyGeneratorOptions.RECORDKEY_FIELD_NAME.key(), "uuid");
+    HoodieWriteConfig config = HoodieWriteConfig.newBuilder().withPath(basePath)
+        .withIndexConfig(HoodieIndexConfig.newBuilder().fromProperties(props).withIndexType(HoodieIndex.IndexType.BUCKET)
+            .withBucketIndexEngineType(HoodieIndex.BucketIndexEngineType.CONSISTENT_HASHING)
+            .withBucketMaxNum(6)
+            .withBucketNum("4")
+            .enableBucketIndexResizeOnlyClustering(true).build())
+        .withStorageConfig(HoodieStorageConfig.newBuilder()
+            .parquetMaxFileSize(maxFileSize).build())
+        .build();
+
+    HoodieTable hoodieTable = HoodieSparkTable.create(config, context, metaClient);
+    SparkConsistentBucketClusteringPlanStrategy planStrategy = new SparkConsistentBucketClusteringPlanStrategy(hoodieTable, context, config);
+
+    HoodieConsistentHashingMetadata metadata = new HoodieConsistentHashingMetadata("partition", config.getBucketIndexNumBuckets());
+    ConsistentBucketIdentifier identifier = new ConsistentBucketIdentifier(metadata);
+
+    int[] fsSize = {maxFileSize * 5, (int) (maxFileSize * BUCKET_SPLIT_THRESHOLD.defaultValue() + 1), maxFileSize, maxFileSize * 6};
+    List<FileSlice> fileSlices = IntStream.range(0, metadata.getNodes().size()).mapToObj(
+        i -> createFileSliceWithSize(metadata.getNodes().get(i).getFileIdPrefix(), 1024, fsSize[i] - 1024)
+    ).collect(Collectors.toList());
+
+    // The largest buckets get the split slots
+    Triple res = planStrategy.buildSplitClusteringGroups(identifier, fileSlices, 2);
+    Assertions.assertEquals(2, res.getMiddle());
+    List<HoodieClusteringGroup> groups = (List<HoodieClusteringGroup>) res.getLeft();
+    Assertions.assertEquals(2, groups.size());
+    Assertions.assertEquals(fileSlices.get(3).getFileId(), groups.get(0).getSlices().get(0).getFileId());
+    Assertions.assertEquals(fileSlices.get(0).getFileId(), groups.get(1).getSlices().get(0).getFileId());
+    List<FileSlice> fsUntouched = (List<FileSlice>) res.getRight();
+    Assertions.assertEquals(2, fsUntouched.size());
+    Assertions.assertTrue(fsUntouched.contains(fileSlices.get(1)));
+    Assertions.assertTrue(fsUntouched.contains(fileSlices.get(2)));
+  }
+
   @Test
   public void testBuildMergeClusteringGroup() throws Exception {
     setup();
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.hudi.index;
+
+import org.apache.spark.util.CollectionAccumulator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link RecordIndexLookupLocalityRegistry} and {@link RecordIndexLookupSummary}.
+ */
+public class TestRecordIndexLookupLocalityRegistry {
+
+  private static final String BASE_PATH = "file:///tmp/hudi/table";
+
+  @AfterEach
+  public void tearDown() {
+    RecordIndexLookupLocalityRegistry.clear();
+  }
+
+  @Test
+  public void testLocationsCollectedAcrossBatches() {
+    RecordIndexLookupLocalityRegistry.TableLocality locality = RecordIndexLookupLocalityRegistry.forTable(BASE_PATH, 4);
+    locality.trackLookups(accumulatorOf(
+        new RecordIndexFileGroupLookupStat(0, "executor_host1_1", 10, 5),
+        new RecordIndexFileGroupLookupStat(1, "executor_host2_2", 20, 7)));
+    assertTrue(locality.getFileGroupLocations().isEmpty(), "Locations are only known once the lookups are collected");
+    assertEquals(2, locality.collectLookupStats().size());
+    // The stats are only collected once
+    assertTrue(locality.collectLookupStats().isEmpty());
+
+    // The next write creates a new index, which finds the same locality
+    RecordIndexLookupLocalityRegistry.TableLocality nextLocality = RecordIndexLookupLocalityRegistry.forTable(BASE_PATH, 4);
+    assertSame(locality, nextLocality);
+    nextLocality.trackLookups(accumulatorOf(new RecordIndexFileGroupLookupStat(1, "executor_host3_3", 20, 7)));
+    nextLocality.collectLookupStats();
+    Map<Integer, String> expectedLocations = new HashMap<>();
+    expectedLocations.put(0, "executor_host1_1");
+    expectedLocations.put(1, "executor_host3_3");
+    assertEquals(expectedLocations, nextLocality.getFileGroupLocations());
+  }
+
+  @Test
+  public void testLocalityResetWhenFileGroupsChange() {
+    RecordIndexLookupLocalityRegistry.TableLocality locality = RecordIndexLookupLocalityRegistry.forTable(BASE_PATH, 4);
+    locality.trackLookups(accumulatorOf(new RecordIndexFileGroupLookupStat(0, "executor_host1_1", 10, 5)));
+    locality.collectLookupStats();
+
+    RecordIndexLookupLocalityRegistry.TableLocality resizedLocality = RecordIndexLookupLocalityRegistry.forTable(BASE_PATH, 8);
+    assertNotSame(locality, resizedLocality);
+    assertEquals(8, resizedLocality.getNumFileGroups());
+    assertTrue(resizedLocality.getFileGroupLocations().isEmpty());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedTablesEvicted() {
+    for (int i = 0; i <= RecordIndexLookupLocalityRegistry.MAX_TABLES; i++) {
+      RecordIndexLookupLocalityRegistry.forTable(BASE_PATH + i, 1);
+      // Keeps the first table recently used
+      RecordIndexLookupLocalityRegistry.forTable(BASE_PATH + 0, 1);
+    }
+    assertEquals(RecordIndexLookupLocalityRegistry.MAX_TABLES, RecordIndexLookupLocalityRegistry.size());
+    assertTrue(RecordIndexLookupLocalityRegistry.getIfPresent(BASE_PATH + 0).isPresent());
+    assertFalse(RecordIndexLookupLocalityRegistry.getIfPresent(BASE_PATH + 1).isPresent());
+  }
+
+  @Test
+  public void testLookupSummary() {
+    List<RecordIndexFileGroupLookupStat> stats = Arrays.asList(
+        new RecordIndexFileGroupLookupStat(0, "executor_host1_1", 10, 4),
+        new RecordIndexFileGroupLookupStat(1, "executor_host2_2", 20, 12),
+        new RecordIndexFileGroupLookupStat(2, "executor_host1_1", 30, 8));
+    RecordIndexLookupSummary summary = RecordIndexLookupSummary.of(stats, 2);
+    assertEquals(3, summary.getNumFileGroups());
+    assertEquals(60, summary.getNumKeys());
+    assertEquals(12, summary.getMaxLookupTimeMs());
+    assertEquals(8, summary.getAvgLookupTimeMs());
+    assertEquals(2, summary.getSlowestLookups().size());
+    assertEquals(1, summary.getSlowestLookups().get(0).getFileGroupIndex());
+    assertEquals(2, summary.getSlowestLookups().get(1).getFileGroupIndex());
+  }
+
+  private static CollectionAccumulator<RecordIndexFileGroupLookupStat> accumulatorOf(RecordIndexFileGroupLookupStat... stats) {
+    CollectionAccumulator<RecordIndexFileGroupLookupStat> accumulator = new CollectionAccumulator<>();
+    Arrays.stream(stats).forEach(accumulator::add);
+    return accumulator;
+  }
+}
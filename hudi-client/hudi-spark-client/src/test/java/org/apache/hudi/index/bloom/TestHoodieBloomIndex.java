@@ -22,6 +22,7 @@ import org.apache.hudi.client.functional.TestHoodieMetadataBase;
 import org.apache.hudi.common.bloom.BloomFilter;
 import org.apache.hudi.common.bloom.BloomFilterFactory;
 import org.apache.hudi.common.bloom.BloomFilterTypeCode;
+import org.apache.hudi.common.bloom.KeyHashSketch;
 import org.apache.hudi.common.config.HoodieMetadataConfig;
 import org.apache.hudi.common.model.HoodieAvroRecord;
 import org.apache.hudi.common.model.HoodieEmptyRecord;
@@ -277,6 +278,153 @@ public class TestHoodieBloomIndex extends TestHoodieMetadataBase {
     assertEquals(new HashSet<>(Arrays.asList("f1", "f4")), new HashSet<>(recordKeyToFileComps.get("005")));
   }
 
+  @Test
+  public void testDropIneffectiveKeyRanges() {
+    HoodieWriteConfig config = makeConfig(true, true, true, false, false);
+    HoodieBloomIndex index = new HoodieBloomIndex(config, SparkHoodieBloomIndexHelper.getInstance());
+
+    // ranges of random keys, all spanning almost the whole key space
+    List<BloomIndexFileInfo> randomKeyFiles = new ArrayList<>();
+    // ranges of keys with an increasing prefix
+    List<BloomIndexFileInfo> orderedKeyFiles = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      randomKeyFiles.add(new BloomIndexFileInfo("r" + i, "0" + i, "f" + i));
+      orderedKeyFiles.add(new BloomIndexFileInfo("o" + i, i + "0", i + "9"));
+    }
+    assertTrue(KeyRangeOverlapEstimator.estimateOverlapFraction(randomKeyFiles) > 0.9);
+    assertEquals(0.1, KeyRangeOverlapEstimator.estimateOverlapFraction(orderedKeyFiles), 0.001);
+
+    final Map<String, List<BloomIndexFileInfo>> partitionToFileIndexInfo = new HashMap<>();
+    partitionToFileIndexInfo.put("2017/10/22", randomKeyFiles);
+    partitionToFileIndexInfo.put("2017/10/23", orderedKeyFiles);
+    // too few files to estimate the overlap
+    partitionToFileIndexInfo.put("2017/10/24", new ArrayList<>(randomKeyFiles.subList(0, 2)));
+    index.dropIneffectiveKeyRanges(partitionToFileIndexInfo);
+
+    assertTrue(partitionToFileIndexInfo.get("2017/10/22").stream().noneMatch(BloomIndexFileInfo::hasKeyRanges));
+    assertEquals(orderedKeyFiles, partitionToFileIndexInfo.get("2017/10/23"));
+    assertTrue(partitionToFileIndexInfo.get("2017/10/24").stream().allMatch(BloomIndexFileInfo::hasKeyRanges));
+  }
+
+  @Test
+  public void testTagLocationWithDroppedKeyRanges() throws Exception {
+    final String partition = "2016/01/31";
+    metadataWriter = SparkHoodieBackedTableMetadataWriter.create(storageConf, makeConfig(true, true, false, false, false), context);
+    HoodieSparkWriteableTestTable testTable = HoodieSparkWriteableTestTable.of(metaClient, SCHEMA, metadataWriter, Option.of(context));
+
+    // enough files with random keys to estimate the overlap of their key ranges
+    List<HoodieRecord> records = new ArrayList<>();
+    Map<String, String> expectedFileIds = new HashMap<>();
+    final Map<String, List<Pair<String, Integer>>> partitionToFilesNameLengthMap = new HashMap<>();
+    for (int i = 0; i < 10; i++) {
+      List<HoodieRecord> fileRecords = Arrays.asList(
+          createSimpleRecord(genRandomUUID(), "2016-01-31T03:16:41.415Z", i),
+          createSimpleRecord(genRandomUUID(), "2016-01-31T03:16:41.415Z", i));
+      String fileId = genRandomUUID();
+      String commit = String.format("%07d", i + 1);
+      StoragePath baseFilePath = testTable.forCommit(commit).withInserts(partition, fileId, fileRecords);
+      partitionToFilesNameLengthMap.clear();
+      partitionToFilesNameLengthMap.computeIfAbsent(partition,
+          k -> new ArrayList<>()).add(Pair.of(fileId, (int) storage.getPathInfo(baseFilePath).getLength()));
+      testTable.doWriteOperation(commit, WriteOperationType.UPSERT, Collections.singletonList(partition),
+          partitionToFilesNameLengthMap, false, false);
+      fileRecords.forEach(record -> expectedFileIds.put(record.getRecordKey(), fileId));
+      records.addAll(fileRecords);
+    }
+    for (int i = 0; i < 5; i++) {
+      records.add(createSimpleRecord(genRandomUUID(), "2016-01-31T03:16:41.415Z", 100 + i));
+    }
+    metaClient = HoodieTableMetaClient.reload(metaClient);
+
+    // tag with the key ranges always used, then with the key ranges always dropped
+    Map<String, String> taggedFileIdsWithRanges = tagFileIds(records, 1.0);
+    Map<String, String> taggedFileIdsWithoutRanges = tagFileIds(records, 0.0);
+    assertEquals(records.size(), taggedFileIdsWithRanges.size());
+    assertEquals(taggedFileIdsWithRanges, taggedFileIdsWithoutRanges);
+    expectedFileIds.forEach((recordKey, fileId) -> assertEquals(fileId, taggedFileIdsWithoutRanges.get(recordKey)));
+    assertEquals(5, taggedFileIdsWithoutRanges.values().stream().filter(String::isEmpty).count());
+  }
+
+  @Test
+  public void testTagLocationWithKeyHashSketches() throws Exception {
+    final String partition = "2016/01/31";
+    HoodieWriteConfig config = makeKeyHashSketchConfig(0.5);
+    metadataWriter = SparkHoodieBackedTableMetadataWriter.create(storageConf, config, context);
+    HoodieSparkWriteableTestTable testTable = HoodieSparkWriteableTestTable.of(metaClient, SCHEMA, metadataWriter, Option.of(context));
+
+    // enough files with random keys for their key ranges to be dropped
+    List<HoodieRecord> records = new ArrayList<>();
+    Map<String, String> expectedFileIds = new HashMap<>();
+    final Map<String, List<Pair<String, Integer>>> partitionToFilesNameLengthMap = new HashMap<>();
+    for (int i = 0; i < 10; i++) {
+      List<HoodieRecord> fileRecords = Arrays.asList(
+          createSimpleRecord(genRandomUUID(), "2016-01-31T03:16:41.415Z", i),
+          createSimpleRecord(genRandomUUID(), "2016-01-31T03:16:41.415Z", i));
+      String fileId = genRandomUUID();
+      String commit = String.format("%07d", i + 1);
+      StoragePath baseFilePath = testTable.forCommit(commit).withInserts(partition, fileId, fileRecords);
+      partitionToFilesNameLengthMap.clear();
+      partitionToFilesNameLengthMap.computeIfAbsent(partition,
+          k -> new ArrayList<>()).add(Pair.of(fileId, (int) storage.getPathInfo(baseFilePath).getLength()));
+      testTable.doWriteOperation(commit, WriteOperationType.UPSERT, Collections.singletonList(partition),
+          partitionToFilesNameLengthMap, false, false);
+      fileRecords.forEach(record -> expectedFileIds.put(record.getRecordKey(), fileId));
+      records.addAll(fileRecords);
+    }
+    for (int i = 0; i < 5; i++) {
+      records.add(createSimpleRecord(genRandomUUID(), "2016-01-31T03:16:41.415Z", 100 + i));
+    }
+    metaClient = HoodieTableMetaClient.reload(metaClient);
+    HoodieSparkTable hoodieTable = HoodieSparkTable.create(config, context, metaClient);
+
+    // every file has a sketch with its keys, of 2 keys in 64 bits
+    HoodieBloomIndex bloomIndex = new HoodieBloomIndex(config, SparkHoodieBloomIndexHelper.getInstance());
+    Map<HoodieFileGroupId, KeyHashSketch> sketches = bloomIndex.loadKeyHashSketches(Collections.singleton(partition), context, hoodieTable);
+    assertEquals(10, sketches.size());
+    expectedFileIds.forEach((recordKey, fileId) ->
+        assertTrue(sketches.get(new HoodieFileGroupId(partition, fileId)).mightContain(recordKey)));
+    // the sketches are skipped when their false positive rate is above the max
+    assertTrue(new HoodieBloomIndex(makeKeyHashSketchConfig(0.0), SparkHoodieBloomIndexHelper.getInstance())
+        .loadKeyHashSketches(Collections.singleton(partition), context, hoodieTable).isEmpty());
+
+    Map<String, String> taggedFileIds = tagLocation(bloomIndex, jsc.parallelize(records), hoodieTable).collect().stream()
+        .collect(Collectors.toMap(HoodieRecord::getRecordKey,
+            record -> record.isCurrentLocationKnown() ? record.getCurrentLocation().getFileId() : ""));
+    assertEquals(records.size(), taggedFileIds.size());
+    expectedFileIds.forEach((recordKey, fileId) -> assertEquals(fileId, taggedFileIds.get(recordKey)));
+    assertEquals(5, taggedFileIds.values().stream().filter(String::isEmpty).count());
+  }
+
+  private HoodieWriteConfig makeKeyHashSketchConfig(double maxFalsePositiveRate) {
+    return HoodieWriteConfig.newBuilder().withPath(basePath)
+        .withIndexConfig(HoodieIndexConfig.newBuilder()
+            .bloomIndexPruneByRanges(true)
+            .bloomIndexPruneByRangesOverlapThreshold(0.0)
+            .bloomIndexKeyHashSketchMaxFalsePositiveRate(maxFalsePositiveRate)
+            .bloomIndexUseMetadata(true)
+            .build())
+        .withMetadataConfig(HoodieMetadataConfig.newBuilder()
+            .withMetadataIndexBloomFilter(true)
+            .withMetadataIndexBloomFilterKeyHashSketch(true)
+            .build())
+        .build();
+  }
+
+  private Map<String, String> tagFileIds(List<HoodieRecord> records, double overlapThreshold) {
+    HoodieWriteConfig config = HoodieWriteConfig.newBuilder().withPath(basePath)
+        .withIndexConfig(HoodieIndexConfig.newBuilder()
+            .bloomIndexPruneByRanges(true)
+            .bloomIndexPruneByRangesOverlapThreshold(overlapThreshold)
+            .bloomIndexTreebasedFilter(true)
+            .bloomIndexUseMetadata(false)
+            .build())
+        .build();
+    HoodieBloomIndex bloomIndex = new HoodieBloomIndex(config, SparkHoodieBloomIndexHelper.getInstance());
+    return tagLocation(bloomIndex, jsc.parallelize(records), HoodieSparkTable.create(config, context, metaClient)).collect().stream()
+        .collect(Collectors.toMap(HoodieRecord::getRecordKey,
+            record -> record.isCurrentLocationKnown() ? record.getCurrentLocation().getFileId() : ""));
+  }
+
   @Test
   public void testCheckUUIDsAgainstOneFile() throws Exception {
     final String partition = "2016/01/31";
@@ -19,7 +19,7 @@
 package org.apache.hudi.avro;
 
 import org.apache.hudi.common.bloom.BloomFilter;
-import org.apache.hudi.common.bloom.HoodieDynamicBoundedBloomFilter;
+import org.apache.hudi.common.bloom.BloomFilterTypeCode;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -30,6 +30,7 @@ import java.util.Map;
  * <ul>
  *   <li>Adding record keys to the Bloom Filter</li>
  *   <li>Keeping track of min/max record key (w/in single file)</li>
+ *   <li>Keeping track of whether the record keys were written in sorted order</li>
  * </ul>
  *
  * @param <T> record-key type being ingested by this clas
@@ -39,6 +40,7 @@ public abstract class HoodieBloomFilterWriteSupport<T extends Comparable<T>> {
   public static final String HOODIE_MIN_RECORD_KEY_FOOTER = "hoodie_min_record_key";
   public static final String HOODIE_MAX_RECORD_KEY_FOOTER = "hoodie_max_record_key";
   public static final String HOODIE_BLOOM_FILTER_TYPE_CODE = "hoodie_bloom_filter_type_code";
+  public static final String HOODIE_RECORD_KEYS_SORTED_FOOTER = "hoodie_record_keys_sorted";
 
   public static final String HOODIE_AVRO_BLOOM_FILTER_METADATA_KEY = "org.apache.hudi.bloomfilter";
   public static final String OLD_HOODIE_AVRO_BLOOM_FILTER_METADATA_KEY = "com.uber.hoodie.bloomfilter";
@@ -47,6 +49,7 @@ public abstract class HoodieBloomFilterWriteSupport<T extends Comparable<T>> {
 
   private T minRecordKey;
   private T maxRecordKey;
+  private boolean sortedByRecordKey = true;
 
   public HoodieBloomFilterWriteSupport(BloomFilter bloomFilter) {
     this.bloomFilter = bloomFilter;
@@ -61,6 +64,9 @@ public abstract class HoodieBloomFilterWriteSupport<T extends Comparable<T>> {
 
     if (maxRecordKey == null || compareRecordKey(maxRecordKey, recordKey) < 0) {
       maxRecordKey = dereference(recordKey);
+    } else if (sortedByRecordKey && compareRecordKey(maxRecordKey, recordKey) > 0) {
+      // a key smaller than one of the previous keys
+      sortedByRecordKey = false;
     }
   }
 
@@ -72,13 +78,15 @@ public abstract class HoodieBloomFilterWriteSupport<T extends Comparable<T>> {
     HashMap<String, String> extraMetadata = new HashMap<>();
 
     extraMetadata.put(HOODIE_AVRO_BLOOM_FILTER_METADATA_KEY, bloomFilter.serializeToString());
-    if (bloomFilter.getBloomFilterTypeCode().name().contains(HoodieDynamicBoundedBloomFilter.TYPE_CODE_PREFIX)) {
+    // The type code is omitted for the simple bloom filter, which is assumed when reading for backward compatibility
+    if (bloomFilter.getBloomFilterTypeCode() != BloomFilterTypeCode.SIMPLE) {
       extraMetadata.put(HOODIE_BLOOM_FILTER_TYPE_CODE, bloomFilter.getBloomFilterTypeCode().name());
     }
 
     if (minRecordKey != null && maxRecordKey != null) {
       extraMetadata.put(HOODIE_MIN_RECORD_KEY_FOOTER, minRecordKey.toString());
       extraMetadata.put(HOODIE_MAX_RECORD_KEY_FOOTER, maxRecordKey.toString());
+      extraMetadata.put(HOODIE_RECORD_KEYS_SORTED_FOOTER, String.valueOf(sortedByRecordKey));
     }
 
     return extraMetadata;
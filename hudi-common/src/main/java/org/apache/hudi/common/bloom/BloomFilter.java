@@ -45,6 +45,14 @@ public interface BloomFilter {
    */
   boolean mightContain(String key);
 
+  /**
+   * Tests for key membership.
+   *
+   * @param key the key bytes, representing UTF8-encoded string, to be checked for membership
+   * @return {@code true} if key may be found, {@code false} if key is not found for sure.
+   */
+  boolean mightContain(byte[] key);
+
   /**
    * Serialize the bloom filter as a string.
    */
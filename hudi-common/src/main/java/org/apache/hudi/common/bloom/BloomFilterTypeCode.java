@@ -32,5 +32,10 @@ public enum BloomFilterTypeCode {
   SIMPLE,
 
   @EnumFieldDescription("Bloom filter that is auto sized based on number of keys.")
-  DYNAMIC_V0
+  DYNAMIC_V0,
+
+  @EnumFieldDescription("Bloom filter that is based on the configured size, with the bits of each key in a single "
+      + "cache line sized block. The probes are much faster, at the cost of a larger filter for the same false "
+      + "positive rate.")
+  SPLIT_BLOCK
 }
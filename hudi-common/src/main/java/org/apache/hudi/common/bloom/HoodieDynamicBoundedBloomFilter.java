@@ -104,6 +104,11 @@ public class HoodieDynamicBoundedBloomFilter implements BloomFilter {
     return internalDynamicBloomFilter.membershipTest(new Key(getUTF8Bytes(key)));
   }
 
+  @Override
+  public boolean mightContain(byte[] keyBytes) {
+    return internalDynamicBloomFilter.membershipTest(new Key(keyBytes));
+  }
+
   @Override
   public String serializeToString() {
     ByteArrayOutputStream baos = new ByteArrayOutputStream();
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.common.bloom;
+
+import org.apache.hudi.common.util.ValidationUtils;
+import org.apache.hudi.exception.HoodieIndexException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+
+/**
+ * A compact sketch of the record keys of a file: a bitmap where each key sets the single bit picked by
+ * its hash. It answers whether a key might be in the file with a higher false positive rate than the
+ * bloom filter of the file, in exchange for a few bits per key, so that it can be loaded for all the
+ * files of a partition and probed before their bloom filters to drop most of the (key, file) pairs.
+ * <p>
+ * The number of bits is a power of two and the keys are hashed with the same hash as
+ * {@link SplitBlockBloomFilter}, using its top bits as the bit index.
+ */
+public class KeyHashSketch implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * Type of the sketch records stored next to the bloom filters in the metadata table.
+   */
+  public static final String TYPE_CODE = "KEY_HASH_SKETCH";
+
+  private static final int SERIALIZATION_VERSION = 1;
+  private static final int MIN_LOG2_NUM_BITS = 6;
+  private static final int MAX_LOG2_NUM_BITS = 22;
+
+  private final int log2NumBits;
+  private final long[] words;
+
+  /**
+   * Creates an empty sketch sized for the given number of keys.
+   *
+   * @param numKeys    expected number of keys.
+   * @param bitsPerKey number of bits per key, capped so that the sketch never exceeds 512KB.
+   */
+  public KeyHashSketch(long numKeys, int bitsPerKey) {
+    ValidationUtils.checkArgument(bitsPerKey > 0, "Bits per key must be positive");
+    long numBits = Math.max(1L, numKeys) * bitsPerKey;
+    int log2 = Long.SIZE - Long.numberOfLeadingZeros(numBits - 1);
+    this.log2NumBits = Math.min(MAX_LOG2_NUM_BITS, Math.max(MIN_LOG2_NUM_BITS, log2));
+    this.words = new long[1 << (log2NumBits - MIN_LOG2_NUM_BITS)];
+  }
+
+  private KeyHashSketch(int log2NumBits, long[] words) {
+    this.log2NumBits = log2NumBits;
+    this.words = words;
+  }
+
+  public void add(String key) {
+    int bit = bitIndex(key);
+    words[bit >>> MIN_LOG2_NUM_BITS] |= 1L << bit;
+  }
+
+  public boolean mightContain(String key) {
+    int bit = bitIndex(key);
+    return (words[bit >>> MIN_LOG2_NUM_BITS] & (1L << bit)) != 0;
+  }
+
+  /**
+   * Returns the probability that a key absent from the file passes {@link #mightContain}, i.e. the fraction of set bits.
+   */
+  public double getFalsePositiveRate() {
+    long setBits = 0;
+    for (long word : words) {
+      setBits += Long.bitCount(word);
+    }
+    return (double) setBits / (1L << log2NumBits);
+  }
+
+  private int bitIndex(String key) {
+    return (int) (SplitBlockBloomFilter.hashUTF8(key) >>> (Long.SIZE - log2NumBits));
+  }
+
+  public ByteBuffer toByteBuffer() {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream(2 * Integer.BYTES + words.length * Long.BYTES);
+    try (DataOutputStream dos = new DataOutputStream(baos)) {
+      dos.writeInt(SERIALIZATION_VERSION);
+      dos.writeInt(log2NumBits);
+      for (long word : words) {
+        dos.writeLong(word);
+      }
+    } catch (IOException e) {
+      throw new HoodieIndexException("Could not serialize the key hash sketch", e);
+    }
+    return ByteBuffer.wrap(baos.toByteArray());
+  }
+
+  /**
+   * Reads a sketch written by {@link #toByteBuffer}, without changing the position of the given buffer.
+   */
+  public static KeyHashSketch fromByteBuffer(ByteBuffer byteBuffer) {
+    ByteBuffer buffer = byteBuffer.duplicate();
+    int version = buffer.getInt();
+    if (version != SERIALIZATION_VERSION) {
+      throw new HoodieIndexException("Unsupported key hash sketch serialization version: " + version);
+    }
+    int log2NumBits = buffer.getInt();
+    ValidationUtils.checkArgument(log2NumBits >= MIN_LOG2_NUM_BITS && log2NumBits <= MAX_LOG2_NUM_BITS,
+        "Invalid key hash sketch size: 2^" + log2NumBits + " bits");
+    long[] words = new long[1 << (log2NumBits - MIN_LOG2_NUM_BITS)];
+    for (int i = 0; i < words.length; i++) {
+      words[i] = buffer.getLong();
+    }
+    return new KeyHashSketch(log2NumBits, words);
+  }
+}
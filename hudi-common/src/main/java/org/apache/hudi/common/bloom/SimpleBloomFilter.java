@@ -110,6 +110,14 @@ public class SimpleBloomFilter implements BloomFilter {
     return filter.membershipTest(new Key(getUTF8Bytes(key)));
   }
 
+  @Override
+  public boolean mightContain(byte[] keyBytes) {
+    if (keyBytes == null) {
+      throw new NullPointerException("Key cannot be null");
+    }
+    return filter.membershipTest(new Key(keyBytes));
+  }
+
   /**
    * Serialize the bloom filter as a string.
    */
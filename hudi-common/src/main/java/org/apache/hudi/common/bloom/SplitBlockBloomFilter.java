@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.common.bloom;
+
+import org.apache.hudi.common.util.Base64CodecUtil;
+import org.apache.hudi.common.util.ValidationUtils;
+import org.apache.hudi.exception.HoodieIndexException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.apache.hudi.io.util.IOUtils.getDataInputStream;
+
+/**
+ * A split block Bloom filter, where the bits of a key all fall into a single block of the size of a
+ * CPU cache line.
+ * <p>
+ * The filter is an array of blocks of 512 bits, each made of 8 words of 64 bits. A key sets one bit
+ * in each word of the block chosen by its hash, so a probe reads a single cache line and the 8 word
+ * checks are independent of each other. The keys are hashed once with a 64-bit hash computed on the
+ * fly from their UTF-8 bytes, so that {@link #add} and {@link #mightContain} do not allocate.
+ * <p>
+ * For the same false positive rate, the filter takes more space than {@link SimpleBloomFilter},
+ * especially for very low false positive rates, in exchange for much faster probes.
+ */
+public class SplitBlockBloomFilter implements BloomFilter {
+
+  private static final int SERIALIZATION_VERSION = 1;
+  private static final int WORDS_PER_BLOCK = 8;
+  private static final int BITS_PER_BLOCK = WORDS_PER_BLOCK * Long.SIZE;
+  // Odd constants to pick the bit set in each word of a block, same as the Parquet split block Bloom filter
+  private static final int[] SALT = {
+      0x47b6137b, 0x44974d91, 0x8824ad5b, 0xa2b7289d, 0x705495c7, 0x2df1424b, 0x9efc4947, 0x5c6bfb31};
+  private static final long C1 = 0x87c37b91114253d5L;
+  private static final long C2 = 0x4cf5ad432745937fL;
+  private static final long SEED = 0x9e3779b97f4a7c15L;
+
+  private long[] words;
+  private int numBlocks;
+
+  /**
+   * Creates a new Bloom filter sized for the given number of entries and false positive rate.
+   *
+   * @param numEntries the total number of entries.
+   * @param errorRate  maximum allowable error rate.
+   */
+  public SplitBlockBloomFilter(int numEntries, double errorRate) {
+    ValidationUtils.checkArgument(numEntries > 0, "Number of entries must be positive");
+    ValidationUtils.checkArgument(errorRate > 0 && errorRate < 1, "Error rate must be in (0, 1)");
+    // Each key sets one bit in each of the 8 words of a block
+    double numBits = -WORDS_PER_BLOCK * (double) numEntries / Math.log(1 - Math.pow(errorRate, 1.0 / WORDS_PER_BLOCK));
+    long numBlocks = Math.max(1L, (long) Math.ceil(numBits / BITS_PER_BLOCK));
+    ValidationUtils.checkArgument(numBlocks * WORDS_PER_BLOCK <= Integer.MAX_VALUE,
+        "Bloom filter is too large for " + numEntries + " entries with error rate " + errorRate);
+    this.numBlocks = (int) numBlocks;
+    this.words = new long[this.numBlocks * WORDS_PER_BLOCK];
+  }
+
+  /**
+   * Creates the Bloom filter from serialized string.
+   *
+   * @param serString serialized string which represents the {@link SplitBlockBloomFilter}
+   */
+  public SplitBlockBloomFilter(String serString) {
+    try (DataInputStream stream = new DataInputStream(new ByteArrayInputStream(Base64CodecUtil.decode(serString)))) {
+      readFields(stream);
+    } catch (IOException e) {
+      throw new HoodieIndexException("Could not deserialize BloomFilter from string", e);
+    }
+  }
+
+  /**
+   * Creates {@link SplitBlockBloomFilter} from the given {@link ByteBuffer}.
+   *
+   * @param byteBuffer {@link ByteBuffer} containing the serialized bloom filter.
+   */
+  public SplitBlockBloomFilter(ByteBuffer byteBuffer) {
+    try (DataInputStream stream = getDataInputStream(Base64CodecUtil.decode(byteBuffer))) {
+      readFields(stream);
+    } catch (IOException e) {
+      throw new HoodieIndexException("Could not deserialize BloomFilter from byte buffer", e);
+    }
+  }
+
+  @Override
+  public void add(String key) {
+    if (key == null) {
+      throw new NullPointerException("Key cannot be null");
+    }
+    add(hashUTF8(key));
+  }
+
+  @Override
+  public void add(byte[] key) {
+    if (key == null) {
+      throw new NullPointerException("Key cannot be null");
+    }
+    add(hash(key));
+  }
+
+  @Override
+  public boolean mightContain(String key) {
+    if (key == null) {
+      throw new NullPointerException("Key cannot be null");
+    }
+    return mightContain(hashUTF8(key));
+  }
+
+  @Override
+  public boolean mightContain(byte[] key) {
+    if (key == null) {
+      throw new NullPointerException("Key cannot be null");
+    }
+    return mightContain(hash(key));
+  }
+
+  @Override
+  public String serializeToString() {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream(Integer.BYTES * 2 + words.length * Long.BYTES);
+    try (DataOutputStream dos = new DataOutputStream(baos)) {
+      dos.writeInt(SERIALIZATION_VERSION);
+      dos.writeInt(numBlocks);
+      for (long word : words) {
+        dos.writeLong(word);
+      }
+    } catch (IOException e) {
+      throw new HoodieIndexException("Could not serialize BloomFilter instance", e);
+    }
+    return Base64CodecUtil.encode(baos.toByteArray());
+  }
+
+  @Override
+  public BloomFilterTypeCode getBloomFilterTypeCode() {
+    return BloomFilterTypeCode.SPLIT_BLOCK;
+  }
+
+  @Override
+  public void or(BloomFilter otherFilter) {
+    if (otherFilter != null) {
+      ValidationUtils.checkArgument(otherFilter instanceof SplitBlockBloomFilter,
+          "SplitBlockBloomFilter can only perform OR operations with other SplitBlockBloomFilters.");
+      SplitBlockBloomFilter other = (SplitBlockBloomFilter) otherFilter;
+      ValidationUtils.checkArgument(other.numBlocks == numBlocks,
+          "SplitBlockBloomFilters must have the same size to perform OR operations.");
+      for (int i = 0; i < words.length; i++) {
+        words[i] |= other.words[i];
+      }
+    }
+  }
+
+  private void add(long hash) {
+    int offset = getBlockOffset(hash);
+    int lowHash = (int) hash;
+    for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+      words[offset + i] |= 1L << ((lowHash * SALT[i]) >>> 26);
+    }
+  }
+
+  private boolean mightContain(long hash) {
+    int offset = getBlockOffset(hash);
+    int lowHash = (int) hash;
+    for (int i = 0; i < WORDS_PER_BLOCK; i++) {
+      if ((words[offset + i] & (1L << ((lowHash * SALT[i]) >>> 26))) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the index of the first word of the block selected by the upper 32 bits of the hash.
+   */
+  private int getBlockOffset(long hash) {
+    return (int) (((hash >>> 32) * numBlocks) >>> 32) * WORDS_PER_BLOCK;
+  }
+
+  private void readFields(DataInputStream stream) throws IOException {
+    int version = stream.readInt();
+    if (version != SERIALIZATION_VERSION) {
+      throw new IOException("Unsupported SplitBlockBloomFilter serialization version: " + version);
+    }
+    this.numBlocks = stream.readInt();
+    this.words = new long[numBlocks * WORDS_PER_BLOCK];
+    for (int i = 0; i < words.length; i++) {
+      words[i] = stream.readLong();
+    }
+  }
+
+  /**
+   * Hashes the key bytes 8 bytes at a time.
+   */
+  static long hash(byte[] key) {
+    long h = SEED;
+    int i = 0;
+    for (; i + Long.BYTES <= key.length; i += Long.BYTES) {
+      long word = 0;
+      for (int j = 0; j < Long.BYTES; j++) {
+        word |= (key[i + j] & 0xFFL) << (j << 3);
+      }
+      h = mixWord(h, word);
+    }
+    long word = 0;
+    for (int j = 0; i < key.length; i++, j++) {
+      word |= (key[i] & 0xFFL) << (j << 3);
+    }
+    return finish(h, word, key.length);
+  }
+
+  /**
+   * Hashes the UTF-8 encoding of the key without materializing the bytes, giving the same hash as
+   * {@link #hash(byte[])} of the UTF-8 bytes. Malformed surrogates are encoded as '?', same as
+   * {@link String#getBytes}.
+   */
+  static long hashUTF8(String key) {
+    long h = SEED;
+    long word = 0;
+    int numBytes = 0;
+    int length = key.length();
+    for (int i = 0; i < length; i++) {
+      char c = key.charAt(i);
+      // Up to 4 bytes of the encoded char, the first byte in the lowest bits
+      int encoded;
+      int encodedLength;
+      if (c < 0x80) {
+        encoded = c;
+        encodedLength = 1;
+      } else if (c < 0x800) {
+        encoded = (0xC0 | (c >> 6)) | ((0x80 | (c & 0x3F)) << 8);
+        encodedLength = 2;
+      } else if (Character.isSurrogate(c)) {
+        if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(key.charAt(i + 1))) {
+          int codePoint = Character.toCodePoint(c, key.charAt(++i));
+          encoded = (0xF0 | (codePoint >> 18))
+              | ((0x80 | ((codePoint >> 12) & 0x3F)) << 8)
+              | ((0x80 | ((codePoint >> 6) & 0x3F)) << 16)
+              | ((0x80 | (codePoint & 0x3F)) << 24);
+          encodedLength = 4;
+        } else {
+          encoded = '?';
+          encodedLength = 1;
+        }
+      } else {
+        encoded = (0xE0 | (c >> 12)) | ((0x80 | ((c >> 6) & 0x3F)) << 8) | ((0x80 | (c & 0x3F)) << 16);
+        encodedLength = 3;
+      }
+      for (int j = 0; j < encodedLength; j++) {
+        word |= ((encoded >>> (j << 3)) & 0xFFL) << ((numBytes & 7) << 3);
+        numBytes++;
+        if ((numBytes & 7) == 0) {
+          h = mixWord(h, word);
+          word = 0;
+        }
+      }
+    }
+    return finish(h, word, numBytes);
+  }
+
+  private static long mixWord(long h, long word) {
+    word *= C1;
+    word = Long.rotateLeft(word, 31);
+    word *= C2;
+    h ^= word;
+    return Long.rotateLeft(h, 27) * 5 + 0x52dce729;
+  }
+
+  private static long finish(long h, long tail, int length) {
+    h ^= Long.rotateLeft(tail * C1, 31) * C2;
+    h ^= length;
+    // fmix64 of MurmurHash3
+    h ^= h >>> 33;
+    h *= 0xff51afd7ed558ccdL;
+    h ^= h >>> 33;
+    h *= 0xc4ceb9fe1a85ec53L;
+    h ^= h >>> 33;
+    return h;
+  }
+}
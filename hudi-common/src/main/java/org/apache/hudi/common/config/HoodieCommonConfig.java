@@ -89,13 +89,15 @@ public class HoodieCommonConfig extends HoodieConfig {
       .markAdvanced()
       .withDocumentation("When handling input data that cannot be held in memory, to merge with a file on storage, a spillable diskmap is employed.  "
           + "By default, we use a persistent hashmap based loosely on bitcask, that offers O(1) inserts, lookups. "
-          + "Change this to `ROCKS_DB` to prefer using rocksDB, for handling the spill.");
+          + "Change this to `ROCKS_DB` to prefer using rocksDB, for handling the spill. "
+          + "`MEMORY_MAPPED` keeps the index of the spilled keys off-heap and reads values through memory-mapped files, "
+          + "which avoids most of the heap usage of the bitcask map for large spills.");
 
   public static final ConfigProperty<Boolean> DISK_MAP_BITCASK_COMPRESSION_ENABLED = ConfigProperty
       .key("hoodie.common.diskmap.compression.enabled")
       .defaultValue(true)
       .markAdvanced()
-      .withDocumentation("Turn on compression for BITCASK disk map used by the External Spillable Map");
+      .withDocumentation("Turn on compression for BITCASK and MEMORY_MAPPED disk maps used by the External Spillable Map");
 
   public static final ConfigProperty<String> INCREMENTAL_READ_HANDLE_HOLLOW_COMMIT = ConfigProperty
       .key("hoodie.read.timeline.holes.resolution.policy")
@@ -226,6 +226,27 @@ public final class HoodieMetadataConfig extends HoodieConfig {
       .sinceVersion("0.11.0")
       .withDocumentation("Parallelism to use for generating bloom filter index in metadata table.");
 
+  public static final ConfigProperty<Boolean> BLOOM_FILTER_INDEX_KEY_HASH_SKETCH_ENABLE = ConfigProperty
+      .key(METADATA_PREFIX + ".index.bloom.filter.key.hash.sketch.enable")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("Only applies if the bloom filter index is enabled in the metadata table. When enabled, a small "
+          + "sketch of the hashes of the record keys of each base file is stored next to its bloom filter. The bloom index "
+          + "probes the sketches of the files of a partition whose key ranges are ineffective, e.g. random keys, before "
+          + "loading any bloom filter, so that the keys are only checked against the bloom filters of the files that may "
+          + "contain them. Building the sketch reads the record keys of each new base file once.");
+
+  public static final ConfigProperty<Integer> BLOOM_FILTER_INDEX_KEY_HASH_SKETCH_BITS_PER_KEY = ConfigProperty
+      .key(METADATA_PREFIX + ".index.bloom.filter.key.hash.sketch.bits.per.key")
+      .defaultValue(4)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("Number of bits per record key of the key hash sketches, see "
+          + BLOOM_FILTER_INDEX_KEY_HASH_SKETCH_ENABLE.key() + ". The size of a sketch is rounded up to a power of two, "
+          + "up to 512KB per file. A sketch with b bits per key lets through at most about 1 - e^(-1/b) of the keys absent "
+          + "from its file, e.g. 22% with 4 bits per key.");
+
   public static final ConfigProperty<Boolean> ENABLE_METADATA_INDEX_COLUMN_STATS = ConfigProperty
       .key(METADATA_PREFIX + ".index.column.stats.enable")
       .defaultValue(false)
@@ -619,7 +640,7 @@ public final class HoodieMetadataConfig extends HoodieConfig {
   public static final ConfigProperty<String> BLOOM_FILTER_TYPE = ConfigProperty
       .key(METADATA_PREFIX + ".bloom.filter.type")
       .defaultValue(BloomFilterTypeCode.DYNAMIC_V0.name())
-      .withValidValues(BloomFilterTypeCode.SIMPLE.name(), BloomFilterTypeCode.DYNAMIC_V0.name())
+      .withValidValues(BloomFilterTypeCode.SIMPLE.name(), BloomFilterTypeCode.DYNAMIC_V0.name(), BloomFilterTypeCode.SPLIT_BLOCK.name())
       .markAdvanced()
       .sinceVersion("1.1.0")
       .withDocumentation(BloomFilterTypeCode.class, "Bloom filter type for the files in the metadata table");
@@ -775,6 +796,14 @@ public final class HoodieMetadataConfig extends HoodieConfig {
     return getIntOrDefault(BLOOM_FILTER_INDEX_PARALLELISM);
   }
 
+  public boolean isBloomFilterIndexKeyHashSketchEnabled() {
+    return getBooleanOrDefault(BLOOM_FILTER_INDEX_KEY_HASH_SKETCH_ENABLE);
+  }
+
+  public int getBloomFilterIndexKeyHashSketchBitsPerKey() {
+    return getIntOrDefault(BLOOM_FILTER_INDEX_KEY_HASH_SKETCH_BITS_PER_KEY);
+  }
+
   public int getColumnStatsIndexParallelism() {
     return getIntOrDefault(COLUMN_STATS_INDEX_PARALLELISM);
   }
@@ -1070,6 +1099,11 @@ public final class HoodieMetadataConfig extends HoodieConfig {
       return this;
     }
 
+    public Builder withMetadataIndexBloomFilterKeyHashSketch(boolean enable) {
+      metadataConfig.setValue(BLOOM_FILTER_INDEX_KEY_HASH_SKETCH_ENABLE, String.valueOf(enable));
+      return this;
+    }
+
     public Builder withMetadataIndexBloomFilterFileGroups(int fileGroupCount) {
       metadataConfig.setValue(METADATA_INDEX_BLOOM_FILTER_FILE_GROUP_COUNT, String.valueOf(fileGroupCount));
       return this;
@@ -103,6 +103,64 @@ public class HoodieReaderConfig extends HoodieConfig {
           + "from the cache after this duration to prevent memory leaks. "
           + "Only effective when hfile.block.cache.enabled is true.");
 
+  public static final ConfigProperty<Long> HFILE_BLOCK_CACHE_SIZE_BYTES = ConfigProperty
+      .key("hoodie.hfile.block.cache.size.bytes")
+      .defaultValue(-1L)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("Maximum total size in bytes of the HFile blocks cached in memory, shared by all the "
+          + "metadata file readers in the JVM. When set to a positive value, the cache is bounded by the uncompressed "
+          + "size of the cached blocks instead of by the number of blocks configured by hoodie.hfile.block.cache.size. "
+          + "Only effective when hfile.block.cache.enabled is true.");
+
+  public static final ConfigProperty<Boolean> HFILE_BLOCK_CACHE_OFF_HEAP_ENABLED = ConfigProperty
+      .key("hoodie.hfile.block.cache.offheap.enabled")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("Store the raw uncompressed bytes of the cached HFile blocks off-heap instead of keeping the "
+          + "decoded blocks on heap. This reduces the heap usage and GC pressure of large block caches at the cost of "
+          + "copying the block bytes back on each cache hit. Only effective when hoodie.hfile.block.cache.size.bytes "
+          + "is set to a positive value.");
+
+  public static final ConfigProperty<Boolean> LOG_BLOCK_PREFETCH_ENABLED = ConfigProperty
+      .key("hoodie.log.block.prefetch.enabled")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("When merging the log files of a file slice, read the content of the upcoming log blocks in "
+          + "parallel while the current block is being merged, instead of reading each block only when it is merged. "
+          + "This hides most of the storage latency for file slices with many log blocks on cloud storage.");
+
+  public static final ConfigProperty<Integer> LOG_BLOCK_PREFETCH_PARALLELISM = ConfigProperty
+      .key("hoodie.log.block.prefetch.parallelism")
+      .defaultValue(4)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("Number of log blocks read concurrently by each log record reader when "
+          + "hoodie.log.block.prefetch.enabled is true.");
+
+  public static final ConfigProperty<Long> LOG_BLOCK_PREFETCH_MAX_BYTES = ConfigProperty
+      .key("hoodie.log.block.prefetch.max.bytes")
+      .defaultValue(256 * 1024 * 1024L)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("Maximum size in bytes of the log block content prefetched by each log record reader and "
+          + "not merged yet, which bounds the extra memory used when hoodie.log.block.prefetch.enabled is true. "
+          + "The next block to merge is always read regardless of its size.");
+
+  public static final ConfigProperty<Boolean> FILE_GROUP_READER_BATCH_MERGE_ENABLED = ConfigProperty
+      .key("hoodie.file.group.reader.batch.merge.enabled")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("When reading a file slice with log files for a snapshot query, read the base file in columnar "
+          + "batches with the vectorized reader of the engine and merge the log records batch by batch: the record keys of "
+          + "a batch are looked up in the log records at once, and the rows without log records are passed through "
+          + "unchanged, only the updated and deleted rows being merged. This speeds up the merge on read snapshot queries "
+          + "on file slices with few updated rows. Only supported by Spark for parquet base files and record key based "
+          + "merging; the other reads fall back to merging the base file row by row.");
+
   public static final String BLOB_INLINE_READ_MODE_CONTENT = "CONTENT";
   public static final String BLOB_INLINE_READ_MODE_DESCRIPTOR = "DESCRIPTOR";
   public static final ConfigProperty<String> BLOB_INLINE_READ_MODE = ConfigProperty
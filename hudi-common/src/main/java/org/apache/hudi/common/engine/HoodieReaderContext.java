@@ -35,6 +35,7 @@ import org.apache.hudi.common.table.HoodieTableVersion;
 import org.apache.hudi.common.table.log.InstantRange;
 import org.apache.hudi.common.table.read.BufferedRecord;
 import org.apache.hudi.common.table.read.FileGroupReaderSchemaHandler;
+import org.apache.hudi.common.table.read.HoodieRecordBatch;
 import org.apache.hudi.common.table.read.IteratorMode;
 import org.apache.hudi.common.util.ConfigUtils;
 import org.apache.hudi.common.util.HoodieRecordSizeEstimator;
@@ -210,6 +211,28 @@ public abstract class HoodieReaderContext<T> {
     return getFileRecordIterator(storagePathInfo.getPath(), start, length, dataSchema, requiredSchema, storage);
   }
 
+  /**
+   * Gets the records of a base file in batches, e.g. the columnar batches of a vectorized reader, so that
+   * the file group reader can look up the log records once per batch and pass the records without log
+   * records through without merging them.
+   * <p>
+   * Engines which can read base files in batches override this method; by default the base files are
+   * read record by record with {@link #getFileRecordIterator}.
+   *
+   * @param filePath       {@link StoragePath} instance of a base file.
+   * @param start          Starting byte to start reading.
+   * @param length         Bytes to read.
+   * @param dataSchema     Schema of records in the file in {@link HoodieSchema}.
+   * @param requiredSchema Schema containing required fields to read in {@link HoodieSchema} for projection.
+   * @param storage        {@link HoodieStorage} for reading records.
+   * @return the iterator over the record batches of the file, or empty if the file cannot be read in batches.
+   */
+  public Option<ClosableIterator<HoodieRecordBatch<T>>> getFileBatchIterator(
+      StoragePath filePath, long start, long length, HoodieSchema dataSchema, HoodieSchema requiredSchema,
+      HoodieStorage storage) throws IOException {
+    return Option.empty();
+  }
+
   /**
    * @param mergeMode        record merge mode
    * @param mergeStrategyId  record merge strategy ID
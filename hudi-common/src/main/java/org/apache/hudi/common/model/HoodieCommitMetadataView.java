@@ -0,0 +1,343 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.hudi.common.model;
+
+import lombok.Getter;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A read-only view of the commit metadata, for the planners that only need the partitions,
+ * the file IDs and the totals of a commit.
+ *
+ * <p>The view is deserialized with a projection of the avro commit metadata schema: the decoder skips
+ * the write stat fields the view does not need (log files, CDC stats, runtime stats, ...),
+ * and no {@link HoodieWriteStat} is materialized. The write stats of each partition are kept
+ * column by column.
+ */
+public class HoodieCommitMetadataView implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private static final String PARTITION_TO_WRITE_STATS_FIELD = "partitionToWriteStats";
+  private static final String PARTITION_TO_REPLACE_FILE_IDS_FIELD = "partitionToReplaceFileIds";
+  private static final String OPERATION_TYPE_FIELD = "operationType";
+  private static final List<String> WRITE_STAT_FIELDS = Arrays.asList(
+      "fileId", "path", "prevCommit", "numWrites", "numDeletes", "numUpdateWrites", "numInserts", "totalWriteBytes", "totalWriteErrors");
+
+  private final Map<String, PartitionWriteStats> partitionToWriteStats;
+  @Getter
+  private final Map<String, List<String>> partitionToReplaceFileIds;
+  @Getter
+  private final WriteOperationType operationType;
+
+  // for the empty instants
+  public HoodieCommitMetadataView() {
+    this(new HashMap<>(), new HashMap<>(), WriteOperationType.UNKNOWN);
+  }
+
+  private HoodieCommitMetadataView(
+      Map<String, PartitionWriteStats> partitionToWriteStats,
+      Map<String, List<String>> partitionToReplaceFileIds,
+      WriteOperationType operationType) {
+    this.partitionToWriteStats = partitionToWriteStats;
+    this.partitionToReplaceFileIds = partitionToReplaceFileIds;
+    this.operationType = operationType;
+  }
+
+  /**
+   * Creates the view of a deserialized commit metadata, used for the legacy instants in JSON.
+   */
+  public static HoodieCommitMetadataView fromCommitMetadata(HoodieCommitMetadata commitMetadata) {
+    Map<String, PartitionWriteStats> partitionToWriteStats = new HashMap<>();
+    commitMetadata.getPartitionToWriteStats().forEach((partitionPath, writeStats) -> {
+      if (partitionPath != null) {
+        partitionToWriteStats.put(partitionPath, PartitionWriteStats.fromWriteStats(writeStats));
+      }
+    });
+    Map<String, List<String>> partitionToReplaceFileIds = new HashMap<>();
+    if (commitMetadata instanceof HoodieReplaceCommitMetadata
+        && ((HoodieReplaceCommitMetadata) commitMetadata).getPartitionToReplaceFileIds() != null) {
+      partitionToReplaceFileIds.putAll(((HoodieReplaceCommitMetadata) commitMetadata).getPartitionToReplaceFileIds());
+    }
+    WriteOperationType operationType = commitMetadata.getOperationType() == null ? WriteOperationType.UNKNOWN : commitMetadata.getOperationType();
+    return new HoodieCommitMetadataView(partitionToWriteStats, partitionToReplaceFileIds, operationType);
+  }
+
+  /**
+   * Creates the view of a commit metadata record read with the {@link #getProjectedSchema projected schema}.
+   */
+  @SuppressWarnings("unchecked")
+  public static HoodieCommitMetadataView fromAvroRecord(GenericRecord record) {
+    Map<String, PartitionWriteStats> partitionToWriteStats = new HashMap<>();
+    Map<CharSequence, List<GenericRecord>> avroWriteStats = (Map<CharSequence, List<GenericRecord>>) record.get(PARTITION_TO_WRITE_STATS_FIELD);
+    if (avroWriteStats != null) {
+      avroWriteStats.forEach((partitionPath, writeStats) ->
+          partitionToWriteStats.put(partitionPath.toString(), PartitionWriteStats.fromAvroRecords(writeStats)));
+    }
+    Map<String, List<String>> partitionToReplaceFileIds = new HashMap<>();
+    if (record.getSchema().getField(PARTITION_TO_REPLACE_FILE_IDS_FIELD) != null) {
+      Map<CharSequence, List<CharSequence>> avroReplaceFileIds = (Map<CharSequence, List<CharSequence>>) record.get(PARTITION_TO_REPLACE_FILE_IDS_FIELD);
+      if (avroReplaceFileIds != null) {
+        avroReplaceFileIds.forEach((partitionPath, fileIds) -> partitionToReplaceFileIds.put(
+            partitionPath.toString(), fileIds.stream().map(CharSequence::toString).collect(Collectors.toList())));
+      }
+    }
+    Object operationType = record.get(OPERATION_TYPE_FIELD);
+    return new HoodieCommitMetadataView(partitionToWriteStats, partitionToReplaceFileIds,
+        operationType == null ? WriteOperationType.UNKNOWN : WriteOperationType.valueOf(operationType.toString()));
+  }
+
+  /**
+   * Returns the projection of the avro commit metadata schema (or replace commit metadata schema)
+   * with only the fields needed by the view.
+   */
+  public static Schema getProjectedSchema(Schema commitMetadataSchema) {
+    List<Schema.Field> fields = new ArrayList<>();
+    for (Schema.Field field : commitMetadataSchema.getFields()) {
+      if (PARTITION_TO_WRITE_STATS_FIELD.equals(field.name())) {
+        fields.add(new Schema.Field(field, projectWriteStats(field.schema())));
+      } else if (PARTITION_TO_REPLACE_FILE_IDS_FIELD.equals(field.name()) || OPERATION_TYPE_FIELD.equals(field.name())) {
+        fields.add(new Schema.Field(field, field.schema()));
+      }
+    }
+    return Schema.createRecord(commitMetadataSchema.getName(), commitMetadataSchema.getDoc(), commitMetadataSchema.getNamespace(), false, fields);
+  }
+
+  private static Schema projectWriteStats(Schema schema) {
+    switch (schema.getType()) {
+      case UNION:
+        return Schema.createUnion(schema.getTypes().stream().map(HoodieCommitMetadataView::projectWriteStats).collect(Collectors.toList()));
+      case MAP:
+        return Schema.createMap(projectWriteStats(schema.getValueType()));
+      case ARRAY:
+        return Schema.createArray(projectWriteStats(schema.getElementType()));
+      case RECORD:
+        List<Schema.Field> fields = schema.getFields().stream()
+            .filter(field -> WRITE_STAT_FIELDS.contains(field.name()))
+            .map(field -> new Schema.Field(field, field.schema()))
+            .collect(Collectors.toList());
+        return Schema.createRecord(schema.getName(), schema.getDoc(), schema.getNamespace(), false, fields);
+      default:
+        return schema;
+    }
+  }
+
+  // -------------------------------------------------------------------------
+  //  Partitions and files
+  // -------------------------------------------------------------------------
+
+  public Set<String> getWritePartitionPaths() {
+    return new HashSet<>(partitionToWriteStats.keySet());
+  }
+
+  /**
+   * Returns the partitions written or with file groups replaced by the commit.
+   */
+  public Set<String> getPartitionPaths() {
+    Set<String> partitionPaths = new HashSet<>(partitionToWriteStats.keySet());
+    partitionPaths.addAll(partitionToReplaceFileIds.keySet());
+    return partitionPaths;
+  }
+
+  public Set<String> getWritePartitionPathsWithUpdatedFileGroups() {
+    return partitionToWriteStats.entrySet().stream()
+        .filter(entry -> entry.getValue().fetchNumFilesUpdated() > 0)
+        .map(Map.Entry::getKey)
+        .collect(Collectors.toSet());
+  }
+
+  public List<String> getFileIds(String partitionPath) {
+    PartitionWriteStats writeStats = partitionToWriteStats.get(partitionPath);
+    return writeStats == null ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(writeStats.fileIds));
+  }
+
+  public Map<String, String> getFileIdAndRelativePaths() {
+    Map<String, String> filePaths = new HashMap<>();
+    for (PartitionWriteStats writeStats : partitionToWriteStats.values()) {
+      for (int i = 0; i < writeStats.size(); i++) {
+        filePaths.put(writeStats.fileIds[i], writeStats.paths[i]);
+      }
+    }
+    return filePaths;
+  }
+
+  // -------------------------------------------------------------------------
+  //  Totals, named as in HoodieCommitMetadata
+  // -------------------------------------------------------------------------
+
+  public long fetchTotalPartitionsWritten() {
+    return partitionToWriteStats.size();
+  }
+
+  public long fetchTotalFiles() {
+    return partitionToWriteStats.values().stream().mapToLong(PartitionWriteStats::size).sum();
+  }
+
+  public long fetchTotalFilesInsert() {
+    return partitionToWriteStats.values().stream().mapToLong(PartitionWriteStats::fetchNumFilesInserted).sum();
+  }
+
+  public long fetchTotalFilesUpdated() {
+    return partitionToWriteStats.values().stream().mapToLong(PartitionWriteStats::fetchNumFilesUpdated).sum();
+  }
+
+  public long fetchTotalRecordsWritten() {
+    return partitionToWriteStats.values().stream().mapToLong(writeStats -> sum(writeStats.numWrites)).sum();
+  }
+
+  public long fetchTotalUpdateRecordsWritten() {
+    return partitionToWriteStats.values().stream().mapToLong(writeStats -> sum(writeStats.numUpdateWrites)).sum();
+  }
+
+  public long fetchTotalInsertRecordsWritten() {
+    long totalInsertRecordsWritten = 0;
+    for (PartitionWriteStats writeStats : partitionToWriteStats.values()) {
+      for (int i = 0; i < writeStats.size(); i++) {
+        // determine insert rows in every file
+        if (writeStats.prevCommits[i] != null) {
+          totalInsertRecordsWritten += writeStats.numInserts[i];
+        }
+      }
+    }
+    return totalInsertRecordsWritten;
+  }
+
+  public long fetchTotalRecordsDeleted() {
+    return partitionToWriteStats.values().stream().mapToLong(writeStats -> sum(writeStats.numDeletes)).sum();
+  }
+
+  public long fetchTotalBytesWritten() {
+    return partitionToWriteStats.values().stream().mapToLong(writeStats -> sum(writeStats.totalWriteBytes)).sum();
+  }
+
+  public long fetchTotalWriteErrors() {
+    return partitionToWriteStats.values().stream().mapToLong(writeStats -> sum(writeStats.totalWriteErrors)).sum();
+  }
+
+  private static long sum(long[] values) {
+    long sum = 0;
+    for (long value : values) {
+      sum += value;
+    }
+    return sum;
+  }
+
+  // -------------------------------------------------------------------------
+  //  Inner Class
+  // -------------------------------------------------------------------------
+
+  /**
+   * The write stats of a partition, stored column by column.
+   */
+  private static class PartitionWriteStats implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String[] fileIds;
+    private final String[] paths;
+    private final String[] prevCommits;
+    private final long[] numWrites;
+    private final long[] numDeletes;
+    private final long[] numUpdateWrites;
+    private final long[] numInserts;
+    private final long[] totalWriteBytes;
+    private final long[] totalWriteErrors;
+
+    private PartitionWriteStats(int size) {
+      this.fileIds = new String[size];
+      this.paths = new String[size];
+      this.prevCommits = new String[size];
+      this.numWrites = new long[size];
+      this.numDeletes = new long[size];
+      this.numUpdateWrites = new long[size];
+      this.numInserts = new long[size];
+      this.totalWriteBytes = new long[size];
+      this.totalWriteErrors = new long[size];
+    }
+
+    static PartitionWriteStats fromWriteStats(List<HoodieWriteStat> writeStats) {
+      PartitionWriteStats partitionWriteStats = new PartitionWriteStats(writeStats.size());
+      for (int i = 0; i < writeStats.size(); i++) {
+        HoodieWriteStat writeStat = writeStats.get(i);
+        partitionWriteStats.fileIds[i] = writeStat.getFileId();
+        partitionWriteStats.paths[i] = writeStat.getPath();
+        partitionWriteStats.prevCommits[i] = writeStat.getPrevCommit();
+        partitionWriteStats.numWrites[i] = writeStat.getNumWrites();
+        partitionWriteStats.numDeletes[i] = writeStat.getNumDeletes();
+        partitionWriteStats.numUpdateWrites[i] = writeStat.getNumUpdateWrites();
+        partitionWriteStats.numInserts[i] = writeStat.getNumInserts();
+        partitionWriteStats.totalWriteBytes[i] = writeStat.getTotalWriteBytes();
+        partitionWriteStats.totalWriteErrors[i] = writeStat.getTotalWriteErrors();
+      }
+      return partitionWriteStats;
+    }
+
+    static PartitionWriteStats fromAvroRecords(List<GenericRecord> records) {
+      PartitionWriteStats partitionWriteStats = new PartitionWriteStats(records.size());
+      for (int i = 0; i < records.size(); i++) {
+        GenericRecord record = records.get(i);
+        partitionWriteStats.fileIds[i] = getString(record, "fileId");
+        partitionWriteStats.paths[i] = getString(record, "path");
+        partitionWriteStats.prevCommits[i] = getString(record, "prevCommit");
+        partitionWriteStats.numWrites[i] = getLong(record, "numWrites");
+        partitionWriteStats.numDeletes[i] = getLong(record, "numDeletes");
+        partitionWriteStats.numUpdateWrites[i] = getLong(record, "numUpdateWrites");
+        partitionWriteStats.numInserts[i] = getLong(record, "numInserts");
+        partitionWriteStats.totalWriteBytes[i] = getLong(record, "totalWriteBytes");
+        partitionWriteStats.totalWriteErrors[i] = getLong(record, "totalWriteErrors");
+      }
+      return partitionWriteStats;
+    }
+
+    int size() {
+      return fileIds.length;
+    }
+
+    long fetchNumFilesInserted() {
+      return Arrays.stream(prevCommits).filter(prevCommit -> prevCommit != null && prevCommit.equalsIgnoreCase(HoodieWriteStat.NULL_COMMIT)).count();
+    }
+
+    long fetchNumFilesUpdated() {
+      return Arrays.stream(prevCommits).filter(prevCommit -> prevCommit != null && !prevCommit.equalsIgnoreCase(HoodieWriteStat.NULL_COMMIT)).count();
+    }
+
+    private static String getString(GenericRecord record, String field) {
+      Object value = record.get(field);
+      return value == null ? null : value.toString();
+    }
+
+    private static long getLong(GenericRecord record, String field) {
+      Object value = record.get(field);
+      return value == null ? 0L : (Long) value;
+    }
+  }
+}
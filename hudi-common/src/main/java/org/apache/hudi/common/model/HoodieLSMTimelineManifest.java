@@ -21,6 +21,7 @@ package org.apache.hudi.common.model;
 import org.apache.hudi.common.util.JsonUtils;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -29,7 +30,9 @@ import lombok.extern.slf4j.Slf4j;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 /**
@@ -95,6 +98,10 @@ public class HoodieLSMTimelineManifest implements Serializable {
 
   /**
    * A file entry.
+   *
+   * <p>Besides the file name and length, the entry records the completion time range and the actions
+   * of the instants in the file, so that the readers can prune the files without opening them.
+   * The statistics are absent for the files written by older versions, these files are never pruned.
    */
   @AllArgsConstructor
   @NoArgsConstructor
@@ -103,9 +110,71 @@ public class HoodieLSMTimelineManifest implements Serializable {
 
     private String fileName;
     private long fileLen;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String minCompletionTime;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String maxCompletionTime;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<String> actions;
 
     public static LSMFileEntry getInstance(String fileName, long fileLen) {
-      return new LSMFileEntry(fileName, fileLen);
+      return new LSMFileEntry(fileName, fileLen, null, null, null);
+    }
+
+    public static LSMFileEntry getInstance(String fileName, long fileLen, String minCompletionTime, String maxCompletionTime, Collection<String> actions) {
+      return new LSMFileEntry(fileName, fileLen, minCompletionTime, maxCompletionTime, new ArrayList<>(new TreeSet<>(actions)));
+    }
+
+    /**
+     * Returns the entry of a file compacted from the given source files, the statistics are merged
+     * from the source entries, or absent if any of the source entries has no statistics.
+     */
+    public static LSMFileEntry getInstance(String fileName, long fileLen, List<LSMFileEntry> sourceEntries) {
+      if (sourceEntries.isEmpty() || !sourceEntries.stream().allMatch(LSMFileEntry::hasStats)) {
+        return getInstance(fileName, fileLen);
+      }
+      String minCompletionTime = null;
+      String maxCompletionTime = null;
+      TreeSet<String> actions = new TreeSet<>();
+      for (LSMFileEntry entry : sourceEntries) {
+        if (minCompletionTime == null || entry.minCompletionTime.compareTo(minCompletionTime) < 0) {
+          minCompletionTime = entry.minCompletionTime;
+        }
+        if (maxCompletionTime == null || entry.maxCompletionTime.compareTo(maxCompletionTime) > 0) {
+          maxCompletionTime = entry.maxCompletionTime;
+        }
+        actions.addAll(entry.actions);
+      }
+      return getInstance(fileName, fileLen, minCompletionTime, maxCompletionTime, actions);
+    }
+
+    /**
+     * Returns whether the entry has the statistics of the instants in the file.
+     */
+    public boolean hasStats() {
+      return minCompletionTime != null && maxCompletionTime != null && actions != null;
+    }
+
+    /**
+     * Returns whether the file may contain instants completed in the given range,
+     * the null boundaries are unbounded.
+     */
+    public boolean mayContainCompletionTimeInRange(String startCompletionTime, String endCompletionTime) {
+      if (!hasStats()) {
+        return true;
+      }
+      return (startCompletionTime == null || maxCompletionTime.compareTo(startCompletionTime) >= 0)
+          && (endCompletionTime == null || minCompletionTime.compareTo(endCompletionTime) <= 0);
+    }
+
+    /**
+     * Returns whether the file may contain instants of any of the given actions.
+     */
+    public boolean mayContainAnyAction(Collection<String> targetActions) {
+      if (!hasStats()) {
+        return true;
+      }
+      return targetActions.stream().anyMatch(actions::contains);
     }
 
     @Override
@@ -155,6 +155,10 @@ public abstract class AbstractHoodieLogRecordScanner {
   private final HoodieTableVersion tableVersion;
   // Allows to consider inflight instants while merging log records
   protected boolean allowInflightInstants = false;
+  // Number of log blocks whose content is read concurrently ahead of merging, 0 to disable prefetching
+  protected int logBlockPrefetchParallelism = 0;
+  // Maximum size of the prefetched log block content not merged yet
+  protected long logBlockPrefetchMaxBytes = 0L;
   // for pending log block check with table version before 8
   private HoodieTimeline commitsTimeline = null;
   private HoodieTimeline completedInstantsTimeline = null;
@@ -513,30 +517,33 @@ public abstract class AbstractHoodieLogRecordScanner {
    */
   private void processQueuedBlocksForInstant(Deque<HoodieLogBlock> logBlocks, int numLogFilesSeen,
                                              Option<KeySpec> keySpecOpt) throws Exception {
-    while (!logBlocks.isEmpty()) {
-      log.info("Number of remaining logblocks to merge {}", logBlocks.size());
-      // poll the element at the bottom of the stack since that's the order it was inserted
-      HoodieLogBlock lastBlock = logBlocks.pollLast();
-      switch (lastBlock.getBlockType()) {
-        case AVRO_DATA_BLOCK:
-        case HFILE_DATA_BLOCK:
-        case PARQUET_DATA_BLOCK:
-          processDataBlock((HoodieDataBlock) lastBlock, keySpecOpt);
-          break;
-        case DELETE_BLOCK:
-          Arrays.stream(((HoodieDeleteBlock) lastBlock).getRecordsToDelete()).forEach(this::processNextDeletedRecord);
-          break;
-        case CORRUPT_BLOCK:
-          log.warn("Found a corrupt block which was not rolled back");
-          break;
-        default:
-          break;
-      }
-    }
+    HoodieLogBlockPrefetcher.processQueuedBlocks(logBlocks, logBlockPrefetchParallelism, logBlockPrefetchMaxBytes,
+        !keySpecOpt.isPresent(), block -> processQueuedBlock(block, keySpecOpt));
     // At this step the lastBlocks are consumed. We track approximate progress by number of log-files seen
     progress = (numLogFilesSeen - 1) / logFilePaths.size();
   }
 
+  /**
+   * Process a log block belonging to the last instant which is read fully.
+   */
+  private void processQueuedBlock(HoodieLogBlock block, Option<KeySpec> keySpecOpt) throws Exception {
+    switch (block.getBlockType()) {
+      case AVRO_DATA_BLOCK:
+      case HFILE_DATA_BLOCK:
+      case PARQUET_DATA_BLOCK:
+        processDataBlock((HoodieDataBlock) block, keySpecOpt);
+        break;
+      case DELETE_BLOCK:
+        Arrays.stream(((HoodieDeleteBlock) block).getRecordsToDelete()).forEach(this::processNextDeletedRecord);
+        break;
+      case CORRUPT_BLOCK:
+        log.warn("Found a corrupt block which was not rolled back");
+        break;
+      default:
+        break;
+    }
+  }
+
   private boolean shouldLookupRecords() {
     // NOTE: Point-wise record lookups are only enabled when scanner is not in
     //       a full-scan mode
@@ -152,6 +152,10 @@ public abstract class BaseHoodieLogRecordReader<T> {
   protected boolean allowInflightInstants;
   // table version for compatibility
   private final HoodieTableVersion tableVersion;
+  // Number of log blocks whose content is read concurrently ahead of merging, 0 to disable prefetching
+  private final int logBlockPrefetchParallelism;
+  // Maximum size of the prefetched log block content not merged yet
+  private final long logBlockPrefetchMaxBytes;
 
   protected BaseHoodieLogRecordReader(HoodieReaderContext<T> readerContext, HoodieTableMetaClient hoodieTableMetaClient, HoodieStorage storage,
                                       List<HoodieLogFile> logFiles,
@@ -159,6 +163,16 @@ public abstract class BaseHoodieLogRecordReader<T> {
                                       boolean withOperationField, boolean forceFullScan, Option<String> partitionNameOverride,
                                       Option<String> keyFieldOverride, HoodieFileGroupRecordBuffer<T> recordBuffer,
                                       boolean allowInflightInstants) {
+    this(readerContext, hoodieTableMetaClient, storage, logFiles, reverseReader, bufferSize, instantRange, withOperationField,
+        forceFullScan, partitionNameOverride, keyFieldOverride, recordBuffer, allowInflightInstants, 0, 0L);
+  }
+
+  protected BaseHoodieLogRecordReader(HoodieReaderContext<T> readerContext, HoodieTableMetaClient hoodieTableMetaClient, HoodieStorage storage,
+                                      List<HoodieLogFile> logFiles,
+                                      boolean reverseReader, int bufferSize, Option<InstantRange> instantRange,
+                                      boolean withOperationField, boolean forceFullScan, Option<String> partitionNameOverride,
+                                      Option<String> keyFieldOverride, HoodieFileGroupRecordBuffer<T> recordBuffer,
+                                      boolean allowInflightInstants, int logBlockPrefetchParallelism, long logBlockPrefetchMaxBytes) {
     this.readerContext = readerContext;
     this.readerSchema = readerContext.getSchemaHandler() != null ? readerContext.getSchemaHandler().getRequiredSchema() : null;
     this.latestInstantTime = readerContext.getLatestCommitTime();
@@ -203,6 +217,8 @@ public abstract class BaseHoodieLogRecordReader<T> {
     // When the allowInflightInstants flag is enabled, records written by inflight instants are also read
     this.allowInflightInstants = allowInflightInstants;
     this.tableVersion = tableConfig.getTableVersion();
+    this.logBlockPrefetchParallelism = logBlockPrefetchParallelism;
+    this.logBlockPrefetchMaxBytes = logBlockPrefetchMaxBytes;
   }
 
   /**
@@ -476,30 +492,33 @@ public abstract class BaseHoodieLogRecordReader<T> {
    */
   private void processQueuedBlocksForInstant(Deque<HoodieLogBlock> logBlocks, int numLogFilesSeen,
                                              Option<KeySpec> keySpecOpt) throws Exception {
-    while (!logBlocks.isEmpty()) {
-      log.debug("Number of remaining logblocks to merge {}", logBlocks.size());
-      // poll the element at the bottom of the stack since that's the order it was inserted
-      HoodieLogBlock lastBlock = logBlocks.pollLast();
-      switch (lastBlock.getBlockType()) {
-        case AVRO_DATA_BLOCK:
-        case HFILE_DATA_BLOCK:
-        case PARQUET_DATA_BLOCK:
-          processDataBlock((HoodieDataBlock) lastBlock, keySpecOpt);
-          break;
-        case DELETE_BLOCK:
-          recordBuffer.processDeleteBlock((HoodieDeleteBlock) lastBlock);
-          break;
-        case CORRUPT_BLOCK:
-          log.warn("Found a corrupt block which was not rolled back");
-          break;
-        default:
-          break;
-      }
-    }
+    HoodieLogBlockPrefetcher.processQueuedBlocks(logBlocks, logBlockPrefetchParallelism, logBlockPrefetchMaxBytes,
+        !keySpecOpt.isPresent(), block -> processQueuedBlock(block, keySpecOpt));
     // At this step the lastBlocks are consumed. We track approximate progress by number of log-files seen
     progress = (float) (numLogFilesSeen - 1) / logFiles.size();
   }
 
+  /**
+   * Process a log block belonging to the last instant which is read fully.
+   */
+  private void processQueuedBlock(HoodieLogBlock block, Option<KeySpec> keySpecOpt) throws Exception {
+    switch (block.getBlockType()) {
+      case AVRO_DATA_BLOCK:
+      case HFILE_DATA_BLOCK:
+      case PARQUET_DATA_BLOCK:
+        processDataBlock((HoodieDataBlock) block, keySpecOpt);
+        break;
+      case DELETE_BLOCK:
+        recordBuffer.processDeleteBlock((HoodieDeleteBlock) block);
+        break;
+      case CORRUPT_BLOCK:
+        log.warn("Found a corrupt block which was not rolled back");
+        break;
+      default:
+        break;
+    }
+  }
+
   private void processDataBlock(HoodieDataBlock dataBlock, Option<KeySpec> keySpecOpt) throws IOException {
     String blockInstantTime = dataBlock.getLogBlockHeader().get(INSTANT_TIME);
     log.debug("Processing log block with instant time {}", blockInstantTime);
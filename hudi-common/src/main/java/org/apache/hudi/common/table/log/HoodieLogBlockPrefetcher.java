@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.common.table.log;
+
+import org.apache.hudi.common.config.HoodieReaderConfig;
+import org.apache.hudi.common.config.TypedProperties;
+import org.apache.hudi.common.table.log.block.HoodieLogBlock;
+import org.apache.hudi.common.util.CustomizedThreadFactory;
+import org.apache.hudi.exception.HoodieException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.apache.hudi.common.util.ConfigUtils.getBooleanWithAltKeys;
+import static org.apache.hudi.common.util.ConfigUtils.getIntWithAltKeys;
+import static org.apache.hudi.common.util.ConfigUtils.getLongWithAltKeys;
+import static org.apache.hudi.common.util.ValidationUtils.checkState;
+
+/**
+ * Reads the content of the log blocks queued for merging by the log record readers ahead of their processing.
+ * <p>
+ * Log blocks are read lazily: the log files are first scanned for the block headers, and the content of each
+ * block is only read from storage when the block is merged. This class overlaps that I/O with the merging, by
+ * reading the content of the upcoming blocks, possibly from several log files, in parallel on a small thread pool.
+ * <p>
+ * The total size of the content that has been prefetched and not processed yet is bounded by the configured number
+ * of bytes in flight, except for the next block to process which is always fetched. The blocks must be handed over
+ * with {@link #awaitContent} in the order they were given.
+ */
+@Slf4j
+class HoodieLogBlockPrefetcher implements AutoCloseable {
+
+  private final List<HoodieLogBlock> blocks;
+  // Content size of each block, 0 for the blocks which are not prefetched
+  private final long[] blockSizes;
+  private final Future<?>[] futures;
+  private final long maxBytesInFlight;
+  private final ExecutorService executor;
+  private int nextToSubmit = 0;
+  private int nextToProcess = 0;
+  private long bytesInFlight = 0;
+
+  /**
+   * @param logBlocks        the blocks to process, polled from the last one as done by the log record readers.
+   * @param parallelism      number of blocks read concurrently.
+   * @param maxBytesInFlight maximum size of the prefetched content which has not been processed yet.
+   */
+  HoodieLogBlockPrefetcher(Deque<HoodieLogBlock> logBlocks, int parallelism, long maxBytesInFlight) {
+    this.blocks = new ArrayList<>(logBlocks);
+    Collections.reverse(blocks);
+    this.blockSizes = new long[blocks.size()];
+    for (int i = 0; i < blocks.size(); i++) {
+      HoodieLogBlock block = blocks.get(i);
+      if (readsContent(block) && block.getBlockContentLocation().isPresent() && !block.getContent().isPresent()) {
+        blockSizes[i] = block.getBlockContentLocation().get().getBlockSize();
+      }
+    }
+    this.futures = new Future<?>[blocks.size()];
+    this.maxBytesInFlight = maxBytesInFlight;
+    this.executor = Executors.newFixedThreadPool(parallelism, new CustomizedThreadFactory("hoodie-log-block-prefetch", true));
+    submit(true);
+  }
+
+  /**
+   * Processes the queued log blocks in the order they were inserted, prefetching their content ahead of processing
+   * if the parallelism is positive. Point lookups only read parts of the blocks, so the whole content is only
+   * prefetched for full scans.
+   *
+   * @param logBlocks        the blocks to process, polled from the last one.
+   * @param parallelism      number of blocks read concurrently, 0 to disable prefetching.
+   * @param maxBytesInFlight maximum size of the prefetched content which has not been processed yet.
+   * @param fullScan         whether the blocks are processed for a full scan instead of a point lookup.
+   * @param processor        processor of each block.
+   */
+  static void processQueuedBlocks(Deque<HoodieLogBlock> logBlocks, int parallelism, long maxBytesInFlight,
+                                  boolean fullScan, LogBlockProcessor processor) throws Exception {
+    HoodieLogBlockPrefetcher prefetcher = parallelism > 0 && fullScan && logBlocks.size() > 1
+        ? new HoodieLogBlockPrefetcher(logBlocks, parallelism, maxBytesInFlight)
+        : null;
+    try {
+      while (!logBlocks.isEmpty()) {
+        log.debug("Number of remaining logblocks to merge {}", logBlocks.size());
+        // poll the element at the bottom of the stack since that's the order it was inserted
+        HoodieLogBlock lastBlock = logBlocks.pollLast();
+        if (prefetcher != null) {
+          prefetcher.awaitContent(lastBlock);
+        }
+        processor.process(lastBlock);
+      }
+    } finally {
+      if (prefetcher != null) {
+        prefetcher.close();
+      }
+    }
+  }
+
+  /**
+   * @return the number of log blocks read concurrently configured in the given properties, 0 if prefetching is disabled.
+   */
+  static int getParallelism(TypedProperties props) {
+    return getBooleanWithAltKeys(props, HoodieReaderConfig.LOG_BLOCK_PREFETCH_ENABLED)
+        ? getIntWithAltKeys(props, HoodieReaderConfig.LOG_BLOCK_PREFETCH_PARALLELISM)
+        : 0;
+  }
+
+  /**
+   * @return the maximum size of the prefetched content not processed yet configured in the given properties.
+   */
+  static long getMaxBytesInFlight(TypedProperties props) {
+    return getLongWithAltKeys(props, HoodieReaderConfig.LOG_BLOCK_PREFETCH_MAX_BYTES);
+  }
+
+  /**
+   * Waits for the content of the given block to be read, and prefetches the content of the following blocks within
+   * the bytes in flight budget. The previous block is considered processed once this method is called.
+   */
+  void awaitContent(HoodieLogBlock block) {
+    checkState(nextToProcess < blocks.size() && blocks.get(nextToProcess) == block,
+        "Log blocks must be processed in the order they were prefetched");
+    if (nextToProcess > 0) {
+      bytesInFlight -= blockSizes[nextToProcess - 1];
+    }
+    submit(nextToSubmit == nextToProcess);
+    Future<?> future = futures[nextToProcess];
+    futures[nextToProcess++] = null;
+    if (future == null) {
+      return;
+    }
+    try {
+      future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new HoodieException("Interrupted while prefetching the content of log blocks", e);
+    } catch (ExecutionException e) {
+      // The content is then read when the block is processed
+      log.warn("Failed to prefetch the content of log block at {}", block.getBlockContentLocation().get().getLogFile(), e.getCause());
+    }
+  }
+
+  /**
+   * Parquet data blocks are read through the inline file system instead of from the block content.
+   */
+  private static boolean readsContent(HoodieLogBlock block) {
+    switch (block.getBlockType()) {
+      case AVRO_DATA_BLOCK:
+      case HFILE_DATA_BLOCK:
+      case DELETE_BLOCK:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private void submit(boolean force) {
+    while (nextToSubmit < blocks.size()) {
+      long size = blockSizes[nextToSubmit];
+      if (!force && bytesInFlight > 0 && bytesInFlight + size > maxBytesInFlight) {
+        return;
+      }
+      if (size > 0) {
+        futures[nextToSubmit] = executor.submit(blocks.get(nextToSubmit)::prefetchContent);
+        bytesInFlight += size;
+      }
+      nextToSubmit++;
+      force = false;
+    }
+  }
+
+  /**
+   * Processor of the log blocks handed over by {@link #processQueuedBlocks}.
+   */
+  @FunctionalInterface
+  interface LogBlockProcessor {
+    void process(HoodieLogBlock block) throws Exception;
+  }
+
+  @Override
+  public void close() {
+    for (Future<?> future : futures) {
+      if (future != null) {
+        future.cancel(true);
+      }
+    }
+    executor.shutdownNow();
+  }
+}
@@ -19,6 +19,7 @@
 
 package org.apache.hudi.common.table.log;
 
+import org.apache.hudi.common.config.TypedProperties;
 import org.apache.hudi.common.engine.HoodieReaderContext;
 import org.apache.hudi.common.model.HoodieLogFile;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
@@ -69,9 +70,11 @@ public class HoodieMergedLogRecordReader<T> extends BaseHoodieLogRecordReader<T>
                                       List<HoodieLogFile> logFiles, boolean reverseReader,
                                       int bufferSize, Option<InstantRange> instantRange, boolean withOperationField, boolean forceFullScan,
                                       Option<String> partitionName, Option<String> keyFieldOverride,
-                                      HoodieFileGroupRecordBuffer<T> recordBuffer, boolean allowInflightInstants) {
+                                      HoodieFileGroupRecordBuffer<T> recordBuffer, boolean allowInflightInstants,
+                                      int logBlockPrefetchParallelism, long logBlockPrefetchMaxBytes) {
     super(readerContext, metaClient, storage, logFiles, reverseReader, bufferSize, instantRange, withOperationField,
-        forceFullScan, partitionName, keyFieldOverride, recordBuffer, allowInflightInstants);
+        forceFullScan, partitionName, keyFieldOverride, recordBuffer, allowInflightInstants,
+        logBlockPrefetchParallelism, logBlockPrefetchMaxBytes);
 
     if (forceFullScan) {
       performScan();
@@ -172,6 +175,9 @@ public class HoodieMergedLogRecordReader<T> extends BaseHoodieLogRecordReader<T>
     private HoodieFileGroupRecordBuffer<T> recordBuffer;
     private boolean allowInflightInstants = false;
     private HoodieTableMetaClient metaClient;
+    // log block prefetching is disabled by default
+    private int logBlockPrefetchParallelism = 0;
+    private long logBlockPrefetchMaxBytes = 0L;
 
     @Override
     public Builder<T> withHoodieReaderContext(HoodieReaderContext<T> readerContext) {
@@ -247,6 +253,19 @@ public class HoodieMergedLogRecordReader<T> extends BaseHoodieLogRecordReader<T>
       return this;
     }
 
+    public Builder<T> withLogBlockPrefetch(int parallelism, long maxBytesInFlight) {
+      this.logBlockPrefetchParallelism = parallelism;
+      this.logBlockPrefetchMaxBytes = maxBytesInFlight;
+      return this;
+    }
+
+    /**
+     * Enables the prefetching of the log block content as configured by the hoodie.log.block.prefetch.* properties.
+     */
+    public Builder<T> withLogBlockPrefetch(TypedProperties props) {
+      return withLogBlockPrefetch(HoodieLogBlockPrefetcher.getParallelism(props), HoodieLogBlockPrefetcher.getMaxBytesInFlight(props));
+    }
+
     @Override
     public HoodieMergedLogRecordReader<T> build() {
       ValidationUtils.checkArgument(recordBuffer != null, "Record Buffer is null in Merged Log Record Reader");
@@ -263,7 +282,9 @@ public class HoodieMergedLogRecordReader<T> extends BaseHoodieLogRecordReader<T>
           Option.ofNullable(partitionName),
           Option.ofNullable(keyFieldOverride),
           recordBuffer,
-          allowInflightInstants);
+          allowInflightInstants,
+          logBlockPrefetchParallelism,
+          logBlockPrefetchMaxBytes);
     }
   }
 }
@@ -114,7 +114,9 @@ public class HoodieMergedLogRecordScanner extends AbstractHoodieLogRecordScanner
                                          Option<String> keyFieldOverride,
                                          HoodieRecordMerger recordMerger,
                                          Option<HoodieTableMetaClient> hoodieTableMetaClientOption,
-                                         boolean allowInflightInstants) {
+                                         boolean allowInflightInstants,
+                                         int logBlockPrefetchParallelism,
+                                         long logBlockPrefetchMaxBytes) {
     super(storage, basePath, logFilePaths, readerSchema, latestInstantTime, reverseReader, bufferSize,
         instantRange, withOperationField, forceFullScan, partitionName, internalSchema, keyFieldOverride, recordMerger,
         hoodieTableMetaClientOption);
@@ -125,6 +127,8 @@ public class HoodieMergedLogRecordScanner extends AbstractHoodieLogRecordScanner
           new HoodieRecordSizeEstimator(readerSchema), diskMapType, new DefaultSerializer<>(), isBitCaskDiskMapCompressionEnabled, getClass().getSimpleName());
       this.scannedPrefixes = new HashSet<>();
       this.allowInflightInstants = allowInflightInstants;
+      this.logBlockPrefetchParallelism = logBlockPrefetchParallelism;
+      this.logBlockPrefetchMaxBytes = logBlockPrefetchMaxBytes;
       this.orderingFields = ConfigUtils.getOrderingFields(this.hoodieTableMetaClient.getTableConfig().getProps());
       TypedProperties mergeProps = ConfigUtils.getMergeProps(getPayloadProps(), this.hoodieTableMetaClient.getTableConfig());
       this.deleteContext = new DeleteContext(mergeProps, readerSchema).withReaderSchema(readerSchema);
@@ -356,6 +360,9 @@ public class HoodieMergedLogRecordScanner extends AbstractHoodieLogRecordScanner
     protected boolean allowInflightInstants = false;
     private HoodieRecordMerger recordMerger = new HoodiePreCombineAvroRecordMerger();
     protected HoodieTableMetaClient hoodieTableMetaClient;
+    // log block prefetching is disabled by default
+    private int logBlockPrefetchParallelism = 0;
+    private long logBlockPrefetchMaxBytes = 0L;
 
     @Override
     public Builder withStorage(HoodieStorage storage) {
@@ -477,6 +484,19 @@ public class HoodieMergedLogRecordScanner extends AbstractHoodieLogRecordScanner
       return this;
     }
 
+    public Builder withLogBlockPrefetch(int parallelism, long maxBytesInFlight) {
+      this.logBlockPrefetchParallelism = parallelism;
+      this.logBlockPrefetchMaxBytes = maxBytesInFlight;
+      return this;
+    }
+
+    /**
+     * Enables the prefetching of the log block content as configured by the hoodie.log.block.prefetch.* properties.
+     */
+    public Builder withLogBlockPrefetch(TypedProperties props) {
+      return withLogBlockPrefetch(HoodieLogBlockPrefetcher.getParallelism(props), HoodieLogBlockPrefetcher.getMaxBytesInFlight(props));
+    }
+
     @Override
     public HoodieMergedLogRecordScanner build() {
       if (this.partitionName == null && CollectionUtils.nonEmpty(this.logFilePaths)) {
@@ -490,7 +510,7 @@ public class HoodieMergedLogRecordScanner extends AbstractHoodieLogRecordScanner
           bufferSize, spillableMapBasePath, instantRange,
           diskMapType, isBitCaskDiskMapCompressionEnabled, withOperationField, forceFullScan,
           Option.ofNullable(partitionName), internalSchema, Option.ofNullable(keyFieldOverride), recordMerger,
-          Option.ofNullable(hoodieTableMetaClient), allowInflightInstants);
+          Option.ofNullable(hoodieTableMetaClient), allowInflightInstants, logBlockPrefetchParallelism, logBlockPrefetchMaxBytes);
     }
   }
 }
@@ -375,6 +375,22 @@ public abstract class HoodieLogBlock {
     content = Option.empty();
   }
 
+  /**
+   * When lazyReading of blocks is turned on, reads the content of the block ahead of its processing, e.g. from a
+   * prefetching thread. The content is released as usual once the block has been processed.
+   */
+  public void prefetchContent() {
+    if (readBlockLazily && !content.isPresent() && inputStreamSupplier != null && blockContentLocation.isPresent()) {
+      try {
+        inflate();
+      } catch (RuntimeException e) {
+        // Do not leave partially read content behind, the block is then read as usual when processed
+        deflate();
+        throw e;
+      }
+    }
+  }
+
   /**
    * Converts a given map of log metadata into a byte array representation.
    *
@@ -57,6 +57,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
@@ -84,6 +85,8 @@ public final class HoodieFileGroupReader<T> implements Closeable {
   // Core structure to store and process records.
   private HoodieFileGroupRecordBuffer<T> recordBuffer;
   private ClosableIterator<T> baseFileIterator;
+  // Set when the base file is read in batches, the base file iterator then flattens it
+  private ClosableIterator<HoodieRecordBatch<T>> baseFileBatchIterator;
   private final Option<UnaryOperator<T>> outputConverter;
   @Getter
   private final HoodieReadStats readStats;
@@ -218,7 +221,10 @@ public final class HoodieFileGroupReader<T> implements Closeable {
    * Initialize internal iterators on the base and log files.
    */
   private void initRecordIterators() throws IOException {
-    ClosableIterator<T> iter = makeBaseFileIterator();
+    this.baseFileBatchIterator = makeBaseFileBatchIterator().orElse(null);
+    ClosableIterator<T> iter = baseFileBatchIterator != null
+        ? HoodieRecordBatch.flatten(baseFileBatchIterator)
+        : makeBaseFileIterator();
     if (inputSplit.hasNoRecordsToMerge()) {
       this.baseFileIterator = new CloseableMappingIterator<>(iter, rec -> readerContext.getRecordContext().seal(rec));
     } else {
@@ -227,10 +233,37 @@ public final class HoodieFileGroupReader<T> implements Closeable {
           readerContext, storage, inputSplit, orderingFieldNames, metaClient, props, readerParameters, readStats, fileGroupUpdateCallback);
       recordBuffer = initializationResult.getLeft();
       validBlockInstants = initializationResult.getRight();
-      recordBuffer.setBaseFileIterator(baseFileIterator);
+      if (baseFileBatchIterator != null) {
+        // the base file iterator is still closed by this reader
+        recordBuffer.setBaseFileBatchIterator(baseFileBatchIterator);
+      } else {
+        recordBuffer.setBaseFileIterator(baseFileIterator);
+      }
     }
   }
 
+  /**
+   * Reads the base file in batches if supported by the engine, see {@link HoodieReaderContext#getFileBatchIterator}.
+   * The bootstrap base files, incremental reads and position based merging always read the base file record by record.
+   */
+  private Option<ClosableIterator<HoodieRecordBatch<T>>> makeBaseFileBatchIterator() throws IOException {
+    if (!inputSplit.getBaseFileOption().isPresent()
+        || inputSplit.getBaseFileOption().get().getBootstrapBaseFile().isPresent()
+        || readerContext.getInstantRange().isPresent()
+        || readerContext.getShouldMergeUseRecordPosition()) {
+      return Option.empty();
+    }
+    Option<ClosableIterator<HoodieRecordBatch<T>>> batchIterator = readerContext.getFileBatchIterator(
+        inputSplit.getBaseFileOption().get().getStoragePath(), inputSplit.getStart(), inputSplit.getLength(),
+        readerContext.getSchemaHandler().getTableSchema(),
+        readerContext.getSchemaHandler().getRequiredSchema(), storage);
+    if (batchIterator.isPresent()) {
+      this.bufferedRecordConverter = BufferedRecordConverter.createConverter(readerContext.getIteratorMode(),
+          readerContext.getSchemaHandler().getRequiredSchema(), readerContext.getRecordContext(), orderingFieldNames);
+    }
+    return batchIterator;
+  }
+
   private ClosableIterator<T> makeBaseFileIterator() throws IOException {
     if (!inputSplit.getBaseFileOption().isPresent()) {
       return new EmptyIterator<>();
@@ -351,6 +384,23 @@ public final class HoodieFileGroupReader<T> implements Closeable {
     return nextVal;
   }
 
+  /**
+   * @return The next base file batch if it is passed through whole, see {@link HoodieFileGroupRecordBuffer#nextUnmergedBatch};
+   * or empty if the next records have to be read with {@link #hasNext}.
+   */
+  Option<HoodieRecordBatch<T>> nextUnmergedBatch() throws IOException {
+    if (baseFileBatchIterator == null) {
+      return Option.empty();
+    }
+    Option<HoodieRecordBatch<T>> batch;
+    if (recordBuffer == null) {
+      batch = baseFileBatchIterator.hasNext() ? Option.of(baseFileBatchIterator.next()) : Option.empty();
+    } else {
+      batch = recordBuffer.nextUnmergedBatch();
+    }
+    return outputConverter.isPresent() ? batch.map(b -> HoodieRecordBatch.project(b, outputConverter.get())) : batch;
+  }
+
   /**
    * Notifies a write failure with the given record key.
    */
@@ -382,6 +432,17 @@ public final class HoodieFileGroupReader<T> implements Closeable {
     return new CloseableMappingIterator<>(getBufferedRecordIterator(IteratorMode.ENGINE_RECORD), BufferedRecord::getRecord);
   }
 
+  /**
+   * @return An iterator over batches of the engine-specific records. When the base file is read in batches,
+   * see {@link HoodieReaderContext#getFileBatchIterator}, the base file batches without log records are returned
+   * whole, the other records are returned in batches of a single record.
+   */
+  public ClosableIterator<HoodieRecordBatch<T>> getClosableBatchIterator() throws IOException {
+    this.readerContext.setIteratorMode(IteratorMode.ENGINE_RECORD);
+    initRecordIterators();
+    return new HoodieFileGroupReaderBatchIterator<>(this);
+  }
+
   /**
    * @return An iterator over the records that wraps the engine-specific record in a HoodieRecord.
    */
@@ -436,4 +497,58 @@ public final class HoodieFileGroupReader<T> implements Closeable {
       }
     }
   }
+
+  /**
+   * Iterator over the record batches of a {@link HoodieFileGroupReader}, see {@link #getClosableBatchIterator}.
+   */
+  private static class HoodieFileGroupReaderBatchIterator<T> implements ClosableIterator<HoodieRecordBatch<T>> {
+    private HoodieFileGroupReader<T> reader;
+    private HoodieRecordBatch<T> nextBatch;
+
+    private HoodieFileGroupReaderBatchIterator(HoodieFileGroupReader<T> reader) {
+      this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (nextBatch != null) {
+        return true;
+      }
+      try {
+        Option<HoodieRecordBatch<T>> unmergedBatch = reader.nextUnmergedBatch();
+        if (unmergedBatch.isPresent()) {
+          nextBatch = unmergedBatch.get();
+        } else if (reader.hasNext()) {
+          BufferedRecord<T> record = reader.next();
+          nextBatch = HoodieRecordBatch.of(record.getRecordKey(), record.getRecord());
+        }
+      } catch (IOException e) {
+        throw new HoodieIOException("Failed to read record batch", e);
+      }
+      return nextBatch != null;
+    }
+
+    @Override
+    public HoodieRecordBatch<T> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      HoodieRecordBatch<T> batch = nextBatch;
+      nextBatch = null;
+      return batch;
+    }
+
+    @Override
+    public void close() {
+      if (reader != null) {
+        try {
+          reader.close();
+        } catch (IOException e) {
+          throw new HoodieIOException("Failed to close the reader", e);
+        } finally {
+          this.reader = null;
+        }
+      }
+    }
+  }
 }
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.common.table.read;
+
+import org.apache.hudi.common.util.collection.ClosableIterator;
+
+import java.util.NoSuchElementException;
+import java.util.function.UnaryOperator;
+
+/**
+ * A batch of engine-specific records read from a base file, e.g. a columnar batch of rows read by a
+ * vectorized reader, which allows the file group reader to merge the base file with the log records
+ * batch by batch.
+ * <p>
+ * The records returned by {@link #getRecord} may be views over the batch which are only valid until
+ * the next record of the batch is requested; they are sealed by the file group reader when they need
+ * to be retained.
+ *
+ * @param <T> The type of engine-specific record representation, e.g.,{@code InternalRow} in Spark.
+ */
+public interface HoodieRecordBatch<T> {
+
+  /**
+   * @return the number of records in the batch.
+   */
+  int numRows();
+
+  /**
+   * @param rowId index of the record in the batch.
+   * @return the record key of the record.
+   */
+  String getRecordKey(int rowId);
+
+  /**
+   * @param rowId index of the record in the batch.
+   * @return the record, which may be reused by the batch for the next call.
+   */
+  T getRecord(int rowId);
+
+  /**
+   * Returns a batch of a single record, e.g. for a merged record returned among the base file batches.
+   */
+  static <T> HoodieRecordBatch<T> of(String recordKey, T record) {
+    return new HoodieRecordBatch<T>() {
+      @Override
+      public int numRows() {
+        return 1;
+      }
+
+      @Override
+      public String getRecordKey(int rowId) {
+        return recordKey;
+      }
+
+      @Override
+      public T getRecord(int rowId) {
+        return record;
+      }
+    };
+  }
+
+  /**
+   * Returns a view of the batch whose records are converted by the given converter when they are requested.
+   */
+  static <T> HoodieRecordBatch<T> project(HoodieRecordBatch<T> batch, UnaryOperator<T> converter) {
+    return new HoodieRecordBatch<T>() {
+      @Override
+      public int numRows() {
+        return batch.numRows();
+      }
+
+      @Override
+      public String getRecordKey(int rowId) {
+        return batch.getRecordKey(rowId);
+      }
+
+      @Override
+      public T getRecord(int rowId) {
+        return converter.apply(batch.getRecord(rowId));
+      }
+    };
+  }
+
+  /**
+   * Flattens an iterator of record batches into an iterator of their records, for the reads which
+   * do not merge the base file batch by batch.
+   */
+  static <T> ClosableIterator<T> flatten(ClosableIterator<HoodieRecordBatch<T>> batches) {
+    return new ClosableIterator<T>() {
+      private HoodieRecordBatch<T> batch;
+      private int rowId;
+
+      @Override
+      public boolean hasNext() {
+        while (batch == null || rowId >= batch.numRows()) {
+          if (!batches.hasNext()) {
+            return false;
+          }
+          batch = batches.next();
+          rowId = 0;
+        }
+        return true;
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return batch.getRecord(rowId++);
+      }
+
+      @Override
+      public void close() {
+        batches.close();
+      }
+    };
+  }
+}
@@ -188,7 +188,7 @@ public class IncrementalQueryAnalyzer {
         }
       }
       if (!archivedInstantTimes.isEmpty()) {
-        archivedReadTimeline = getArchivedReadTimeline(metaClient, archivedInstantTimes.get(0));
+        archivedReadTimeline = getArchivedReadTimeline(metaClient, archivedInstantTimes.get(0), archivedInstantTimes.get(archivedInstantTimes.size() - 1));
         archivedInstants = archivedReadTimeline.getInstantsAsStream().filter(instant -> instantTimeSet.contains(instant.requestedTime())).collect(Collectors.toList());
       }
       List<String> instants = Stream.concat(archivedInstants.stream(), activeInstants.stream()).map(HoodieInstant::requestedTime).collect(Collectors.toList());
@@ -231,8 +231,14 @@ public class IncrementalQueryAnalyzer {
     return filterInstantsAsPerUserConfigs(metaClient, timeline, this.skipCompaction, this.skipClustering, this.skipInsertOverwrite, this.readCdcFromChangelog);
   }
 
-  private HoodieTimeline getArchivedReadTimeline(HoodieTableMetaClient metaClient, String startInstant) {
-    HoodieArchivedTimeline archivedTimeline = metaClient.getArchivedTimeline(startInstant, false);
+  /**
+   * Loads the archived timeline of the archived instants to read, the archived files without any instant
+   * completed in the query completion time range are skipped.
+   */
+  private HoodieTimeline getArchivedReadTimeline(HoodieTableMetaClient metaClient, String startInstant, String endInstant) {
+    HoodieArchivedTimeline archivedTimeline = metaClient.getTableFormat().getTimelineFactory().createArchivedTimeline(metaClient, false);
+    String startCompletionTimeToPrune = START_COMMIT_EARLIEST.equalsIgnoreCase(startCompletionTime.orElse(null)) ? null : startCompletionTime.orElse(null);
+    archivedTimeline.loadCompletedInstantDetailsInMemory(startInstant, endInstant, startCompletionTimeToPrune, endCompletionTime.orElse(null));
     HoodieTimeline archivedCompleteTimeline = archivedTimeline.getCommitsTimeline().filterCompletedInstants();
     return filterInstantsAsPerUserConfigs(metaClient, archivedCompleteTimeline, this.skipCompaction, this.skipClustering, this.skipInsertOverwrite, this.readCdcFromChangelog);
   }
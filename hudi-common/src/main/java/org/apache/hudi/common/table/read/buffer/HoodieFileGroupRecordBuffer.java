@@ -24,6 +24,7 @@ import org.apache.hudi.common.table.log.KeySpec;
 import org.apache.hudi.common.table.log.block.HoodieDataBlock;
 import org.apache.hudi.common.table.log.block.HoodieDeleteBlock;
 import org.apache.hudi.common.table.read.BufferedRecord;
+import org.apache.hudi.common.table.read.HoodieRecordBatch;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.collection.ClosableIterator;
 
@@ -109,6 +110,33 @@ public interface HoodieFileGroupRecordBuffer<T> {
    */
   void setBaseFileIterator(ClosableIterator<T> baseFileIterator);
 
+  /**
+   * @return true if the base file is merged batch by batch, see {@link #setBaseFileBatchIterator}.
+   */
+  default boolean supportsBatchMerge() {
+    return false;
+  }
+
+  /**
+   * Link the base file batch iterator for consequential merge, in place of the base file iterator.
+   * The buffers which do not merge batch by batch merge the records of the batches one by one.
+   *
+   * @param baseFileBatchIterator
+   */
+  default void setBaseFileBatchIterator(ClosableIterator<HoodieRecordBatch<T>> baseFileBatchIterator) {
+    setBaseFileIterator(HoodieRecordBatch.flatten(baseFileBatchIterator));
+  }
+
+  /**
+   * Returns the next base file batch whole if none of its records has log records, in place of its records.
+   * The buffers which do not merge batch by batch never return a batch.
+   *
+   * @return the next base file batch, or empty if the next records have to be consumed with {@link #hasNext}.
+   */
+  default Option<HoodieRecordBatch<T>> nextUnmergedBatch() throws IOException {
+    return Option.empty();
+  }
+
   /**
    * Check if next merged record exists.
    *
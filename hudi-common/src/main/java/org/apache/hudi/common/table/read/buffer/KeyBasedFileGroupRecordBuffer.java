@@ -34,6 +34,7 @@ import org.apache.hudi.common.table.log.block.HoodieDeleteBlock;
 import org.apache.hudi.common.table.read.BufferedRecord;
 import org.apache.hudi.common.table.read.BufferedRecordMergerFactory;
 import org.apache.hudi.common.table.read.BufferedRecords;
+import org.apache.hudi.common.table.read.HoodieRecordBatch;
 import org.apache.hudi.common.table.read.UpdateProcessor;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.ValidationUtils;
@@ -51,9 +52,20 @@ import java.util.List;
  * by calling the {@link #processDataBlock} and {@link #processDeleteBlock} methods into a record key based map.
  * The records from the base file is accessed from an iterator object. These records are merged when the
  * {@link #hasNext} method is called.
+ * <p>
+ * When the base file is read in batches, see {@link #setBaseFileBatchIterator}, the log records of all the
+ * records of a batch are looked up at once, and only the base records with log records are merged. The batches
+ * without log records can be passed through whole, see {@link #nextUnmergedBatch}.
  */
 public class KeyBasedFileGroupRecordBuffer<T> extends FileGroupRecordBuffer<T> {
 
+  // Set in place of the base file iterator when the base file is merged batch by batch
+  private ClosableIterator<HoodieRecordBatch<T>> baseFileBatchIterator;
+  private HoodieRecordBatch<T> currentBatch;
+  private int nextRowInBatch;
+  // Log records of the records of the current batch by row id, null if none of them has log records
+  private BufferedRecord<T>[] batchLogRecords;
+
   public KeyBasedFileGroupRecordBuffer(HoodieReaderContext<T> readerContext,
                                        HoodieTableMetaClient hoodieTableMetaClient,
                                        RecordMergeMode recordMergeMode,
@@ -69,6 +81,40 @@ public class KeyBasedFileGroupRecordBuffer<T> extends FileGroupRecordBuffer<T> {
     return BufferType.KEY_BASED_MERGE;
   }
 
+  @Override
+  public boolean supportsBatchMerge() {
+    return true;
+  }
+
+  @Override
+  public void setBaseFileBatchIterator(ClosableIterator<HoodieRecordBatch<T>> baseFileBatchIterator) {
+    if (supportsBatchMerge()) {
+      this.baseFileBatchIterator = baseFileBatchIterator;
+    } else {
+      setBaseFileIterator(HoodieRecordBatch.flatten(baseFileBatchIterator));
+    }
+  }
+
+  @Override
+  public Option<HoodieRecordBatch<T>> nextUnmergedBatch() throws IOException {
+    if (baseFileBatchIterator == null || nextRecord != null
+        || (currentBatch != null && nextRowInBatch < currentBatch.numRows())
+        || !baseFileBatchIterator.hasNext()) {
+      return Option.empty();
+    }
+    HoodieRecordBatch<T> batch = baseFileBatchIterator.next();
+    BufferedRecord<T>[] logRecords = lookupLogRecords(batch);
+    if (logRecords == null) {
+      currentBatch = null;
+      return Option.of(batch);
+    }
+    // The batch is merged record by record by #hasNext
+    currentBatch = batch;
+    nextRowInBatch = 0;
+    batchLogRecords = logRecords;
+    return Option.empty();
+  }
+
   @Override
   public void processDataBlock(HoodieDataBlock dataBlock, Option<KeySpec> keySpecOpt) throws IOException {
     Pair<ClosableIterator<T>, HoodieSchema> recordsIteratorSchemaPair =
@@ -140,6 +186,9 @@ public class KeyBasedFileGroupRecordBuffer<T> extends FileGroupRecordBuffer<T> {
 
   @Override
   protected boolean doHasNext() throws IOException {
+    if (baseFileBatchIterator != null) {
+      return doHasNextInBatches();
+    }
     ValidationUtils.checkState(baseFileIterator != null, "Base file iterator has not been set yet");
 
     // Handle merging.
@@ -153,6 +202,56 @@ public class KeyBasedFileGroupRecordBuffer<T> extends FileGroupRecordBuffer<T> {
     return hasNextLogRecord();
   }
 
+  private boolean doHasNextInBatches() throws IOException {
+    while (true) {
+      while (currentBatch != null && nextRowInBatch < currentBatch.numRows()) {
+        int rowId = nextRowInBatch++;
+        BufferedRecord<T> logRecordInfo = batchLogRecords == null ? null : batchLogRecords[rowId];
+        if (logRecordInfo == null) {
+          // The record is not updated, pass it through without copying it
+          nextRecord = bufferedRecordConverter.convert(currentBatch.getRecord(rowId));
+          return true;
+        }
+        T baseRecord = readerContext.getRecordContext().seal(currentBatch.getRecord(rowId));
+        if (hasNextBaseRecord(baseRecord, logRecordInfo)) {
+          return true;
+        }
+      }
+      if (!baseFileBatchIterator.hasNext()) {
+        break;
+      }
+      currentBatch = baseFileBatchIterator.next();
+      nextRowInBatch = 0;
+      batchLogRecords = lookupLogRecords(currentBatch);
+    }
+    currentBatch = null;
+    batchLogRecords = null;
+
+    // Handle records solely from log files.
+    return hasNextLogRecord();
+  }
+
+  /**
+   * Looks up and removes the log records of all the records of a batch.
+   *
+   * @return the log records by row id, or null if none of the records of the batch has log records.
+   */
+  @SuppressWarnings("unchecked")
+  private BufferedRecord<T>[] lookupLogRecords(HoodieRecordBatch<T> batch) {
+    BufferedRecord<T>[] logRecords = null;
+    // Once all the log records are merged, the remaining batches are passed through without reading their keys
+    for (int rowId = 0; rowId < batch.numRows() && !records.isEmpty(); rowId++) {
+      BufferedRecord<T> logRecordInfo = records.remove(batch.getRecordKey(rowId));
+      if (logRecordInfo != null) {
+        if (logRecords == null) {
+          logRecords = new BufferedRecord[batch.numRows()];
+        }
+        logRecords[rowId] = logRecordInfo;
+      }
+    }
+    return logRecords;
+  }
+
   public boolean isPartialMergingEnabled() {
     return enablePartialMerging;
   }
@@ -50,6 +50,7 @@ abstract class LogScanningRecordBufferLoader {
         .withRecordBuffer(recordBuffer)
         .withAllowInflightInstants(readerParameters.isInflightInstantsAllowed())
         .withMetaClient(hoodieTableMetaClient)
+        .withLogBlockPrefetch(props)
         .build()) {
       readStats.setTotalLogReadTimeMs(logRecordReader.getTotalTimeTakenToReadAndMergeBlocks());
       readStats.setTotalUpdatedRecordsCompacted(logRecordReader.getNumMergedRecordsInLog());
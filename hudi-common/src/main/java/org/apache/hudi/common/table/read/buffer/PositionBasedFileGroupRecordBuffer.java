@@ -86,6 +86,11 @@ public class PositionBasedFileGroupRecordBuffer<T> extends KeyBasedFileGroupReco
     return readerContext.getShouldMergeUseRecordPosition() ? BufferType.POSITION_BASED_MERGE : super.getBufferType();
   }
 
+  @Override
+  public boolean supportsBatchMerge() {
+    return false;
+  }
+
   @Override
   public void processDataBlock(HoodieDataBlock dataBlock, Option<KeySpec> keySpecOpt) throws IOException {
     if (!readerContext.getShouldMergeUseRecordPosition()) {
@@ -56,6 +56,12 @@ class SortedKeyBasedFileGroupRecordBuffer<T> extends KeyBasedFileGroupRecordBuff
     super(readerContext, hoodieTableMetaClient, recordMergeMode, partialUpdateModeOpt, props, orderingFieldNames, updateProcessor);
   }
 
+  @Override
+  public boolean supportsBatchMerge() {
+    // the base records and log records are joined in record key order
+    return false;
+  }
+
   @Override
   protected void initializeLogRecordIterator() {
     logRecordIterator = records.values().stream().sorted(Comparator.comparing(BufferedRecord::getRecordKey)).iterator();
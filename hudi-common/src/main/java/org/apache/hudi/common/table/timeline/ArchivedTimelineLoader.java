@@ -18,6 +18,7 @@
 
 package org.apache.hudi.common.table.timeline;
 
+import org.apache.hudi.common.model.HoodieLSMTimelineManifest;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
 import org.apache.hudi.common.util.Option;
 
@@ -28,6 +29,7 @@ import javax.annotation.Nullable;
 import java.io.Serializable;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 public interface ArchivedTimelineLoader extends Serializable {
 
@@ -68,6 +70,31 @@ public interface ArchivedTimelineLoader extends Serializable {
     loadInstants(metaClient, filter, loadMode, commitsFilter, recordConsumer);
   }
 
+  /**
+   * Loads the instants from the timeline, skipping the files whose manifest entries do not match the file filter.
+   * The manifest entries record the completion time range and the actions of the instants in the files,
+   * see {@link HoodieLSMTimelineManifest.LSMFileEntry}, so the filter can prune the files without opening them.
+   *
+   * @param metaClient     The meta client.
+   * @param filter         The time range filter where the target instant belongs to.
+   * @param fileFilter     Filter of the manifest file entries, the files may contain the target instants.
+   * @param loadMode       The load mode.
+   * @param commitsFilter  Filter of the instant type.
+   * @param recordConsumer Consumer of the instant record payload.
+   * @param limit          Optional maximum number of instants to load. Empty for no limit.
+   */
+  default void loadInstants(
+      HoodieTableMetaClient metaClient,
+      @Nullable HoodieArchivedTimeline.TimeRangeFilter filter,
+      Predicate<HoodieLSMTimelineManifest.LSMFileEntry> fileFilter,
+      HoodieArchivedTimeline.LoadMode loadMode,
+      Function<GenericRecord, Boolean> commitsFilter,
+      BiConsumer<String, GenericRecord> recordConsumer,
+      Option<Integer> limit) {
+    // Default implementation does not prune the files
+    loadInstants(metaClient, filter, loadMode, commitsFilter, recordConsumer, limit);
+  }
+
   /**
    * Loads all the instants from the files in the timeline that match the given range filter
    *
@@ -83,4 +110,25 @@ public interface ArchivedTimelineLoader extends Serializable {
         HoodieArchivedTimeline.LoadMode loadMode,
         BiConsumer<String, GenericRecord> recordConsumer
   );
+
+  /**
+   * Loads all the instants from the files in the timeline that match the given range filter,
+   * skipping the files whose manifest entries do not match the file filter.
+   *
+   * @param metaClient     The meta client.
+   * @param rangeFilter    The time range filter for limiting the files to be loaded.
+   * @param fileFilter     Filter of the manifest file entries, the files may contain the target instants.
+   * @param loadMode       The load mode.
+   * @param recordConsumer Consumer of the instant record payload.
+   * @return the last instant time loaded or empty if no instant is loaded.
+   */
+  default Option<String> loadAllInstantsFromFilesInRange(
+      HoodieTableMetaClient metaClient,
+      HoodieArchivedTimeline.TimeRangeFilter rangeFilter,
+      Predicate<HoodieLSMTimelineManifest.LSMFileEntry> fileFilter,
+      HoodieArchivedTimeline.LoadMode loadMode,
+      BiConsumer<String, GenericRecord> recordConsumer) {
+    // Default implementation does not prune the files
+    return loadAllInstantsFromFilesInRange(metaClient, rangeFilter, loadMode, recordConsumer);
+  }
 }
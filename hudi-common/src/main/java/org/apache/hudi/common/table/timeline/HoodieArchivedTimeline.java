@@ -18,6 +18,8 @@
 
 package org.apache.hudi.common.table.timeline;
 
+import javax.annotation.Nullable;
+
 import static org.apache.hudi.common.table.timeline.InstantComparison.GREATER_THAN_OR_EQUALS;
 import static org.apache.hudi.common.table.timeline.InstantComparison.compareTimestamps;
 
@@ -33,6 +35,15 @@ public interface HoodieArchivedTimeline extends HoodieTimeline {
 
   void loadCompletedInstantDetailsInMemory(int limit);
 
+  /**
+   * Loads the completed instants in range [startTs, endTs] which completed in range [startCompletionTime, endCompletionTime],
+   * the null completion time boundaries are unbounded. The archived files without any instant completed in the
+   * completion time range may be skipped without being read.
+   */
+  default void loadCompletedInstantDetailsInMemory(String startTs, String endTs, @Nullable String startCompletionTime, @Nullable String endCompletionTime) {
+    loadCompletedInstantDetailsInMemory(startTs, endTs);
+  }
+
   void loadCompactionDetailsInMemory(String compactionInstantTime);
 
   void loadCompactionDetailsInMemory(String startTs, String endTs);
@@ -170,6 +170,18 @@ public interface HoodieTimeline extends HoodieInstantReader, Serializable {
     return readInstantContent(instant, org.apache.hudi.common.model.HoodieCommitMetadata.class);
   }
 
+  /**
+   * Read the view of commit or replacecommit metadata from an instant, with the partitions, file IDs and totals
+   * of the write stats but without materializing the write stats.
+   *
+   * @param instant the instant to read
+   * @return the view of the commit metadata
+   */
+  default org.apache.hudi.common.model.HoodieCommitMetadataView readCommitMetadataView(HoodieInstant instant)
+      throws IOException {
+    return readInstantContent(instant, org.apache.hudi.common.model.HoodieCommitMetadataView.class);
+  }
+
   /**
    * Read and deserialize replacecommit metadata from an instant
    *
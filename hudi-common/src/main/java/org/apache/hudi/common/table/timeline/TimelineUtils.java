@@ -179,18 +179,13 @@ public class TimelineUtils {
         case COMMIT_ACTION:
         case DELTA_COMMIT_ACTION:
           try {
-            HoodieCommitMetadata commitMetadata = timeline.readCommitMetadata(s);
-            return commitMetadata.getPartitionToWriteStats().keySet().stream();
+            return timeline.readCommitMetadataView(s).getWritePartitionPaths().stream();
           } catch (IOException e) {
             throw new HoodieIOException("Failed to get partitions written at " + s, e);
           }
         case REPLACE_COMMIT_ACTION:
           try {
-            HoodieReplaceCommitMetadata commitMetadata = timeline.readReplaceCommitMetadata(s);
-            Set<String> partitions = new HashSet<>();
-            partitions.addAll(commitMetadata.getPartitionToReplaceFileIds().keySet());
-            partitions.addAll(commitMetadata.getPartitionToWriteStats().keySet());
-            return partitions.stream();
+            return timeline.readCommitMetadataView(s).getPartitionPaths().stream();
           } catch (IOException e) {
             throw new HoodieIOException("Failed to get partitions modified at " + s, e);
           }
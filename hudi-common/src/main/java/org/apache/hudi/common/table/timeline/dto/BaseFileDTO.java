@@ -24,6 +24,10 @@ import org.apache.hudi.common.model.HoodieBaseFile;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * The data transfer object of data file.
  */
@@ -96,4 +100,23 @@ public class BaseFileDTO {
     return dto;
   }
 
+  public static void write(DataOutput out, BaseFileDTO dto) throws IOException {
+    BinaryDTOCodec.writeNullable(out, dto.fileStatus, FileStatusDTO::write);
+    BinaryDTOCodec.writeString(out, dto.fullPath);
+    out.writeLong(dto.fileLen);
+    BinaryDTOCodec.writeString(out, dto.commitTime);
+    BinaryDTOCodec.writeString(out, dto.fileId);
+    BinaryDTOCodec.writeNullable(out, dto.bootstrapBaseFile, BaseFileDTO::write);
+  }
+
+  public static BaseFileDTO read(DataInput in) throws IOException {
+    BaseFileDTO dto = new BaseFileDTO();
+    dto.fileStatus = BinaryDTOCodec.readNullable(in, FileStatusDTO::read);
+    dto.fullPath = BinaryDTOCodec.readString(in);
+    dto.fileLen = in.readLong();
+    dto.commitTime = BinaryDTOCodec.readString(in);
+    dto.fileId = BinaryDTOCodec.readString(in);
+    dto.bootstrapBaseFile = BinaryDTOCodec.readNullable(in, BaseFileDTO::read);
+    return dto;
+  }
 }
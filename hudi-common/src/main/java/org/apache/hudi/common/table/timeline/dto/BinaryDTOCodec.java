@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.common.table.timeline.dto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Binary encoding of lists of data transfer objects, used by the timeline server as a compact
+ * alternative to JSON for the responses with many file slices or base files.
+ * <p>
+ * The encoded stream starts with a magic number and a format version, followed by the records,
+ * each prefixed by its length, and ends with a negative length. The length prefix lets the readers
+ * skip the fields appended to the records by newer writers, and lets the records be decoded one by
+ * one while the stream is received.
+ */
+public class BinaryDTOCodec {
+
+  public static final String CONTENT_TYPE = "application/x-hoodie-dto";
+
+  private static final int MAGIC = 0x48444454;
+  private static final int VERSION = 1;
+  private static final int END_OF_RECORDS = -1;
+  // Size of the encoded records buffered before being returned by the encoding stream
+  private static final int ENCODING_CHUNK_SIZE = 64 * 1024;
+
+  /**
+   * Writes the fields of a data transfer object.
+   */
+  @FunctionalInterface
+  public interface Writer<T> {
+    void write(DataOutput out, T dto) throws IOException;
+  }
+
+  /**
+   * Reads the fields of a data transfer object written by a {@link Writer}.
+   */
+  @FunctionalInterface
+  public interface Reader<T> {
+    T read(DataInput in) throws IOException;
+  }
+
+  /**
+   * Returns a stream of the encoded data transfer objects. The objects are encoded lazily as the
+   * stream is read, so that the encoded records are never materialized all at once.
+   */
+  public static <T> InputStream encode(List<T> dtos, Writer<T> writer) {
+    return new EncodingInputStream<>(dtos.iterator(), writer);
+  }
+
+  /**
+   * Decodes the data transfer objects from the stream, converting each of them as soon as it is
+   * received.
+   */
+  public static <T, R> List<R> decode(InputStream in, Reader<T> reader, Function<T, R> converter) throws IOException {
+    DataInputStream input = new DataInputStream(in);
+    if (input.readInt() != MAGIC) {
+      throw new IOException("Invalid encoded data transfer objects");
+    }
+    int version = input.readInt();
+    if (version > VERSION) {
+      throw new IOException("Unsupported version of encoded data transfer objects: " + version);
+    }
+    List<R> result = new ArrayList<>();
+    RecordInputStream recordInput = new RecordInputStream();
+    DataInputStream record = new DataInputStream(recordInput);
+    byte[] buffer = new byte[1024];
+    int length;
+    while ((length = input.readInt()) != END_OF_RECORDS) {
+      if (length > buffer.length) {
+        buffer = new byte[Math.max(length, buffer.length * 2)];
+      }
+      input.readFully(buffer, 0, length);
+      recordInput.reset(buffer, length);
+      result.add(converter.apply(reader.read(record)));
+    }
+    return result;
+  }
+
+  static void writeString(DataOutput out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+    } else {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+  }
+
+  static String readString(DataInput in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  static <T> void writeNullable(DataOutput out, T dto, Writer<T> writer) throws IOException {
+    out.writeBoolean(dto != null);
+    if (dto != null) {
+      writer.write(out, dto);
+    }
+  }
+
+  static <T> T readNullable(DataInput in, Reader<T> reader) throws IOException {
+    return in.readBoolean() ? reader.read(in) : null;
+  }
+
+  /**
+   * An {@link InputStream} encoding the records chunk by chunk as they are consumed.
+   */
+  private static class EncodingInputStream<T> extends InputStream {
+    private final Iterator<T> dtos;
+    private final Writer<T> writer;
+    private final ChunkOutputStream chunk = new ChunkOutputStream();
+    private final DataOutputStream out = new DataOutputStream(chunk);
+    private boolean started = false;
+    private boolean finished = false;
+    private int position = 0;
+
+    EncodingInputStream(Iterator<T> dtos, Writer<T> writer) {
+      this.dtos = dtos;
+      this.writer = writer;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (!ensureAvailable()) {
+        return -1;
+      }
+      return chunk.byteAt(position++);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      if (len == 0) {
+        return 0;
+      }
+      if (!ensureAvailable()) {
+        return -1;
+      }
+      int numBytes = Math.min(len, chunk.size() - position);
+      chunk.copyTo(position, b, off, numBytes);
+      position += numBytes;
+      return numBytes;
+    }
+
+    private boolean ensureAvailable() throws IOException {
+      if (position < chunk.size()) {
+        return true;
+      }
+      if (finished) {
+        return false;
+      }
+      chunk.reset();
+      position = 0;
+      if (!started) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        started = true;
+      }
+      while (chunk.size() < ENCODING_CHUNK_SIZE && dtos.hasNext()) {
+        // Reserves the length prefix, filled in once the record is written
+        int lengthOffset = chunk.size();
+        out.writeInt(0);
+        writer.write(out, dtos.next());
+        chunk.setInt(lengthOffset, chunk.size() - lengthOffset - Integer.BYTES);
+      }
+      if (!dtos.hasNext()) {
+        out.writeInt(END_OF_RECORDS);
+        finished = true;
+      }
+      return true;
+    }
+  }
+
+  /**
+   * A {@link ByteArrayOutputStream} giving access to its buffer.
+   */
+  private static class ChunkOutputStream extends ByteArrayOutputStream {
+    ChunkOutputStream() {
+      super(ENCODING_CHUNK_SIZE + 1024);
+    }
+
+    int byteAt(int index) {
+      return buf[index] & 0xFF;
+    }
+
+    void copyTo(int index, byte[] dest, int destIndex, int length) {
+      System.arraycopy(buf, index, dest, destIndex, length);
+    }
+
+    void setInt(int index, int value) {
+      buf[index] = (byte) (value >>> 24);
+      buf[index + 1] = (byte) (value >>> 16);
+      buf[index + 2] = (byte) (value >>> 8);
+      buf[index + 3] = (byte) value;
+    }
+  }
+
+  /**
+   * A {@link ByteArrayInputStream} reused for reading all the records.
+   */
+  private static class RecordInputStream extends ByteArrayInputStream {
+    RecordInputStream() {
+      super(new byte[0]);
+    }
+
+    void reset(byte[] buffer, int length) {
+      this.buf = buffer;
+      this.pos = 0;
+      this.count = length;
+      this.mark = 0;
+    }
+  }
+}
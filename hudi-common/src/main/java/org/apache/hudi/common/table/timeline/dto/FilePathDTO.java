@@ -23,6 +23,9 @@ import org.apache.hudi.storage.StoragePath;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 
@@ -55,4 +58,14 @@ public class FilePathDTO {
       throw new RuntimeException(e);
     }
   }
+
+  public static void write(DataOutput out, FilePathDTO dto) throws IOException {
+    BinaryDTOCodec.writeString(out, dto.uri);
+  }
+
+  public static FilePathDTO read(DataInput in) throws IOException {
+    FilePathDTO dto = new FilePathDTO();
+    dto.uri = BinaryDTOCodec.readString(in);
+    return dto;
+  }
 }
@@ -23,6 +23,10 @@ import org.apache.hudi.common.model.FileSlice;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -59,4 +63,29 @@ public class FileSliceDTO {
     dto.logFiles.stream().forEach(lf -> slice.addLogFile(LogFileDTO.toHoodieLogFile(lf)));
     return slice;
   }
+
+  public static void write(DataOutput out, FileSliceDTO dto) throws IOException {
+    BinaryDTOCodec.writeString(out, dto.partitionPath);
+    BinaryDTOCodec.writeString(out, dto.fileId);
+    BinaryDTOCodec.writeString(out, dto.baseInstantTime);
+    BinaryDTOCodec.writeNullable(out, dto.baseFile, BaseFileDTO::write);
+    out.writeInt(dto.logFiles.size());
+    for (LogFileDTO logFile : dto.logFiles) {
+      LogFileDTO.write(out, logFile);
+    }
+  }
+
+  public static FileSliceDTO read(DataInput in) throws IOException {
+    FileSliceDTO dto = new FileSliceDTO();
+    dto.partitionPath = BinaryDTOCodec.readString(in);
+    dto.fileId = BinaryDTOCodec.readString(in);
+    dto.baseInstantTime = BinaryDTOCodec.readString(in);
+    dto.baseFile = BinaryDTOCodec.readNullable(in, BaseFileDTO::read);
+    int numLogFiles = in.readInt();
+    dto.logFiles = new ArrayList<>(numLogFiles);
+    for (int i = 0; i < numLogFiles; i++) {
+      dto.logFiles.add(LogFileDTO.read(in));
+    }
+    return dto;
+  }
 }
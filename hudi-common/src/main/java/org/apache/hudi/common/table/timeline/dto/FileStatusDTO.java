@@ -23,6 +23,10 @@ import org.apache.hudi.storage.StoragePathInfo;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * The data transfer object of file status.
  */
@@ -65,4 +69,24 @@ public class FileStatusDTO {
     return new StoragePathInfo(
         FilePathDTO.toStoragePath(dto.path), dto.length, dto.isdir, dto.blockReplication, dto.blocksize, dto.modificationTime);
   }
+
+  public static void write(DataOutput out, FileStatusDTO dto) throws IOException {
+    BinaryDTOCodec.writeNullable(out, dto.path, FilePathDTO::write);
+    out.writeLong(dto.length);
+    out.writeBoolean(dto.isdir);
+    out.writeShort(dto.blockReplication);
+    out.writeLong(dto.blocksize);
+    out.writeLong(dto.modificationTime);
+  }
+
+  public static FileStatusDTO read(DataInput in) throws IOException {
+    FileStatusDTO dto = new FileStatusDTO();
+    dto.path = BinaryDTOCodec.readNullable(in, FilePathDTO::read);
+    dto.length = in.readLong();
+    dto.isdir = in.readBoolean();
+    dto.blockReplication = in.readShort();
+    dto.blocksize = in.readLong();
+    dto.modificationTime = in.readLong();
+    return dto;
+  }
 }
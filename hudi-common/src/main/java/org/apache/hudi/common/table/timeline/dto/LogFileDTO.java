@@ -24,6 +24,10 @@ import org.apache.hudi.storage.StoragePathInfo;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
 /**
  * The data transfer object of log file.
  */
@@ -51,4 +55,18 @@ public class LogFileDTO {
     logFile.fileStatus = FileStatusDTO.fromStoragePathInfo(dataFile.getPathInfo());
     return logFile;
   }
+
+  public static void write(DataOutput out, LogFileDTO dto) throws IOException {
+    BinaryDTOCodec.writeNullable(out, dto.fileStatus, FileStatusDTO::write);
+    BinaryDTOCodec.writeString(out, dto.pathStr);
+    out.writeLong(dto.fileLen);
+  }
+
+  public static LogFileDTO read(DataInput in) throws IOException {
+    LogFileDTO dto = new LogFileDTO();
+    dto.fileStatus = BinaryDTOCodec.readNullable(in, FileStatusDTO::read);
+    dto.pathStr = BinaryDTOCodec.readString(in);
+    dto.fileLen = in.readLong();
+    return dto;
+  }
 }
@@ -19,9 +19,11 @@
 package org.apache.hudi.common.table.timeline.versioning.v1;
 
 import org.apache.hudi.common.model.HoodieCommitMetadata;
+import org.apache.hudi.common.model.HoodieCommitMetadataView;
 import org.apache.hudi.common.model.HoodieReplaceCommitMetadata;
 import org.apache.hudi.common.table.timeline.CommitMetadataSerDe;
 import org.apache.hudi.common.table.timeline.HoodieInstant;
+import org.apache.hudi.common.table.timeline.HoodieTimeline;
 import org.apache.hudi.common.util.JsonUtils;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.storage.HoodieInstantWriter;
@@ -42,6 +44,13 @@ public class CommitMetadataSerDeV1 implements CommitMetadataSerDe {
   @Override
   public <T> T deserialize(HoodieInstant instant, InputStream inputStream, BooleanSupplier isEmptyInstant, Class<T> clazz) throws IOException {
     try {
+      // The commit metadata in JSON can not be partially read, the view is created from the deserialized commit metadata
+      if (HoodieCommitMetadataView.class.isAssignableFrom(clazz)) {
+        boolean isReplaceCommit = HoodieTimeline.REPLACE_COMMIT_ACTION.equals(instant.getAction());
+        HoodieCommitMetadata commitMetadata = JsonUtils.getObjectMapper().readValue(inputStream,
+            isReplaceCommit ? HoodieReplaceCommitMetadata.class : HoodieCommitMetadata.class);
+        return (T) HoodieCommitMetadataView.fromCommitMetadata(commitMetadata);
+      }
       // For commit metadata we need special case handling as they are using serialized to JSON in V1
       if (org.apache.hudi.common.model.HoodieCommitMetadata.class.isAssignableFrom(clazz)) {
         return JsonUtils.getObjectMapper().readValue(inputStream, clazz);
@@ -19,6 +19,7 @@
 package org.apache.hudi.common.table.timeline.versioning.v2;
 
 import org.apache.hudi.avro.model.HoodieLSMTimelineInstant;
+import org.apache.hudi.common.model.HoodieLSMTimelineManifest;
 import org.apache.hudi.common.model.HoodieRecord;
 import org.apache.hudi.common.schema.HoodieSchema;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
@@ -46,6 +47,7 @@ import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -71,10 +73,21 @@ public class ArchivedTimelineLoaderV2 implements ArchivedTimelineLoader {
                            Function<GenericRecord, Boolean> commitsFilter,
                            BiConsumer<String, GenericRecord> recordConsumer,
                            Option<Integer> limit) {
+    loadInstants(metaClient, filter, fileEntry -> true, loadMode, commitsFilter, recordConsumer, limit);
+  }
+
+  @Override
+  public void loadInstants(HoodieTableMetaClient metaClient,
+                           @Nullable HoodieArchivedTimeline.TimeRangeFilter filter,
+                           Predicate<HoodieLSMTimelineManifest.LSMFileEntry> fileFilter,
+                           HoodieArchivedTimeline.LoadMode loadMode,
+                           Function<GenericRecord, Boolean> commitsFilter,
+                           BiConsumer<String, GenericRecord> recordConsumer,
+                           Option<Integer> limit) {
     try {
       boolean hasLimit = limit.isPresent() && limit.get() > 0;
       AtomicInteger loadedCount = new AtomicInteger(0);
-      List<String> filteredFiles = getFilteredFiles(metaClient, filter);
+      List<String> filteredFiles = getFilteredFiles(metaClient, filter, fileFilter);
 
       // Sort files in reverse chronological order if limit is specified (newest first for limit queries)
       if (hasLimit) {
@@ -117,8 +130,17 @@ public class ArchivedTimelineLoaderV2 implements ArchivedTimelineLoader {
   @Override
   public Option<String> loadAllInstantsFromFilesInRange(HoodieTableMetaClient metaClient, HoodieArchivedTimeline.TimeRangeFilter fileFilter, HoodieArchivedTimeline.LoadMode loadMode,
                                               BiConsumer<String, GenericRecord> recordConsumer) {
+    return loadAllInstantsFromFilesInRange(metaClient, fileFilter, fileEntry -> true, loadMode, recordConsumer);
+  }
+
+  @Override
+  public Option<String> loadAllInstantsFromFilesInRange(HoodieTableMetaClient metaClient,
+                                                        HoodieArchivedTimeline.TimeRangeFilter rangeFilter,
+                                                        Predicate<HoodieLSMTimelineManifest.LSMFileEntry> fileFilter,
+                                                        HoodieArchivedTimeline.LoadMode loadMode,
+                                                        BiConsumer<String, GenericRecord> recordConsumer) {
     try {
-      List<String> filteredFiles = getFilteredFiles(metaClient, fileFilter);
+      List<String> filteredFiles = getFilteredFiles(metaClient, rangeFilter, fileFilter);
       Schema readSchema = LSMTimeline.getReadSchema(loadMode);
       return Option.fromJavaOptional(filteredFiles.parallelStream().map(fileName -> {
         // Read the archived file
@@ -140,10 +162,17 @@ public class ArchivedTimelineLoaderV2 implements ArchivedTimelineLoader {
     }
   }
 
-  private List<String> getFilteredFiles(HoodieTableMetaClient metaClient, HoodieArchivedTimeline.TimeRangeFilter fileFilter) throws IOException {
-    // List all files
-    List<String> fileNames = LSMTimeline.latestSnapshotManifest(metaClient, metaClient.getArchivePath()).getFileNames();
-    return fileNames.stream().filter(fileName -> fileFilter == null || LSMTimeline.isFileInRange(fileFilter, fileName)).collect(Collectors.toList());
+  private List<String> getFilteredFiles(
+      HoodieTableMetaClient metaClient,
+      @Nullable HoodieArchivedTimeline.TimeRangeFilter rangeFilter,
+      Predicate<HoodieLSMTimelineManifest.LSMFileEntry> fileFilter) throws IOException {
+    // List all files, the files are pruned by the instant time range in the file names and the statistics in the manifest entries
+    List<HoodieLSMTimelineManifest.LSMFileEntry> fileEntries = LSMTimeline.latestSnapshotManifest(metaClient, metaClient.getArchivePath()).getFiles();
+    return fileEntries.stream()
+        .filter(fileEntry -> rangeFilter == null || LSMTimeline.isFileInRange(rangeFilter, fileEntry.getFileName()))
+        .filter(fileFilter)
+        .map(HoodieLSMTimelineManifest.LSMFileEntry::getFileName)
+        .collect(Collectors.toList());
   }
 
   private ClosableIterator<IndexedRecord> getArchivedInstantIterator(HoodieTableMetaClient metaClient, String fileName, Schema readSchema) throws IOException {
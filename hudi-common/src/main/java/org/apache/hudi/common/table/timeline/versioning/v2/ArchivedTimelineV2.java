@@ -18,6 +18,7 @@
 
 package org.apache.hudi.common.table.timeline.versioning.v2;
 
+import org.apache.hudi.common.model.HoodieLSMTimelineManifest;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
 import org.apache.hudi.common.table.timeline.ArchivedTimelineLoader;
 import org.apache.hudi.common.table.timeline.HoodieArchivedTimeline;
@@ -32,6 +33,8 @@ import org.apache.avro.generic.GenericRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
+
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -44,6 +47,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import static org.apache.hudi.common.table.timeline.InstantComparison.LESSER_THAN;
 import static org.apache.hudi.common.table.timeline.TimelineUtils.getInputStreamOptionLegacy;
@@ -59,6 +63,10 @@ public class ArchivedTimelineV2 extends BaseTimelineV2 implements HoodieArchived
 
   private static final Logger LOG = LoggerFactory.getLogger(HoodieArchivedTimeline.class);
 
+  // the compaction plans are archived with the commit instants
+  private static final Predicate<HoodieLSMTimelineManifest.LSMFileEntry> COMMIT_FILES_FILTER =
+      fileEntry -> fileEntry.mayContainAnyAction(Collections.singleton(COMMIT_ACTION));
+
   /**
    * Used for loading the archived timeline incrementally, the earliest loaded instant time get memorized
    * each time the timeline is loaded. The instant time is then used as the end boundary
@@ -147,7 +155,7 @@ public class ArchivedTimelineV2 extends BaseTimelineV2 implements HoodieArchived
 
   public void loadCompactionDetailsInMemory(String startTs, String endTs) {
     // load compactionPlan
-    List<HoodieInstant> loadedInstants = loadInstants(new HoodieArchivedTimeline.TimeRangeFilter(startTs, endTs), HoodieArchivedTimeline.LoadMode.PLAN,
+    List<HoodieInstant> loadedInstants = loadInstants(new HoodieArchivedTimeline.TimeRangeFilter(startTs, endTs), COMMIT_FILES_FILTER, HoodieArchivedTimeline.LoadMode.PLAN,
         record -> record.get(ACTION_ARCHIVED_META_FIELD).toString().equals(COMMIT_ACTION)
             && record.get(PLAN_ARCHIVED_META_FIELD) != null
     );
@@ -156,7 +164,7 @@ public class ArchivedTimelineV2 extends BaseTimelineV2 implements HoodieArchived
 
   @Override
   public void loadCompactionDetailsInMemory(int limit) {
-    loadAndCacheInstantsWithLimit(limit, HoodieArchivedTimeline.LoadMode.PLAN,
+    loadAndCacheInstantsWithLimit(limit, COMMIT_FILES_FILTER, HoodieArchivedTimeline.LoadMode.PLAN,
         record -> record.get(ACTION_ARCHIVED_META_FIELD).toString().equals(COMMIT_ACTION)
             && record.get(PLAN_ARCHIVED_META_FIELD) != null
     );
@@ -168,9 +176,16 @@ public class ArchivedTimelineV2 extends BaseTimelineV2 implements HoodieArchived
     appendLoadedInstants(loadedInstants);
   }
 
+  @Override
+  public void loadCompletedInstantDetailsInMemory(String startTs, String endTs, @Nullable String startCompletionTime, @Nullable String endCompletionTime) {
+    List<HoodieInstant> loadedInstants = loadInstants(new HoodieArchivedTimeline.ClosedClosedTimeRangeFilter(startTs, endTs),
+        fileEntry -> fileEntry.mayContainCompletionTimeInRange(startCompletionTime, endCompletionTime), HoodieArchivedTimeline.LoadMode.METADATA, r -> true);
+    appendLoadedInstants(loadedInstants);
+  }
+
   @Override
   public void loadCompletedInstantDetailsInMemory(int limit) {
-    loadAndCacheInstantsWithLimit(limit, HoodieArchivedTimeline.LoadMode.METADATA, r -> true);
+    loadAndCacheInstantsWithLimit(limit, fileEntry -> true, HoodieArchivedTimeline.LoadMode.METADATA, r -> true);
   }
 
   @Override
@@ -256,7 +271,7 @@ public class ArchivedTimelineV2 extends BaseTimelineV2 implements HoodieArchived
   }
 
   private List<HoodieInstant> loadInstants(HoodieArchivedTimeline.TimeRangeFilter filter, HoodieArchivedTimeline.LoadMode loadMode) {
-    return loadInstants(filter, loadMode, r -> true);
+    return loadInstants(filter, fileEntry -> true, loadMode, r -> true);
   }
 
   /**
@@ -264,14 +279,16 @@ public class ArchivedTimelineV2 extends BaseTimelineV2 implements HoodieArchived
    * If loadInstantDetails is set to true, this would also update 'readCommits' map with commit details
    * If filter is specified, only the filtered instants are loaded
    * If commitsFilter is specified, only the filtered records are loaded.
+   * The files not matching the fileFilter are skipped without being read.
    */
   private List<HoodieInstant> loadInstants(
       HoodieArchivedTimeline.TimeRangeFilter filter,
+      Predicate<HoodieLSMTimelineManifest.LSMFileEntry> fileFilter,
       HoodieArchivedTimeline.LoadMode loadMode,
       Function<GenericRecord, Boolean> commitsFilter) {
     Map<String, HoodieInstant> instantsInRange = new ConcurrentHashMap<>();
     Option<BiConsumer<String, GenericRecord>> instantDetailsConsumer = Option.ofNullable(getInstantDetailsFunc(loadMode));
-    timelineLoader.loadInstants(metaClient, filter, loadMode, commitsFilter,
+    timelineLoader.loadInstants(metaClient, filter, fileFilter, loadMode, commitsFilter,
         (instantTime, avroRecord) -> instantsInRange.putIfAbsent(instantTime, readCommit(instantTime, avroRecord, instantDetailsConsumer)), Option.empty());
     List<HoodieInstant> result = new ArrayList<>(instantsInRange.values());
     Collections.sort(result);
@@ -282,11 +299,11 @@ public class ArchivedTimelineV2 extends BaseTimelineV2 implements HoodieArchived
    * Loads instants with a limit on the number of instants to load.
    * This is used for limit-based loading where we only want to load the N most recent instants.
    */
-  private void loadAndCacheInstantsWithLimit(int limit, HoodieArchivedTimeline.LoadMode loadMode,
-      Function<GenericRecord, Boolean> commitsFilter) {
+  private void loadAndCacheInstantsWithLimit(int limit, Predicate<HoodieLSMTimelineManifest.LSMFileEntry> fileFilter,
+      HoodieArchivedTimeline.LoadMode loadMode, Function<GenericRecord, Boolean> commitsFilter) {
     Map<String, HoodieInstant> instantsInRange = new ConcurrentHashMap<>();
     Option<BiConsumer<String, GenericRecord>> instantDetailsConsumer = Option.ofNullable(getInstantDetailsFunc(loadMode));
-    timelineLoader.loadInstants(metaClient, null, loadMode, commitsFilter,
+    timelineLoader.loadInstants(metaClient, null, fileFilter, loadMode, commitsFilter,
         (instantTime, avroRecord) -> instantsInRange.putIfAbsent(instantTime, readCommit(instantTime, avroRecord, instantDetailsConsumer)), Option.of(limit));
     List<HoodieInstant> collectedInstants = new ArrayList<>(instantsInRange.values());
     Collections.sort(collectedInstants);
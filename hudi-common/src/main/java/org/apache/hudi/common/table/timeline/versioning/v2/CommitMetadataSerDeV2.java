@@ -20,14 +20,21 @@ package org.apache.hudi.common.table.timeline.versioning.v2;
 
 import org.apache.hudi.avro.model.HoodieReplaceCommitMetadata;
 import org.apache.hudi.common.model.HoodieCommitMetadata;
+import org.apache.hudi.common.model.HoodieCommitMetadataView;
 import org.apache.hudi.common.table.timeline.CommitMetadataSerDe;
 import org.apache.hudi.common.table.timeline.HoodieInstant;
+import org.apache.hudi.common.table.timeline.HoodieTimeline;
 import org.apache.hudi.common.table.timeline.MetadataConversionUtils;
 import org.apache.hudi.common.table.timeline.versioning.v1.CommitMetadataSerDeV1;
 import org.apache.hudi.common.util.JsonUtils;
 import org.apache.hudi.common.util.Option;
+import org.apache.hudi.common.util.ValidationUtils;
 import org.apache.hudi.storage.HoodieInstantWriter;
 
+import org.apache.avro.Schema;
+import org.apache.avro.file.DataFileStream;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
 import org.apache.avro.specific.SpecificRecordBase;
 
 import java.io.IOException;
@@ -39,6 +46,11 @@ import static org.apache.hudi.common.table.timeline.TimelineMetadataUtils.deseri
 
 public class CommitMetadataSerDeV2 implements CommitMetadataSerDe {
 
+  private static final Schema COMMIT_METADATA_VIEW_SCHEMA =
+      HoodieCommitMetadataView.getProjectedSchema(org.apache.hudi.avro.model.HoodieCommitMetadata.getClassSchema());
+  private static final Schema REPLACE_COMMIT_METADATA_VIEW_SCHEMA =
+      HoodieCommitMetadataView.getProjectedSchema(HoodieReplaceCommitMetadata.getClassSchema());
+
   /**
    * Convert commit metadata from avro to pojo.
    */
@@ -59,6 +71,9 @@ public class CommitMetadataSerDeV2 implements CommitMetadataSerDe {
           throw new IOException("unable to read legacy commit metadata for instant " + instant, e);
         }
       }
+      if (HoodieCommitMetadataView.class.isAssignableFrom(clazz)) {
+        return (T) deserializeCommitMetadataView(instant, inputStream);
+      }
       // For commit metadata and replace commit metadata need special case handling since it requires in memory object in POJO form.
       if (org.apache.hudi.common.model.HoodieReplaceCommitMetadata.class.isAssignableFrom(clazz)) {
         return (T) convertReplaceCommitMetadataToPojo(
@@ -89,6 +104,20 @@ public class CommitMetadataSerDeV2 implements CommitMetadataSerDe {
     }
   }
 
+  /**
+   * Reads the commit metadata with the projected schema of {@link HoodieCommitMetadataView},
+   * the write stat fields not in the projection are skipped without being materialized.
+   */
+  private static HoodieCommitMetadataView deserializeCommitMetadataView(HoodieInstant instant, InputStream inputStream) throws IOException {
+    boolean isReplaceCommit = HoodieTimeline.REPLACE_COMMIT_ACTION.equals(instant.getAction())
+        || HoodieTimeline.CLUSTERING_ACTION.equals(instant.getAction());
+    Schema readerSchema = isReplaceCommit ? REPLACE_COMMIT_METADATA_VIEW_SCHEMA : COMMIT_METADATA_VIEW_SCHEMA;
+    try (DataFileStream<GenericRecord> fileReader = new DataFileStream<>(inputStream, new GenericDatumReader<>(readerSchema))) {
+      ValidationUtils.checkArgument(fileReader.hasNext(), "Could not deserialize commit metadata view of instant " + instant);
+      return HoodieCommitMetadataView.fromAvroRecord(fileReader.next());
+    }
+  }
+
   @Override
   public <T> Option<HoodieInstantWriter> getInstantWriter(T metadata) {
     if (metadata instanceof org.apache.hudi.common.model.HoodieCommitMetadata) {
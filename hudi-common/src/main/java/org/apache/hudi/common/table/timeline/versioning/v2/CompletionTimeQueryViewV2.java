@@ -32,13 +32,17 @@ import org.apache.hudi.common.util.VisibleForTesting;
 import lombok.Getter;
 import org.apache.avro.generic.GenericRecord;
 
+import javax.annotation.Nullable;
+
 import java.io.Serializable;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -77,6 +81,12 @@ public class CompletionTimeQueryViewV2 implements CompletionTimeQueryView, Seria
   @Getter
   private volatile String cursorInstant;
 
+  /**
+   * The names of the archived files whose completion times have been loaded.
+   * The files before the cursor instant may also have been loaded by the queries of completion time range.
+   */
+  private final Set<String> loadedArchivedFiles;
+
   /**
    * The first write instant on the active timeline, used for query optimization.
    */
@@ -90,6 +100,7 @@ public class CompletionTimeQueryViewV2 implements CompletionTimeQueryView, Seria
   public CompletionTimeQueryViewV2(HoodieTableMetaClient metaClient) {
     this.metaClient = metaClient;
     this.instantTimeToCompletionTimeMap = new ConcurrentHashMap<>();
+    this.loadedArchivedFiles = ConcurrentHashMap.newKeySet();
     this.cursorInstant = metaClient.getActiveTimeline().firstInstant().map(HoodieInstant::requestedTime).orElse("");
     // Note: use getWriteTimeline() to keep sync with the fs view visibleCommitsAndCompactionTimeline, see AbstractTableFileSystemView.refreshTimeline.
     this.firstNonSavepointCommit = metaClient.getActiveTimeline().getWriteTimeline().getFirstNonSavepointCommit().map(HoodieInstant::requestedTime).orElse("");
@@ -227,9 +238,9 @@ public class CompletionTimeQueryViewV2 implements CompletionTimeQueryView, Seria
       earliestInstantToLoad = earliestInstantTimeFunc.apply(endCompletionTime.get());
     }
 
-    // ensure the earliest instant boundary be loaded.
+    // ensure the instants completed in the range from the earliest instant boundary be loaded.
     if (earliestInstantToLoad != null && InstantComparison.compareTimestamps(this.cursorInstant, GREATER_THAN, earliestInstantToLoad)) {
-      loadCompletionTimeIncrementally(earliestInstantToLoad);
+      loadCompletionTimeIncrementally(earliestInstantToLoad, startFromEarliest ? null : startCompletionTime.orElse(null), endCompletionTime.orElse(null));
     }
 
     if (startCompletionTime.isEmpty() && endCompletionTime.isPresent()) {
@@ -278,16 +289,41 @@ public class CompletionTimeQueryViewV2 implements CompletionTimeQueryView, Seria
    * @param startTime The start time of the instant.
    */
   private void loadCompletionTimeIncrementally(String startTime) {
+    loadCompletionTimeIncrementally(startTime, null, null);
+  }
+
+  /**
+   * Loads the completion times incrementally from archived timeline, if required, skipping the archived files
+   * whose manifest entries have no instant completed in the given completion time range,
+   * the null completion time boundaries are unbounded.
+   * The cursor instant is only slided when no file is skipped, as the instants of the skipped files are not loaded.
+   *
+   * @param startTime           The start time of the instant.
+   * @param startCompletionTime The start completion time of the instants to load.
+   * @param endCompletionTime   The end completion time of the instants to load.
+   */
+  private void loadCompletionTimeIncrementally(String startTime, @Nullable String startCompletionTime, @Nullable String endCompletionTime) {
     // the 'startTime' should be out of the eager loading range, switch to a lazy loading.
     // This operation is resource costly.
     synchronized (this) {
       if (InstantComparison.compareTimestamps(startTime, LESSER_THAN, this.cursorInstant)) {
+        AtomicBoolean hasSkippedFiles = new AtomicBoolean(false);
         Option<String> oldestStartTime = metaClient.getTableFormat().getTimelineFactory().createArchivedTimelineLoader().loadAllInstantsFromFilesInRange(metaClient,
             new HoodieArchivedTimeline.ClosedOpenTimeRangeFilter(startTime, this.cursorInstant),
+            fileEntry -> {
+              if (!fileEntry.mayContainCompletionTimeInRange(startCompletionTime, endCompletionTime)) {
+                hasSkippedFiles.set(true);
+                return false;
+              }
+              // the files passing the filter are all read, a file is never read twice
+              return this.loadedArchivedFiles.add(fileEntry.getFileName());
+            },
             HoodieArchivedTimeline.LoadMode.TIME,
             this::readCompletionTime);
-        // refresh the start instant
-        this.cursorInstant = oldestStartTime.map(time -> InstantComparison.minTimestamp(startTime, time)).orElse(startTime);
+        if (!hasSkippedFiles.get()) {
+          // refresh the start instant
+          this.cursorInstant = oldestStartTime.map(time -> InstantComparison.minTimestamp(startTime, time)).orElse(startTime);
+        }
       }
     }
   }
@@ -323,5 +359,6 @@ public class CompletionTimeQueryViewV2 implements CompletionTimeQueryView, Seria
   @Override
   public void close() {
     this.instantTimeToCompletionTimeMap.clear();
+    this.loadedArchivedFiles.clear();
   }
 }
@@ -166,6 +166,16 @@ public class FileSystemViewStorageConfig extends HoodieConfig {
       .withDocumentation("The class name of the Exception that needs to be retried, separated by commas. "
           + "Default is empty which means retry all the IOException and RuntimeException from Remote Request.");
 
+  public static final ConfigProperty<Boolean> REMOTE_BINARY_ENCODING_ENABLE = ConfigProperty
+      .key("hoodie.filesystem.view.remote.binary.encoding.enable")
+      .defaultValue(false)
+      .markAdvanced()
+      .sinceVersion("1.3.0")
+      .withDocumentation("Whether to request the file slices and base files from a remote file system view in a compact "
+          + "binary encoding instead of JSON. The binary responses are streamed and decoded while they are received, "
+          + "which reduces the time to list partitions with many file groups. Falls back to JSON when the timeline "
+          + "server does not support the binary encoding.");
+
   public static final ConfigProperty<String> REMOTE_BACKUP_VIEW_ENABLE = ConfigProperty
       .key("hoodie.filesystem.remote.backup.view.enable")
       .defaultValue("true") // Need to be disabled only for tests.
@@ -267,6 +277,10 @@ public class FileSystemViewStorageConfig extends HoodieConfig {
     return FileSystemViewStorageType.valueOf(getString(SECONDARY_VIEW_TYPE));
   }
 
+  public boolean isRemoteBinaryEncodingEnabled() {
+    return getBoolean(REMOTE_BINARY_ENCODING_ENABLE);
+  }
+
   public boolean shouldEnableBackupForRemoteFileSystemView() {
     return getBoolean(REMOTE_BACKUP_VIEW_ENABLE);
   }
@@ -374,6 +388,11 @@ public class FileSystemViewStorageConfig extends HoodieConfig {
       return this;
     }
 
+    public Builder withRemoteBinaryEncoding(boolean enable) {
+      fileSystemViewStorageConfig.setValue(REMOTE_BINARY_ENCODING_ENABLE, Boolean.toString(enable));
+      return this;
+    }
+
     public Builder withEnableBackupForRemoteFileSystemView(boolean enable) {
       fileSystemViewStorageConfig.setValue(REMOTE_BACKUP_VIEW_ENABLE, Boolean.toString(enable));
       return this;
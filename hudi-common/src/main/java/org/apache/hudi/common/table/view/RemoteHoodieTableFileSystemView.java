@@ -28,6 +28,7 @@ import org.apache.hudi.common.table.timeline.HoodieInstant;
 import org.apache.hudi.common.table.timeline.HoodieTimeline;
 import org.apache.hudi.common.table.timeline.InstantGenerator;
 import org.apache.hudi.common.table.timeline.dto.BaseFileDTO;
+import org.apache.hudi.common.table.timeline.dto.BinaryDTOCodec;
 import org.apache.hudi.common.table.timeline.dto.ClusteringOpDTO;
 import org.apache.hudi.common.table.timeline.dto.CompactionOpDTO;
 import org.apache.hudi.common.table.timeline.dto.DTOUtils;
@@ -53,6 +54,7 @@ import java.io.Serializable;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -125,6 +127,8 @@ public class RemoteHoodieTableFileSystemView implements SyncableFileSystemView,
   public static final String TIMELINE_HASH = "timelinehash";
   public static final String REFRESH_OFF = "refreshoff";
   public static final String INCLUDE_FILES_IN_PENDING_COMPACTION_PARAM = "includependingcompaction";
+  public static final String FORMAT_PARAM = "format";
+  public static final String BINARY_FORMAT = "binary";
 
   public static final String MULTI_VALUE_SEPARATOR = ",";
   private static final TypeReference<List<FileSliceDTO>> FILE_SLICE_DTOS_REFERENCE = new TypeReference<List<FileSliceDTO>>() {};
@@ -142,6 +146,7 @@ public class RemoteHoodieTableFileSystemView implements SyncableFileSystemView,
   private final HoodieTableMetaClient metaClient;
   private HoodieTimeline timeline;
   private final TimelineServiceClientBase timelineServiceClient;
+  private final boolean binaryEncodingEnabled;
 
   private boolean closed = false;
 
@@ -154,19 +159,43 @@ public class RemoteHoodieTableFileSystemView implements SyncableFileSystemView,
     this.metaClient = metaClient;
     this.timeline = metaClient.getActiveTimeline().filterCompletedAndCompactionInstants();
     this.timelineServiceClient = new TimelineServiceClient(viewConf);
+    this.binaryEncodingEnabled = viewConf.isRemoteBinaryEncodingEnabled();
   }
 
   private <T> T executeRequest(String requestPath, Map<String, String> queryParameters, TypeReference<T> reference,
                                RequestMethod method) throws IOException {
+    return timelineServiceClient.makeRequest(buildRequest(requestPath, queryParameters, method))
+        .getDecodedContent(reference);
+  }
+
+  /**
+   * Executes a GET request returning a list of data transfer objects, in the binary encoding if enabled.
+   * The response is decoded from JSON if the timeline server does not support the binary encoding.
+   */
+  private <D, R> List<R> executeListRequest(String requestPath, Map<String, String> queryParameters, TypeReference<List<D>> reference,
+                                            BinaryDTOCodec.Reader<D> reader, Function<D, R> converter) throws IOException {
+    if (!binaryEncodingEnabled) {
+      List<D> dtos = executeRequest(requestPath, queryParameters, reference, RequestMethod.GET);
+      return dtos.stream().map(converter).collect(Collectors.toList());
+    }
+    queryParameters.put(FORMAT_PARAM, BINARY_FORMAT);
+    return timelineServiceClient.makeRequest(buildRequest(requestPath, queryParameters, RequestMethod.GET), (content, contentType) -> {
+      if (BinaryDTOCodec.CONTENT_TYPE.equals(contentType)) {
+        return BinaryDTOCodec.decode(content, reader, converter);
+      }
+      List<D> dtos = OBJECT_MAPPER.readValue(content, reference);
+      return dtos.stream().map(converter).collect(Collectors.toList());
+    });
+  }
+
+  private TimelineServiceClient.Request buildRequest(String requestPath, Map<String, String> queryParameters, RequestMethod method) {
     ValidationUtils.checkArgument(!closed, "View already closed");
 
     // Adding mandatory parameters - Last instants affecting file-slice
     timeline.lastInstant().ifPresent(instant -> queryParameters.put(LAST_INSTANT_TS, instant.requestedTime()));
     queryParameters.put(TIMELINE_HASH, timeline.getTimelineHash());
 
-    return timelineServiceClient.makeRequest(
-            TimelineServiceClient.Request.newBuilder(method, requestPath).addQueryParams(queryParameters).build())
-        .getDecodedContent(reference);
+    return TimelineServiceClient.Request.newBuilder(method, requestPath).addQueryParams(queryParameters).build();
   }
 
   private Map<String, String> getParamsWithPartitionPath(String partitionPath) {
@@ -211,9 +240,8 @@ public class RemoteHoodieTableFileSystemView implements SyncableFileSystemView,
 
   private Stream<HoodieBaseFile> getLatestBaseFilesFromParams(String requestPath, Map<String, String> paramsMap) {
     try {
-      List<BaseFileDTO> dataFiles = executeRequest(requestPath, paramsMap,
-          BASE_FILE_DTOS_REFERENCE, RequestMethod.GET);
-      return dataFiles.stream().map(BaseFileDTO::toHoodieBaseFile);
+      return executeListRequest(requestPath, paramsMap, BASE_FILE_DTOS_REFERENCE,
+          BaseFileDTO::read, BaseFileDTO::toHoodieBaseFile).stream();
     } catch (IOException e) {
       throw new HoodieRemoteException(e);
     }
@@ -285,9 +313,8 @@ public class RemoteHoodieTableFileSystemView implements SyncableFileSystemView,
 
   private Stream<FileSlice> getLatestFileSlicesStreamFromParams(String requestPath, Map<String, String> paramsMap) {
     try {
-      List<FileSliceDTO> dataFiles = executeRequest(requestPath, paramsMap,
-          FILE_SLICE_DTOS_REFERENCE, RequestMethod.GET);
-      return dataFiles.stream().map(FileSliceDTO::toFileSlice);
+      return executeListRequest(requestPath, paramsMap, FILE_SLICE_DTOS_REFERENCE,
+          FileSliceDTO::read, FileSliceDTO::toFileSlice).stream();
     } catch (IOException e) {
       throw new HoodieRemoteException(e);
     }
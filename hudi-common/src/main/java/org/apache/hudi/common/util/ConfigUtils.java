@@ -790,6 +790,10 @@ public class ConfigUtils {
         getStringWithAltKeys(options, HoodieReaderConfig.HFILE_BLOCK_CACHE_SIZE));
     config.setValue(HoodieReaderConfig.HFILE_BLOCK_CACHE_TTL_MINUTES,
         getStringWithAltKeys(options, HoodieReaderConfig.HFILE_BLOCK_CACHE_TTL_MINUTES));
+    config.setValue(HoodieReaderConfig.HFILE_BLOCK_CACHE_SIZE_BYTES,
+        getStringWithAltKeys(options, HoodieReaderConfig.HFILE_BLOCK_CACHE_SIZE_BYTES));
+    config.setValue(HoodieReaderConfig.HFILE_BLOCK_CACHE_OFF_HEAP_ENABLED,
+        getStringWithAltKeys(options, HoodieReaderConfig.HFILE_BLOCK_CACHE_OFF_HEAP_ENABLED));
     return config;
   }
 
@@ -858,10 +862,20 @@ public class ConfigUtils {
         metadataConfig.getStringOrDefault(HoodieReaderConfig.HFILE_BLOCK_CACHE_SIZE));
     props.setProperty(HoodieReaderConfig.HFILE_BLOCK_CACHE_TTL_MINUTES.key(),
         metadataConfig.getStringOrDefault(HoodieReaderConfig.HFILE_BLOCK_CACHE_TTL_MINUTES));
+    props.setProperty(HoodieReaderConfig.HFILE_BLOCK_CACHE_SIZE_BYTES.key(),
+        metadataConfig.getStringOrDefault(HoodieReaderConfig.HFILE_BLOCK_CACHE_SIZE_BYTES));
+    props.setProperty(HoodieReaderConfig.HFILE_BLOCK_CACHE_OFF_HEAP_ENABLED.key(),
+        metadataConfig.getStringOrDefault(HoodieReaderConfig.HFILE_BLOCK_CACHE_OFF_HEAP_ENABLED));
     props.setProperty(HoodieMetadataConfig.METADATA_FILE_CACHE_MAX_SIZE_MB.key(),
         metadataConfig.getStringOrDefault(HoodieMetadataConfig.METADATA_FILE_CACHE_MAX_SIZE_MB));
     props.setProperty(HoodieMetadataConfig.BLOOM_FILTER_ENABLE.key(),
         metadataConfig.getStringOrDefault(HoodieMetadataConfig.BLOOM_FILTER_ENABLE));
+    props.setProperty(HoodieReaderConfig.LOG_BLOCK_PREFETCH_ENABLED.key(),
+        metadataConfig.getStringOrDefault(HoodieReaderConfig.LOG_BLOCK_PREFETCH_ENABLED));
+    props.setProperty(HoodieReaderConfig.LOG_BLOCK_PREFETCH_PARALLELISM.key(),
+        metadataConfig.getStringOrDefault(HoodieReaderConfig.LOG_BLOCK_PREFETCH_PARALLELISM));
+    props.setProperty(HoodieReaderConfig.LOG_BLOCK_PREFETCH_MAX_BYTES.key(),
+        metadataConfig.getStringOrDefault(HoodieReaderConfig.LOG_BLOCK_PREFETCH_MAX_BYTES));
     return props;
   }
 }
@@ -0,0 +1,400 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.common.util.collection;
+
+import org.apache.hudi.common.serialization.CustomSerializer;
+import org.apache.hudi.common.util.SizeEstimator;
+import org.apache.hudi.common.util.ValidationUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import java.io.Closeable;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * A variant of {@link ExternalSpillableMap} which can be filled by multiple threads, e.g. by the threads
+ * reading different log files of a file group into one merge buffer.
+ * <p>
+ * The keys are sharded over a fixed number of segments, each holding its own in-memory map and its own
+ * map of the entries spilled to disk, and guarded by its own lock, so that the threads writing keys of
+ * different segments do not contend with each other, and the segments spill to disk in parallel. The
+ * memory used by all the segments is accounted together against the single in-memory budget of the map,
+ * so the map spills at the same size as an {@link ExternalSpillableMap} with the same budget, give or
+ * take the few entries concurrently added to the segments while the budget is reached.
+ * <p>
+ * NOTE : The iterators and the collection views of this map are not isolated from concurrent updates, and
+ * should only be used once all the entries are added.
+ */
+@ThreadSafe
+@Slf4j
+public class ConcurrentExternalSpillableMap<T extends Serializable, R> implements Map<T, R>, Serializable, Closeable, KeyFilteringIterable<T, R> {
+
+  // Find the actual estimated payload size after inserting N records in a segment
+  private static final int NUMBER_OF_RECORDS_TO_ESTIMATE_PAYLOAD_SIZE = 100;
+  private static final double SIZING_FACTOR_FOR_IN_MEMORY_MAP = 0.8;
+
+  // maximum space allowed in-memory for all the segments of this map
+  private final long maxInMemorySizeInBytes;
+  // current space occupied by all the segments of this map in-memory
+  private final AtomicLong currentInMemoryMapSize = new AtomicLong();
+  private final Segment[] segments;
+  private final SizeEstimator<T> keySizeEstimator;
+  private final SizeEstimator<R> valueSizeEstimator;
+  private final ExternalSpillableMap.DiskMapType diskMapType;
+  private final boolean isCompressionEnabled;
+  private final String baseFilePath;
+  private final CustomSerializer<R> valueSerializer;
+  private final String loggingContext;
+
+  @SuppressWarnings("unchecked")
+  public ConcurrentExternalSpillableMap(long maxInMemorySizeInBytes, int numSegments, String baseFilePath, SizeEstimator<T> keySizeEstimator,
+                                        SizeEstimator<R> valueSizeEstimator, ExternalSpillableMap.DiskMapType diskMapType, CustomSerializer<R> valueSerializer,
+                                        boolean isCompressionEnabled, String loggingContext) {
+    ValidationUtils.checkArgument(numSegments > 0, "The number of segments should be positive");
+    this.maxInMemorySizeInBytes = (long) Math.floor(maxInMemorySizeInBytes * SIZING_FACTOR_FOR_IN_MEMORY_MAP);
+    this.segments = new ConcurrentExternalSpillableMap.Segment[numSegments];
+    for (int i = 0; i < numSegments; i++) {
+      this.segments[i] = new Segment();
+    }
+    this.baseFilePath = baseFilePath;
+    this.keySizeEstimator = keySizeEstimator;
+    this.valueSizeEstimator = valueSizeEstimator;
+    this.diskMapType = diskMapType;
+    this.isCompressionEnabled = isCompressionEnabled;
+    this.valueSerializer = valueSerializer;
+    this.loggingContext = loggingContext;
+    log.debug("{} : Initializing ConcurrentExternalSpillableMap with baseFilePath = {}, maxInMemorySizeInBytes = {}, numSegments = {}, diskMapType = {}",
+        loggingContext, baseFilePath, maxInMemorySizeInBytes, numSegments, diskMapType);
+  }
+
+  private Segment segmentFor(Object key) {
+    int hash = key == null ? 0 : key.hashCode();
+    // Spreads the high bits, as done by HashMap, before taking the modulo
+    hash ^= hash >>> 16;
+    return segments[(hash & Integer.MAX_VALUE) % segments.length];
+  }
+
+  public long getCurrentInMemoryMapSize() {
+    return currentInMemoryMapSize.get();
+  }
+
+  /**
+   * Number of entries spilled to disk by all the segments.
+   */
+  public int getDiskBasedMapNumEntries() {
+    int numEntries = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        numEntries += segment.diskBasedMap == null ? 0 : segment.diskBasedMap.size();
+      }
+    }
+    return numEntries;
+  }
+
+  /**
+   * Number of bytes spilled to disk by all the segments.
+   */
+  public long getSizeOfFileOnDiskInBytes() {
+    long sizeInBytes = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        sizeInBytes += segment.diskBasedMap == null ? 0 : segment.diskBasedMap.sizeOfFileOnDiskInBytes();
+      }
+    }
+    return sizeInBytes;
+  }
+
+  /**
+   * Number of entries held in memory by all the segments.
+   */
+  public int getInMemoryMapNumEntries() {
+    int numEntries = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        numEntries += segment.inMemoryMap.size();
+      }
+    }
+    return numEntries;
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    Segment segment = segmentFor(key);
+    synchronized (segment) {
+      return segment.containsKey(key);
+    }
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        if (segment.inMemoryMap.containsValue(value) || (segment.diskBasedMap != null && segment.diskBasedMap.containsValue(value))) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public R get(Object key) {
+    Segment segment = segmentFor(key);
+    synchronized (segment) {
+      return segment.get(key);
+    }
+  }
+
+  @Override
+  public R put(T key, R value) {
+    Segment segment = segmentFor(key);
+    synchronized (segment) {
+      segment.put(key, value);
+    }
+    return value;
+  }
+
+  @Override
+  public R remove(Object key) {
+    Segment segment = segmentFor(key);
+    synchronized (segment) {
+      return segment.remove(key);
+    }
+  }
+
+  @Override
+  public void putAll(Map<? extends T, ? extends R> m) {
+    for (Map.Entry<? extends T, ? extends R> entry : m.entrySet()) {
+      put(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Override
+  public void clear() {
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        segment.clear();
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    int inMemoryNumEntries = 0;
+    int diskNumEntries = 0;
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        inMemoryNumEntries += segment.inMemoryMap.size();
+        diskNumEntries += segment.diskBasedMap == null ? 0 : segment.diskBasedMap.size();
+        segment.close();
+      }
+    }
+    if (inMemoryNumEntries > 0) {
+      log.info("{} : Total entries in InMemory maps {}, currentInMemoryMapSize {}. Total entries in diskBasedMaps {}", loggingContext,
+          inMemoryNumEntries, currentInMemoryMapSize.get(), diskNumEntries);
+    }
+    currentInMemoryMapSize.set(0L);
+  }
+
+  @Override
+  public Iterator<R> iterator() {
+    return new FlatteningIterator<R, Iterator<R>>(new MappingIterator<>(Arrays.asList(segments).iterator(), Segment::iterator));
+  }
+
+  @Override
+  public Iterator<R> iterator(Predicate<T> filter) {
+    return new FlatteningIterator<R, Iterator<R>>(new MappingIterator<>(Arrays.asList(segments).iterator(), segment -> segment.iterator(filter)));
+  }
+
+  public Stream<R> valueStream() {
+    return Arrays.stream(segments).flatMap(Segment::valueStream);
+  }
+
+  @Override
+  public Set<T> keySet() {
+    Set<T> keySet = new HashSet<>();
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        keySet.addAll(segment.inMemoryMap.keySet());
+        if (segment.diskBasedMap != null) {
+          keySet.addAll(segment.diskBasedMap.keySet());
+        }
+      }
+    }
+    return keySet;
+  }
+
+  @Override
+  public Collection<R> values() {
+    List<R> values = new ArrayList<>();
+    iterator().forEachRemaining(values::add);
+    return values;
+  }
+
+  @Override
+  public Set<Entry<T, R>> entrySet() {
+    Set<Entry<T, R>> entrySet = new HashSet<>();
+    for (Segment segment : segments) {
+      synchronized (segment) {
+        segment.inMemoryMap.forEach((key, value) -> entrySet.add(new AbstractMap.SimpleImmutableEntry<>(key, value)));
+        if (segment.diskBasedMap != null) {
+          entrySet.addAll(segment.diskBasedMap.entrySet());
+        }
+      }
+    }
+    return entrySet;
+  }
+
+  /**
+   * A shard of the map, accessed under its own lock. The in-memory size of the segment is tracked by
+   * the segment itself and propagated to the size of the map as deltas.
+   */
+  private class Segment implements Serializable {
+
+    private final Map<T, R> inMemoryMap = new HashMap<>();
+    private transient DiskMap<T, R> diskBasedMap;
+    // An estimate of the size of each payload written to this segment
+    private long estimatedPayloadSize = 0;
+    // current space occupied by this segment in-memory
+    private long inMemorySize = 0L;
+
+    int size() {
+      return inMemoryMap.size() + (diskBasedMap == null ? 0 : diskBasedMap.size());
+    }
+
+    boolean containsKey(Object key) {
+      return inMemoryMap.containsKey(key) || (diskBasedMap != null && diskBasedMap.containsKey(key));
+    }
+
+    R get(Object key) {
+      R value = inMemoryMap.get(key);
+      if (value != null || inMemoryMap.containsKey(key)) {
+        return value;
+      }
+      return diskBasedMap != null ? diskBasedMap.get(key) : null;
+    }
+
+    void put(T key, R value) {
+      if (inMemoryMap.containsKey(key)) {
+        inMemoryMap.put(key, value);
+      } else if (currentInMemoryMapSize.get() < maxInMemorySizeInBytes) {
+        long previousSize = inMemorySize;
+        if (estimatedPayloadSize == 0) {
+          // At first, use the sizeEstimate of a record being inserted into the spillable map.
+          estimatedPayloadSize = keySizeEstimator.sizeEstimate(key) + valueSizeEstimator.sizeEstimate(value);
+        } else if (inMemoryMap.size() % NUMBER_OF_RECORDS_TO_ESTIMATE_PAYLOAD_SIZE == 0) {
+          estimatedPayloadSize = (long) (estimatedPayloadSize * 0.9 + (keySizeEstimator.sizeEstimate(key) + valueSizeEstimator.sizeEstimate(value)) * 0.1);
+          inMemorySize = inMemoryMap.size() * estimatedPayloadSize;
+        }
+        inMemorySize += estimatedPayloadSize;
+        currentInMemoryMapSize.addAndGet(inMemorySize - previousSize);
+        // Remove the old version of the record from disk first to avoid data duplication.
+        if (diskBasedMap != null && diskBasedMap.containsKey(key)) {
+          diskBasedMap.remove(key);
+        }
+        inMemoryMap.put(key, value);
+      } else {
+        if (diskBasedMap == null) {
+          log.info("{} : Initializing disk based map of a segment as max memory threshold {} is reached", loggingContext, maxInMemorySizeInBytes);
+          diskBasedMap = ExternalSpillableMap.createDiskMap(diskMapType, baseFilePath, valueSerializer, isCompressionEnabled);
+        }
+        diskBasedMap.put(key, value);
+      }
+    }
+
+    R remove(Object key) {
+      // NOTE : diskBasedMap.remove does not delete the data from disk
+      if (inMemoryMap.containsKey(key)) {
+        inMemorySize -= estimatedPayloadSize;
+        currentInMemoryMapSize.addAndGet(-estimatedPayloadSize);
+        return inMemoryMap.remove(key);
+      } else if (diskBasedMap != null && diskBasedMap.containsKey(key)) {
+        return diskBasedMap.remove(key);
+      }
+      return null;
+    }
+
+    void clear() {
+      inMemoryMap.clear();
+      if (diskBasedMap != null) {
+        diskBasedMap.clear();
+      }
+      currentInMemoryMapSize.addAndGet(-inMemorySize);
+      inMemorySize = 0L;
+    }
+
+    void close() {
+      inMemoryMap.clear();
+      if (diskBasedMap != null) {
+        diskBasedMap.close();
+        diskBasedMap = null;
+      }
+      inMemorySize = 0L;
+    }
+
+    Iterator<R> iterator() {
+      return diskBasedMap == null
+          ? inMemoryMap.values().iterator()
+          : new FlatteningIterator<R, Iterator<R>>(Arrays.asList(inMemoryMap.values().iterator(), diskBasedMap.iterator()).iterator());
+    }
+
+    Iterator<R> iterator(Predicate<T> filter) {
+      Iterator<R> inMemoryIterator = inMemoryMap.entrySet().stream()
+          .filter(entry -> filter.test(entry.getKey())).map(Map.Entry::getValue).iterator();
+      return diskBasedMap == null
+          ? inMemoryIterator
+          : new FlatteningIterator<R, Iterator<R>>(Arrays.asList(inMemoryIterator, diskBasedMap.iterator(filter)).iterator());
+    }
+
+    Stream<R> valueStream() {
+      return diskBasedMap == null ? inMemoryMap.values().stream() : Stream.concat(inMemoryMap.values().stream(), diskBasedMap.valueStream());
+    }
+  }
+}
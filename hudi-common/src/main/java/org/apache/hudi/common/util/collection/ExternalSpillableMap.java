@@ -110,23 +110,32 @@ public class ExternalSpillableMap<T extends Serializable, R> implements Map<T, R
     if (null == diskBasedMap) {
       synchronized (this) {
         if (null == diskBasedMap) {
-          try {
-            switch (diskMapType) {
-              case ROCKS_DB:
-                diskBasedMap = new RocksDbDiskMap<>(baseFilePath, valueSerializer);
-                break;
-              case BITCASK:
-              default:
-                diskBasedMap = new BitCaskDiskMap<>(baseFilePath, valueSerializer, isCompressionEnabled);
-            }
-          } catch (IOException e) {
-            throw new HoodieIOException(e.getMessage(), e);
-          }
+          diskBasedMap = createDiskMap(diskMapType, baseFilePath, valueSerializer, isCompressionEnabled);
         }
       }
     }
   }
 
+  /**
+   * Creates the map storing the entries spilled to disk, in a new folder under the base path.
+   */
+  static <T extends Serializable, R> DiskMap<T, R> createDiskMap(DiskMapType diskMapType, String baseFilePath,
+                                                                 CustomSerializer<R> valueSerializer, boolean isCompressionEnabled) {
+    try {
+      switch (diskMapType) {
+        case ROCKS_DB:
+          return new RocksDbDiskMap<>(baseFilePath, valueSerializer);
+        case MEMORY_MAPPED:
+          return new MemoryMappedDiskMap<>(baseFilePath, valueSerializer, isCompressionEnabled);
+        case BITCASK:
+        default:
+          return new BitCaskDiskMap<>(baseFilePath, valueSerializer, isCompressionEnabled);
+      }
+    } catch (IOException e) {
+      throw new HoodieIOException(e.getMessage(), e);
+    }
+  }
+
   /**
    * A custom iterator to wrap over iterating in-memory + disk spilled data.
    */
@@ -336,6 +345,7 @@ public class ExternalSpillableMap<T extends Serializable, R> implements Map<T, R
   public enum DiskMapType {
     BITCASK,
     ROCKS_DB,
+    MEMORY_MAPPED,
     UNKNOWN
   }
 
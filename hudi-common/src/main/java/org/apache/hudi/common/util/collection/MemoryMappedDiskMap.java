@@ -0,0 +1,597 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.common.util.collection;
+
+import org.apache.hudi.common.serialization.CustomSerializer;
+import org.apache.hudi.common.util.SerializationUtils;
+import org.apache.hudi.exception.HoodieCorruptedDataException;
+import org.apache.hudi.exception.HoodieException;
+import org.apache.hudi.exception.HoodieIOException;
+import org.apache.hudi.exception.HoodieNotSupportedException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import static org.apache.hudi.common.util.BinaryUtil.generateChecksum;
+import static org.apache.hudi.common.util.StringUtils.fromUTF8Bytes;
+import static org.apache.hudi.common.util.StringUtils.getUTF8Bytes;
+
+/**
+ * A disk spillable only map that does not keep any per-key object on the JVM heap.
+ * <p>
+ * All the entries are appended to one file with the layout |crc|sizeOfKey|sizeOfValue|key|value|. The file is
+ * memory-mapped in fixed size segments, so that writing and reading an entry are plain memory copies instead of
+ * a system call per operation. The keys are indexed by an open-addressing hash table with linear probing that is
+ * allocated off-heap, each slot of which holds the hash of a key and the offset of its latest entry in the file.
+ * Keys with the same hash are told apart by comparing their serialized bytes with the ones in the mapped file.
+ * <p>
+ * NOTE : As for {@link BitCaskDiskMap}, values are only appended to the file: removed or overwritten entries
+ * stay in the file until the map is closed. The mapped segments are released by the garbage collector.
+ */
+@Slf4j
+public final class MemoryMappedDiskMap<T extends Serializable, R> extends DiskMap<T, R> {
+
+  // Size of the memory-mapped segments of the file (64 MB)
+  private static final int SEGMENT_SHIFT = 26;
+  private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+  private static final long SEGMENT_MASK = SEGMENT_SIZE - 1;
+  // |crc|sizeOfKey|sizeOfValue|
+  private static final int ENTRY_HEADER_SIZE = Long.BYTES + 2 * Integer.BYTES;
+  // |offset of the entry + 1|hash of the key|, an empty slot has a zero offset
+  private static final int SLOT_SIZE = Long.BYTES + Integer.BYTES;
+  private static final int INITIAL_CAPACITY = 1 << 16;
+  private static final int MAX_CAPACITY = Integer.highestOneBit(Integer.MAX_VALUE / SLOT_SIZE);
+  private static final double LOAD_FACTOR = 0.75;
+  // First byte of a serialized key, string keys are stored as UTF-8 to avoid going through kryo
+  private static final byte STRING_KEY = 0;
+  private static final byte SERIALIZED_KEY = 1;
+  // Caching byte compression/decompression to avoid creating instances for every operation
+  private static final ThreadLocal<BitCaskDiskMap.CompressionHandler> DISK_COMPRESSION_REF =
+      ThreadLocal.withInitial(BitCaskDiskMap.CompressionHandler::new);
+
+  // Enables compression for all values stored in the disk map
+  private final boolean isCompressionEnabled;
+  private final CustomSerializer<R> valueSerializer;
+  private final File file;
+  private final RandomAccessFile randomAccessFile;
+  private final FileChannel fileChannel;
+  private final List<MappedByteBuffer> segments = new ArrayList<>();
+  // Guards the index and the segments, entries are only written while holding the write lock
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // Off-heap index, with a power of two number of slots
+  private ByteBuffer table;
+  private int capacity;
+  private volatile int size;
+  // Current position in the file
+  private volatile long filePosition;
+
+  public MemoryMappedDiskMap(String baseFilePath, CustomSerializer<R> valueSerializer, boolean isCompressionEnabled) throws IOException {
+    super(baseFilePath, ExternalSpillableMap.DiskMapType.MEMORY_MAPPED.name());
+    this.isCompressionEnabled = isCompressionEnabled;
+    this.valueSerializer = valueSerializer;
+    this.file = new File(diskMapPath, UUID.randomUUID().toString());
+    // Make sure file is deleted when JVM exits
+    file.deleteOnExit();
+    this.randomAccessFile = new RandomAccessFile(file, "rw");
+    this.fileChannel = randomAccessFile.getChannel();
+    this.capacity = INITIAL_CAPACITY;
+    this.table = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+    log.debug("Spilling to file location {}", file.getAbsolutePath());
+  }
+
+  /**
+   * Number of bytes spilled to disk.
+   */
+  @Override
+  public long sizeOfFileOnDiskInBytes() {
+    return filePosition;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    byte[] serializedKey = serializeKey(key);
+    lock.readLock().lock();
+    try {
+      return findSlot(serializedKey, hash(key)) >= 0;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public boolean containsValue(Object value) {
+    throw new HoodieNotSupportedException("unable to compare values in map");
+  }
+
+  @Override
+  public R get(Object key) {
+    byte[] serializedKey = serializeKey(key);
+    byte[] value;
+    lock.readLock().lock();
+    try {
+      int slot = findSlot(serializedKey, hash(key));
+      if (slot < 0) {
+        return null;
+      }
+      value = readValue(entryOffset(slot));
+    } finally {
+      lock.readLock().unlock();
+    }
+    return deserializeValue(value);
+  }
+
+  @Override
+  public R put(T key, R value) {
+    byte[] serializedKey = serializeKey(key);
+    byte[] serializedValue = serializeValue(value);
+    int hash = hash(key);
+    lock.writeLock().lock();
+    try {
+      long offset = append(serializedKey, serializedValue);
+      int slot = findSlot(serializedKey, hash);
+      if (slot < 0) {
+        if (size + 1 > capacity * LOAD_FACTOR) {
+          resize();
+          slot = findSlot(serializedKey, hash);
+        }
+        slot = -(slot + 1);
+        table.putInt(slot * SLOT_SIZE + Long.BYTES, hash);
+        size++;
+      }
+      table.putLong(slot * SLOT_SIZE, offset + 1);
+    } finally {
+      lock.writeLock().unlock();
+    }
+    return value;
+  }
+
+  @Override
+  public R remove(Object key) {
+    byte[] serializedKey = serializeKey(key);
+    byte[] value;
+    lock.writeLock().lock();
+    try {
+      int slot = findSlot(serializedKey, hash(key));
+      if (slot < 0) {
+        return null;
+      }
+      value = readValue(entryOffset(slot));
+      deleteSlot(slot);
+      size--;
+    } finally {
+      lock.writeLock().unlock();
+    }
+    return deserializeValue(value);
+  }
+
+  @Override
+  public void putAll(Map<? extends T, ? extends R> m) {
+    for (Map.Entry<? extends T, ? extends R> entry : m.entrySet()) {
+      put(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Override
+  public void clear() {
+    lock.writeLock().lock();
+    try {
+      // The spilled entries stay in the file, which is removed on close.
+      capacity = INITIAL_CAPACITY;
+      table = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+      size = 0;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  @Override
+  public void close() {
+    lock.writeLock().lock();
+    try {
+      size = 0;
+      segments.clear();
+      fileChannel.close();
+      randomAccessFile.close();
+    } catch (IOException e) {
+      log.warn("Failed to close the memory-mapped disk map file {}", file.getAbsolutePath(), e);
+    } finally {
+      file.delete();
+      lock.writeLock().unlock();
+      super.close();
+    }
+  }
+
+  @Override
+  public Set<T> keySet() {
+    lock.readLock().lock();
+    try {
+      Set<T> keys = new HashSet<>(size);
+      for (int slot = 0; slot < capacity; slot++) {
+        if (isOccupied(slot)) {
+          keys.add(readKey(entryOffset(slot)));
+        }
+      }
+      return keys;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public Collection<R> values() {
+    throw new HoodieException("Unsupported Operation Exception");
+  }
+
+  @Override
+  public Set<Entry<T, R>> entrySet() {
+    Set<Entry<T, R>> entrySet = new HashSet<>();
+    for (long offset : sortedEntryOffsets(null)) {
+      entrySet.add(new AbstractMap.SimpleEntry<>(readKeyWithLock(offset), readDeserializedValue(offset)));
+    }
+    return entrySet;
+  }
+
+  /**
+   * Iterates over the values in the order they were written to the file, so that the mapped pages are read sequentially.
+   */
+  @Override
+  public Iterator<R> iterator() {
+    return valueStream().iterator();
+  }
+
+  @Override
+  public Iterator<R> iterator(Predicate<T> filter) {
+    return Arrays.stream(sortedEntryOffsets(filter)).mapToObj(this::readDeserializedValue).iterator();
+  }
+
+  @Override
+  public Stream<R> valueStream() {
+    return Arrays.stream(sortedEntryOffsets(null)).mapToObj(this::readDeserializedValue);
+  }
+
+  // -------------------------------------------------------------------------
+  //  Index
+  // -------------------------------------------------------------------------
+
+  /**
+   * Spreads the bits of the hash code of the key, as consecutive hash codes are common for string keys.
+   */
+  private static int hash(Object key) {
+    int h = key.hashCode();
+    h ^= h >>> 16;
+    h *= 0x85ebca6b;
+    h ^= h >>> 13;
+    h *= 0xc2b2ae35;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * @return the slot of the given key if present, otherwise {@code -(slot + 1)} where slot is the empty
+   * slot the key would be inserted at.
+   */
+  private int findSlot(byte[] serializedKey, int hash) {
+    int mask = capacity - 1;
+    int slot = hash & mask;
+    while (true) {
+      long offset = table.getLong(slot * SLOT_SIZE);
+      if (offset == 0) {
+        return -(slot + 1);
+      }
+      if (table.getInt(slot * SLOT_SIZE + Long.BYTES) == hash && keyEquals(offset - 1, serializedKey)) {
+        return slot;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  private boolean isOccupied(int slot) {
+    return table.getLong(slot * SLOT_SIZE) != 0;
+  }
+
+  private long entryOffset(int slot) {
+    return table.getLong(slot * SLOT_SIZE) - 1;
+  }
+
+  /**
+   * Removes the given slot by shifting back the following entries of the probe sequence, so that no tombstone
+   * is needed and lookups of absent keys stay short.
+   */
+  private void deleteSlot(int slot) {
+    int mask = capacity - 1;
+    int hole = slot;
+    int next = slot;
+    while (true) {
+      next = (next + 1) & mask;
+      if (!isOccupied(next)) {
+        break;
+      }
+      int home = table.getInt(next * SLOT_SIZE + Long.BYTES) & mask;
+      // The entry can fill the hole unless its home slot is cyclically within (hole, next]
+      boolean homeInRange = hole <= next ? (home > hole && home <= next) : (home > hole || home <= next);
+      if (!homeInRange) {
+        table.putLong(hole * SLOT_SIZE, table.getLong(next * SLOT_SIZE));
+        table.putInt(hole * SLOT_SIZE + Long.BYTES, table.getInt(next * SLOT_SIZE + Long.BYTES));
+        hole = next;
+      }
+    }
+    table.putLong(hole * SLOT_SIZE, 0L);
+    table.putInt(hole * SLOT_SIZE + Long.BYTES, 0);
+  }
+
+  private void resize() {
+    if (capacity >= MAX_CAPACITY) {
+      throw new HoodieException("Unable to store more than " + size + " entries in MemoryMappedDiskMap");
+    }
+    int newCapacity = capacity << 1;
+    int mask = newCapacity - 1;
+    ByteBuffer newTable = ByteBuffer.allocateDirect(newCapacity * SLOT_SIZE);
+    for (int slot = 0; slot < capacity; slot++) {
+      long offset = table.getLong(slot * SLOT_SIZE);
+      if (offset != 0) {
+        int hash = table.getInt(slot * SLOT_SIZE + Long.BYTES);
+        int newSlot = hash & mask;
+        while (newTable.getLong(newSlot * SLOT_SIZE) != 0) {
+          newSlot = (newSlot + 1) & mask;
+        }
+        newTable.putLong(newSlot * SLOT_SIZE, offset);
+        newTable.putInt(newSlot * SLOT_SIZE + Long.BYTES, hash);
+      }
+    }
+    table = newTable;
+    capacity = newCapacity;
+  }
+
+  /**
+   * @return the offsets of the entries accepted by the filter, in file order.
+   */
+  private long[] sortedEntryOffsets(Predicate<T> filter) {
+    lock.readLock().lock();
+    try {
+      long[] offsets = new long[size];
+      int count = 0;
+      for (int slot = 0; slot < capacity; slot++) {
+        if (isOccupied(slot)) {
+          long offset = entryOffset(slot);
+          if (filter == null || filter.test(readKey(offset))) {
+            offsets[count++] = offset;
+          }
+        }
+      }
+      offsets = count == offsets.length ? offsets : Arrays.copyOf(offsets, count);
+      Arrays.sort(offsets);
+      return offsets;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // -------------------------------------------------------------------------
+  //  Entries
+  // -------------------------------------------------------------------------
+
+  private long append(byte[] serializedKey, byte[] serializedValue) {
+    long offset = filePosition;
+    ByteBuffer header = ByteBuffer.allocate(ENTRY_HEADER_SIZE);
+    header.putLong(generateChecksum(serializedValue));
+    header.putInt(serializedKey.length);
+    header.putInt(serializedValue.length);
+    write(offset, header.array());
+    write(offset + ENTRY_HEADER_SIZE, serializedKey);
+    write(offset + ENTRY_HEADER_SIZE + serializedKey.length, serializedValue);
+    filePosition = offset + ENTRY_HEADER_SIZE + serializedKey.length + serializedValue.length;
+    return offset;
+  }
+
+  private boolean keyEquals(long offset, byte[] serializedKey) {
+    if (readInt(offset + Long.BYTES) != serializedKey.length) {
+      return false;
+    }
+    long position = offset + ENTRY_HEADER_SIZE;
+    for (int i = 0; i < serializedKey.length; i++) {
+      if (segment(position + i).get(positionInSegment(position + i)) != serializedKey[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private T readKey(long offset) {
+    byte[] serializedKey = new byte[readInt(offset + Long.BYTES)];
+    read(offset + ENTRY_HEADER_SIZE, serializedKey);
+    return deserializeKey(serializedKey);
+  }
+
+  private T readKeyWithLock(long offset) {
+    lock.readLock().lock();
+    try {
+      return readKey(offset);
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  private byte[] readValue(long offset) {
+    long crc = readLong(offset);
+    int sizeOfKey = readInt(offset + Long.BYTES);
+    int sizeOfValue = readInt(offset + Long.BYTES + Integer.BYTES);
+    byte[] value = new byte[sizeOfValue];
+    read(offset + ENTRY_HEADER_SIZE + sizeOfKey, value);
+    if (crc != generateChecksum(value)) {
+      throw new HoodieCorruptedDataException("checksum of payload written to external disk does not match, data may be corrupted");
+    }
+    return value;
+  }
+
+  private R readDeserializedValue(long offset) {
+    byte[] value;
+    lock.readLock().lock();
+    try {
+      value = readValue(offset);
+    } finally {
+      lock.readLock().unlock();
+    }
+    return deserializeValue(value);
+  }
+
+  // -------------------------------------------------------------------------
+  //  Memory-mapped segments
+  // -------------------------------------------------------------------------
+
+  private MappedByteBuffer segment(long position) {
+    return segments.get((int) (position >>> SEGMENT_SHIFT));
+  }
+
+  private static int positionInSegment(long position) {
+    return (int) (position & SEGMENT_MASK);
+  }
+
+  private void write(long position, byte[] bytes) {
+    int written = 0;
+    while (written < bytes.length) {
+      long current = position + written;
+      int index = (int) (current >>> SEGMENT_SHIFT);
+      while (segments.size() <= index) {
+        try {
+          segments.add(fileChannel.map(FileChannel.MapMode.READ_WRITE, (long) segments.size() << SEGMENT_SHIFT, SEGMENT_SIZE));
+        } catch (IOException e) {
+          throw new HoodieIOException("Unable to map the memory-mapped disk map file", e);
+        }
+      }
+      int length = Math.min(bytes.length - written, SEGMENT_SIZE - positionInSegment(current));
+      ByteBuffer buffer = segments.get(index).duplicate();
+      buffer.position(positionInSegment(current));
+      buffer.put(bytes, written, length);
+      written += length;
+    }
+  }
+
+  private void read(long position, byte[] bytes) {
+    int read = 0;
+    while (read < bytes.length) {
+      long current = position + read;
+      int length = Math.min(bytes.length - read, SEGMENT_SIZE - positionInSegment(current));
+      ByteBuffer buffer = segment(current).duplicate();
+      buffer.position(positionInSegment(current));
+      buffer.get(bytes, read, length);
+      read += length;
+    }
+  }
+
+  private long readLong(long position) {
+    int positionInSegment = positionInSegment(position);
+    if (positionInSegment + Long.BYTES <= SEGMENT_SIZE) {
+      return segment(position).getLong(positionInSegment);
+    }
+    byte[] bytes = new byte[Long.BYTES];
+    read(position, bytes);
+    return ByteBuffer.wrap(bytes).getLong();
+  }
+
+  private int readInt(long position) {
+    int positionInSegment = positionInSegment(position);
+    if (positionInSegment + Integer.BYTES <= SEGMENT_SIZE) {
+      return segment(position).getInt(positionInSegment);
+    }
+    byte[] bytes = new byte[Integer.BYTES];
+    read(position, bytes);
+    return ByteBuffer.wrap(bytes).getInt();
+  }
+
+  // -------------------------------------------------------------------------
+  //  Serialization
+  // -------------------------------------------------------------------------
+
+  private static byte[] serializeKey(Object key) {
+    byte[] bytes;
+    byte tag;
+    if (key instanceof String) {
+      bytes = getUTF8Bytes((String) key);
+      tag = STRING_KEY;
+    } else {
+      try {
+        bytes = SerializationUtils.serialize(key);
+      } catch (IOException e) {
+        throw new HoodieIOException("Unable to serialize key for memory-mapped disk map", e);
+      }
+      tag = SERIALIZED_KEY;
+    }
+    byte[] serializedKey = new byte[bytes.length + 1];
+    serializedKey[0] = tag;
+    System.arraycopy(bytes, 0, serializedKey, 1, bytes.length);
+    return serializedKey;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K> K deserializeKey(byte[] serializedKey) {
+    byte[] bytes = Arrays.copyOfRange(serializedKey, 1, serializedKey.length);
+    if (serializedKey[0] == STRING_KEY) {
+      return (K) fromUTF8Bytes(bytes);
+    }
+    return SerializationUtils.deserialize(bytes);
+  }
+
+  private byte[] serializeValue(R value) {
+    try {
+      byte[] bytes = valueSerializer.serialize(value);
+      return isCompressionEnabled ? DISK_COMPRESSION_REF.get().compressBytes(bytes) : bytes;
+    } catch (IOException e) {
+      throw new HoodieIOException("Unable to store data in memory-mapped disk map", e);
+    }
+  }
+
+  private R deserializeValue(byte[] bytes) {
+    try {
+      return valueSerializer.deserialize(isCompressionEnabled ? DISK_COMPRESSION_REF.get().decompressBytes(bytes) : bytes);
+    } catch (IOException e) {
+      throw new HoodieIOException("Unable to read data from memory-mapped disk map", e);
+    }
+  }
+}
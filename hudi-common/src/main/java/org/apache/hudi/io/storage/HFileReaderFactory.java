@@ -73,8 +73,13 @@ public class HFileReaderFactory {
           properties, HoodieReaderConfig.HFILE_BLOCK_CACHE_SIZE);
       int cacheTtlMinutes = ConfigUtils.getIntWithAltKeys(
           properties, HoodieReaderConfig.HFILE_BLOCK_CACHE_TTL_MINUTES);
+      long blockCacheSizeInBytes = ConfigUtils.getLongWithAltKeys(
+          properties, HoodieReaderConfig.HFILE_BLOCK_CACHE_SIZE_BYTES);
+      boolean offHeap = ConfigUtils.getBooleanWithAltKeys(
+          properties, HoodieReaderConfig.HFILE_BLOCK_CACHE_OFF_HEAP_ENABLED);
       String filePath = getFilePath();
-      return new CachingHFileReaderImpl(inputStream, fileSize, filePath, blockCacheSize, cacheTtlMinutes);
+      return new CachingHFileReaderImpl(
+          inputStream, fileSize, filePath, blockCacheSize, cacheTtlMinutes, blockCacheSizeInBytes, offHeap);
     }
 
     return new HFileReaderImpl(inputStream, fileSize);
@@ -408,19 +408,14 @@ public class HoodieNativeAvroHFileReader extends HoodieAvroHFileReaderImplBase {
   }
 
   private static class RecordByKeyIterator implements ClosableIterator<IndexedRecord> {
-    private final Iterator<String> sortedKeyIterator;
     private final HFileReader reader;
-    private final Option<BloomFilter> bloomFilterOption;
+    private final Iterator<KeyValue> keyValueIterator;
     private final GenericDatumReader<GenericRecord> datumReader;
     private final HoodieSchemaField keyFieldSchema;
 
-    private IndexedRecord next = null;
-
     RecordByKeyIterator(HFileReader reader, List<String> sortedKeys, HoodieSchema writerSchema,
                         HoodieSchema readerSchema, boolean useBloomFilter) throws IOException {
-      this.sortedKeyIterator = sortedKeys.iterator();
       this.reader = reader;
-      this.reader.seekTo(); // position at the beginning of the file
 
       BloomFilter bloomFilter = null;
       if (useBloomFilter) {
@@ -430,48 +425,32 @@ public class HoodieNativeAvroHFileReader extends HoodieAvroHFileReaderImplBase {
           log.warn("Unable to read bloom filter from HFile", e);
         }
       }
-      this.bloomFilterOption = Option.ofNullable(bloomFilter);
+      // First check if the keys are present in the file using bloom filter;
+      // skip looking up the keys in HFile if not present.
+      List<UTF8StringKey> keysToLookUp = new ArrayList<>(sortedKeys.size());
+      for (String rawKey : sortedKeys) {
+        if (bloomFilter == null || bloomFilter.mightContain(rawKey)) {
+          keysToLookUp.add(new UTF8StringKey(rawKey));
+        }
+      }
+      // Looks up all the keys with one pass over the file, reading each data block at most once
+      this.keyValueIterator = reader.lookUp(keysToLookUp);
       this.datumReader = new GenericDatumReader<>(writerSchema.getAvroSchema(), readerSchema.getAvroSchema());
       this.keyFieldSchema = getKeySchema(readerSchema).orElse(null);
     }
 
     @Override
     public boolean hasNext() {
-      try {
-        // NOTE: This is required for idempotency
-        if (next != null) {
-          return true;
-        }
-
-        while (sortedKeyIterator.hasNext()) {
-          // First check if the key is present in the file using bloom filter;
-          // skip seekTo in HFile if the key is not present.
-          String rawKey = sortedKeyIterator.next();
-          if (bloomFilterOption.isPresent() && !bloomFilterOption.get().mightContain(rawKey)) {
-            continue;
-          }
-          UTF8StringKey key = new UTF8StringKey(rawKey);
-          if (reader.seekTo(key) == HFileReader.SEEK_TO_FOUND) {
-            // Key is found
-            KeyValue keyValue = reader.getKeyValue().get();
-            next = deserialize(
-                key.getBytes(), key.getContentOffset(), key.getContentLength(),
-                keyValue.getBytes(), keyValue.getValueOffset(), keyValue.getValueLength(),
-                datumReader, keyFieldSchema);
-            return true;
-          }
-        }
-        return false;
-      } catch (IOException e) {
-        throw new HoodieIOException("Unable to read next record from HFile ", e);
-      }
+      return keyValueIterator.hasNext();
     }
 
     @Override
     public IndexedRecord next() {
-      IndexedRecord next = this.next;
-      this.next = null;
-      return next;
+      try {
+        return getRecordFromKeyValue(keyValueIterator.next(), datumReader, keyFieldSchema);
+      } catch (IOException e) {
+        throw new HoodieIOException("Unable to read next record from HFile ", e);
+      }
     }
 
     @Override
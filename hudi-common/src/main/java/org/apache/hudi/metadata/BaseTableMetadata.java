@@ -22,6 +22,7 @@ import org.apache.hudi.avro.model.HoodieMetadataBloomFilter;
 import org.apache.hudi.avro.model.HoodieMetadataColumnStats;
 import org.apache.hudi.common.bloom.BloomFilter;
 import org.apache.hudi.common.bloom.BloomFilterFactory;
+import org.apache.hudi.common.bloom.KeyHashSketch;
 import org.apache.hudi.common.config.HoodieMetadataConfig;
 import org.apache.hudi.common.data.HoodieData;
 import org.apache.hudi.common.data.HoodieListData;
@@ -209,6 +210,7 @@ public abstract class BaseTableMetadata extends AbstractHoodieTableMetadata {
       hoodieRecords = HoodieDataUtils.dedupeAndCollectAsList(recordsData);
       metrics.ifPresent(m -> m.updateMetrics(HoodieMetadataMetrics.LOOKUP_BLOOM_FILTERS_METADATA_STR, timer.endTimer()));
       metrics.ifPresent(m -> m.setMetric(HoodieMetadataMetrics.LOOKUP_BLOOM_FILTERS_FILE_COUNT_STR, bloomFilterKeys.size()));
+      metrics.ifPresent(HoodieMetadataMetrics::updateHFileBlockCacheMetrics);
     } finally {
       recordsData.unpersistWithDependencies();
     }
@@ -237,6 +239,44 @@ public abstract class BaseTableMetadata extends AbstractHoodieTableMetadata {
     return partitionFileToBloomFilterMap;
   }
 
+  @Override
+  public Map<Pair<String, String>, KeyHashSketch> getKeyHashSketches(final List<Pair<String, String>> partitionNameFileNameList)
+      throws HoodieMetadataException {
+    if (!dataMetaClient.getTableConfig().getMetadataPartitions().contains(MetadataPartitionType.BLOOM_FILTERS.getPartitionPath())
+        || partitionNameFileNameList.isEmpty()) {
+      return Collections.emptyMap();
+    }
+
+    Map<String, Pair<String, String>> fileToKeyMap = new HashMap<>();
+    List<KeyHashSketchIndexRawKey> sketchKeys = new ArrayList<>();
+    partitionNameFileNameList.forEach(partitionNameFileNamePair -> {
+      KeyHashSketchIndexRawKey rawKey = new KeyHashSketchIndexRawKey(partitionNameFileNamePair.getLeft(), partitionNameFileNamePair.getRight());
+      sketchKeys.add(rawKey);
+      fileToKeyMap.put(rawKey.encode(), partitionNameFileNamePair);
+    });
+
+    HoodiePairData<String, HoodieMetadataPayload> recordsData =
+        readIndexRecordsWithKeys(HoodieListData.eager(sketchKeys), MetadataPartitionType.BLOOM_FILTERS.getPartitionPath());
+    List<Pair<String, HoodieMetadataPayload>> hoodieRecords;
+    try {
+      hoodieRecords = HoodieDataUtils.dedupeAndCollectAsList(recordsData);
+    } finally {
+      recordsData.unpersistWithDependencies();
+    }
+
+    Map<Pair<String, String>, KeyHashSketch> partitionFileToSketchMap = new HashMap<>(hoodieRecords.size());
+    for (final Pair<String, HoodieMetadataPayload> entry : hoodieRecords) {
+      final Option<HoodieMetadataBloomFilter> sketchMetadata = entry.getValue().getBloomFilterMetadata();
+      if (sketchMetadata.isPresent() && !sketchMetadata.get().getIsDeleted()
+          && KeyHashSketch.TYPE_CODE.equals(sketchMetadata.get().getType())) {
+        ValidationUtils.checkState(fileToKeyMap.containsKey(entry.getKey()));
+        partitionFileToSketchMap.put(fileToKeyMap.get(entry.getKey()),
+            KeyHashSketch.fromByteBuffer(sketchMetadata.get().getBloomFilter()));
+      }
+    }
+    return partitionFileToSketchMap;
+  }
+
   @Override
   public Map<Pair<String, String>, HoodieMetadataColumnStats> getColumnStats(final List<Pair<String, String>> partitionNameFileNameList, final String columnName)
       throws HoodieMetadataException {
@@ -296,6 +336,7 @@ public abstract class BaseTableMetadata extends AbstractHoodieTableMetadata {
     Option<HoodieMetadataPayload> metadataPayloadOpt = readFilesIndexRecords(recordKey,
         MetadataPartitionType.FILES.getPartitionPath());
     metrics.ifPresent(m -> m.updateMetrics(HoodieMetadataMetrics.LOOKUP_FILES_STR, timer.endTimer()));
+    metrics.ifPresent(HoodieMetadataMetrics::updateHFileBlockCacheMetrics);
 
     List<StoragePathInfo> pathInfoList = metadataPayloadOpt
         .map(metadataPayload -> {
@@ -400,6 +441,7 @@ public abstract class BaseTableMetadata extends AbstractHoodieTableMetadata {
     try {
       hoodieRecords = HoodieDataUtils.dedupeAndCollectAsList(recordsData);
       metrics.ifPresent(m -> m.updateMetrics(HoodieMetadataMetrics.LOOKUP_COLUMN_STATS_METADATA_STR, timer.endTimer()));
+      metrics.ifPresent(HoodieMetadataMetrics::updateHFileBlockCacheMetrics);
     } finally {
       recordsData.unpersistWithDependencies();
     }
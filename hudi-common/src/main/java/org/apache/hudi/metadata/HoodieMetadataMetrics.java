@@ -26,6 +26,8 @@ import org.apache.hudi.common.table.view.HoodieTableFileSystemView;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.config.metrics.HoodieMetricsConfig;
 import org.apache.hudi.exception.HoodieIOException;
+import org.apache.hudi.io.hfile.CachingHFileReaderImpl;
+import org.apache.hudi.io.hfile.HFileBlockCache;
 import org.apache.hudi.metrics.HoodieGauge;
 import org.apache.hudi.metrics.Metrics;
 import org.apache.hudi.storage.HoodieStorage;
@@ -83,6 +85,14 @@ public class HoodieMetadataMetrics implements Serializable {
   public static final String LOG_COMPACTION_FAILURES = "logcompaction_failures";
   public static final String PENDING_COMPACTIONS_FAILURES = "pending_compactions_failures";
 
+  // HFile block cache stats, shared by all the metadata file readers in the JVM
+  public static final String HFILE_BLOCK_CACHE_HIT_COUNT = "hfile_block_cache.hit_count";
+  public static final String HFILE_BLOCK_CACHE_MISS_COUNT = "hfile_block_cache.miss_count";
+  public static final String HFILE_BLOCK_CACHE_EVICTION_COUNT = "hfile_block_cache.eviction_count";
+  public static final String HFILE_BLOCK_CACHE_BLOCK_COUNT = "hfile_block_cache.block_count";
+  public static final String HFILE_BLOCK_CACHE_SIZE_BYTES = "hfile_block_cache.size_bytes";
+  public static final String HFILE_BLOCK_CACHE_OFF_HEAP_USED_BYTES = "hfile_block_cache.offheap_used_bytes";
+
   private final transient MetricRegistry metricsRegistry;
   private final transient Metrics metrics;
 
@@ -159,6 +169,27 @@ public class HoodieMetadataMetrics implements Serializable {
     }
   }
 
+  /**
+   * Updates the gauges of the HFile block cache with the current statistics of the global cache.
+   */
+  public void updateHFileBlockCacheMetrics() {
+    if (metricsRegistry == null) {
+      return;
+    }
+    HFileBlockCache.Stats stats = CachingHFileReaderImpl.getGlobalCacheStats();
+    if (stats == null) {
+      return;
+    }
+    setMetric(HFILE_BLOCK_CACHE_HIT_COUNT, stats.getHitCount());
+    setMetric(HFILE_BLOCK_CACHE_MISS_COUNT, stats.getMissCount());
+    setMetric(HFILE_BLOCK_CACHE_EVICTION_COUNT, stats.getEvictionCount());
+    setMetric(HFILE_BLOCK_CACHE_BLOCK_COUNT, stats.getBlockCount());
+    if (stats.getSizeInBytes() >= 0) {
+      setMetric(HFILE_BLOCK_CACHE_SIZE_BYTES, stats.getSizeInBytes());
+    }
+    setMetric(HFILE_BLOCK_CACHE_OFF_HEAP_USED_BYTES, stats.getOffHeapUsedBytes());
+  }
+
   protected void incrementMetric(String action, long value) {
     log.debug("Updating metadata metrics ({}={}) in {}", action, value, metricsRegistry);
     Option<HoodieGauge<Long>> gaugeOpt = metrics.registerGauge(action);
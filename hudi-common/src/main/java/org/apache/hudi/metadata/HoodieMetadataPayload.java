@@ -25,6 +25,7 @@ import org.apache.hudi.avro.model.HoodieMetadataFileInfo;
 import org.apache.hudi.avro.model.HoodieMetadataRecord;
 import org.apache.hudi.avro.model.HoodieRecordIndexInfo;
 import org.apache.hudi.avro.model.HoodieSecondaryIndexInfo;
+import org.apache.hudi.common.bloom.KeyHashSketch;
 import org.apache.hudi.common.fs.FSUtils;
 import org.apache.hudi.common.model.EmptyHoodieRecordPayload;
 import org.apache.hudi.common.model.HoodieAvroRecord;
@@ -141,6 +142,8 @@ public class HoodieMetadataPayload implements HoodieRecordPayload<HoodieMetadata
   public static final String BLOOM_FILTER_FIELD_TIMESTAMP = "timestamp";
   public static final String BLOOM_FILTER_FIELD_BLOOM_FILTER = "bloomFilter";
   public static final String BLOOM_FILTER_FIELD_IS_DELETED = FIELD_IS_DELETED;
+  // Suffix of the keys of the key hash sketch records, stored with the bloom filter payload fields
+  public static final String KEY_HASH_SKETCH_KEY_SUFFIX = "#sketch";
 
   /**
    * HoodieMetadata column stats payload field ids
@@ -370,6 +373,33 @@ public class HoodieMetadataPayload implements HoodieRecordPayload<HoodieMetadata
     return new HoodieAvroRecord<>(key, metadataPayload);
   }
 
+  /**
+   * Create key hash sketch metadata record, stored in the bloom filter partition next to the bloom filter of the file.
+   *
+   * @param partitionName - Partition name
+   * @param baseFileName  - Base file name for which the key hash sketch needs to persisted
+   * @param timestamp     - Instant timestamp responsible for this record
+   * @param sketch        - Serialized {@link org.apache.hudi.common.bloom.KeyHashSketch} of the file
+   * @param isDeleted     - Is the sketch no more valid
+   * @return Metadata payload containing the fileID and its key hash sketch record
+   */
+  public static HoodieRecord<HoodieMetadataPayload> createKeyHashSketchMetadataRecord(final String partitionName,
+                                                                                      final String baseFileName,
+                                                                                      final String timestamp,
+                                                                                      final ByteBuffer sketch,
+                                                                                      final boolean isDeleted) {
+    checkArgument(!baseFileName.contains(StoragePath.SEPARATOR)
+            && FSUtils.isBaseFile(new StoragePath(baseFileName)),
+        "Invalid base file '" + baseFileName + "' for MetaIndexKeyHashSketch!");
+    final String sketchIndexKey = getKeyHashSketchIndexKey(getBloomFilterRecordKey(partitionName, baseFileName));
+    HoodieKey key = new HoodieKey(sketchIndexKey, MetadataPartitionType.BLOOM_FILTERS.getPartitionPath());
+
+    HoodieMetadataBloomFilter metadataSketch =
+        new HoodieMetadataBloomFilter(KeyHashSketch.TYPE_CODE, timestamp, sketch, isDeleted);
+    HoodieMetadataPayload metadataPayload = new HoodieMetadataPayload(key.getRecordKey(), metadataSketch);
+    return new HoodieAvroRecord<>(key, metadataPayload);
+  }
+
   @Override
   public HoodieMetadataPayload preCombine(HoodieMetadataPayload previousRecord) {
     if (this.isDeletedRecord) {
@@ -531,6 +561,14 @@ public class HoodieMetadataPayload implements HoodieRecordPayload<HoodieMetadata
         .concat(fileIndexID.asBase64EncodedString());
   }
 
+  /**
+   * Get key hash sketch index key from the bloom filter index key of the same file. The suffix is not a base64
+   * character, so that the sketch keys never collide with the bloom filter keys.
+   */
+  public static String getKeyHashSketchIndexKey(String bloomFilterIndexKey) {
+    return bloomFilterIndexKey.concat(KEY_HASH_SKETCH_KEY_SUFFIX);
+  }
+
   /**
    * Get column stats index key.
    *
@@ -20,6 +20,7 @@ package org.apache.hudi.metadata;
 
 import org.apache.hudi.avro.model.HoodieMetadataColumnStats;
 import org.apache.hudi.common.bloom.BloomFilter;
+import org.apache.hudi.common.bloom.KeyHashSketch;
 import org.apache.hudi.common.data.HoodieData;
 import org.apache.hudi.common.data.HoodiePairData;
 import org.apache.hudi.common.function.SerializableFunctionUnchecked;
@@ -42,6 +43,7 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -218,6 +220,18 @@ public interface HoodieTableMetadata extends Serializable, AutoCloseable {
   Map<Pair<String, String>, BloomFilter> getBloomFilters(final List<Pair<String, String>> partitionNameFileNameList, final String metadataPartitionName)
       throws HoodieMetadataException;
 
+  /**
+   * Get the key hash sketches of files from the bloom filter partition of the metadata table index.
+   *
+   * @param partitionNameFileNameList - List of partition and file name pair for which the sketches need to be retrieved
+   * @return Map of partition file name pair to its key hash sketch, without the files that have no sketch
+   * @throws HoodieMetadataException
+   */
+  default Map<Pair<String, String>, KeyHashSketch> getKeyHashSketches(final List<Pair<String, String>> partitionNameFileNameList)
+      throws HoodieMetadataException {
+    return Collections.emptyMap();
+  }
+
   /**
    * Get column stats for files from the metadata table index.
    *
@@ -39,6 +39,7 @@ import org.apache.hudi.avro.model.StringWrapper;
 import org.apache.hudi.avro.model.TimeMicrosWrapper;
 import org.apache.hudi.avro.model.TimestampMicrosWrapper;
 import org.apache.hudi.common.bloom.BloomFilter;
+import org.apache.hudi.common.bloom.KeyHashSketch;
 import org.apache.hudi.common.config.HoodieConfig;
 import org.apache.hudi.common.config.HoodieMetadataConfig;
 import org.apache.hudi.common.config.HoodieReaderConfig;
@@ -568,6 +569,7 @@ public class HoodieTableMetadataUtil {
     }
 
     final int parallelism = Math.max(Math.min(allWriteStats.size(), bloomIndexParallelism), 1);
+    final int keyHashSketchBitsPerKey = getKeyHashSketchBitsPerKey(hoodieConfig);
     HoodieData<HoodieWriteStat> allWriteStatsRDD = context.parallelize(allWriteStats, parallelism);
     return allWriteStatsRDD.flatMap(hoodieWriteStat -> {
       final String partition = hoodieWriteStat.getPartitionPath();
@@ -601,6 +603,11 @@ public class HoodieTableMetadataUtil {
           ByteBuffer bloomByteBuffer = ByteBuffer.wrap(getUTF8Bytes(fileBloomFilter.serializeToString()));
           HoodieRecord record = HoodieMetadataPayload.createBloomFilterMetadataRecord(
               partition, fileName, instantTime, bloomFilterType, bloomByteBuffer, false);
+          if (keyHashSketchBitsPerKey > 0) {
+            HoodieRecord sketchRecord = HoodieMetadataPayload.createKeyHashSketchMetadataRecord(
+                partition, fileName, instantTime, buildKeyHashSketch(fileReader, keyHashSketchBitsPerKey), false);
+            return Arrays.asList(record, sketchRecord).iterator();
+          }
           return Collections.singletonList(record).iterator();
         } catch (Exception e) {
           log.error("Failed to read bloom filter for {}", writeFilePath);
@@ -630,7 +637,8 @@ public class HoodieTableMetadataUtil {
     partitionToRecordsMap.put(MetadataPartitionType.FILES.getPartitionPath(), filesPartitionRecordsRDD);
     if (enabledPartitionTypes.contains(MetadataPartitionType.BLOOM_FILTERS)) {
       final HoodieData<HoodieRecord> metadataBloomFilterRecordsRDD =
-          convertMetadataToBloomFilterRecords(cleanMetadata, engineContext, instantTime, bloomIndexParallelism);
+          convertMetadataToBloomFilterRecords(cleanMetadata, engineContext, instantTime, bloomIndexParallelism,
+              metadataConfig.isBloomFilterIndexKeyHashSketchEnabled());
       partitionToRecordsMap.put(MetadataPartitionType.BLOOM_FILTERS.getPartitionPath(), metadataBloomFilterRecordsRDD);
     }
 
@@ -804,6 +812,18 @@ public class HoodieTableMetadataUtil {
                                                                              HoodieEngineContext engineContext,
                                                                              String instantTime,
                                                                              int bloomIndexParallelism) {
+    return convertMetadataToBloomFilterRecords(cleanMetadata, engineContext, instantTime, bloomIndexParallelism, false);
+  }
+
+  /**
+   * Convert clean metadata to bloom filter index records, with the deletes of the key hash sketches of the cleaned files if
+   * {@code withKeyHashSketches} is set.
+   */
+  public static HoodieData<HoodieRecord> convertMetadataToBloomFilterRecords(HoodieCleanMetadata cleanMetadata,
+                                                                             HoodieEngineContext engineContext,
+                                                                             String instantTime,
+                                                                             int bloomIndexParallelism,
+                                                                             boolean withKeyHashSketches) {
     List<Pair<String, String>> deleteFileList = new ArrayList<>();
     cleanMetadata.getPartitionMetadata().forEach((partition, partitionMetadata) -> {
       // Files deleted from a partition
@@ -818,9 +838,16 @@ public class HoodieTableMetadataUtil {
 
     final int parallelism = Math.max(Math.min(deleteFileList.size(), bloomIndexParallelism), 1);
     HoodieData<Pair<String, String>> deleteFileListRDD = engineContext.parallelize(deleteFileList, parallelism);
-    return deleteFileListRDD.map(deleteFileInfoPair -> HoodieMetadataPayload.createBloomFilterMetadataRecord(
-        deleteFileInfoPair.getLeft(), deleteFileInfoPair.getRight(), instantTime, StringUtils.EMPTY_STRING,
-        ByteBuffer.allocate(0), true));
+    if (!withKeyHashSketches) {
+      return deleteFileListRDD.map(deleteFileInfoPair -> HoodieMetadataPayload.createBloomFilterMetadataRecord(
+          deleteFileInfoPair.getLeft(), deleteFileInfoPair.getRight(), instantTime, StringUtils.EMPTY_STRING,
+          ByteBuffer.allocate(0), true));
+    }
+    return deleteFileListRDD.flatMap(deleteFileInfoPair -> Arrays.<HoodieRecord>asList(
+        HoodieMetadataPayload.createBloomFilterMetadataRecord(deleteFileInfoPair.getLeft(), deleteFileInfoPair.getRight(),
+            instantTime, StringUtils.EMPTY_STRING, ByteBuffer.allocate(0), true),
+        HoodieMetadataPayload.createKeyHashSketchMetadataRecord(deleteFileInfoPair.getLeft(), deleteFileInfoPair.getRight(),
+            instantTime, ByteBuffer.allocate(0), true)).iterator());
   }
 
   /**
@@ -1102,6 +1129,7 @@ public class HoodieTableMetadataUtil {
           .withMetaClient(datasetMetaClient)
           .withAllowInflightInstants(true)
           .withRecordBuffer(recordBuffer)
+          .withLogBlockPrefetch(properties)
           .build()) {
         // initializes the record buffer with the log records
         return recordBuffer.getLogRecordIterator();
@@ -1320,6 +1348,22 @@ public class HoodieTableMetadataUtil {
                                                                           HoodieTableMetaClient dataMetaClient,
                                                                           int bloomIndexParallelism,
                                                                           String bloomFilterType) {
+    return convertFilesToBloomFilterRecords(engineContext, partitionToDeletedFiles, partitionToAppendedFiles, instantTime,
+        dataMetaClient, bloomIndexParallelism, bloomFilterType, 0);
+  }
+
+  /**
+   * Convert added and deleted files metadata to bloom filter index records, along with the key hash sketches of the files
+   * if {@code keyHashSketchBitsPerKey} is positive.
+   */
+  public static HoodieData<HoodieRecord> convertFilesToBloomFilterRecords(HoodieEngineContext engineContext,
+                                                                          Map<String, List<String>> partitionToDeletedFiles,
+                                                                          Map<String, Map<String, Long>> partitionToAppendedFiles,
+                                                                          String instantTime,
+                                                                          HoodieTableMetaClient dataMetaClient,
+                                                                          int bloomIndexParallelism,
+                                                                          String bloomFilterType,
+                                                                          int keyHashSketchBitsPerKey) {
     // Create the tuple (partition, filename, isDeleted) to handle both deletes and appends
     final List<Tuple3<String, String, Boolean>> partitionFileFlagTupleList = fetchPartitionFileInfoTriplets(partitionToDeletedFiles, partitionToAppendedFiles);
 
@@ -1348,9 +1392,16 @@ public class HoodieTableMetadataUtil {
         }
       }
 
-      return Stream.<HoodieRecord>of(HoodieMetadataPayload.createBloomFilterMetadataRecord(
-              partitionName, filename, instantTime, bloomFilterType, bloomFilterBuffer, partitionFileFlagTuple.f2))
-          .iterator();
+      HoodieRecord bloomFilterRecord = HoodieMetadataPayload.createBloomFilterMetadataRecord(
+          partitionName, filename, instantTime, bloomFilterType, bloomFilterBuffer, partitionFileFlagTuple.f2);
+      if (keyHashSketchBitsPerKey <= 0) {
+        return Stream.of(bloomFilterRecord).iterator();
+      }
+      ByteBuffer sketchBuffer = isDeleted
+          ? ByteBuffer.allocate(0)
+          : readKeyHashSketch(dataMetaClient.getStorage(), new StoragePath(dataMetaClient.getBasePath(), partitionName + "/" + filename), keyHashSketchBitsPerKey);
+      return Stream.of(bloomFilterRecord, HoodieMetadataPayload.createKeyHashSketchMetadataRecord(
+          partitionName, filename, instantTime, sketchBuffer, isDeleted)).iterator();
     });
   }
 
@@ -1395,6 +1446,35 @@ public class HoodieTableMetadataUtil {
     }
   }
 
+  private static ByteBuffer readKeyHashSketch(HoodieStorage storage, StoragePath filePath, int bitsPerKey) throws IOException {
+    HoodieConfig hoodieConfig = getReaderConfigs(storage.getConf());
+    try (HoodieFileReader fileReader = HoodieIOFactory.getIOFactory(storage).getReaderFactory(HoodieRecordType.AVRO)
+        .getFileReader(hoodieConfig, filePath)) {
+      return buildKeyHashSketch(fileReader, bitsPerKey);
+    }
+  }
+
+  /**
+   * Builds the key hash sketch of a base file from its record keys, see {@link KeyHashSketch}.
+   */
+  private static ByteBuffer buildKeyHashSketch(HoodieFileReader fileReader, int bitsPerKey) throws IOException {
+    KeyHashSketch sketch = new KeyHashSketch(fileReader.getTotalRecords(), bitsPerKey);
+    try (ClosableIterator<String> keyIterator = fileReader.getRecordKeyIterator()) {
+      while (keyIterator.hasNext()) {
+        sketch.add(keyIterator.next());
+      }
+    }
+    return sketch.toByteBuffer();
+  }
+
+  /**
+   * Returns the number of bits per key of the key hash sketches to build along with the bloom filters, or 0 if disabled.
+   */
+  private static int getKeyHashSketchBitsPerKey(HoodieConfig hoodieConfig) {
+    return hoodieConfig.getBooleanOrDefault(HoodieMetadataConfig.BLOOM_FILTER_INDEX_KEY_HASH_SKETCH_ENABLE)
+        ? hoodieConfig.getIntOrDefault(HoodieMetadataConfig.BLOOM_FILTER_INDEX_KEY_HASH_SKETCH_BITS_PER_KEY) : 0;
+  }
+
   private static List<Tuple3<String, String, Boolean>> fetchPartitionFileInfoTriplets(
       Map<String, List<String>> partitionToDeletedFiles,
       Map<String, Map<String, Long>> partitionToAppendedFiles) {
@@ -3171,6 +3251,12 @@ public class HoodieTableMetadataUtil {
         storageConf.getEnum(SPILLABLE_DISK_MAP_TYPE.key(), SPILLABLE_DISK_MAP_TYPE.defaultValue()).toString());
     properties.setProperty(DISK_MAP_BITCASK_COMPRESSION_ENABLED.key(),
         Boolean.toString(storageConf.getBoolean(DISK_MAP_BITCASK_COMPRESSION_ENABLED.key(), DISK_MAP_BITCASK_COMPRESSION_ENABLED.defaultValue())));
+    properties.setProperty(HoodieReaderConfig.LOG_BLOCK_PREFETCH_ENABLED.key(),
+        Boolean.toString(storageConf.getBoolean(HoodieReaderConfig.LOG_BLOCK_PREFETCH_ENABLED.key(), HoodieReaderConfig.LOG_BLOCK_PREFETCH_ENABLED.defaultValue())));
+    properties.setProperty(HoodieReaderConfig.LOG_BLOCK_PREFETCH_PARALLELISM.key(),
+        Integer.toString(storageConf.getInt(HoodieReaderConfig.LOG_BLOCK_PREFETCH_PARALLELISM.key(), HoodieReaderConfig.LOG_BLOCK_PREFETCH_PARALLELISM.defaultValue())));
+    properties.setProperty(HoodieReaderConfig.LOG_BLOCK_PREFETCH_MAX_BYTES.key(),
+        Long.toString(storageConf.getLong(HoodieReaderConfig.LOG_BLOCK_PREFETCH_MAX_BYTES.key(), HoodieReaderConfig.LOG_BLOCK_PREFETCH_MAX_BYTES.defaultValue())));
     return properties;
   }
 }
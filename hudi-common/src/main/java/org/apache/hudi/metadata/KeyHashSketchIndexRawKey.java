@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.metadata;
+
+import org.apache.hudi.common.util.hash.FileIndexID;
+import org.apache.hudi.common.util.hash.PartitionIndexID;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * Represents a raw key for the key hash sketch metadata of a file, stored next to its bloom filter.
+ */
+@Value
+public class KeyHashSketchIndexRawKey implements RawKey {
+
+  @NonNull
+  String partitionName;
+  @NonNull
+  String fileName;
+
+  @Override
+  public String encode() {
+    return HoodieMetadataPayload.getKeyHashSketchIndexKey(HoodieMetadataPayload.getBloomFilterIndexKey(
+        new PartitionIndexID(HoodieTableMetadataUtil.getBloomFilterIndexPartitionIdentifier(partitionName)),
+        new FileIndexID(fileName)));
+  }
+}
@@ -19,26 +19,48 @@
 package org.apache.hudi.timeline;
 
 import org.apache.hudi.common.table.view.FileSystemViewStorageConfig;
+import org.apache.hudi.io.util.FileIOUtils;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpStatus;
+import org.apache.http.StatusLine;
+import org.apache.http.client.ClientProtocolException;
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.client.fluent.Content;
 import org.apache.http.client.utils.URIBuilder;
+import org.apache.http.entity.ContentType;
+import org.apache.http.util.EntityUtils;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Default implementation of an HTTP network client to trigger HTTP calls (GET or POST)
  * to the Timeline Server from the executors.
  * This class uses the Fluent HTTP client part of the HTTPComponents.
+ * <p>
+ * The content of the GET responses carrying an entity tag is kept, and the tag is sent back with the
+ * same request later on, so that the server can reply with no content if the response is unchanged.
  */
 @Slf4j
 public class TimelineServiceClient extends TimelineServiceClientBase {
 
   private static final String DEFAULT_SCHEME = "http";
+  private static final long MAX_TAGGED_RESPONSES_SIZE_IN_BYTES = 16 * 1024 * 1024;
 
   protected final String timelineServerHost;
   protected final int timelineServerPort;
   protected final int timeoutMs;
+  // Content of the tagged responses by request URL, rebuilt when deserialized on the executors
+  private transient volatile Cache<String, TaggedResponse> taggedResponses;
 
   public TimelineServiceClient(FileSystemViewStorageConfig config) {
     super(config);
@@ -49,6 +71,95 @@ public class TimelineServiceClient extends TimelineServiceClientBase {
 
   @Override
   protected Response executeRequest(Request request) throws IOException {
+    if (request.getMethod() == RequestMethod.GET) {
+      return executeConditionalGet(getUrl(request),
+          (content, contentType) -> new Response(new ByteArrayInputStream(FileIOUtils.readAsByteArray(content)), contentType));
+    }
+    Content content = get(request.getMethod(), getUrl(request), timeoutMs).returnContent();
+    return new Response(content.asStream(), content.getType().getMimeType());
+  }
+
+  /**
+   * Decodes the content of the response while it is received, instead of buffering it first.
+   */
+  @Override
+  protected <T> T executeRequest(Request request, ContentDecoder<T> decoder) throws IOException {
+    if (request.getMethod() == RequestMethod.GET) {
+      return executeConditionalGet(getUrl(request), decoder);
+    }
+    return get(request.getMethod(), getUrl(request), timeoutMs).handleResponse(response -> {
+      StatusLine statusLine = response.getStatusLine();
+      HttpEntity entity = response.getEntity();
+      if (statusLine.getStatusCode() >= 300) {
+        EntityUtils.consume(entity);
+        throw new HttpResponseException(statusLine.getStatusCode(), statusLine.getReasonPhrase());
+      }
+      if (entity == null) {
+        throw new ClientProtocolException("Response contains no content");
+      }
+      ContentType contentType = ContentType.get(entity);
+      try (InputStream content = entity.getContent()) {
+        return decoder.decode(content, contentType == null ? null : contentType.getMimeType());
+      }
+    });
+  }
+
+  /**
+   * Sends the entity tag of the previous response to the same request, if any, and decodes the content
+   * of that response again if the server replies that it is not modified.
+   */
+  private <T> T executeConditionalGet(String url, ContentDecoder<T> decoder) throws IOException {
+    Cache<String, TaggedResponse> responses = getTaggedResponses();
+    TaggedResponse previous = responses.getIfPresent(url);
+    org.apache.http.client.fluent.Request httpRequest =
+        org.apache.http.client.fluent.Request.Get(url).connectTimeout(timeoutMs).socketTimeout(timeoutMs);
+    if (previous != null) {
+      httpRequest.addHeader(HttpHeaders.IF_NONE_MATCH, previous.eTag);
+    }
+    return httpRequest.execute().handleResponse(response -> {
+      StatusLine statusLine = response.getStatusLine();
+      HttpEntity entity = response.getEntity();
+      if (statusLine.getStatusCode() == HttpStatus.SC_NOT_MODIFIED && previous != null) {
+        EntityUtils.consume(entity);
+        return decoder.decode(new ByteArrayInputStream(previous.content), previous.contentType);
+      }
+      if (statusLine.getStatusCode() >= 300) {
+        EntityUtils.consume(entity);
+        throw new HttpResponseException(statusLine.getStatusCode(), statusLine.getReasonPhrase());
+      }
+      if (entity == null) {
+        throw new ClientProtocolException("Response contains no content");
+      }
+      ContentType type = ContentType.get(entity);
+      String contentType = type == null ? null : type.getMimeType();
+      Header eTag = response.getFirstHeader(HttpHeaders.ETAG);
+      if (eTag == null) {
+        responses.invalidate(url);
+        try (InputStream content = entity.getContent()) {
+          return decoder.decode(content, contentType);
+        }
+      }
+      byte[] content = EntityUtils.toByteArray(entity);
+      responses.put(url, new TaggedResponse(eTag.getValue(), content, contentType));
+      return decoder.decode(new ByteArrayInputStream(content), contentType);
+    });
+  }
+
+  private Cache<String, TaggedResponse> getTaggedResponses() {
+    if (taggedResponses == null) {
+      synchronized (this) {
+        if (taggedResponses == null) {
+          taggedResponses = Caffeine.newBuilder()
+              .maximumWeight(MAX_TAGGED_RESPONSES_SIZE_IN_BYTES)
+              .weigher((String url, TaggedResponse response) -> url.length() * Character.BYTES + response.content.length)
+              .build();
+        }
+      }
+    }
+    return taggedResponses;
+  }
+
+  private String getUrl(Request request) {
     URIBuilder builder =
         new URIBuilder().setHost(timelineServerHost).setPort(timelineServerPort).setPath(request.getPath()).setScheme(DEFAULT_SCHEME);
 
@@ -58,8 +169,7 @@ public class TimelineServiceClient extends TimelineServiceClientBase {
 
     String url = builder.toString();
     log.debug("Sending request : ({})", url);
-    org.apache.http.client.fluent.Response response = get(request.getMethod(), url, timeoutMs);
-    return new Response(response.returnContent().asStream());
+    return url;
   }
 
   private org.apache.http.client.fluent.Response get(RequestMethod method, String url, int timeoutMs) throws IOException {
@@ -71,4 +181,11 @@ public class TimelineServiceClient extends TimelineServiceClientBase {
         return org.apache.http.client.fluent.Request.Post(url).connectTimeout(timeoutMs).socketTimeout(timeoutMs).execute();
     }
   }
+
+  @AllArgsConstructor
+  private static class TaggedResponse {
+    private final String eTag;
+    private final byte[] content;
+    private final String contentType;
+  }
 }
@@ -40,23 +40,43 @@ import java.util.Map;
  */
 public abstract class TimelineServiceClientBase implements Serializable {
 
-  private RetryHelper<Response, IOException> retryHelper;
+  private final FileSystemViewStorageConfig config;
+  private final boolean retryEnabled;
 
   protected TimelineServiceClientBase(FileSystemViewStorageConfig config) {
-    if (config.getBooleanOrDefault(FileSystemViewStorageConfig.REMOTE_RETRY_ENABLE)) {
-      retryHelper = new RetryHelper<>(
-          config.getRemoteTimelineClientMaxRetryIntervalMs(),
-          config.getRemoteTimelineClientMaxRetryNumbers(),
-          config.getRemoteTimelineInitialRetryIntervalMs(),
-          config.getRemoteTimelineClientRetryExceptions(),
-          "Sending request to timeline server");
-    }
+    this.config = config;
+    this.retryEnabled = config.getBooleanOrDefault(FileSystemViewStorageConfig.REMOTE_RETRY_ENABLE);
   }
 
   protected abstract Response executeRequest(Request request) throws IOException;
 
+  /**
+   * Executes the request and decodes the content of the response. By default, the content is decoded
+   * once the response is fully received, implementations may decode it while it is received.
+   */
+  protected <T> T executeRequest(Request request, ContentDecoder<T> decoder) throws IOException {
+    return executeRequest(request).getDecodedContent(decoder);
+  }
+
   public Response makeRequest(Request request) throws IOException {
-    return  (retryHelper != null) ? retryHelper.start(() -> executeRequest(request)) : executeRequest(request);
+    return retrying(() -> executeRequest(request));
+  }
+
+  public <T> T makeRequest(Request request, ContentDecoder<T> decoder) throws IOException {
+    return retrying(() -> executeRequest(request, decoder));
+  }
+
+  private <T> T retrying(RetryHelper.CheckedFunction<T, IOException> call) throws IOException {
+    if (!retryEnabled) {
+      return call.get();
+    }
+    RetryHelper<T, IOException> retryHelper = new RetryHelper<>(
+        config.getRemoteTimelineClientMaxRetryIntervalMs(),
+        config.getRemoteTimelineClientMaxRetryNumbers(),
+        config.getRemoteTimelineInitialRetryIntervalMs(),
+        config.getRemoteTimelineClientRetryExceptions(),
+        "Sending request to timeline server");
+    return retryHelper.start(call);
   }
 
   @AllArgsConstructor
@@ -104,9 +124,15 @@ public abstract class TimelineServiceClientBase implements Serializable {
   public static class Response {
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new AfterburnerModule());
     private final InputStream content;
+    private final String contentType;
 
     public Response(InputStream content) {
+      this(content, null);
+    }
+
+    public Response(InputStream content, String contentType) {
       this.content = content;
+      this.contentType = contentType;
     }
 
     public <T> T getDecodedContent(TypeReference reference) throws IOException {
@@ -116,6 +142,26 @@ public abstract class TimelineServiceClientBase implements Serializable {
         content.close();
       }
     }
+
+    public <T> T getDecodedContent(ContentDecoder<T> decoder) throws IOException {
+      try {
+        return decoder.decode(content, contentType);
+      } finally {
+        content.close();
+      }
+    }
+  }
+
+  /**
+   * Decodes the content of a response.
+   */
+  @FunctionalInterface
+  public interface ContentDecoder<T> {
+    /**
+     * @param content     content of the response.
+     * @param contentType MIME type of the content, null if unknown.
+     */
+    T decode(InputStream content, String contentType) throws IOException;
   }
 
   public enum RequestMethod {
@@ -37,6 +37,7 @@ public class HoodieFileMetadataMerger {
   private BloomFilter bloomFilter;
   private String minRecordKey;
   private String maxRecordKey;
+  private int numMergedFiles;
 
   public Map<String, String> mergeMetaData(Map<String, String> metaMap) {
     mergedMetadata.putAll(metaMap);
@@ -70,6 +71,10 @@ public class HoodieFileMetadataMerger {
     if (this.bloomFilter != null) {
       mergedMetadata.put(HOODIE_AVRO_BLOOM_FILTER_METADATA_KEY, this.bloomFilter.serializeToString());
     }
+    // the records of the merged files are appended one file after the other, so they are not sorted by key anymore
+    if (++numMergedFiles > 1 && mergedMetadata.containsKey(HoodieBloomFilterWriteSupport.HOODIE_RECORD_KEYS_SORTED_FOOTER)) {
+      mergedMetadata.put(HoodieBloomFilterWriteSupport.HOODIE_RECORD_KEYS_SORTED_FOOTER, String.valueOf(false));
+    }
 
     return mergedMetadata;
   }
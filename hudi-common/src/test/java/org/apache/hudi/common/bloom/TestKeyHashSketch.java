@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.hudi.common.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests {@link KeyHashSketch}.
+ */
+public class TestKeyHashSketch {
+
+  @Test
+  public void testNoFalseNegativesAndFalsePositiveRate() {
+    int numKeys = 10000;
+    KeyHashSketch sketch = new KeyHashSketch(numKeys, 4);
+    List<String> keys = new ArrayList<>(numKeys);
+    for (int i = 0; i < numKeys; i++) {
+      String key = UUID.randomUUID().toString();
+      keys.add(key);
+      sketch.add(key);
+    }
+    assertTrue(keys.stream().allMatch(sketch::mightContain));
+
+    // 40000 bits rounded up to 65536 bits, so that about 1 - e^(-10000/65536) of the bits are set
+    double expectedRate = 1 - Math.exp(-numKeys / 65536.0);
+    assertEquals(expectedRate, sketch.getFalsePositiveRate(), 0.02);
+    int numFalsePositives = 0;
+    for (int i = 0; i < numKeys; i++) {
+      if (sketch.mightContain(UUID.randomUUID().toString())) {
+        numFalsePositives++;
+      }
+    }
+    assertEquals(expectedRate, (double) numFalsePositives / numKeys, 0.03);
+  }
+
+  @Test
+  public void testSerialization() {
+    KeyHashSketch sketch = new KeyHashSketch(100, 8);
+    List<String> keys = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      keys.add("key" + i);
+      sketch.add("key" + i);
+    }
+    KeyHashSketch deserialized = KeyHashSketch.fromByteBuffer(sketch.toByteBuffer());
+    assertTrue(keys.stream().allMatch(deserialized::mightContain));
+    assertEquals(sketch.getFalsePositiveRate(), deserialized.getFalsePositiveRate());
+  }
+
+  @Test
+  public void testSizeIsBounded() {
+    // empty files still get a sketch, and huge files a sketch of at most 2^22 bits
+    assertEquals(0.0, new KeyHashSketch(0, 4).getFalsePositiveRate());
+    assertEquals(Integer.BYTES * 2 + 8, new KeyHashSketch(0, 4).toByteBuffer().remaining());
+    assertEquals(Integer.BYTES * 2 + (1 << 19), new KeyHashSketch(1L << 30, 4).toByteBuffer().remaining());
+  }
+}
@@ -21,10 +21,13 @@ package org.apache.hudi.common.model;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Test cases for {@link HoodieLSMTimelineManifest}.
@@ -52,4 +55,55 @@ public class TestHoodieLSMTimelineManifest {
     assertThat(deserialized.getFiles().stream().map(HoodieLSMTimelineManifest.LSMFileEntry::getFileName).collect(Collectors.joining(",")), is("file1,file2"));
     assertThat(deserialized.getFiles().stream().map(entry -> String.valueOf(entry.getFileLen())).collect(Collectors.joining(",")), is("1024,2048"));
   }
+
+  @Test
+  void testSerializeDeserializeWithStats() throws Exception {
+    HoodieLSMTimelineManifest.LSMFileEntry entry = HoodieLSMTimelineManifest.LSMFileEntry.getInstance(
+        "file1", 1024, "002", "005", Arrays.asList("deltacommit", "commit", "commit"));
+    HoodieLSMTimelineManifest manifest = new HoodieLSMTimelineManifest(Collections.singletonList(entry));
+    String expected = "{\n"
+        + "  \"files\" : [ {\n"
+        + "    \"fileName\" : \"file1\",\n"
+        + "    \"fileLen\" : 1024,\n"
+        + "    \"minCompletionTime\" : \"002\",\n"
+        + "    \"maxCompletionTime\" : \"005\",\n"
+        + "    \"actions\" : [ \"commit\", \"deltacommit\" ]\n"
+        + "  } ]\n"
+        + "}";
+    assertThat(manifest.toJsonString(), is(expected));
+    HoodieLSMTimelineManifest.LSMFileEntry deserialized =
+        HoodieLSMTimelineManifest.fromJsonString(expected, HoodieLSMTimelineManifest.class).getFiles().get(0);
+    assertTrue(deserialized.hasStats());
+    assertThat(deserialized.getMinCompletionTime(), is("002"));
+    assertThat(deserialized.getMaxCompletionTime(), is("005"));
+    assertThat(deserialized.getActions(), is(Arrays.asList("commit", "deltacommit")));
+  }
+
+  @Test
+  void testPruneWithStats() {
+    HoodieLSMTimelineManifest.LSMFileEntry entry = HoodieLSMTimelineManifest.LSMFileEntry.getInstance(
+        "file1", 1024, "002", "005", Collections.singletonList("commit"));
+    assertTrue(entry.mayContainCompletionTimeInRange("001", "002"));
+    assertTrue(entry.mayContainCompletionTimeInRange("005", null));
+    assertTrue(entry.mayContainCompletionTimeInRange(null, null));
+    assertFalse(entry.mayContainCompletionTimeInRange("006", null));
+    assertFalse(entry.mayContainCompletionTimeInRange(null, "001"));
+    assertTrue(entry.mayContainAnyAction(Arrays.asList("clean", "commit")));
+    assertFalse(entry.mayContainAnyAction(Collections.singletonList("clean")));
+
+    // the files written without statistics are never pruned
+    HoodieLSMTimelineManifest.LSMFileEntry legacyEntry = HoodieLSMTimelineManifest.LSMFileEntry.getInstance("file2", 1024);
+    assertFalse(legacyEntry.hasStats());
+    assertTrue(legacyEntry.mayContainCompletionTimeInRange("006", null));
+    assertTrue(legacyEntry.mayContainAnyAction(Collections.singletonList("clean")));
+
+    // the statistics are merged for the compacted file, or dropped if any source file has no statistics
+    HoodieLSMTimelineManifest.LSMFileEntry other = HoodieLSMTimelineManifest.LSMFileEntry.getInstance(
+        "file3", 1024, "006", "009", Collections.singletonList("clean"));
+    HoodieLSMTimelineManifest.LSMFileEntry merged = HoodieLSMTimelineManifest.LSMFileEntry.getInstance("file4", 2048, Arrays.asList(entry, other));
+    assertThat(merged.getMinCompletionTime(), is("002"));
+    assertThat(merged.getMaxCompletionTime(), is("009"));
+    assertThat(merged.getActions(), is(Arrays.asList("clean", "commit")));
+    assertFalse(HoodieLSMTimelineManifest.LSMFileEntry.getInstance("file5", 2048, Arrays.asList(entry, legacyEntry)).hasStats());
+  }
 }
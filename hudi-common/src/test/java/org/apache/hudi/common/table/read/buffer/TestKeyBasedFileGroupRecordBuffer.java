@@ -33,6 +33,7 @@ import org.apache.hudi.common.table.HoodieTableVersion;
 import org.apache.hudi.common.table.log.block.HoodieDataBlock;
 import org.apache.hudi.common.table.log.block.HoodieDeleteBlock;
 import org.apache.hudi.common.table.read.FileGroupReaderSchemaHandler;
+import org.apache.hudi.common.table.read.HoodieRecordBatch;
 import org.apache.hudi.common.table.read.HoodieReadStats;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.collection.ClosableIterator;
@@ -43,6 +44,7 @@ import org.apache.avro.generic.IndexedRecord;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -51,6 +53,7 @@ import java.util.stream.Stream;
 import static org.apache.hudi.common.model.DefaultHoodieRecordPayload.DELETE_KEY;
 import static org.apache.hudi.common.model.DefaultHoodieRecordPayload.DELETE_MARKER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -102,6 +105,80 @@ class TestKeyBasedFileGroupRecordBuffer extends BaseTestFileGroupRecordBuffer {
     assertEquals(3, readStats.getNumUpdates());
   }
 
+  @Test
+  void readWithEventTimeOrderingInBatches() throws IOException {
+    HoodieReadStats readStats = new HoodieReadStats();
+    HoodieTableConfig tableConfig = mock(HoodieTableConfig.class);
+    when(tableConfig.getRecordKeyFields()).thenReturn(Option.of(new String[] {"record_key"}));
+    StorageConfiguration<?> storageConfiguration = mock(StorageConfiguration.class);
+    HoodieReaderContext<IndexedRecord> readerContext = new HoodieAvroReaderContext(storageConfiguration, tableConfig, Option.empty(), Option.empty());
+    KeyBasedFileGroupRecordBuffer<IndexedRecord> fileGroupRecordBuffer = buildKeyBasedFileGroupRecordBuffer(readerContext, tableConfig, readStats, null,
+        RecordMergeMode.EVENT_TIME_ORDERING, Collections.singletonList("ts"), Option.of(Pair.of("counter", "3")));
+
+    // the second and the last batches have no log records
+    assertTrue(fileGroupRecordBuffer.supportsBatchMerge());
+    fileGroupRecordBuffer.setBaseFileBatchIterator(ClosableIterator.wrap(Arrays.<HoodieRecordBatch<IndexedRecord>>asList(
+        new TestRecordBatch(testRecord1, testRecord2), new TestRecordBatch(testRecord4, testRecord5),
+        new TestRecordBatch(testRecord3), new TestRecordBatch(testRecord6)).iterator()));
+
+    HoodieDataBlock dataBlock = mock(HoodieDataBlock.class);
+    when(dataBlock.getSchema()).thenReturn(SCHEMA);
+    when(dataBlock.getEngineRecordIterator(readerContext)).thenReturn(ClosableIterator.wrap(Arrays.asList(testRecord1UpdateWithSameTime, testRecord2Update, testRecord2EarlierUpdate,
+        testRecord3Update, testRecord3DeleteByFieldValue, testRecord7).iterator()));
+
+    fileGroupRecordBuffer.processDataBlock(dataBlock, Option.empty());
+
+    List<IndexedRecord> actualRecords = getActualRecords(fileGroupRecordBuffer);
+    // the records without log records are passed through, the log only record is returned last
+    assertEquals(Arrays.asList(testRecord1UpdateWithSameTime, testRecord2Update, testRecord4, testRecord5, testRecord3Update, testRecord6, testRecord7),
+        actualRecords);
+    assertEquals(1, readStats.getNumInserts());
+    assertEquals(0, readStats.getNumDeletes());
+    assertEquals(3, readStats.getNumUpdates());
+  }
+
+  @Test
+  void readWithEventTimeOrderingInWholeBatches() throws IOException {
+    HoodieReadStats readStats = new HoodieReadStats();
+    HoodieTableConfig tableConfig = mock(HoodieTableConfig.class);
+    when(tableConfig.getRecordKeyFields()).thenReturn(Option.of(new String[] {"record_key"}));
+    StorageConfiguration<?> storageConfiguration = mock(StorageConfiguration.class);
+    HoodieReaderContext<IndexedRecord> readerContext = new HoodieAvroReaderContext(storageConfiguration, tableConfig, Option.empty(), Option.empty());
+    KeyBasedFileGroupRecordBuffer<IndexedRecord> fileGroupRecordBuffer = buildKeyBasedFileGroupRecordBuffer(readerContext, tableConfig, readStats, null,
+        RecordMergeMode.EVENT_TIME_ORDERING, Collections.singletonList("ts"), Option.of(Pair.of("counter", "3")));
+
+    // the second and the last batches have no log records
+    HoodieRecordBatch<IndexedRecord> unmergedBatch1 = new TestRecordBatch(testRecord4, testRecord5);
+    HoodieRecordBatch<IndexedRecord> unmergedBatch2 = new TestRecordBatch(testRecord6);
+    fileGroupRecordBuffer.setBaseFileBatchIterator(ClosableIterator.wrap(Arrays.asList(
+        new TestRecordBatch(testRecord1, testRecord2), unmergedBatch1, new TestRecordBatch(testRecord3), unmergedBatch2).iterator()));
+
+    HoodieDataBlock dataBlock = mock(HoodieDataBlock.class);
+    when(dataBlock.getSchema()).thenReturn(SCHEMA);
+    when(dataBlock.getEngineRecordIterator(readerContext)).thenReturn(ClosableIterator.wrap(Arrays.asList(testRecord1UpdateWithSameTime, testRecord2Update, testRecord2EarlierUpdate,
+        testRecord3Update, testRecord3DeleteByFieldValue, testRecord7).iterator()));
+
+    fileGroupRecordBuffer.processDataBlock(dataBlock, Option.empty());
+
+    List<Object> actualRecordsAndBatches = new ArrayList<>();
+    while (true) {
+      Option<HoodieRecordBatch<IndexedRecord>> batch = fileGroupRecordBuffer.nextUnmergedBatch();
+      if (batch.isPresent()) {
+        actualRecordsAndBatches.add(batch.get());
+      } else if (fileGroupRecordBuffer.hasNext()) {
+        actualRecordsAndBatches.add(fileGroupRecordBuffer.next().getRecord());
+      } else {
+        break;
+      }
+    }
+    // the batches without log records are returned whole, in place of their records
+    assertEquals(Arrays.asList(testRecord1UpdateWithSameTime, testRecord2Update, unmergedBatch1, testRecord3Update, unmergedBatch2, testRecord7),
+        actualRecordsAndBatches);
+    assertEquals(1, readStats.getNumInserts());
+    assertEquals(0, readStats.getNumDeletes());
+    assertEquals(3, readStats.getNumUpdates());
+  }
+
   @Test
   void readWithEventTimeOrderingAndDeleteBlock() throws IOException {
     HoodieReadStats readStats = new HoodieReadStats();
@@ -394,4 +471,27 @@ class TestKeyBasedFileGroupRecordBuffer extends BaseTestFileGroupRecordBuffer {
     assertEquals(3, readStats.getNumDeletes());
     assertEquals(2, readStats.getNumUpdates());
   }
+
+  private static class TestRecordBatch implements HoodieRecordBatch<IndexedRecord> {
+    private final IndexedRecord[] records;
+
+    TestRecordBatch(IndexedRecord... records) {
+      this.records = records;
+    }
+
+    @Override
+    public int numRows() {
+      return records.length;
+    }
+
+    @Override
+    public String getRecordKey(int rowId) {
+      return records[rowId].get(0).toString();
+    }
+
+    @Override
+    public IndexedRecord getRecord(int rowId) {
+      return records[rowId];
+    }
+  }
 }
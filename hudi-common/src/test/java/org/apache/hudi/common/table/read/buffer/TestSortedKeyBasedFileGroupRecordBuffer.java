@@ -33,6 +33,7 @@ import org.apache.hudi.common.table.PartialUpdateMode;
 import org.apache.hudi.common.table.log.block.HoodieDataBlock;
 import org.apache.hudi.common.table.log.block.HoodieDeleteBlock;
 import org.apache.hudi.common.table.read.FileGroupReaderSchemaHandler;
+import org.apache.hudi.common.table.read.HoodieRecordBatch;
 import org.apache.hudi.common.table.read.HoodieReadStats;
 import org.apache.hudi.common.table.read.InputSplit;
 import org.apache.hudi.common.table.read.ReaderParameters;
@@ -56,6 +57,7 @@ import java.util.stream.Stream;
 import static org.apache.hudi.common.model.DefaultHoodieRecordPayload.DELETE_KEY;
 import static org.apache.hudi.common.model.DefaultHoodieRecordPayload.DELETE_MARKER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -109,6 +111,32 @@ class TestSortedKeyBasedFileGroupRecordBuffer extends BaseTestFileGroupRecordBuf
     assertEquals(1, readStats.getNumDeletes());
   }
 
+  @Test
+  void readBaseFileInBatchesAndLogFile() throws IOException {
+    HoodieReadStats readStats = new HoodieReadStats();
+    HoodieReaderContext<TestRecord> mockReaderContext = mock(HoodieReaderContext.class, RETURNS_DEEP_STUBS);
+
+    SortedKeyBasedFileGroupRecordBuffer<TestRecord> fileGroupRecordBuffer = buildSortedKeyBasedFileGroupRecordBuffer(mockReaderContext, readStats);
+
+    // the batches are merged record by record in record key order
+    assertFalse(fileGroupRecordBuffer.supportsBatchMerge());
+    fileGroupRecordBuffer.setBaseFileBatchIterator(ClosableIterator.wrap(Arrays.<HoodieRecordBatch<TestRecord>>asList(
+        new TestRecordBatch(testRecord2, testRecord3), new TestRecordBatch(testRecord5)).iterator()));
+
+    HoodieDataBlock dataBlock = mock(HoodieDataBlock.class);
+    when(dataBlock.getSchema()).thenReturn(HoodieTestDataGenerator.HOODIE_SCHEMA);
+    when(dataBlock.getEngineRecordIterator(mockReaderContext)).thenReturn(
+        ClosableIterator.wrap(Arrays.asList(testRecord6, testRecord4, testRecord1, testRecord6Update, testRecord2Update).iterator()));
+
+    fileGroupRecordBuffer.processDataBlock(dataBlock, Option.empty());
+
+    assertFalse(fileGroupRecordBuffer.nextUnmergedBatch().isPresent());
+    List<TestRecord> actualRecords = getActualRecordsForSortedKeyBased(fileGroupRecordBuffer);
+    assertEquals(Arrays.asList(testRecord1, testRecord2Update, testRecord3, testRecord4, testRecord5, testRecord6Update), actualRecords);
+    assertEquals(3, readStats.getNumInserts());
+    assertEquals(1, readStats.getNumUpdates());
+  }
+
   @Test
   void readWithStreamingRecordBufferLoaderAndEventTimeOrdering() throws IOException {
     HoodieReadStats readStats = new HoodieReadStats();
@@ -217,4 +245,27 @@ class TestSortedKeyBasedFileGroupRecordBuffer extends BaseTestFileGroupRecordBuf
     }
     return actualRecords;
   }
+
+  private static class TestRecordBatch implements HoodieRecordBatch<TestRecord> {
+    private final TestRecord[] records;
+
+    TestRecordBatch(TestRecord... records) {
+      this.records = records;
+    }
+
+    @Override
+    public int numRows() {
+      return records.length;
+    }
+
+    @Override
+    public String getRecordKey(int rowId) {
+      return records[rowId].getRecordKey();
+    }
+
+    @Override
+    public TestRecord getRecord(int rowId) {
+      return records[rowId];
+    }
+  }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.common.table.timeline.dto;
+
+import org.apache.hudi.common.model.BaseFile;
+import org.apache.hudi.common.model.FileSlice;
+import org.apache.hudi.common.model.HoodieBaseFile;
+import org.apache.hudi.common.model.HoodieLogFile;
+import org.apache.hudi.storage.StoragePath;
+import org.apache.hudi.storage.StoragePathInfo;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.apache.hudi.common.util.StringUtils.getUTF8Bytes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link BinaryDTOCodec}.
+ */
+class TestBinaryDTOCodec {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+  private static final String BASE_PATH = "file:/tmp/hudi/table";
+
+  @Test
+  void testFileSlicesRoundTrip() throws IOException {
+    // Enough slices for the encoded records to span several chunks
+    List<FileSlice> fileSlices = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      fileSlices.add(createFileSlice(i));
+    }
+    List<FileSliceDTO> dtos = fileSlices.stream().map(FileSliceDTO::fromFileSlice).collect(Collectors.toList());
+
+    List<FileSliceDTO> decodedDtos = BinaryDTOCodec.decode(
+        BinaryDTOCodec.encode(dtos, FileSliceDTO::write), FileSliceDTO::read, Function.identity());
+    assertEquals(OBJECT_MAPPER.writeValueAsString(dtos), OBJECT_MAPPER.writeValueAsString(decodedDtos));
+
+    List<FileSlice> decodedFileSlices = BinaryDTOCodec.decode(
+        BinaryDTOCodec.encode(dtos, FileSliceDTO::write), FileSliceDTO::read, FileSliceDTO::toFileSlice);
+    assertEquals(fileSlices, decodedFileSlices);
+  }
+
+  @Test
+  void testBaseFilesRoundTrip() throws IOException {
+    List<BaseFileDTO> dtos = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      dtos.add(BaseFileDTO.fromHoodieBaseFile(createBaseFile(i)));
+    }
+    List<BaseFileDTO> decodedDtos = BinaryDTOCodec.decode(
+        BinaryDTOCodec.encode(dtos, BaseFileDTO::write), BaseFileDTO::read, Function.identity());
+    assertEquals(OBJECT_MAPPER.writeValueAsString(dtos), OBJECT_MAPPER.writeValueAsString(decodedDtos));
+  }
+
+  @Test
+  void testEmptyList() throws IOException {
+    InputStream encoded = BinaryDTOCodec.encode(Collections.<FileSliceDTO>emptyList(), FileSliceDTO::write);
+    assertTrue(BinaryDTOCodec.decode(encoded, FileSliceDTO::read, FileSliceDTO::toFileSlice).isEmpty());
+  }
+
+  @Test
+  void testSkipUnknownFields() throws IOException {
+    List<FileSliceDTO> dtos = Collections.singletonList(FileSliceDTO.fromFileSlice(createFileSlice(0)));
+    // Simulates a newer writer appending a field to the records
+    InputStream encoded = BinaryDTOCodec.encode(dtos, (out, dto) -> {
+      FileSliceDTO.write(out, dto);
+      out.writeLong(42L);
+    });
+    List<FileSliceDTO> decodedDtos = BinaryDTOCodec.decode(encoded, FileSliceDTO::read, Function.identity());
+    assertEquals(OBJECT_MAPPER.writeValueAsString(dtos), OBJECT_MAPPER.writeValueAsString(decodedDtos));
+  }
+
+  @Test
+  void testDecodeInvalidContent() {
+    assertThrows(IOException.class, () -> BinaryDTOCodec.decode(
+        new ByteArrayInputStream(getUTF8Bytes("[{\"fileId\":\"f1\"}]")), FileSliceDTO::read, FileSliceDTO::toFileSlice));
+  }
+
+  private static FileSlice createFileSlice(int i) {
+    String partitionPath = "2024/01/" + (i % 30);
+    String fileId = "file-" + i;
+    FileSlice fileSlice = new FileSlice(partitionPath, "001", fileId);
+    if (i % 3 != 0) {
+      fileSlice.setBaseFile(createBaseFile(i));
+    }
+    for (int version = 1; version <= i % 4; version++) {
+      StoragePath logPath = new StoragePath(BASE_PATH + "/" + partitionPath, "." + fileId + "_001.log." + version + "_1-0-1");
+      fileSlice.addLogFile(version % 2 == 0
+          ? new HoodieLogFile(new StoragePathInfo(logPath, 100L * version, false, (short) 0, 1024L, 10L))
+          : new HoodieLogFile(logPath, 100L * version));
+    }
+    return fileSlice;
+  }
+
+  private static HoodieBaseFile createBaseFile(int i) {
+    String partitionPath = BASE_PATH + "/2024/01/" + (i % 30);
+    StoragePath path = new StoragePath(partitionPath, "file-" + i + "_1-0-1_001.parquet");
+    if (i % 5 == 0) {
+      BaseFile bootstrapBaseFile = new BaseFile(new StoragePathInfo(
+          new StoragePath("file:/tmp/source/part-" + i + ".parquet"), 2048L, false, (short) 0, 1024L, 20L));
+      return new HoodieBaseFile(new StoragePathInfo(path, 1024L, false, (short) 0, 1024L, 10L), bootstrapBaseFile);
+    }
+    return new HoodieBaseFile(new StoragePathInfo(path, 1024L + i, false, (short) 0, 1024L, 10L));
+  }
+}
@@ -22,6 +22,7 @@ import org.apache.hudi.avro.model.HoodieInstantInfo;
 import org.apache.hudi.avro.model.HoodieRollbackMetadata;
 import org.apache.hudi.avro.model.HoodieRollbackPartitionMetadata;
 import org.apache.hudi.common.model.HoodieCommitMetadata;
+import org.apache.hudi.common.model.HoodieCommitMetadataView;
 import org.apache.hudi.common.model.HoodieReplaceCommitMetadata;
 import org.apache.hudi.common.model.HoodieWriteStat;
 import org.apache.hudi.common.model.WriteOperationType;
@@ -42,6 +43,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -151,6 +153,67 @@ public abstract class BaseTestCommitMetadataSerDe {
     verifyReplaceFileIds(deserialized.getPartitionToReplaceFileIds());
   }
 
+  @Test
+  protected void testCommitMetadataViewSerDe() throws Exception {
+    HoodieCommitMetadata metadata = new HoodieCommitMetadata();
+    metadata.addWriteStat(TEST_PARTITION_PATH, createTestWriteStat());
+    HoodieWriteStat insertWriteStat = createTestWriteStat();
+    insertWriteStat.setFileId("insert-file-id");
+    insertWriteStat.setPrevCommit(HoodieWriteStat.NULL_COMMIT);
+    insertWriteStat.setNumInserts(30);
+    insertWriteStat.setNumDeletes(3);
+    metadata.addWriteStat("other-partition", insertWriteStat);
+    metadata.setOperationType(WriteOperationType.UPSERT);
+
+    CommitMetadataSerDe serDe = getSerDe();
+    HoodieInstant instant = createTestInstant("commit", "001");
+    byte[] serialized = convertMetadataToByteArray(metadata, serDe);
+    HoodieCommitMetadataView view = serDe.deserialize(instant, new ByteArrayInputStream(serialized), () -> false, HoodieCommitMetadataView.class);
+
+    assertEquals(WriteOperationType.UPSERT, view.getOperationType());
+    assertEquals(metadata.getWritePartitionPaths(), view.getWritePartitionPaths());
+    assertEquals(metadata.getWritePartitionPaths(), view.getPartitionPaths());
+    assertEquals(Collections.singleton(TEST_PARTITION_PATH), view.getWritePartitionPathsWithUpdatedFileGroups());
+    assertEquals(Collections.singletonList(TEST_FILE_ID), view.getFileIds(TEST_PARTITION_PATH));
+    assertTrue(view.getFileIds("non-existing-partition").isEmpty());
+    assertEquals(metadata.getFileIdAndRelativePaths(), view.getFileIdAndRelativePaths());
+    assertEquals(metadata.fetchTotalPartitionsWritten(), view.fetchTotalPartitionsWritten());
+    assertEquals(metadata.fetchTotalFiles(), view.fetchTotalFiles());
+    assertEquals(metadata.fetchTotalFilesInsert(), view.fetchTotalFilesInsert());
+    assertEquals(metadata.fetchTotalFilesUpdated(), view.fetchTotalFilesUpdated());
+    assertEquals(metadata.fetchTotalRecordsWritten(), view.fetchTotalRecordsWritten());
+    assertEquals(metadata.fetchTotalUpdateRecordsWritten(), view.fetchTotalUpdateRecordsWritten());
+    assertEquals(metadata.fetchTotalInsertRecordsWritten(), view.fetchTotalInsertRecordsWritten());
+    assertEquals(metadata.getTotalRecordsDeleted(), view.fetchTotalRecordsDeleted());
+    assertEquals(metadata.fetchTotalBytesWritten(), view.fetchTotalBytesWritten());
+    assertEquals(metadata.fetchTotalWriteErrors(), view.fetchTotalWriteErrors());
+
+    // the empty instant has an empty view
+    HoodieCommitMetadataView emptyView = serDe.deserialize(instant, new ByteArrayInputStream(new byte[0]), () -> true, HoodieCommitMetadataView.class);
+    assertTrue(emptyView.getPartitionPaths().isEmpty());
+    assertEquals(0, emptyView.fetchTotalFiles());
+  }
+
+  @Test
+  protected void testReplaceCommitMetadataViewSerDe() throws Exception {
+    HoodieReplaceCommitMetadata metadata = new HoodieReplaceCommitMetadata();
+    metadata.addWriteStat(TEST_PARTITION_PATH, createTestWriteStat());
+    metadata.addReplaceFileId(TEST_PARTITION_PATH, "replaced-file-1");
+    metadata.addReplaceFileId("other-partition", "replaced-file-2");
+    metadata.setOperationType(WriteOperationType.CLUSTER);
+
+    CommitMetadataSerDe serDe = getSerDe();
+    HoodieInstant instant = createTestInstant("replacecommit", "001");
+    byte[] serialized = convertMetadataToByteArray(metadata, serDe);
+    HoodieCommitMetadataView view = serDe.deserialize(instant, new ByteArrayInputStream(serialized), () -> false, HoodieCommitMetadataView.class);
+
+    assertEquals(WriteOperationType.CLUSTER, view.getOperationType());
+    assertEquals(Collections.singleton(TEST_PARTITION_PATH), view.getWritePartitionPaths());
+    assertEquals(new HashSet<>(Arrays.asList(TEST_PARTITION_PATH, "other-partition")), view.getPartitionPaths());
+    assertEquals(metadata.getPartitionToReplaceFileIds(), view.getPartitionToReplaceFileIds());
+    assertEquals(metadata.fetchTotalRecordsWritten(), view.fetchTotalRecordsWritten());
+  }
+
   private StoragePathInfo generateFileStatus(String filePath) {
     return new StoragePathInfo(new StoragePath(filePath), 1, true, (short) 2, 1000000L, 1);
   }
@@ -465,6 +465,8 @@ public class TestConfigUtils {
     metadataProps.setProperty(HoodieReaderConfig.HFILE_BLOCK_CACHE_ENABLED.key(), "false");
     metadataProps.setProperty(HoodieReaderConfig.HFILE_BLOCK_CACHE_SIZE.key(), "200000");
     metadataProps.setProperty(HoodieReaderConfig.HFILE_BLOCK_CACHE_TTL_MINUTES.key(), "7");
+    metadataProps.setProperty(HoodieReaderConfig.LOG_BLOCK_PREFETCH_ENABLED.key(), "true");
+    metadataProps.setProperty(HoodieReaderConfig.LOG_BLOCK_PREFETCH_PARALLELISM.key(), "8");
 
     HoodieMetadataConfig metadataConfig = HoodieMetadataConfig.newBuilder()
         .fromProperties(metadataProps)
@@ -477,5 +479,9 @@ public class TestConfigUtils {
     assertEquals("false", fileGroupReaderProps.getProperty(HoodieReaderConfig.HFILE_BLOCK_CACHE_ENABLED.key()));
     assertEquals("200000", fileGroupReaderProps.getProperty(HoodieReaderConfig.HFILE_BLOCK_CACHE_SIZE.key()));
     assertEquals("7", fileGroupReaderProps.getProperty(HoodieReaderConfig.HFILE_BLOCK_CACHE_TTL_MINUTES.key()));
+    assertEquals("true", fileGroupReaderProps.getProperty(HoodieReaderConfig.LOG_BLOCK_PREFETCH_ENABLED.key()));
+    assertEquals("8", fileGroupReaderProps.getProperty(HoodieReaderConfig.LOG_BLOCK_PREFETCH_PARALLELISM.key()));
+    assertEquals(HoodieReaderConfig.LOG_BLOCK_PREFETCH_MAX_BYTES.defaultValue().toString(),
+        fileGroupReaderProps.getProperty(HoodieReaderConfig.LOG_BLOCK_PREFETCH_MAX_BYTES.key()));
   }
 }
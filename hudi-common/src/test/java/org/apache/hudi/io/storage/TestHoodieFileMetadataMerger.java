@@ -36,6 +36,7 @@ import static org.apache.hudi.avro.HoodieBloomFilterWriteSupport.HOODIE_AVRO_BLO
 import static org.apache.hudi.avro.HoodieBloomFilterWriteSupport.HOODIE_BLOOM_FILTER_TYPE_CODE;
 import static org.apache.hudi.avro.HoodieBloomFilterWriteSupport.HOODIE_MAX_RECORD_KEY_FOOTER;
 import static org.apache.hudi.avro.HoodieBloomFilterWriteSupport.HOODIE_MIN_RECORD_KEY_FOOTER;
+import static org.apache.hudi.avro.HoodieBloomFilterWriteSupport.HOODIE_RECORD_KEYS_SORTED_FOOTER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class TestHoodieFileMetadataMerger {
@@ -118,6 +119,23 @@ public class TestHoodieFileMetadataMerger {
     assertEquals("6", mergeMap.get(HOODIE_MAX_RECORD_KEY_FOOTER));
   }
 
+  @Test
+  public void testRecordKeysSorted() {
+    HoodieFileMetadataMerger metaMerge = new HoodieFileMetadataMerger();
+    // a single file keeps its order
+    Map<String, String> mergeMap = metaMerge.mergeMetaData(newMap(HOODIE_RECORD_KEYS_SORTED_FOOTER, "true"));
+    assertEquals("true", mergeMap.get(HOODIE_RECORD_KEYS_SORTED_FOOTER));
+
+    // the keys of the appended files are not sorted anymore
+    mergeMap = metaMerge.mergeMetaData(newMap(HOODIE_RECORD_KEYS_SORTED_FOOTER, "true"));
+    assertEquals("false", mergeMap.get(HOODIE_RECORD_KEYS_SORTED_FOOTER));
+
+    // files without the footer do not get one
+    metaMerge = new HoodieFileMetadataMerger();
+    metaMerge.mergeMetaData(newMap());
+    Assertions.assertFalse(metaMerge.mergeMetaData(newMap()).containsKey(HOODIE_RECORD_KEYS_SORTED_FOOTER));
+  }
+
   @ParameterizedTest()
   @ValueSource(strings = {"SIMPLE", "DYNAMIC_V0"})
   public void testBloomFilter(String bloomFilterType) {
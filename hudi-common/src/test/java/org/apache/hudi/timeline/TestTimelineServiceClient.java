@@ -56,11 +56,13 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 class TestTimelineServiceClient {
 
   private static final String TEST_ENDPOINT = "/test-endpoint";
+  private static final String TAGGED_TEST_ENDPOINT = "/tagged-test-endpoint";
   private static final int DEFAULT_READ_TIMEOUT_SECS = 5;
   private static final boolean DEFAULT_HTTP_RESPONSE = true;
 
   private Server server;
   private int serverPort;
+  private TaggedTestServlet taggedServlet;
 
   @BeforeEach
   public void setUp() throws Exception {
@@ -70,6 +72,8 @@ class TestTimelineServiceClient {
     context.setContextPath("/");
     server.setHandler(context);
     context.addServlet(new ServletHolder(new TestServlet()), TEST_ENDPOINT);
+    taggedServlet = new TaggedTestServlet();
+    context.addServlet(new ServletHolder(taggedServlet), TAGGED_TEST_ENDPOINT);
 
     // Start the server
     server.start();
@@ -110,6 +114,23 @@ class TestTimelineServiceClient {
     assertEquals(DEFAULT_HTTP_RESPONSE, response.getDecodedContent(new TypeReference<Boolean>() {}));
   }
 
+  @Test
+  public void testNotModifiedGetRequest() throws IOException {
+    FileSystemViewStorageConfig.Builder builder = FileSystemViewStorageConfig.newBuilder().withRemoteServerHost("localhost")
+        .withRemoteServerPort(serverPort)
+        .withRemoteTimelineClientTimeoutSecs(DEFAULT_READ_TIMEOUT_SECS);
+    MockTimelineServiceNetworkClient client = new MockTimelineServiceNetworkClient(builder.build());
+    TimelineServiceClientBase.Request request =
+        TimelineServiceClientBase.Request.newBuilder(TimelineServiceClientBase.RequestMethod.GET, TAGGED_TEST_ENDPOINT).build();
+    for (int i = 0; i < 3; i++) {
+      TimelineServiceClientBase.Response response = client.makeRequest(request);
+      assertEquals(DEFAULT_HTTP_RESPONSE, response.getDecodedContent(new TypeReference<Boolean>() {}));
+    }
+    // The content of the tagged response is reused by the later requests
+    assertEquals(1, taggedServlet.fullResponses);
+    assertEquals(2, taggedServlet.notModifiedResponses);
+  }
+
   private static List<Arguments> testScenariosForFailures() {
     return asList(
         // Ensure that the retries can handle both IOExceptions and RuntimeExceptions.
@@ -211,4 +232,24 @@ class TestTimelineServiceClient {
       resp.getWriter().println(objectMapper.writeValueAsString(DEFAULT_HTTP_RESPONSE));
     }
   }
+
+  // A servlet tagging its responses, which replies with no content if the client has the latest one.
+  private static class TaggedTestServlet extends TestServlet {
+    private static final String ETAG = "\"1-hash\"";
+
+    private int fullResponses = 0;
+    private int notModifiedResponses = 0;
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+      resp.setHeader("ETag", ETAG);
+      if (ETAG.equals(req.getHeader("If-None-Match"))) {
+        notModifiedResponses++;
+        resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        return;
+      }
+      fullResponses++;
+      super.doGet(req, resp);
+    }
+  }
 }
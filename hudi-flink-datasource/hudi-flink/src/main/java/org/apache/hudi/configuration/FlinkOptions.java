@@ -334,6 +334,16 @@ public class FlinkOptions extends HoodieConfig {
           + "Default value is 1000, which is also the minimum value for the minibatch size, when the configured size\n"
           + "is less than 1000, the default value will be used.");
 
+  @AdvancedConfig
+  public static final ConfigOption<Integer> INDEX_RLI_LOOKUP_ASYNC_MAX_INFLIGHT_BATCHES = ConfigOptions
+      .key("index.rli.lookup.async.max.inflight.batches")
+      .intType()
+      .defaultValue(0) // default synchronous lookup
+      .withDescription("The maximum number of miniBatches whose record index lookups on the metadata table are in flight\n"
+          + "while the bucket assign task keeps buffering the following records. The lookups run off the task thread,\n"
+          + "and the records of the miniBatches are still assigned and emitted in their arrival order.\n"
+          + "Default value is 0, which looks up the record index synchronously within the task thread.");
+
   @AdvancedConfig
   public static final ConfigOption<Long> INDEX_RLI_WRITE_BUFFER_SIZE = ConfigOptions
       .key("index.rli.write.buffer.size")
@@ -488,6 +498,16 @@ public class FlinkOptions extends HoodieConfig {
       .defaultValue(false)
       .withDescription("Whether to use Flink FLIP27 new source to consume data files.");
 
+  @AdvancedConfig
+  public static final ConfigOption<Boolean> READ_SPLITS_COST_AWARE_ENABLED = ConfigOptions
+      .key("read.splits.cost-aware.enabled")
+      .booleanType()
+      .defaultValue(false)
+      .withDescription("Whether to assign the splits of the FLIP27 source by their cost, the total size of the base and log files. "
+          + "New splits go to the reader with the least pending cost, and an idle reader steals the pending splits of the most "
+          + "loaded reader. The splits of the same file group are still read one at a time and in order. "
+          + "It does not apply to MERGE_ON_READ tables upserted with bucket index, whose splits are co-located by bucket.");
+
   @AdvancedConfig
   public static final ConfigOption<Boolean> READ_CDC_FROM_CHANGELOG = ConfigOptions
       .key("read.cdc.from.changelog")
@@ -799,7 +819,17 @@ public class FlinkOptions extends HoodieConfig {
           + "NONE (no buffer sort, default), "
           + "BOUNDED_IN_MEMORY (double buffer with async write), "
           + "DISRUPTOR (ring buffer with async write, recommended for better throughput), "
-          + "CONTINUOUS_SORT (TreeMap-based continuous sorting with incremental draining)");
+          + "CONTINUOUS_SORT (TreeMap-based continuous sorting with incremental draining), "
+          + "EXTERNAL_SORT (binary sort that spills sorted runs to local disk and merges them on flush)");
+
+  @AdvancedConfig
+  public static final ConfigOption<String> WRITE_BUFFER_SPILL_PATH = ConfigOptions
+      .key("write.buffer.spill.path")
+      .stringType()
+      .defaultValue(FileIOUtils.getDefaultSpillableMapBasePath())
+      .withDescription("Local directory path for the sorted runs spilled by append write function "
+          + "when write.buffer.type is EXTERNAL_SORT. "
+          + "Each write task creates a unique subdirectory under this path.");
 
   @AdvancedConfig
   public static final ConfigOption<Integer> WRITE_BUFFER_DISRUPTOR_RING_SIZE = ConfigOptions
@@ -1446,6 +1476,19 @@ public class FlinkOptions extends HoodieConfig {
           .withDescription(
               "The cache TTL (e.g. 10min) for the build table in lookup join.");
 
+  public static final String LOOKUP_JOIN_CACHE_REFRESH_MODE_FULL = "full";
+  public static final String LOOKUP_JOIN_CACHE_REFRESH_MODE_INCREMENTAL = "incremental";
+  public static final ConfigOption<String> LOOKUP_JOIN_CACHE_REFRESH_MODE =
+      key("lookup.join.cache.refresh.mode")
+          .stringType()
+          .defaultValue(LOOKUP_JOIN_CACHE_REFRESH_MODE_FULL)
+          .withDescription("How the lookup join cache is refreshed when the cache TTL expires and the table has new commits. "
+              + "Possible values: 'full' (default) reloads the whole table into the cache; "
+              + "'incremental' reads only the changes committed since the last refresh and applies the upserts and deletes "
+              + "to the cache in place. The incremental refresh requires the lookup keys to be the record key fields, "
+              + "and a MERGE_ON_READ table or a table with CDC enabled so that the deletes are readable, "
+              + "otherwise the cache is fully reloaded.");
+
   public static final ConfigOption<Boolean> LOOKUP_ASYNC =
       key("lookup.async")
           .booleanType()
@@ -26,6 +26,8 @@ import org.apache.flink.metrics.Gauge;
 import org.apache.flink.metrics.Histogram;
 import org.apache.flink.metrics.MetricGroup;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Metrics for the {@link org.apache.hudi.sink.partitioner.index.GlobalRecordLevelIndexBackend}.
  * Tracks the latency of local (cache) vs. remote (metadata table) lookups, the per-lookup key
@@ -37,6 +39,7 @@ public class FlinkIndexBackendMetrics extends HoodieFlinkMetrics {
   private static final String REMOTE_INDEX_LOOKUP_KEY = "remote_index_lookup";
 
   public static final String LOOKUP_CACHE_HIT_RATIO = "lookupCacheHitRatio";
+  public static final String INFLIGHT_LOOKUP_BATCHES = "inflightLookupBatches";
 
   /** Latency of the local (cache) phase of each index lookup, in milliseconds. */
   private final Histogram localIndexLookupLatency;
@@ -59,6 +62,11 @@ public class FlinkIndexBackendMetrics extends HoodieFlinkMetrics {
    */
   private volatile double lookupCacheHitRatio = 0.0D;
 
+  /**
+   * Number of mini-batches whose asynchronous remote lookups are submitted and not applied to the cache yet.
+   */
+  private final AtomicInteger inflightLookupBatches = new AtomicInteger();
+
   public FlinkIndexBackendMetrics(MetricGroup metricGroup) {
     super(metricGroup);
     this.localIndexLookupLatency = new DropwizardHistogramWrapper(
@@ -78,6 +86,7 @@ public class FlinkIndexBackendMetrics extends HoodieFlinkMetrics {
     metricGroup.histogram("localLookupKeysNum", localLookupKeysNum);
     metricGroup.histogram("remoteLookupKeysNum", remoteLookupKeysNum);
     metricGroup.gauge(LOOKUP_CACHE_HIT_RATIO, (Gauge<Double>) () -> lookupCacheHitRatio);
+    metricGroup.gauge(INFLIGHT_LOOKUP_BATCHES, (Gauge<Integer>) inflightLookupBatches::get);
   }
 
   /**
@@ -118,6 +127,27 @@ public class FlinkIndexBackendMetrics extends HoodieFlinkMetrics {
     remoteLookupKeysNum.update(n);
   }
 
+  /**
+   * Updates the latency of a remote lookup timed by the caller, used by the asynchronous lookups which
+   * do not run on the task thread owning the timers.
+   */
+  public void updateRemoteIndexLookupLatency(long latencyMs) {
+    remoteIndexLookupLatency.update(latencyMs);
+  }
+
+  public void increaseInflightLookupBatches() {
+    inflightLookupBatches.incrementAndGet();
+  }
+
+  public void decreaseInflightLookupBatches() {
+    inflightLookupBatches.decrementAndGet();
+  }
+
+  @VisibleForTesting
+  public int getInflightLookupBatches() {
+    return inflightLookupBatches.get();
+  }
+
   @VisibleForTesting
   public long getLocalIndexLookupCount() {
     return localIndexLookupLatency.getCount();
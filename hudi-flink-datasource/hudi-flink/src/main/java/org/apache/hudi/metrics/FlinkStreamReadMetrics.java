@@ -23,11 +23,14 @@ import org.apache.hudi.source.StreamReadMonitoringFunction;
 import org.apache.hudi.source.StreamReadOperator;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.flink.metrics.Gauge;
 import org.apache.flink.metrics.MetricGroup;
 
 import java.text.ParseException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Metrics for flink stream read.
@@ -59,6 +62,11 @@ public class FlinkStreamReadMetrics extends HoodieFlinkMetrics {
    */
   private long splitLatestCommitDelay;
 
+  /**
+   * Readers whose backlog metrics are registered.
+   */
+  private final Set<Integer> registeredReaders = new HashSet<>();
+
   public FlinkStreamReadMetrics(MetricGroup metricGroup, String tableName) {
     super(metricGroup.addGroup("table", tableName));
   }
@@ -71,6 +79,17 @@ public class FlinkStreamReadMetrics extends HoodieFlinkMetrics {
     metricGroup.gauge("splitLatestCommitDelay", () -> splitLatestCommitDelay);
   }
 
+  /**
+   * Registers the backlog metrics of a source reader: the number and the total weight of the splits pending for it.
+   */
+  public void registerReaderBacklogMetrics(int subtaskId, Gauge<Integer> pendingSplits, Gauge<Long> pendingSplitWeight) {
+    if (registeredReaders.add(subtaskId)) {
+      MetricGroup readerGroup = metricGroup.addGroup("reader", String.valueOf(subtaskId));
+      readerGroup.gauge("pendingSplits", pendingSplits);
+      readerGroup.gauge("pendingSplitWeight", pendingSplitWeight);
+    }
+  }
+
   public void setIssuedInstant(String issuedInstant) {
     try {
       Instant instant = HoodieInstantTimeGenerator.parseDateFromInstantTime(issuedInstant).toInstant();
@@ -0,0 +1,408 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.hudi.sink.append;
+
+import org.apache.hudi.common.util.ValidationUtils;
+import org.apache.hudi.configuration.FlinkOptions;
+import org.apache.hudi.configuration.OptionsResolver;
+import org.apache.hudi.exception.HoodieException;
+import org.apache.hudi.exception.HoodieIOException;
+import org.apache.hudi.io.util.FileIOUtils;
+import org.apache.hudi.sink.StreamWriteOperatorCoordinator;
+import org.apache.hudi.sink.buffer.BufferType;
+import org.apache.hudi.sink.bulk.sort.SortOperatorGen;
+import org.apache.hudi.sink.utils.BufferUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.flink.annotation.VisibleForTesting;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.core.memory.DataInputViewStreamWrapper;
+import org.apache.flink.core.memory.DataOutputViewStreamWrapper;
+import org.apache.flink.runtime.operators.sort.QuickSort;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.binary.BinaryRowData;
+import org.apache.flink.table.planner.codegen.sort.SortCodeGenerator;
+import org.apache.flink.table.runtime.generated.GeneratedNormalizedKeyComputer;
+import org.apache.flink.table.runtime.generated.GeneratedRecordComparator;
+import org.apache.flink.table.runtime.generated.RecordComparator;
+import org.apache.flink.table.runtime.operators.sort.BinaryInMemorySortBuffer;
+import org.apache.flink.table.runtime.typeutils.BinaryRowDataSerializer;
+import org.apache.flink.table.runtime.util.MemorySegmentPool;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.util.Collector;
+import org.apache.flink.util.MutableObjectIterator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Sink function to write the data to the underneath filesystem with binary external sort
+ * to produce well-clustered files.
+ *
+ * <p>Records are serialized into the memory segments of a {@link BinaryInMemorySortBuffer} and
+ * sorted by their normalized keys. When the memory pool is exhausted, the buffer is sorted and
+ * spilled to local disk as a sorted run. On flush, the spilled runs and the in-memory buffer are
+ * merged while being written, so the data written for each checkpoint is sorted as a whole instead
+ * of chunk by chunk. The number of sorted inputs opened at once is capped by a maximum fan-in,
+ * when there are more spilled runs than that, the oldest runs are first merged into bigger runs
+ * on local disk until the remaining ones can be merged in a single pass.
+ *
+ * <p>The spilling is driven by the memory budget only, the record count threshold
+ * {@link FlinkOptions#WRITE_BUFFER_SIZE} does not apply to this buffer type.
+ *
+ * <p>The function writes base files directly for each checkpoint,
+ * the file may roll over when its size hits the configured threshold.
+ *
+ * @param <T> Type of the input record
+ * @see StreamWriteOperatorCoordinator
+ * @see BufferType#EXTERNAL_SORT
+ */
+@Slf4j
+public class AppendWriteFunctionWithExternalSort<T> extends AppendWriteFunction<T> {
+
+  // buffer size of the streams reading and writing the spilled runs
+  private static final int SPILL_IO_BUFFER_SIZE = 64 * 1024;
+
+  // maximum number of sorted inputs merged in one pass, same as Flink's default max file handles of the sort-merge
+  private static final int DEFAULT_MAX_FAN_IN = 128;
+
+  private final String spillBasePath;
+
+  private int maxFanIn = DEFAULT_MAX_FAN_IN;
+
+  private transient MemorySegmentPool memorySegmentPool;
+  private transient BinaryInMemorySortBuffer sortBuffer;
+  private transient RecordComparator recordComparator;
+  private transient BinaryRowDataSerializer serializer;
+  private transient File spillDir;
+  private transient List<SpilledRun> spilledRuns;
+  private transient int nextRunId;
+  private transient long numSpilledRuns;
+  private transient long numIntermediateMerges;
+
+  public AppendWriteFunctionWithExternalSort(Configuration config, RowType rowType) {
+    super(config, rowType);
+    this.spillBasePath = config.get(FlinkOptions.WRITE_BUFFER_SPILL_PATH);
+  }
+
+  @Override
+  public void open(Configuration parameters) throws Exception {
+    super.open(parameters);
+
+    // Resolve sort keys (defaults to record key if not specified)
+    List<String> sortKeyList = AppendWriteFunctions.resolveSortKeys(config);
+    SortOperatorGen sortOperatorGen = new SortOperatorGen(rowType, sortKeyList.toArray(new String[0]));
+    SortCodeGenerator codeGenerator = sortOperatorGen.createSortCodeGenerator();
+    GeneratedNormalizedKeyComputer keyComputer = codeGenerator.generateNormalizedKeyComputer("SortComputer");
+    GeneratedRecordComparator recordComparator = codeGenerator.generateRecordComparator("SortComparator");
+    this.memorySegmentPool = this.memorySegmentPoolFactory.createMemorySegmentPool(config, OptionsResolver.getWriteBufferSizeInBytes(config));
+
+    this.sortBuffer = BufferUtils.createBuffer(rowType,
+        memorySegmentPool,
+        keyComputer.newInstance(Thread.currentThread().getContextClassLoader()),
+        recordComparator.newInstance(Thread.currentThread().getContextClassLoader()));
+    this.recordComparator = recordComparator.newInstance(Thread.currentThread().getContextClassLoader());
+    this.serializer = new BinaryRowDataSerializer(rowType.getFieldCount());
+    this.spillDir = new File(spillBasePath, "hudi-append-sort-" + UUID.randomUUID());
+    this.spilledRuns = new ArrayList<>();
+
+    log.info("{} initialized with external sort buffer, sort keys: {}, spill path: {}",
+        getClass().getSimpleName(), sortKeyList, spillDir);
+  }
+
+  @Override
+  public void processElement(T value, Context ctx, Collector<RowData> out) throws Exception {
+    RowData data = (RowData) value;
+
+    boolean success = sortBuffer.write(data);
+    if (!success) {
+      spill();
+      success = sortBuffer.write(data);
+      if (!success) {
+        throw new HoodieException("Sort buffer is too small to hold a single record.");
+      }
+    }
+  }
+
+  @Override
+  public void snapshotState() {
+    try {
+      mergeAndSend();
+    } catch (IOException e) {
+      throw new HoodieIOException("Fail to merge and flush sorted data during snapshot state.", e);
+    }
+    super.snapshotState();
+  }
+
+  @Override
+  public void endInput() {
+    try {
+      mergeAndSend();
+    } catch (IOException e) {
+      throw new HoodieIOException("Fail to merge and flush sorted data during endInput.", e);
+    }
+    super.endInput();
+  }
+
+  /**
+   * Sorts the records in the buffer and writes them to local disk as a sorted run.
+   */
+  private void spill() throws IOException {
+    if (sortBuffer.isEmpty()) {
+      return;
+    }
+    FileIOUtils.mkdir(spillDir);
+    File file = newRunFile();
+    long numRecords = sortBuffer.size();
+    new QuickSort().sort(sortBuffer);
+    try (DataOutputViewStreamWrapper out = openRunFile(file)) {
+      MutableObjectIterator<BinaryRowData> iterator = sortBuffer.getIterator();
+      BinaryRowData row = serializer.createInstance();
+      while ((row = iterator.next(row)) != null) {
+        serializer.serialize(row, out);
+      }
+    }
+    spilledRuns.add(new SpilledRun(file, numRecords));
+    numSpilledRuns++;
+    sortBuffer.reset();
+    log.info("Spilled sorted run of {} records to {}", numRecords, file);
+  }
+
+  /**
+   * Merges the oldest spilled runs into a new run on local disk, so that the remaining runs
+   * together with the in-memory buffer do not exceed the maximum fan-in.
+   */
+  private void mergeSpilledRuns() throws IOException {
+    // the in-memory buffer takes one of the inputs of the final merge
+    int numRunsToMerge = Math.min(maxFanIn, spilledRuns.size() - maxFanIn + 2);
+    List<SpilledRun> runsToMerge = new ArrayList<>(spilledRuns.subList(0, numRunsToMerge));
+    File file = newRunFile();
+    long numRecords = 0;
+    List<SpilledRunIterator> runIterators = new ArrayList<>(runsToMerge.size());
+    try (DataOutputViewStreamWrapper out = openRunFile(file)) {
+      for (SpilledRun run : runsToMerge) {
+        runIterators.add(new SpilledRunIterator(run, serializer));
+        numRecords += run.numRecords;
+      }
+      merge(runIterators, row -> serializer.serialize(row, out));
+    } finally {
+      runIterators.forEach(FileIOUtils::closeQuietly);
+    }
+    runsToMerge.forEach(run -> run.file.delete());
+    spilledRuns.subList(0, numRunsToMerge).clear();
+    spilledRuns.add(new SpilledRun(file, numRecords));
+    numIntermediateMerges++;
+    log.info("Merged {} sorted runs of {} records to {}", numRunsToMerge, numRecords, file);
+  }
+
+  private File newRunFile() {
+    return new File(spillDir, "run-" + nextRunId++);
+  }
+
+  private static DataOutputViewStreamWrapper openRunFile(File file) throws IOException {
+    return new DataOutputViewStreamWrapper(
+        new BufferedOutputStream(new FileOutputStream(file), SPILL_IO_BUFFER_SIZE));
+  }
+
+  /**
+   * Merges the spilled runs with the in-memory buffer and writes the records in sort order.
+   * The flushing is triggered on checkpoint or when `endInput` is called for pipelines with
+   * a bounded source.
+   *
+   * <p>If there are more spilled runs than the maximum fan-in allows, intermediate merge passes
+   * are run first.
+   */
+  private void mergeAndSend() throws IOException {
+    if (sortBuffer.isEmpty() && spilledRuns.isEmpty()) {
+      return;
+    }
+    if (this.writerHelper == null) {
+      initWriterHelper();
+    }
+    List<SpilledRunIterator> runIterators = new ArrayList<>(spilledRuns.size());
+    try {
+      while (spilledRuns.size() + 1 > maxFanIn) {
+        mergeSpilledRuns();
+      }
+      new QuickSort().sort(sortBuffer);
+      List<MutableObjectIterator<BinaryRowData>> inputs = new ArrayList<>(spilledRuns.size() + 1);
+      inputs.add(sortBuffer.getIterator());
+      for (SpilledRun run : spilledRuns) {
+        SpilledRunIterator runIterator = new SpilledRunIterator(run, serializer);
+        runIterators.add(runIterator);
+        inputs.add(runIterator);
+      }
+      merge(inputs, row -> writerHelper.write(row));
+    } finally {
+      runIterators.forEach(FileIOUtils::closeQuietly);
+      spilledRuns.forEach(run -> run.file.delete());
+      spilledRuns.clear();
+      sortBuffer.reset();
+    }
+  }
+
+  /**
+   * Merges the sorted inputs and passes the records to the given writer in sort order.
+   */
+  private void merge(List<? extends MutableObjectIterator<BinaryRowData>> inputs, RowWriter writer) throws IOException {
+    PriorityQueue<MergeEntry> heap = new PriorityQueue<>(inputs.size(),
+        (e1, e2) -> recordComparator.compare(e1.row, e2.row));
+    for (MutableObjectIterator<BinaryRowData> input : inputs) {
+      addToHeap(heap, input);
+    }
+    while (!heap.isEmpty()) {
+      MergeEntry entry = heap.poll();
+      writer.write(entry.row);
+      if (entry.advance()) {
+        heap.add(entry);
+      }
+    }
+  }
+
+  private void addToHeap(PriorityQueue<MergeEntry> heap, MutableObjectIterator<BinaryRowData> iterator) throws IOException {
+    MergeEntry entry = new MergeEntry(iterator, serializer.createInstance());
+    if (entry.advance()) {
+      heap.add(entry);
+    }
+  }
+
+  @VisibleForTesting
+  void setMaxFanIn(int maxFanIn) {
+    ValidationUtils.checkArgument(maxFanIn >= 2, "The max fan-in of the merge should be at least 2");
+    this.maxFanIn = maxFanIn;
+  }
+
+  /**
+   * Returns the total number of sorted runs spilled from the in-memory buffer.
+   */
+  @VisibleForTesting
+  long getNumSpilledRuns() {
+    return numSpilledRuns;
+  }
+
+  /**
+   * Returns the total number of intermediate merge passes over the spilled runs.
+   */
+  @VisibleForTesting
+  long getNumIntermediateMerges() {
+    return numIntermediateMerges;
+  }
+
+  @Override
+  public void close() throws Exception {
+    try {
+      if (spillDir != null) {
+        FileIOUtils.deleteDirectory(spillDir);
+      }
+      if (this.memorySegmentPool instanceof Closeable) {
+        ((Closeable) this.memorySegmentPool).close();
+      }
+    } finally {
+      super.close();
+    }
+  }
+
+  /**
+   * Sink of the merged records.
+   */
+  @FunctionalInterface
+  private interface RowWriter {
+    void write(BinaryRowData row) throws IOException;
+  }
+
+  /**
+   * A sorted run spilled to local disk.
+   */
+  private static class SpilledRun {
+    private final File file;
+    private final long numRecords;
+
+    SpilledRun(File file, long numRecords) {
+      this.file = file;
+      this.numRecords = numRecords;
+    }
+  }
+
+  /**
+   * Iterator reading back the records of a spilled run.
+   */
+  private static class SpilledRunIterator implements MutableObjectIterator<BinaryRowData>, Closeable {
+    private final DataInputViewStreamWrapper in;
+    private final BinaryRowDataSerializer serializer;
+    private long remaining;
+
+    SpilledRunIterator(SpilledRun run, BinaryRowDataSerializer serializer) throws IOException {
+      this.in = new DataInputViewStreamWrapper(
+          new BufferedInputStream(new FileInputStream(run.file), SPILL_IO_BUFFER_SIZE));
+      this.serializer = serializer;
+      this.remaining = run.numRecords;
+    }
+
+    @Override
+    public BinaryRowData next(BinaryRowData reuse) throws IOException {
+      if (remaining == 0) {
+        return null;
+      }
+      remaining--;
+      return serializer.deserialize(reuse, in);
+    }
+
+    @Override
+    public BinaryRowData next() throws IOException {
+      return next(serializer.createInstance());
+    }
+
+    @Override
+    public void close() throws IOException {
+      in.close();
+    }
+  }
+
+  /**
+   * Head record of one of the sorted inputs being merged.
+   */
+  private static class MergeEntry {
+    private final MutableObjectIterator<BinaryRowData> iterator;
+    private BinaryRowData row;
+
+    MergeEntry(MutableObjectIterator<BinaryRowData> iterator, BinaryRowData reuse) {
+      this.iterator = iterator;
+      this.row = reuse;
+    }
+
+    boolean advance() throws IOException {
+      BinaryRowData next = iterator.next(row);
+      if (next == null) {
+        return false;
+      }
+      row = next;
+      return true;
+    }
+  }
+}
@@ -51,7 +51,9 @@ public abstract class AppendWriteFunctions {
     }
 
     String bufferType = resolveBufferType(conf);
-    if (BufferType.CONTINUOUS_SORT.name().equalsIgnoreCase(bufferType)) {
+    if (BufferType.EXTERNAL_SORT.name().equalsIgnoreCase(bufferType)) {
+      return new AppendWriteFunctionWithExternalSort<>(conf, rowType);
+    } else if (BufferType.CONTINUOUS_SORT.name().equalsIgnoreCase(bufferType)) {
       return new AppendWriteFunctionWithContinuousSort<>(conf, rowType);
     } else if (BufferType.DISRUPTOR.name().equalsIgnoreCase(bufferType)) {
       return new AppendWriteFunctionWithDisruptorBufferSort<>(conf, rowType);
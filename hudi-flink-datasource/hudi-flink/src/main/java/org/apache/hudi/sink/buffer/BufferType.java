@@ -40,5 +40,10 @@ public enum BufferType {
 
   @EnumFieldDescription("Continuous sorting using a TreeMap. Provides O(log n) inserts and incremental draining "
       + "for predictable latency without sort spikes.")
-  CONTINUOUS_SORT
+  CONTINUOUS_SORT,
+
+  @EnumFieldDescription("Binary sort with spilling. Records are serialized into memory segments and sorted by "
+      + "normalized key; sorted runs are spilled to local disk when the memory pool is exhausted and merged "
+      + "while writing, so the files written for each checkpoint are fully sorted.")
+  EXTERNAL_SORT
 }
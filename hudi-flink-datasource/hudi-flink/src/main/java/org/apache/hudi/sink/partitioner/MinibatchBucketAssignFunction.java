@@ -20,13 +20,17 @@ package org.apache.hudi.sink.partitioner;
 
 import org.apache.hudi.adapter.ProcessFunctionAdapter;
 import org.apache.hudi.client.model.HoodieFlinkInternalRow;
+import org.apache.hudi.common.model.HoodieRecordGlobalLocation;
 import org.apache.hudi.common.model.WriteOperationType;
 import org.apache.hudi.common.util.VisibleForTesting;
+import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.configuration.FlinkOptions;
+import org.apache.hudi.exception.HoodieException;
 import org.apache.hudi.metrics.FlinkBucketAssignMetrics;
 import org.apache.hudi.sink.event.Correspondent;
 import org.apache.hudi.sink.partitioner.index.MinibatchIndexBackend;
 
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.apache.flink.api.common.functions.RuntimeContext;
 import org.apache.flink.api.common.state.CheckpointListener;
@@ -38,8 +42,12 @@ import org.apache.flink.streaming.api.operators.BoundedOneInput;
 import org.apache.flink.util.Collector;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 /**
@@ -48,6 +56,11 @@ import java.util.stream.Collectors;
  *
  * <p>This implementation buffers input records and processes them in batches to improve
  * performance when using RLI index, reducing the number of individual index lookups.
+ *
+ * <p>When {@link FlinkOptions#INDEX_RLI_LOOKUP_ASYNC_MAX_INFLIGHT_BATCHES} is positive, the index lookups
+ * of the full batches run asynchronously while the following records are buffered. The batches are
+ * processed in their arrival order once their lookups finish, so the records of the same key keep
+ * their order.
  */
 public class MinibatchBucketAssignFunction
     extends ProcessFunctionAdapter<HoodieFlinkInternalRow, HoodieFlinkInternalRow>
@@ -78,6 +91,16 @@ public class MinibatchBucketAssignFunction
 
   private final boolean isChangingRecords;
 
+  /**
+   * The maximum number of batches whose index lookups are in flight, 0 for synchronous lookups.
+   */
+  private final int maxInflightBatches;
+
+  /**
+   * Batches with in flight index lookups, in their arrival order.
+   */
+  private transient Deque<InflightBatch> inflightBatches;
+
   private transient Collector<HoodieFlinkInternalRow> outCollector;
 
   /**
@@ -95,6 +118,7 @@ public class MinibatchBucketAssignFunction
     this.isChangingRecords = WriteOperationType.isChangingRecords(
         WriteOperationType.fromValue(conf.get(FlinkOptions.OPERATION)));
     this.miniBatchSize = miniBatchSize;
+    this.maxInflightBatches = isChangingRecords ? Math.max(conf.get(FlinkOptions.INDEX_RLI_LOOKUP_ASYNC_MAX_INFLIGHT_BATCHES), 0) : 0;
   }
 
   @Override
@@ -102,6 +126,7 @@ public class MinibatchBucketAssignFunction
     super.open(parameters);
     delegateFunction.open(parameters);
     this.recordBuffer = new ArrayList<>();
+    this.inflightBatches = new ArrayDeque<>();
     this.minibatchProcessor = initRecordProcessor();
   }
 
@@ -142,12 +167,54 @@ public class MinibatchBucketAssignFunction
 
     // Record how long the oldest record in the batch was buffered
     delegateFunction.getMetrics().endRecordBuffering();
+    if (maxInflightBatches > 0) {
+      submitBufferedRecords(out);
+      return;
+    }
     // process batch of records.
     minibatchProcessor.process(recordBuffer, out);
     // Clear the buffer after processing
     recordBuffer.clear();
   }
 
+  /**
+   * Starts the asynchronous index lookup of the buffered records, and processes the earlier batches
+   * whose lookups are finished, or which exceed the maximum number of in flight batches.
+   */
+  private void submitBufferedRecords(Collector<HoodieFlinkInternalRow> out) throws Exception {
+    List<String> recordKeys = recordBuffer.stream().map(HoodieFlinkInternalRow::getRecordKey).collect(Collectors.toList());
+    MinibatchIndexBackend minibatchIndexBackend = (MinibatchIndexBackend) delegateFunction.getIndexBackend();
+    inflightBatches.add(new InflightBatch(recordBuffer, minibatchIndexBackend.getAsync(recordKeys)));
+    recordBuffer = new ArrayList<>();
+    while (!inflightBatches.isEmpty()
+        && (inflightBatches.size() > maxInflightBatches || inflightBatches.peek().lookup.isDone())) {
+      processInflightBatch(inflightBatches.poll(), out);
+    }
+  }
+
+  /**
+   * Waits for the index lookups of all the in flight batches, and processes them in their arrival order.
+   */
+  private void processInflightBatches(Collector<HoodieFlinkInternalRow> out) throws Exception {
+    while (!inflightBatches.isEmpty()) {
+      processInflightBatch(inflightBatches.poll(), out);
+    }
+  }
+
+  private void processInflightBatch(InflightBatch batch, Collector<HoodieFlinkInternalRow> out) throws Exception {
+    List<Pair<String, HoodieRecordGlobalLocation>> locations;
+    try {
+      locations = batch.lookup.join();
+    } catch (CompletionException e) {
+      throw new HoodieException("Failed to look up the record index locations", e.getCause());
+    }
+    // warm up the in-memory cache for record level index
+    ((MinibatchIndexBackend) delegateFunction.getIndexBackend()).updateIfAbsent(locations);
+    for (HoodieFlinkInternalRow record : batch.records) {
+      delegateFunction.processChangingRecord(record, record.getRecordKey(), out);
+    }
+  }
+
   /**
    * Initializes the processor for buffered data records based on whether minibatch index lookup is needed.
    */
@@ -178,6 +245,15 @@ public class MinibatchBucketAssignFunction
     }
   }
 
+  /**
+   * A batch of buffered data records with its index lookup in flight.
+   */
+  @AllArgsConstructor
+  private static class InflightBatch {
+    private final List<HoodieFlinkInternalRow> records;
+    private final CompletableFuture<List<Pair<String, HoodieRecordGlobalLocation>>> lookup;
+  }
+
   /**
    * Processes buffered data records while keeping index records out of the minibatch buffer.
    */
@@ -199,6 +275,7 @@ public class MinibatchBucketAssignFunction
   public void prepareSnapshotPreBarrier(long checkpointId) throws Exception {
     // Process any remaining records in the buffer before checkpoint
     processBufferedRecords(outCollector);
+    processInflightBatches(outCollector);
   }
 
   public void setCorrespondent(Correspondent correspondent) {
@@ -220,6 +297,7 @@ public class MinibatchBucketAssignFunction
   public void endInput() throws Exception {
     // Process any remaining records in the buffer when input ends
     processBufferedRecords(this.outCollector);
+    processInflightBatches(this.outCollector);
   }
 
   @Override
@@ -44,6 +44,10 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Global record-level-index backend backed by the metadata table.
@@ -51,6 +55,10 @@ import java.util.Map;
  * <p>The backend serves the global RLI path: lookups are keyed by record key only and return
  * {@link HoodieRecordGlobalLocation}. A checkpoint-aware {@link RecordIndexCache} keeps recently
  * accessed locations locally and falls back to metadata table reads for cache misses.
+ *
+ * <p>The metadata table reads of {@link #getAsync(List)} run on a single background thread, so that
+ * the bucket assign task keeps buffering records while the lookups of the previous mini-batches are
+ * in flight.
  */
 @Slf4j
 public class GlobalRecordLevelIndexBackend implements MinibatchIndexBackend {
@@ -60,7 +68,12 @@ public class GlobalRecordLevelIndexBackend implements MinibatchIndexBackend {
   private final Configuration conf;
   private final HoodieTableMetaClient metaClient;
   private HoodieBackedTableMetadata tableMetadata;
+  @VisibleForTesting
+  @Getter
   private FlinkIndexBackendMetrics metrics;
+  private ExecutorService lookupExecutor;
+  // the latest asynchronous lookup, the previous ones are finished before it as the executor is single-threaded
+  private CompletableFuture<?> lastAsyncLookup = CompletableFuture.completedFuture(null);
 
   /**
    * Creates a global RLI backend with a checkpoint-aware cache.
@@ -96,6 +109,68 @@ public class GlobalRecordLevelIndexBackend implements MinibatchIndexBackend {
   @Override
   public Map<String, HoodieRecordGlobalLocation> get(List<String> recordKeys) throws IOException {
     Map<String, HoodieRecordGlobalLocation> keysAndLocations = new HashMap<>();
+    List<String> missedKeys = lookupLocalCache(recordKeys, keysAndLocations);
+
+    if (!missedKeys.isEmpty()) {
+      metrics.startRemoteIndexLookup();
+      HoodiePairData<String, HoodieRecordGlobalLocation> recordIndexData = lookupLocationsForMissedKeys(tableMetadata, missedKeys);
+      recordIndexData.forEach(keyAndLocation -> {
+        recordIndexCache.update(keyAndLocation.getKey(), keyAndLocation.getValue());
+        keysAndLocations.put(keyAndLocation.getKey(), keyAndLocation.getValue());
+      });
+
+      metrics.endRemoteIndexLookup();
+      metrics.updateRemoteLookupKeysCount(missedKeys.size());
+    }
+    return keysAndLocations;
+  }
+
+  @Override
+  public CompletableFuture<List<Pair<String, HoodieRecordGlobalLocation>>> getAsync(List<String> recordKeys) {
+    List<String> missedKeys = lookupLocalCache(recordKeys, new HashMap<>());
+    // every returned lookup is released by one #updateIfAbsent call, including the ones served by the cache
+    metrics.increaseInflightLookupBatches();
+    if (missedKeys.isEmpty()) {
+      return CompletableFuture.completedFuture(Collections.emptyList());
+    }
+    if (lookupExecutor == null) {
+      lookupExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "rli-lookup-thread");
+        t.setDaemon(true);
+        return t;
+      });
+    }
+    // the metadata table is only read by the lookup thread until it is reloaded or closed,
+    // which waits for the submitted lookups first.
+    final HoodieBackedTableMetadata metadata = this.tableMetadata;
+    CompletableFuture<List<Pair<String, HoodieRecordGlobalLocation>>> lookup = CompletableFuture.supplyAsync(() -> {
+      long startTime = System.currentTimeMillis();
+      try {
+        return lookupLocationsForMissedKeys(metadata, missedKeys).collectAsList();
+      } finally {
+        metrics.updateRemoteIndexLookupLatency(System.currentTimeMillis() - startTime);
+        metrics.updateRemoteLookupKeysCount(missedKeys.size());
+      }
+    }, lookupExecutor);
+    lastAsyncLookup = lookup;
+    return lookup;
+  }
+
+  @Override
+  public void updateIfAbsent(List<Pair<String, HoodieRecordGlobalLocation>> recordKeysAndLocations) {
+    metrics.decreaseInflightLookupBatches();
+    // the keys updated by the records processed while the lookup was in flight keep their newer locations
+    recordKeysAndLocations.forEach(keyAndLocation -> {
+      if (recordIndexCache.get(keyAndLocation.getKey()) == null) {
+        recordIndexCache.update(keyAndLocation.getKey(), keyAndLocation.getValue());
+      }
+    });
+  }
+
+  /**
+   * Probes the local cache for the record keys, and returns the keys missing from it.
+   */
+  private List<String> lookupLocalCache(List<String> recordKeys, Map<String, HoodieRecordGlobalLocation> keysAndLocations) {
     List<String> missedKeys = new ArrayList<>();
 
     metrics.startLocalIndexLookup();
@@ -112,22 +187,11 @@ public class GlobalRecordLevelIndexBackend implements MinibatchIndexBackend {
     metrics.endLocalIndexLookup();
     metrics.updateLocalLookupKeysCount(hitCount);
     metrics.updateLookupCacheHitRatio(hitCount, missedKeys.size());
-
-    if (!missedKeys.isEmpty()) {
-      metrics.startRemoteIndexLookup();
-      HoodiePairData<String, HoodieRecordGlobalLocation> recordIndexData = lookupLocationsForMissedKeys(missedKeys);
-      recordIndexData.forEach(keyAndLocation -> {
-        recordIndexCache.update(keyAndLocation.getKey(), keyAndLocation.getValue());
-        keysAndLocations.put(keyAndLocation.getKey(), keyAndLocation.getValue());
-      });
-
-      metrics.endRemoteIndexLookup();
-      metrics.updateRemoteLookupKeysCount(missedKeys.size());
-    }
-    return keysAndLocations;
+    return missedKeys;
   }
 
-  private HoodiePairData<String, HoodieRecordGlobalLocation> lookupLocationsForMissedKeys(List<String> missedKeys) {
+  private static HoodiePairData<String, HoodieRecordGlobalLocation> lookupLocationsForMissedKeys(
+      HoodieBackedTableMetadata tableMetadata, List<String> missedKeys) {
     // For flink adaptive batch execution, writer coordinator is not started yet, so metadata table
     // is not initialized for a new table.
     if (!tableMetadata.enabled()) {
@@ -136,6 +200,18 @@ public class GlobalRecordLevelIndexBackend implements MinibatchIndexBackend {
     return tableMetadata.readRecordIndexLocationsWithKeys(HoodieListData.eager(missedKeys));
   }
 
+  /**
+   * Waits for the submitted asynchronous lookups to finish, their failures are thrown to the callers
+   * of {@link #getAsync(List)}.
+   */
+  private void waitForAsyncLookups() {
+    try {
+      lastAsyncLookup.join();
+    } catch (CompletionException e) {
+      log.warn("Asynchronous record index lookup failed", e);
+    }
+  }
+
   @Override
   public void update(List<Pair<String, HoodieRecordGlobalLocation>> recordKeysAndLocations) throws IOException {
     recordKeysAndLocations.forEach(keyAndLocation -> recordIndexCache.update(keyAndLocation.getKey(), keyAndLocation.getValue()));
@@ -174,6 +250,7 @@ public class GlobalRecordLevelIndexBackend implements MinibatchIndexBackend {
   }
 
   private void reloadMetadataTable() {
+    waitForAsyncLookups();
     if (this.tableMetadata != null) {
       this.tableMetadata.close();
     }
@@ -192,6 +269,10 @@ public class GlobalRecordLevelIndexBackend implements MinibatchIndexBackend {
 
   @Override
   public void close() throws IOException {
+    waitForAsyncLookups();
+    if (this.lookupExecutor != null) {
+      this.lookupExecutor.shutdownNow();
+    }
     this.recordIndexCache.close();
     if (this.tableMetadata == null) {
       return;
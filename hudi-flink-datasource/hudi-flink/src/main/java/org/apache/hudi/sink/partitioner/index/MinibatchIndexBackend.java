@@ -24,6 +24,7 @@ import org.apache.hudi.common.util.collection.Pair;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Index delegator which supports mini-batch index operations.
@@ -41,6 +42,27 @@ public interface MinibatchIndexBackend extends GlobalIndexBackend {
    */
   Map<String, HoodieRecordGlobalLocation> get(List<String> recordKeys) throws IOException;
 
+  /**
+   * Retrieves locations for a batch of record keys asynchronously.
+   *
+   * <p>The local state is probed on the caller thread, while the locations of the keys missing from it
+   * are fetched off the caller thread. The fetched locations are not visible to {@link #get(String)}
+   * until they are passed to {@link #updateIfAbsent(List)}, which must be called on the caller thread
+   * exactly once for every returned future, even when all the keys are found in the local state.
+   *
+   * @param recordKeys record keys to look up
+   * @return future of the fetched record-key and location pairs
+   */
+  CompletableFuture<List<Pair<String, HoodieRecordGlobalLocation>>> getAsync(List<String> recordKeys);
+
+  /**
+   * Updates locations fetched by {@link #getAsync(List)} for the record keys without a location yet,
+   * the locations updated since the fetch are more recent and are kept.
+   *
+   * @param recordKeysAndLocations record-key and location pairs fetched asynchronously
+   */
+  void updateIfAbsent(List<Pair<String, HoodieRecordGlobalLocation>> recordKeysAndLocations);
+
   /**
    * Updates locations for a batch of record keys.
    *
@@ -36,12 +36,17 @@ import org.apache.flink.configuration.Configuration;
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.Comparator;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.TreeMap;
 
 /**
  * Cache to hold the in-flight record level index entries which are not committed to metadata table yet.
  * <p>
+ * The entries are held in one sub cache per checkpoint, and a {@link RecordKeyCheckpointIndex} tracks the
+ * checkpoint of the latest entry of each key, so that the lookup of a cached key probes its sub cache first.
+ * The checkpoint index is a hint outside the cache size, the other sub caches are still probed when it misses.
+ * <p>
  * todo: use map backed by flink managed memory.
  */
 @Slf4j
@@ -50,6 +55,7 @@ public class RecordIndexCache implements Closeable {
   @Getter
   private final TreeMap<Long, ExternalSpillableMap<String, HoodieRecordGlobalLocation>> caches;
   private final HoodieWriteConfig writeConfig;
+  private final RecordKeyCheckpointIndex checkpointIndex;
   @VisibleForTesting
   @Getter
   private final long maxCacheSizeInBytes;
@@ -71,6 +77,7 @@ public class RecordIndexCache implements Closeable {
   public RecordIndexCache(Configuration conf, long initCheckpointId) {
     this.caches = new TreeMap<>(Comparator.reverseOrder());
     this.writeConfig = FlinkWriteClients.getHoodieClientConfig(conf, false, false);
+    this.checkpointIndex = new RecordKeyCheckpointIndex();
     this.maxCacheSizeInBytes = conf.get(FlinkOptions.INDEX_RLI_CACHE_SIZE) * 1024 * 1024;
     this.minRetainedCheckpointId = Integer.MIN_VALUE;
     addCheckpointCache(initCheckpointId);
@@ -135,20 +142,33 @@ public class RecordIndexCache implements Closeable {
   }
 
   /**
-   * Search the record location from caches with larger checkpoint id to that with smaller checkpoint id,
+   * Search the record location from the cache of the checkpoint which last updated the record key first,
+   * then from the other caches with larger checkpoint id to that with smaller checkpoint id,
    * return early if the record location is found for the record key, return null otherwise.
    *
    * @param recordKey the record key for querying the location.
    * @return the record location.
    */
   public HoodieRecordGlobalLocation get(String recordKey) {
-    // Iterate through the caches in descending order of checkpoint ID (larger to smaller)
-    for (ExternalSpillableMap<String, HoodieRecordGlobalLocation> cache : caches.values()) {
-      HoodieRecordGlobalLocation location = cache.get(recordKey);
+    long checkpointId = checkpointIndex.get(RecordKeyCheckpointIndex.hash(recordKey));
+    ExternalSpillableMap<String, HoodieRecordGlobalLocation> hintedCache =
+        checkpointId == RecordKeyCheckpointIndex.NOT_FOUND ? null : caches.get(checkpointId);
+    if (hintedCache != null) {
+      HoodieRecordGlobalLocation location = hintedCache.get(recordKey);
       if (location != null) {
         return location;
       }
     }
+    // the record key is not tracked by the checkpoint index, or its hash collides with the one of another key,
+    // iterate through the other caches in descending order of checkpoint ID (larger to smaller)
+    for (ExternalSpillableMap<String, HoodieRecordGlobalLocation> cache : caches.values()) {
+      if (cache != hintedCache) {
+        HoodieRecordGlobalLocation location = cache.get(recordKey);
+        if (location != null) {
+          return location;
+        }
+      }
+    }
     return null;
   }
 
@@ -161,7 +181,9 @@ public class RecordIndexCache implements Closeable {
   public void update(String recordKey, HoodieRecordGlobalLocation recordGlobalLocation) {
     ValidationUtils.checkArgument(!caches.isEmpty(), "Record index cache should not be empty.");
     // get the cache with the largest checkpoint ID (first entry in the reverse-ordered TreeMap).
-    caches.firstEntry().getValue().put(recordKey, recordGlobalLocation);
+    Map.Entry<Long, ExternalSpillableMap<String, HoodieRecordGlobalLocation>> latestEntry = caches.firstEntry();
+    latestEntry.getValue().put(recordKey, recordGlobalLocation);
+    checkpointIndex.put(RecordKeyCheckpointIndex.hash(recordKey), latestEntry.getKey());
 
     if ((++recordCnt) % NUMBER_OF_RECORDS_TO_CHECK_MEMORY_SIZE == 0) {
       cleanIfNecessary(0L);
@@ -187,12 +209,17 @@ public class RecordIndexCache implements Closeable {
    * @param nextCacheSize the size for the next new cache
    */
   private void cleanIfNecessary(long nextCacheSize) {
+    long maxEvictedCheckpointId = RecordKeyCheckpointIndex.NOT_FOUND;
     while (!caches.isEmpty() && caches.lastKey() < minRetainedCheckpointId
         && getInMemoryMapSize() + nextCacheSize > this.maxCacheSizeInBytes) {
       NavigableMap.Entry<Long, ExternalSpillableMap<String, HoodieRecordGlobalLocation>> lastEntry = caches.pollLastEntry();
       lastEntry.getValue().close();
+      maxEvictedCheckpointId = lastEntry.getKey();
       log.info("Clean record index cache for checkpoint: {}", lastEntry.getKey());
     }
+    if (maxEvictedCheckpointId != RecordKeyCheckpointIndex.NOT_FOUND) {
+      checkpointIndex.removeUpTo(maxEvictedCheckpointId);
+    }
   }
 
   private long getInMemoryMapSize() {
@@ -204,5 +231,6 @@ public class RecordIndexCache implements Closeable {
     // Close all the map instances before removing them
     caches.values().forEach(ExternalSpillableMap::close);
     caches.clear();
+    checkpointIndex.clear();
   }
 }
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.hudi.sink.partitioner.index;
+
+/**
+ * Open addressing hash table from the 64-bit hashes of the record keys to the id of the latest checkpoint
+ * whose {@link RecordIndexCache} sub cache holds the location of the key.
+ *
+ * <p>The table is backed by two primitive arrays, so that it holds no object per entry. It lets the cache
+ * find a key in a single sub cache whatever the number of checkpoints in flight. The hashes of distinct keys
+ * may collide, the table is thus only a hint: the sub cache it points to may not hold the key.
+ *
+ * <p>The table only replaces the probing of the sub caches, not their storage: the sub caches still hold a
+ * record key string and a location object per in-memory entry. The table itself takes 16 bytes per slot,
+ * see {@link #memorySize()}, which is not counted in the cache size, and shrinks when the entries of the
+ * evicted checkpoints are removed.
+ */
+class RecordKeyCheckpointIndex {
+  static final long NOT_FOUND = Long.MIN_VALUE;
+
+  // Hash value marking the empty slots, the keys hashed to it are remapped
+  private static final long EMPTY = 0L;
+  // Bytes of a slot, the hash and the checkpoint id
+  private static final int SLOT_SIZE_IN_BYTES = 2 * Long.BYTES;
+  private static final int INITIAL_CAPACITY = 1 << 10;
+
+  private long[] hashes;
+  private long[] checkpointIds;
+  private int size;
+
+  RecordKeyCheckpointIndex() {
+    clear();
+  }
+
+  /**
+   * Returns the 64-bit hash of the record key, computed without any allocation.
+   */
+  static long hash(String recordKey) {
+    // FNV-1a over the chars, followed by the MurmurHash3 finalizer to spread the bits
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < recordKey.length(); i++) {
+      hash = (hash ^ recordKey.charAt(i)) * 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash == EMPTY ? 1L : hash;
+  }
+
+  /**
+   * Returns the id of the latest checkpoint recorded for the hash, or {@link #NOT_FOUND}.
+   */
+  long get(long hash) {
+    int mask = hashes.length - 1;
+    for (int slot = (int) hash & mask; hashes[slot] != EMPTY; slot = (slot + 1) & mask) {
+      if (hashes[slot] == hash) {
+        return checkpointIds[slot];
+      }
+    }
+    return NOT_FOUND;
+  }
+
+  /**
+   * Records the checkpoint holding the latest location of the keys with the hash.
+   */
+  void put(long hash, long checkpointId) {
+    if (insert(hashes, checkpointIds, hash, checkpointId)) {
+      size++;
+      if (size * 2 > hashes.length) {
+        rehash(hashes.length * 2, Long.MIN_VALUE);
+      }
+    }
+  }
+
+  /**
+   * Removes the entries of the checkpoints up to the given one, whose sub caches were evicted.
+   */
+  void removeUpTo(long checkpointId) {
+    int remaining = 0;
+    for (int slot = 0; slot < hashes.length; slot++) {
+      if (hashes[slot] != EMPTY && checkpointIds[slot] > checkpointId) {
+        remaining++;
+      }
+    }
+    // shrink the table while keeping it at most a quarter full, so that it does not grow back right away
+    int capacity = INITIAL_CAPACITY;
+    while (capacity < hashes.length && capacity < remaining * 4L) {
+      capacity <<= 1;
+    }
+    rehash(capacity, checkpointId);
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns the size in bytes of the arrays backing the table.
+   */
+  long memorySize() {
+    return (long) hashes.length * SLOT_SIZE_IN_BYTES;
+  }
+
+  void clear() {
+    hashes = new long[INITIAL_CAPACITY];
+    checkpointIds = new long[INITIAL_CAPACITY];
+    size = 0;
+  }
+
+  /**
+   * Rebuilds the table with the given capacity, dropping the entries of the checkpoints up to the given one.
+   */
+  private void rehash(int capacity, long maxRemovedCheckpointId) {
+    long[] newHashes = new long[capacity];
+    long[] newCheckpointIds = new long[capacity];
+    int newSize = 0;
+    for (int slot = 0; slot < hashes.length; slot++) {
+      if (hashes[slot] != EMPTY && checkpointIds[slot] > maxRemovedCheckpointId) {
+        insert(newHashes, newCheckpointIds, hashes[slot], checkpointIds[slot]);
+        newSize++;
+      }
+    }
+    hashes = newHashes;
+    checkpointIds = newCheckpointIds;
+    size = newSize;
+  }
+
+  /**
+   * Inserts or updates the entry of the hash, returns whether a new entry was inserted.
+   */
+  private static boolean insert(long[] hashes, long[] checkpointIds, long hash, long checkpointId) {
+    int mask = hashes.length - 1;
+    int slot = (int) hash & mask;
+    while (hashes[slot] != EMPTY) {
+      if (hashes[slot] == hash) {
+        checkpointIds[slot] = checkpointId;
+        return false;
+      }
+      slot = (slot + 1) & mask;
+    }
+    hashes[slot] = hash;
+    checkpointIds[slot] = checkpointId;
+    return true;
+  }
+}
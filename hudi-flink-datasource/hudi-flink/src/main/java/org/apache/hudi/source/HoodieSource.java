@@ -23,6 +23,7 @@ import org.apache.hudi.common.table.HoodieTableMetaClient;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.ValidationUtils;
 import org.apache.hudi.configuration.FlinkOptions;
+import org.apache.hudi.configuration.OptionsResolver;
 import org.apache.hudi.exception.HoodieException;
 import org.apache.hudi.source.enumerator.HoodieContinuousSplitEnumerator;
 import org.apache.hudi.source.enumerator.HoodieEnumeratorStateSerializer;
@@ -31,6 +32,7 @@ import org.apache.hudi.source.enumerator.HoodieStaticSplitEnumerator;
 import org.apache.hudi.source.reader.HoodieRecordEmitter;
 import org.apache.hudi.source.reader.HoodieSourceReader;
 import org.apache.hudi.source.reader.function.SplitReaderFunction;
+import org.apache.hudi.source.split.CostAwareHoodieSplitProvider;
 import org.apache.hudi.source.split.DefaultHoodieSplitDiscover;
 import org.apache.hudi.source.split.DefaultHoodieSplitProvider;
 import org.apache.hudi.source.split.HoodieContinuousSplitDiscover;
@@ -59,6 +61,7 @@ import org.slf4j.LoggerFactory;
 import javax.annotation.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -140,15 +143,18 @@ public class HoodieSource<T> extends FileIndexReader implements Source<T, Hoodie
             scanContext.getConf(), enumContext.currentParallelism());
 
     if (enumeratorState == null) {
-      splitProvider = new DefaultHoodieSplitProvider(splitAssigner);
+      splitProvider = createSplitProvider(splitAssigner, enumContext.currentParallelism());
     } else {
       LOG.info(
           "Hoodie source restored {} splits from state for table {}",
           enumeratorState.getPendingSplitStates().size(), tableName);
       List<HoodieSourceSplit> pendingSplits =
           enumeratorState.getPendingSplitStates().stream().map(HoodieSourceSplitState::getSplit).collect(Collectors.toList());
-      splitProvider = new DefaultHoodieSplitProvider(splitAssigner);
-      splitProvider.onDiscoveredSplits(pendingSplits);
+      splitProvider = createSplitProvider(splitAssigner, enumContext.currentParallelism());
+      // the readers of the file groups are only known when the readers restore the same splits
+      boolean sameParallelism = enumeratorState.getParallelism() == enumContext.currentParallelism();
+      splitProvider.onRestoredSplits(pendingSplits, enumeratorState.getInflightSplits(),
+          sameParallelism ? enumeratorState.getFileGroupOwners() : Collections.emptyMap());
     }
 
     if (scanContext.isStreaming()) {
@@ -167,6 +173,15 @@ public class HoodieSource<T> extends FileIndexReader implements Source<T, Hoodie
     }
   }
 
+  private HoodieSplitProvider createSplitProvider(HoodieSplitAssigner splitAssigner, int parallelism) {
+    Configuration conf = scanContext.getConf();
+    // the splits of MOR table upserted with bucket index are co-located by bucket, never move them between readers
+    if (conf.get(FlinkOptions.READ_SPLITS_COST_AWARE_ENABLED) && !OptionsResolver.isMorWithBucketIndexUpsert(conf)) {
+      return new CostAwareHoodieSplitProvider(splitAssigner, parallelism);
+    }
+    return new DefaultHoodieSplitProvider(splitAssigner);
+  }
+
   @VisibleForTesting
   List<HoodieSourceSplit> createBatchHoodieSplits() {
     final Configuration flinkConf = this.scanContext.getConf();
@@ -450,9 +450,11 @@ public class IncrementalInputSplits implements Serializable {
       // the latest commit is used as the limit of the log reader instant upper threshold,
       // it must be at least the latest instant time of the file slice to avoid data loss.
       String latestCommit = InstantComparison.minInstant(fileSlice.getLatestInstantTime(), endInstant);
-      return new MergeOnReadInputSplit(cnt.getAndAdd(1), basePath, logPaths, latestCommit,
+      MergeOnReadInputSplit split = new MergeOnReadInputSplit(cnt.getAndAdd(1), basePath, logPaths, latestCommit,
           metaClient.getBasePath().toString(), maxCompactionMemoryInBytes, mergeType, instantRange,
           fileSlice.getFileId(), fileSlice.getPartitionPath());
+      split.setFileSize(fileSlice.getTotalFileSize());
+      return split;
     }).sorted(Comparator.comparing(MergeOnReadInputSplit::getLatestCommit)).collect(Collectors.toList());
   }
 
@@ -122,11 +122,16 @@ abstract class AbstractHoodieSplitEnumerator
   @Override
   public void addReader(int subtaskId) {
     log.info("Add reader for subtask {}", subtaskId);
+    if (enumeratorMetrics != null) {
+      enumeratorMetrics.registerReaderBacklogMetrics(subtaskId,
+          () -> splitProvider.pendingSplitCount(subtaskId), () -> splitProvider.pendingSplitWeight(subtaskId));
+    }
   }
 
   @Override
   public HoodieSplitEnumeratorState snapshotState(long checkpointId) throws Exception {
-    return new HoodieSplitEnumeratorState(splitProvider.state(), Option.empty(), Option.empty());
+    return new HoodieSplitEnumeratorState(splitProvider.state(), Option.empty(), Option.empty(),
+        splitProvider.inflightSplits(), splitProvider.fileGroupOwners(), enumeratorContext.currentParallelism());
   }
 
   @Override
@@ -89,7 +89,8 @@ public class HoodieContinuousSplitEnumerator extends AbstractHoodieSplitEnumerat
 
   @Override
   public HoodieSplitEnumeratorState snapshotState(long checkpointId) throws Exception {
-    return new HoodieSplitEnumeratorState(splitProvider.state(), position.get().getIssuedInstant(), position.get().getIssuedOffset());
+    return new HoodieSplitEnumeratorState(splitProvider.state(), position.get().getIssuedInstant(), position.get().getIssuedOffset(),
+        splitProvider.inflightSplits(), splitProvider.fileGroupOwners(), enumeratorContext.currentParallelism());
   }
 
   private HoodieContinuousSplitBatch discoverSplits() {
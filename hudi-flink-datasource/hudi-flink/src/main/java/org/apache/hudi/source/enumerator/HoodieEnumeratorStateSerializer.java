@@ -33,14 +33,18 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Serializer of Hoodie enumerator state.
  */
 @Internal
 public class HoodieEnumeratorStateSerializer implements SimpleVersionedSerializer<HoodieSplitEnumeratorState> {
-  private static final int VERSION = 1;
+  // version 2 serializes the splits with their file size, version 3 adds the splits in flight and
+  // the readers of their file groups, the splits are serialized with the latest split serializer version
+  private static final int VERSION = 3;
   private final HoodieSourceSplitSerializer splitSerializer = new HoodieSourceSplitSerializer();
 
   @Override
@@ -75,6 +79,19 @@ public class HoodieEnumeratorStateSerializer implements SimpleVersionedSerialize
         out.writeUTF(obj.getLastEnumeratedInstantOffset().get());
       }
 
+      // Serialize the splits in flight and the readers of their file groups
+      out.writeInt(obj.getInflightSplits().size());
+      for (Map.Entry<String, String> entry : obj.getInflightSplits().entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeUTF(entry.getValue());
+      }
+      out.writeInt(obj.getFileGroupOwners().size());
+      for (Map.Entry<String, Integer> entry : obj.getFileGroupOwners().entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeInt(entry.getValue());
+      }
+      out.writeInt(obj.getParallelism());
+
       out.flush();
       return baos.toByteArray();
     }
@@ -85,6 +102,9 @@ public class HoodieEnumeratorStateSerializer implements SimpleVersionedSerialize
     try (ByteArrayInputStream bais = new ByteArrayInputStream(serialized);
          DataInputStream in = new DataInputStream(bais)) {
 
+      // the split serializer version matches the state version up to version 2
+      int splitVersion = Math.min(version, splitSerializer.getVersion());
+
       // Deserialize pending split states
       int splitCount = in.readInt();
       List<HoodieSourceSplitState> splitStates = new ArrayList<>(splitCount);
@@ -94,7 +114,7 @@ public class HoodieEnumeratorStateSerializer implements SimpleVersionedSerialize
         in.readFully(splitBytes);
         String statusName = in.readUTF();
         splitStates.add(new HoodieSourceSplitState(
-            splitSerializer.deserialize(version, splitBytes),
+            splitSerializer.deserialize(splitVersion, splitBytes),
             HoodieSourceSplitStatus.valueOf(statusName)));
       }
 
@@ -114,7 +134,25 @@ public class HoodieEnumeratorStateSerializer implements SimpleVersionedSerialize
         lastEnumeratedInstantOffset = Option.empty();
       }
 
-      return new HoodieSplitEnumeratorState(splitStates, lastEnumeratedInstant, lastEnumeratedInstantOffset);
+      if (version < 3) {
+        return new HoodieSplitEnumeratorState(splitStates, lastEnumeratedInstant, lastEnumeratedInstantOffset);
+      }
+
+      // Deserialize the splits in flight and the readers of their file groups
+      int inflightSplitCount = in.readInt();
+      Map<String, String> inflightSplits = new HashMap<>(inflightSplitCount);
+      for (int i = 0; i < inflightSplitCount; i++) {
+        inflightSplits.put(in.readUTF(), in.readUTF());
+      }
+      int ownerCount = in.readInt();
+      Map<String, Integer> fileGroupOwners = new HashMap<>(ownerCount);
+      for (int i = 0; i < ownerCount; i++) {
+        fileGroupOwners.put(in.readUTF(), in.readInt());
+      }
+      int parallelism = in.readInt();
+
+      return new HoodieSplitEnumeratorState(
+          splitStates, lastEnumeratedInstant, lastEnumeratedInstantOffset, inflightSplits, fileGroupOwners, parallelism);
     }
   }
 }
@@ -21,18 +21,38 @@ package org.apache.hudi.source.enumerator;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.source.split.HoodieSourceSplitState;
 
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 
 /**
  * State of Hoodie split enumerator. Mainly include the states of pending splits of split provider.
+ *
+ * <p>The splits in flight are restored by the readers, the state only keeps their ids and file groups,
+ * and the readers of the file groups, which are valid when the source is restored with the same parallelism.
  */
 @Value
+@AllArgsConstructor
 public class HoodieSplitEnumeratorState implements Serializable {
 
   Collection<HoodieSourceSplitState> pendingSplitStates;
   Option<String> lastEnumeratedInstant;
   Option<String> lastEnumeratedInstantOffset;
+  // file group of each split in flight, by split id
+  Map<String, String> inflightSplits;
+  // reader subtask of each file group with splits in flight
+  Map<String, Integer> fileGroupOwners;
+  // number of readers when the state is taken, -1 if unknown
+  int parallelism;
+
+  public HoodieSplitEnumeratorState(
+      Collection<HoodieSourceSplitState> pendingSplitStates,
+      Option<String> lastEnumeratedInstant,
+      Option<String> lastEnumeratedInstantOffset) {
+    this(pendingSplitStates, lastEnumeratedInstant, lastEnumeratedInstantOffset, Collections.emptyMap(), Collections.emptyMap(), -1);
+  }
 }
@@ -0,0 +1,308 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.hudi.source.split;
+
+import org.apache.hudi.common.util.Option;
+import org.apache.hudi.common.util.ValidationUtils;
+import org.apache.hudi.source.split.assign.HoodieSplitAssigner;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * Split provider that balances the pending splits between the readers by their cost,
+ * see {@link HoodieSourceSplit#getWeight()}.
+ *
+ * <p>A new split is queued for the reader with the least pending weight, the reader chosen by the
+ * {@link HoodieSplitAssigner} is preferred on ties. When a reader has no pending split, it steals
+ * one from the reader with the most pending weight.
+ *
+ * <p>The splits of the same file group are never read concurrently: while a file group has a split
+ * pending or in flight, its new splits are queued for the same reader, and only the splits of the
+ * file groups without any other split pending or in flight can be stolen. This keeps the splits of
+ * a file group being read in the order of the comparator.
+ *
+ * <p>The splits in flight at the checkpoint are restored by the readers, the enumerator state keeps their ids,
+ * file groups and the readers of the file groups. After a restore, the splits of these file groups are queued
+ * for the same readers again. When the readers are unknown, e.g. the source is restored with another parallelism,
+ * the splits of these file groups are held until the readers report the restored splits in flight as completed.
+ */
+@Slf4j
+public class CostAwareHoodieSplitProvider implements HoodieSplitProvider {
+  private final int parallelism;
+  private final HoodieSplitAssigner splitAssigner;
+  private final SerializableComparator<HoodieSourceSplit> comparator;
+  private final Map<Integer, Queue<HoodieSourceSplit>> pendingSplits;
+  // total weight of the pending splits of each task
+  private final AtomicLongArray pendingWeights;
+  // task owning each file group with pending or in flight splits
+  private final Map<String, Integer> fileGroupOwners;
+  // number of pending or in flight splits of each file group
+  private final Map<String, Integer> fileGroupActiveSplits;
+  // file group of each split in flight, by split id
+  private final Map<String, String> inflightSplits;
+  // splits of the file groups with restored splits in flight whose readers are unknown, by file group
+  private final Map<String, List<HoodieSourceSplit>> heldSplits;
+  private CompletableFuture<Void> availableFuture;
+
+  /**
+   * Creates a CostAwareHoodieSplitProvider.
+   *
+   * @param splitAssigner the assigner giving the preferred task of each split (must not be null)
+   * @param parallelism   the number of readers (must be positive)
+   */
+  public CostAwareHoodieSplitProvider(HoodieSplitAssigner splitAssigner, int parallelism) {
+    ValidationUtils.checkArgument(parallelism > 0, "Parallelism must be positive, but was: " + parallelism);
+    this.parallelism = parallelism;
+    this.splitAssigner = splitAssigner;
+    this.comparator = new HoodieSourceSplitComparator();
+    this.pendingSplits = new ConcurrentHashMap<>();
+    this.pendingWeights = new AtomicLongArray(parallelism);
+    this.fileGroupOwners = new HashMap<>();
+    this.fileGroupActiveSplits = new HashMap<>();
+    this.inflightSplits = new HashMap<>();
+    this.heldSplits = new HashMap<>();
+  }
+
+  @Override
+  public synchronized Option<HoodieSourceSplit> getNext(int taskId, @Nullable String hostname) {
+    Queue<HoodieSourceSplit> splits = pendingSplits.get(taskId);
+    HoodieSourceSplit split = splits == null ? null : splits.poll();
+    if (split == null) {
+      split = steal(taskId);
+      if (split == null) {
+        return Option.empty();
+      }
+    } else {
+      pendingWeights.addAndGet(taskId, -split.getWeight());
+    }
+    inflightSplits.put(split.splitId(), split.getFileId());
+    return Option.of(split);
+  }
+
+  @Override
+  public synchronized void onDiscoveredSplits(Collection<HoodieSourceSplit> splits) {
+    addSplits(splits);
+  }
+
+  @Override
+  public synchronized void onRestoredSplits(
+      Collection<HoodieSourceSplit> splits,
+      Map<String, String> restoredInflightSplits,
+      Map<String, Integer> restoredFileGroupOwners) {
+    restoredInflightSplits.forEach((splitId, fileId) -> {
+      inflightSplits.put(splitId, fileId);
+      fileGroupActiveSplits.merge(fileId, 1, Integer::sum);
+      Integer owner = restoredFileGroupOwners.get(fileId);
+      if (owner != null && owner >= 0 && owner < parallelism) {
+        fileGroupOwners.put(fileId, owner);
+      } else {
+        heldSplits.putIfAbsent(fileId, new ArrayList<>());
+      }
+    });
+    if (!heldSplits.isEmpty()) {
+      log.info("Hold the splits of {} file groups until their restored splits in flight are completed", heldSplits.size());
+    }
+    addSplits(splits);
+  }
+
+  @Override
+  public synchronized void onUnassignedSplits(Collection<HoodieSourceSplit> splits) {
+    // the splits returned by a failed reader are no longer in flight
+    splits.forEach(split -> {
+      if (inflightSplits.remove(split.splitId()) != null) {
+        releaseFileGroup(split.getFileId());
+      }
+    });
+    addSplits(splits);
+  }
+
+  @Override
+  public synchronized void onCompletedSplits(Collection<String> completedSplitIds) {
+    if (completedSplitIds == null || completedSplitIds.isEmpty()) {
+      return;
+    }
+    completedSplitIds.forEach(splitId -> {
+      String fileId = inflightSplits.remove(splitId);
+      if (fileId != null) {
+        releaseFileGroup(fileId);
+      }
+    });
+  }
+
+  private void addSplits(Collection<HoodieSourceSplit> splits) {
+    for (HoodieSourceSplit split : splits) {
+      String fileId = split.getFileId();
+      List<HoodieSourceSplit> held = heldSplits.get(fileId);
+      if (held != null) {
+        held.add(split);
+        continue;
+      }
+      Integer owner = fileGroupOwners.get(fileId);
+      int taskId = owner != null ? owner : leastLoadedTask(splitAssigner.assign(split));
+      pendingSplits.computeIfAbsent(
+          taskId, k -> new PriorityBlockingQueue<>(DefaultHoodieSplitProvider.DEFAULT_SPLIT_QUEUE_SIZE, comparator)).add(split);
+      pendingWeights.addAndGet(taskId, split.getWeight());
+      fileGroupOwners.put(fileId, taskId);
+      fileGroupActiveSplits.merge(fileId, 1, Integer::sum);
+
+      // complete pending future if new splits are discovered
+      completeAvailableFuturesIfNeeded();
+    }
+  }
+
+  private int leastLoadedTask(int preferredTaskId) {
+    int taskId = preferredTaskId;
+    for (int i = 0; i < parallelism; i++) {
+      if (pendingWeights.get(i) < pendingWeights.get(taskId)) {
+        taskId = i;
+      }
+    }
+    return taskId;
+  }
+
+  /**
+   * Steals the first split, in the order of the comparator, that can be read by any reader
+   * from the reader with the most pending weight.
+   */
+  @Nullable
+  private HoodieSourceSplit steal(int taskId) {
+    int victim = -1;
+    for (Map.Entry<Integer, Queue<HoodieSourceSplit>> entry : pendingSplits.entrySet()) {
+      int candidate = entry.getKey();
+      if (candidate != taskId && !entry.getValue().isEmpty()
+          && (victim == -1 || pendingWeights.get(candidate) > pendingWeights.get(victim))) {
+        victim = candidate;
+      }
+    }
+    if (victim == -1) {
+      return null;
+    }
+    Queue<HoodieSourceSplit> victimSplits = pendingSplits.get(victim);
+    List<HoodieSourceSplit> candidates = victimSplits.stream().sorted(comparator).collect(Collectors.toList());
+    for (HoodieSourceSplit split : candidates) {
+      if (fileGroupActiveSplits.getOrDefault(split.getFileId(), 0) == 1 && victimSplits.remove(split)) {
+        pendingWeights.addAndGet(victim, -split.getWeight());
+        fileGroupOwners.put(split.getFileId(), taskId);
+        log.info("Subtask {} steals split {} from subtask {}", taskId, split.splitId(), victim);
+        return split;
+      }
+    }
+    return null;
+  }
+
+  private void releaseFileGroup(String fileId) {
+    Integer remaining = fileGroupActiveSplits.computeIfPresent(fileId, (k, count) -> count > 1 ? count - 1 : null);
+    if (remaining == null) {
+      fileGroupOwners.remove(fileId);
+      // the restored splits in flight of the file group are completed, any reader can read the held splits
+      List<HoodieSourceSplit> held = heldSplits.remove(fileId);
+      if (held != null) {
+        addSplits(held);
+      }
+    }
+  }
+
+  @Override
+  public synchronized Collection<HoodieSourceSplitState> state() {
+    List<HoodieSourceSplitState> splitList = new ArrayList<>();
+
+    for (Queue<HoodieSourceSplit> queue: pendingSplits.values()) {
+      splitList.addAll(queue.stream()
+          .map(split -> new HoodieSourceSplitState(split, HoodieSourceSplitStatus.UNASSIGNED))
+          .collect(Collectors.toList()));
+    }
+    for (List<HoodieSourceSplit> splits : heldSplits.values()) {
+      splitList.addAll(splits.stream()
+          .map(split -> new HoodieSourceSplitState(split, HoodieSourceSplitStatus.UNASSIGNED))
+          .collect(Collectors.toList()));
+    }
+
+    return splitList;
+  }
+
+  @Override
+  public synchronized Map<String, String> inflightSplits() {
+    return new HashMap<>(inflightSplits);
+  }
+
+  @Override
+  public synchronized Map<String, Integer> fileGroupOwners() {
+    // the owners of the file groups with only pending splits are not needed, any reader can read them after a restore
+    Map<String, Integer> owners = new HashMap<>();
+    inflightSplits.values().forEach(fileId -> {
+      Integer owner = fileGroupOwners.get(fileId);
+      if (owner != null) {
+        owners.put(fileId, owner);
+      }
+    });
+    return owners;
+  }
+
+  @Override
+  public synchronized CompletableFuture<Void> isAvailable() {
+    if (availableFuture == null) {
+      availableFuture = new CompletableFuture<>();
+    }
+    return availableFuture;
+  }
+
+  @Override
+  public synchronized int pendingSplitCount() {
+    return pendingSplits.values().stream().mapToInt(Collection::size).sum()
+        + heldSplits.values().stream().mapToInt(Collection::size).sum();
+  }
+
+  @Override
+  public int pendingSplitCount(int taskId) {
+    Queue<HoodieSourceSplit> splits = pendingSplits.get(taskId);
+    return splits == null ? 0 : splits.size();
+  }
+
+  @Override
+  public long pendingSplitWeight(int taskId) {
+    return taskId >= 0 && taskId < parallelism ? pendingWeights.get(taskId) : 0L;
+  }
+
+  @Override
+  public long pendingRecords() {
+    throw new UnsupportedOperationException("Pending records is not supported in CostAwareHoodieSplitProvider.");
+  }
+
+  private synchronized void completeAvailableFuturesIfNeeded() {
+    if (availableFuture != null && !pendingSplits.isEmpty()) {
+      availableFuture.complete(null);
+    }
+    availableFuture = null;
+  }
+}
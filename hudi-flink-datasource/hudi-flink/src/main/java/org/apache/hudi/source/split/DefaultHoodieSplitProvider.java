@@ -115,6 +115,18 @@ public class DefaultHoodieSplitProvider implements HoodieSplitProvider {
     return pendingSplits.values().stream().mapToInt(Collection::size).sum();
   }
 
+  @Override
+  public int pendingSplitCount(int taskId) {
+    Queue<HoodieSourceSplit> splits = pendingSplits.get(taskId);
+    return splits == null ? 0 : splits.size();
+  }
+
+  @Override
+  public long pendingSplitWeight(int taskId) {
+    Queue<HoodieSourceSplit> splits = pendingSplits.get(taskId);
+    return splits == null ? 0L : splits.stream().mapToLong(HoodieSourceSplit::getWeight).sum();
+  }
+
   @Override
   public long pendingRecords() {
     throw new UnsupportedOperationException("Pending records is not supported in DefaultSplitProvider.");
@@ -77,7 +77,7 @@ public class HoodieContinuousSplitBatch {
             split.getMergeType(),
             latestCommit);
       }
-      return new HoodieSourceSplit(
+      HoodieSourceSplit sourceSplit = new HoodieSourceSplit(
           HoodieSourceSplit.SPLIT_ID_GEN.incrementAndGet(),
           split.getBasePath().orElse(null),
           split.getLogPaths(),
@@ -88,6 +88,8 @@ public class HoodieContinuousSplitBatch {
           split.getFileId(),
           split.getInstantRange()
       );
+      sourceSplit.setFileSize(split.getFileSize());
+      return sourceSplit;
     }).collect(Collectors.toList());
 
     return new HoodieContinuousSplitBatch(splits, result.getEndInstant(), result.getOffset());
@@ -71,6 +71,10 @@ public class HoodieSourceSplit implements SourceSplit, Serializable {
   // for failure recovering
   private int fileOffset;
 
+  // total size in bytes of the base and log files, 0 if unknown
+  @Setter
+  private long fileSize;
+
   public HoodieSourceSplit(
       int splitNum,
       @Nullable String basePath,
@@ -110,4 +114,15 @@ public class HoodieSourceSplit implements SourceSplit, Serializable {
     fileOffset = newFileOffset;
     consumed = newRecordOffset;
   }
+
+  /**
+   * Returns the estimated cost of reading the split: the total size of its base and log files
+   * in bytes, or the number of files when the size is unknown.
+   */
+  public long getWeight() {
+    if (fileSize > 0) {
+      return fileSize;
+    }
+    return Math.max(1, (basePath.isPresent() ? 1 : 0) + logPaths.map(List::size).orElse(0));
+  }
 }
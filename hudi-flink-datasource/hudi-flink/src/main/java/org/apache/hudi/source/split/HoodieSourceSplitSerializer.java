@@ -42,7 +42,8 @@ import java.util.Set;
  */
 @Internal
 public class HoodieSourceSplitSerializer implements SimpleVersionedSerializer<HoodieSourceSplit> {
-  private static final int VERSION = 1;
+  // version 2 adds the file size of the split
+  private static final int VERSION = 2;
 
   @Override
   public int getVersion() {
@@ -87,6 +88,8 @@ public class HoodieSourceSplitSerializer implements SimpleVersionedSerializer<Ho
       out.writeLong(obj.getConsumed());
       // Serialize fileOffset
       out.writeInt(obj.getFileOffset());
+      // Serialize fileSize
+      out.writeLong(obj.getFileSize());
 
       // Serialize instant range (Option<InstantRange>)
       out.writeBoolean(obj.getInstantRange().isPresent());
@@ -186,6 +189,8 @@ public class HoodieSourceSplitSerializer implements SimpleVersionedSerializer<Ho
       long consumed = in.readLong();
       // Deserialize fileOffset
       int fileOffset = in.readInt();
+      // Deserialize fileSize, which is unknown for the splits written by version 1
+      long fileSize = version >= 2 ? in.readLong() : 0L;
 
       // Deserialize instantRange (Option<InstantRange>)
       Option<InstantRange> instantRangeOption;
@@ -244,6 +249,7 @@ public class HoodieSourceSplitSerializer implements SimpleVersionedSerializer<Ho
         HoodieCdcSourceSplit cdcSplit = new HoodieCdcSourceSplit(splitNum, tablePath,
             maxCompactionMemoryInBytes, fileId, partitionPath, changes, mergeType, latestCommit);
         cdcSplit.updatePosition(fileOffset, consumed);
+        cdcSplit.setFileSize(fileSize);
         return cdcSplit;
       }
 
@@ -260,6 +266,7 @@ public class HoodieSourceSplitSerializer implements SimpleVersionedSerializer<Ho
 
       // Update position to restore consumed and fileOffset
       split.updatePosition(fileOffset, consumed);
+      split.setFileSize(fileSize);
 
       return split;
     }
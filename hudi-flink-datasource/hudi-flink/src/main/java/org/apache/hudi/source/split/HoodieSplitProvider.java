@@ -27,6 +27,8 @@ import javax.annotation.Nullable;
 
 import java.io.Closeable;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -75,6 +77,22 @@ public interface HoodieSplitProvider extends Closeable {
   /** Add new splits discovered by enumerator */
   void onDiscoveredSplits(Collection<HoodieSourceSplit> splits);
 
+  /**
+   * Add the pending splits restored from the enumerator state. The splits in flight at the checkpoint
+   * are restored by the readers, the state only keeps their ids and file groups.
+   *
+   * @param splits          the pending splits
+   * @param inflightSplits  the file group of each split in flight at the checkpoint, by split id
+   * @param fileGroupOwners the reader of each file group with splits in flight, empty if the readers are unknown,
+   *                        e.g. the source is restored with another parallelism
+   */
+  default void onRestoredSplits(
+      Collection<HoodieSourceSplit> splits,
+      Map<String, String> inflightSplits,
+      Map<String, Integer> fileGroupOwners) {
+    onDiscoveredSplits(splits);
+  }
+
   /** Forward addSplitsBack event (for failed reader) to assigner */
   void onUnassignedSplits(Collection<HoodieSourceSplit> splits);
 
@@ -91,6 +109,20 @@ public interface HoodieSplitProvider extends Closeable {
    */
   Collection<HoodieSourceSplitState> state();
 
+  /**
+   * Get the file group of each split in flight for checkpointing, by split id.
+   */
+  default Map<String, String> inflightSplits() {
+    return Collections.emptyMap();
+  }
+
+  /**
+   * Get the reader of each file group with splits in flight for checkpointing.
+   */
+  default Map<String, Integer> fileGroupOwners() {
+    return Collections.emptyMap();
+  }
+
   /**
    * Enumerator can get a notification via CompletableFuture when the assigner has more splits
    * available later. Enumerator should schedule assignment in the thenAccept action of the future.
@@ -118,6 +150,20 @@ public interface HoodieSplitProvider extends Closeable {
    */
   int pendingSplitCount();
 
+  /**
+   * Return the number of pending splits queued for the given task, published as the backlog metric of the reader.
+   */
+  default int pendingSplitCount(int taskId) {
+    return 0;
+  }
+
+  /**
+   * Return the total weight of the pending splits queued for the given task, see {@link HoodieSourceSplit#getWeight()}.
+   */
+  default long pendingSplitWeight(int taskId) {
+    return 0L;
+  }
+
   /**
    * Return the number of pending records, which can act as a measure of the source lag. This value
    * could be an estimation if the exact number of records cannot be accurately computed.
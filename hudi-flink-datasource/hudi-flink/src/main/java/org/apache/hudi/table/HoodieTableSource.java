@@ -435,7 +435,7 @@ public class HoodieTableSource extends FileIndexReader implements
     int asyncThreadNumber = conf.get(LOOKUP_ASYNC_THREAD_NUMBER);
     return LookupRuntimeProviderFactory.create(
         new HoodieLookupFunction(
-            new HoodieLookupTableReader(this::getBatchInputFormat, conf),
+            new HoodieLookupTableReader(this::getBatchInputFormat, this::getIncrementalLookupInputFormat, conf),
             (RowType) getProducedDataType().notNull().getLogicalType(),
             getLookupKeys(context.getKeys()),
             duration,
@@ -569,6 +569,40 @@ public class HoodieTableSource extends FileIndexReader implements
     }
   }
 
+  /**
+   * Returns the input format reading the changes committed after the given completion time for the
+   * incremental refresh of the lookup join cache, along with the completion time of the latest change.
+   */
+  @VisibleForTesting
+  public Pair<InputFormat<RowData, ?>, String> getIncrementalLookupInputFormat(String issuedOffset) {
+    final HoodieSchema tableSchema = getTableSchema();
+    final DataType rowDataType = HoodieSchemaConverter.convertToDataType(tableSchema);
+    final RowType rowType = (RowType) rowDataType.getLogicalType();
+    final RowType requiredRowType = (RowType) getProducedDataType().notNull().getLogicalType();
+
+    IncrementalInputSplits incrementalInputSplits = IncrementalInputSplits.builder()
+        .conf(conf)
+        .path(FilePathUtils.toFlinkPath(path))
+        .rowType(this.tableRowType)
+        .maxCompactionMemoryInBytes(maxCompactionMemoryInBytes)
+        .partitionPruner(partitionPruner)
+        // compaction and clustering rewrite the records without changing them
+        .skipCompaction(true)
+        .skipClustering(true)
+        .build();
+    final boolean cdcEnabled = this.conf.get(FlinkOptions.CDC_ENABLED);
+    final IncrementalInputSplits.Result result = incrementalInputSplits.inputSplits(metaClient, issuedOffset, cdcEnabled);
+    // the offset advances over the instants without changes to read, e.g. the skipped compactions
+    final String offset = result.getOffset() != null ? result.getOffset() : issuedOffset;
+    if (result.isEmpty()) {
+      return Pair.of(InputFormats.EMPTY_INPUT_FORMAT, offset);
+    }
+    InputFormat<RowData, ?> inputFormat = cdcEnabled
+        ? cdcInputFormat(rowType, requiredRowType, tableSchema, rowDataType, result.getInputSplits())
+        : mergeOnReadInputFormat(rowType, requiredRowType, tableSchema, rowDataType, result.getInputSplits(), true);
+    return Pair.of(inputFormat, offset);
+  }
+
   private InputFormat<RowData, ?> getStreamInputFormat() {
     // if table does not exist or table data does not exist, use schema from the DDL
     HoodieSchema tableSchema = (this.metaClient == null || !tableDataExists()) ? inferSchemaFromDdl() : getTableSchema();
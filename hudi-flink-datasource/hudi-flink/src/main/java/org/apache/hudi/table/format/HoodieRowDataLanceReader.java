@@ -20,7 +20,7 @@ package org.apache.hudi.table.format;
 
 import org.apache.hudi.client.model.HoodieFlinkRecord;
 import org.apache.hudi.common.bloom.BloomFilter;
-import org.apache.hudi.common.bloom.HoodieDynamicBoundedBloomFilter;
+import org.apache.hudi.common.bloom.BloomFilterFactory;
 import org.apache.hudi.common.bloom.SimpleBloomFilter;
 import org.apache.hudi.common.config.HoodieConfig;
 import org.apache.hudi.common.config.HoodieStorageConfig;
@@ -112,8 +112,8 @@ public class HoodieRowDataLanceReader implements HoodieFileReader<RowData> {
     }
     String bloomSer = metadata.get(HOODIE_AVRO_BLOOM_FILTER_METADATA_KEY);
     String filterType = metadata.get(HOODIE_BLOOM_FILTER_TYPE_CODE);
-    if (filterType != null && filterType.contains(HoodieDynamicBoundedBloomFilter.TYPE_CODE_PREFIX)) {
-      return new HoodieDynamicBoundedBloomFilter(bloomSer);
+    if (filterType != null) {
+      return BloomFilterFactory.fromString(bloomSer, filterType);
     }
     return new SimpleBloomFilter(bloomSer);
   }
@@ -49,6 +49,9 @@ public class MergeOnReadInputSplit implements InputSplit {
   private final String partitionPath;
   @Setter
   protected String fileId;
+  // total size in bytes of the base and log files, 0 if unknown
+  @Setter
+  private long fileSize;
 
   // for streaming reader to record the consumed offset,
   // which is the start of next round reading.
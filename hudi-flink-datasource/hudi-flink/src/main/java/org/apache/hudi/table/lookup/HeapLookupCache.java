@@ -42,6 +42,11 @@ public class HeapLookupCache implements LookupCache {
     store.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
   }
 
+  @Override
+  public void removeRows(RowData key) {
+    store.remove(key);
+  }
+
   @Override
   @Nullable
   public List<RowData> getRows(RowData key) {
@@ -21,9 +21,11 @@ package org.apache.hudi.table.lookup;
 import org.apache.hudi.common.table.HoodieTableMetaClient;
 import org.apache.hudi.common.table.timeline.HoodieActiveTimeline;
 import org.apache.hudi.common.table.timeline.HoodieInstant;
+import org.apache.hudi.common.util.ClusteringUtils;
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.configuration.FlinkOptions;
 import org.apache.hudi.configuration.HadoopConfigurations;
+import org.apache.hudi.configuration.OptionsResolver;
 import org.apache.hudi.util.StreamerUtil;
 
 import lombok.extern.slf4j.Slf4j;
@@ -36,6 +38,7 @@ import org.apache.flink.table.functions.FunctionContext;
 import org.apache.flink.table.functions.LookupFunction;
 import org.apache.flink.table.runtime.typeutils.InternalSerializers;
 import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.types.RowKind;
 import org.apache.flink.util.FlinkRuntimeException;
 
 import java.io.Closeable;
@@ -44,7 +47,11 @@ import java.io.Serializable;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -55,6 +62,12 @@ import java.util.stream.Collectors;
  * <p>The underlying cache can be heap-based ({@code lookup.join.cache.type=heap}, default) or
  * RocksDB-backed ({@code lookup.join.cache.type=rocksdb}). The RocksDB option stores all dimension
  * table rows off-heap on local disk, preventing OutOfMemoryError when the dimension table is large.
+ *
+ * <p>With {@code lookup.join.cache.refresh.mode=incremental}, the cache is refreshed by reading only the
+ * changes committed since the last refresh and applying the upserts and deletes in place, instead of
+ * reloading the whole table. The cache is still fully reloaded on the first load, when the incremental
+ * read fails, or when the changes can not be applied incrementally, e.g. the last loaded commit is archived
+ * or an insert overwrite replaced some file groups.
  */
 @Slf4j
 public class HoodieLookupFunction extends LookupFunction implements Serializable, Closeable {
@@ -69,10 +82,12 @@ public class HoodieLookupFunction extends LookupFunction implements Serializable
 
   private final HoodieLookupTableReader partitionReader;
   private final RowData.FieldGetter[] lookupFieldGetters;
+  private final RowData.FieldGetter[] partitionFieldGetters;
   private final Duration reloadInterval;
   private final TypeSerializer<RowData> serializer;
   private final RowType rowType;
   private final int[] lookupKeys;
+  private final boolean incrementalRefresh;
 
   // cache for lookup data
   private transient LookupCache cache;
@@ -81,6 +96,8 @@ public class HoodieLookupFunction extends LookupFunction implements Serializable
 
   private transient HoodieTableMetaClient metaClient;
   private transient HoodieInstant currentCommit;
+  // completion time of the latest change loaded into the cache
+  private transient String loadedCompletionTime;
   private final Configuration conf;
   protected FunctionContext functionContext;
 
@@ -98,9 +115,11 @@ public class HoodieLookupFunction extends LookupFunction implements Serializable
       lookupFieldGetters[i] =
           RowData.createFieldGetter(rowType.getTypeAt(lookupKeys[i]), lookupKeys[i]);
     }
+    this.partitionFieldGetters = createPartitionFieldGetters(conf, rowType);
     this.reloadInterval = reloadInterval;
     this.serializer = InternalSerializers.create(rowType);
     this.conf = conf;
+    this.incrementalRefresh = isIncrementalRefreshApplicable(conf, rowType, lookupKeys);
   }
 
   @Override
@@ -149,6 +168,15 @@ public class HoodieLookupFunction extends LookupFunction implements Serializable
       return;
     }
 
+    if (canRefreshIncrementally(latestCommit)) {
+      try {
+        refreshIncrementally(latestCommitInstant.get());
+        return;
+      } catch (Exception e) {
+        log.warn("Failed to refresh lookup join cache incrementally, reloading the whole table", e);
+      }
+    }
+
     int numRetry = 0;
     while (true) {
       cache.clear();
@@ -165,6 +193,7 @@ public class HoodieLookupFunction extends LookupFunction implements Serializable
         }
         partitionReader.close();
         currentCommit = latestCommitInstant.get();
+        loadedCompletionTime = currentCommit.getCompletionTime();
         scheduleNextLoad();
         log.info("Loaded {} row(s) into lookup join cache", count);
         return;
@@ -188,10 +217,132 @@ public class HoodieLookupFunction extends LookupFunction implements Serializable
     }
   }
 
+  /**
+   * Returns whether the changes committed after the loaded commit can be applied to the cache in place.
+   */
+  private boolean canRefreshIncrementally(HoodieActiveTimeline timeline) {
+    if (!incrementalRefresh || !partitionReader.supportsIncrementalRead() || loadedCompletionTime == null) {
+      return false;
+    }
+    if (!timeline.containsInstant(currentCommit)) {
+      log.info("The loaded commit {} has been archived, reloading the whole table", currentCommit);
+      return false;
+    }
+    // insert overwrite replaces the file groups without emitting the deletes of their records
+    Option<HoodieInstant> insertOverwrite = Option.fromJavaOptional(timeline.getCompletedReplaceTimeline()
+        .findInstantsModifiedAfterByCompletionTime(loadedCompletionTime).getInstantsAsStream()
+        .filter(instant -> ClusteringUtils.isInsertOverwriteInstant(instant, timeline))
+        .findFirst());
+    if (insertOverwrite.isPresent()) {
+      log.info("Found insert overwrite commit {} since the last refresh, reloading the whole table", insertOverwrite.get());
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Reads the changes committed after the loaded commit, and applies them to the cache.
+   */
+  private void refreshIncrementally(HoodieInstant latestCommitInstant) throws IOException {
+    long upsertCount = 0;
+    long deleteCount = 0;
+    // partition values of the rows upserted by this refresh, with a global index a partition change deletes
+    // the record from the old partition and inserts it into the new one, and the two can be read in any order
+    Map<RowData, RowData> upsertedPartitions = new HashMap<>();
+    GenericRowData reuse = new GenericRowData(rowType.getFieldCount());
+    String offset = partitionReader.openIncremental(loadedCompletionTime);
+    try {
+      RowData row;
+      while ((row = partitionReader.read(reuse)) != null) {
+        RowData rowData = serializer.copy(row);
+        RowData key = extractLookupKey(rowData);
+        switch (rowData.getRowKind()) {
+          case DELETE:
+            RowData upsertedPartition = upsertedPartitions.get(key);
+            if (upsertedPartition != null && !upsertedPartition.equals(extractPartition(rowData))) {
+              // the delete is from the old partition of the record, keep the row upserted into the new partition
+              break;
+            }
+            cache.removeRows(key);
+            upsertedPartitions.remove(key);
+            deleteCount++;
+            break;
+          case UPDATE_BEFORE:
+            // the row is replaced by the following UPDATE_AFTER row
+            break;
+          default:
+            // the lookup keys are the record keys, so the row replaces the previous version of the record
+            rowData.setRowKind(RowKind.INSERT);
+            cache.removeRows(key);
+            cache.addRow(key, rowData);
+            upsertedPartitions.put(key, extractPartition(rowData));
+            upsertCount++;
+        }
+      }
+    } finally {
+      partitionReader.close();
+    }
+    currentCommit = latestCommitInstant;
+    loadedCompletionTime = offset;
+    scheduleNextLoad();
+    log.info("Refreshed lookup join cache incrementally with {} upsert(s) and {} delete(s) up to completion time {}",
+        upsertCount, deleteCount, offset);
+  }
+
+  /**
+   * Returns whether the incremental refresh is configured and applicable to the table: each lookup key
+   * identifies a single record, and the deletes of the records are readable.
+   */
+  private static boolean isIncrementalRefreshApplicable(Configuration conf, RowType rowType, int[] lookupKeys) {
+    if (!FlinkOptions.LOOKUP_JOIN_CACHE_REFRESH_MODE_INCREMENTAL.equalsIgnoreCase(conf.get(FlinkOptions.LOOKUP_JOIN_CACHE_REFRESH_MODE))) {
+      return false;
+    }
+    if (!OptionsResolver.isMorTable(conf) && !conf.get(FlinkOptions.CDC_ENABLED)) {
+      log.warn("The incremental refresh of lookup join cache requires a MERGE_ON_READ table or a table with CDC enabled, "
+          + "falls back to the full refresh");
+      return false;
+    }
+    Set<String> lookupKeyFields = Arrays.stream(lookupKeys)
+        .mapToObj(i -> rowType.getFieldNames().get(i))
+        .collect(Collectors.toSet());
+    Set<String> recordKeyFields = new HashSet<>(Arrays.asList(OptionsResolver.getRecordKeys(conf)));
+    if (!lookupKeyFields.equals(recordKeyFields)) {
+      log.warn("The incremental refresh of lookup join cache requires the lookup keys {} to be the record keys {}, "
+          + "falls back to the full refresh", lookupKeyFields, recordKeyFields);
+      return false;
+    }
+    return true;
+  }
+
   private void scheduleNextLoad() {
     nextLoadTime = System.currentTimeMillis() + reloadInterval.toMillis();
   }
 
+  /**
+   * Creates the getters of the partition fields of the table present in the row type.
+   */
+  private static RowData.FieldGetter[] createPartitionFieldGetters(Configuration conf, RowType rowType) {
+    return Arrays.stream(conf.get(FlinkOptions.PARTITION_PATH_FIELD).split(","))
+        .map(String::trim)
+        .filter(field -> !field.isEmpty())
+        .mapToInt(rowType::getFieldIndex)
+        .filter(i -> i >= 0)
+        .mapToObj(i -> RowData.createFieldGetter(rowType.getTypeAt(i), i))
+        .toArray(RowData.FieldGetter[]::new);
+  }
+
+  /**
+   * Extracts the partition values of the row, the deletes read from the logs of a MERGE_ON_READ table
+   * only carry the record keys, so their partition values are null.
+   */
+  private RowData extractPartition(RowData row) {
+    GenericRowData partition = new GenericRowData(partitionFieldGetters.length);
+    for (int i = 0; i < partitionFieldGetters.length; i++) {
+      partition.setField(i, partitionFieldGetters[i].getFieldOrNull(row));
+    }
+    return partition;
+  }
+
   private RowData extractLookupKey(RowData row) {
     GenericRowData key = new GenericRowData(lookupFieldGetters.length);
     for (int i = 0; i < lookupFieldGetters.length; i++) {
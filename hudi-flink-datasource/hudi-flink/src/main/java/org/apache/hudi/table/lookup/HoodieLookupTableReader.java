@@ -18,7 +18,10 @@
 
 package org.apache.hudi.table.lookup;
 
+import org.apache.hudi.common.function.SerializableFunction;
 import org.apache.hudi.common.function.SerializableSupplier;
+import org.apache.hudi.common.util.ValidationUtils;
+import org.apache.hudi.common.util.collection.Pair;
 
 import org.apache.flink.api.common.io.InputFormat;
 import org.apache.flink.api.common.io.RichInputFormat;
@@ -36,11 +39,18 @@ import java.util.stream.Collectors;
 
 /**
  * Hudi look up table reader.
+ *
+ * <p>The reader reads either the whole table, or the changes committed after a given completion time
+ * when an incremental input format is provided.
  */
 public class HoodieLookupTableReader implements Serializable {
   private static final long serialVersionUID = 1L;
 
   private final SerializableSupplier<InputFormat<RowData, ?>> inputFormatSupplier;
+  // function from the completion time to read the changes after, to the input format of the changes
+  // and the completion time of the latest change.
+  @Nullable
+  private final SerializableFunction<String, Pair<InputFormat<RowData, ?>, String>> incrementalInputFormatFunc;
   private final Configuration conf;
 
   private InputFormat inputFormat;
@@ -48,12 +58,44 @@ public class HoodieLookupTableReader implements Serializable {
   private List<InputSplit> inputSplits;
 
   public HoodieLookupTableReader(SerializableSupplier<InputFormat<RowData, ?>> inputFormatSupplier, Configuration conf) {
+    this(inputFormatSupplier, null, conf);
+  }
+
+  public HoodieLookupTableReader(
+      SerializableSupplier<InputFormat<RowData, ?>> inputFormatSupplier,
+      @Nullable SerializableFunction<String, Pair<InputFormat<RowData, ?>, String>> incrementalInputFormatFunc,
+      Configuration conf) {
     this.inputFormatSupplier = inputFormatSupplier;
+    this.incrementalInputFormatFunc = incrementalInputFormatFunc;
     this.conf = conf;
   }
 
   public void open() throws IOException {
-    this.inputFormat = inputFormatSupplier.get();
+    open(inputFormatSupplier.get());
+  }
+
+  /**
+   * Returns whether the reader can read the changes committed after a given completion time.
+   */
+  public boolean supportsIncrementalRead() {
+    return incrementalInputFormatFunc != null;
+  }
+
+  /**
+   * Opens the reader for the changes committed after the given completion time.
+   *
+   * @param completionTime the completion time of the latest change already read
+   * @return the completion time of the latest change to read
+   */
+  public String openIncremental(String completionTime) throws IOException {
+    ValidationUtils.checkState(supportsIncrementalRead(), "The incremental read is not supported by the lookup table reader");
+    Pair<InputFormat<RowData, ?>, String> inputFormatAndOffset = incrementalInputFormatFunc.apply(completionTime);
+    open(inputFormatAndOffset.getLeft());
+    return inputFormatAndOffset.getRight();
+  }
+
+  private void open(InputFormat<RowData, ?> inputFormat) throws IOException {
+    this.inputFormat = inputFormat;
     inputFormat.configure(conf);
     this.inputSplits = Arrays.stream(inputFormat.createInputSplits(1)).collect(Collectors.toList());
     ((RichInputFormat) inputFormat).openInputFormat();
@@ -44,6 +44,14 @@ public interface LookupCache extends Closeable {
    */
   void addRow(RowData key, RowData row) throws IOException;
 
+  /**
+   * Removes all rows associated with the given lookup key.
+   *
+   * @param key the lookup key row
+   * @throws IOException if the delete fails
+   */
+  void removeRows(RowData key) throws IOException;
+
   /**
    * Returns all rows matching the given lookup key, or {@code null} / empty list if none exist.
    *
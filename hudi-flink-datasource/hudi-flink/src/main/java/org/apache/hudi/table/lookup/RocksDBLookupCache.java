@@ -88,6 +88,17 @@ public class RocksDBLookupCache implements LookupCache {
     rocksDBDAO.put(COLUMN_FAMILY, compoundKey, valueBytes);
   }
 
+  @Override
+  public void removeRows(RowData key) throws IOException {
+    String prefix = serializeKeyToHex(key) + KEY_SEPARATOR;
+    List<String> compoundKeys = rocksDBDAO.<byte[]>prefixSearch(COLUMN_FAMILY, prefix)
+        .map(pair -> pair.getKey())
+        .collect(Collectors.toList());
+    for (String compoundKey : compoundKeys) {
+      rocksDBDAO.delete(COLUMN_FAMILY, compoundKey);
+    }
+  }
+
   @Override
   @Nullable
   public List<RowData> getRows(RowData key) throws IOException {
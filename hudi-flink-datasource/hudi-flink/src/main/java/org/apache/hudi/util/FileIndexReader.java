@@ -102,17 +102,20 @@ public abstract class FileIndexReader implements Serializable {
 
     return fileSlices.stream()
         .filter(fileSlice -> fileSlice.getBaseFile().isPresent())
-        .map(fileSlice ->
-            new HoodieSourceSplit(
-                HoodieSourceSplit.SPLIT_ID_GEN.incrementAndGet(),
-                fileSlice.getBaseFile().get().getPath(),
-                Option.empty(),
-                FilePathUtils.toFlinkPath(path).getPath(),
-                fileSlice.getPartitionPath(),
-                mergeType,
-                fileSlice.getLatestInstantTime(),
-                fileSlice.getFileId(),
-                Option.empty()))
+        .map(fileSlice -> {
+          HoodieSourceSplit split = new HoodieSourceSplit(
+              HoodieSourceSplit.SPLIT_ID_GEN.incrementAndGet(),
+              fileSlice.getBaseFile().get().getPath(),
+              Option.empty(),
+              FilePathUtils.toFlinkPath(path).getPath(),
+              fileSlice.getPartitionPath(),
+              mergeType,
+              fileSlice.getLatestInstantTime(),
+              fileSlice.getFileId(),
+              Option.empty());
+          split.setFileSize(fileSlice.getBaseFile().get().getFileSize());
+          return split;
+        })
         .collect(Collectors.toList());
   }
 
@@ -140,7 +143,7 @@ public abstract class FileIndexReader implements Serializable {
                   .sorted(HoodieLogFile.getLogFileComparator())
                   .map(logFile -> logFile.getPath().toString())
                   .collect(Collectors.toList()));
-          return new HoodieSourceSplit(
+          HoodieSourceSplit split = new HoodieSourceSplit(
               cnt.getAndAdd(1),
               basePath,
               logPaths,
@@ -150,6 +153,8 @@ public abstract class FileIndexReader implements Serializable {
               result.getRight(),
               fileSlice.getFileId(),
               Option.empty());
+          split.setFileSize(fileSlice.getTotalFileSize());
+          return split;
         })
         .collect(Collectors.toList());
   }
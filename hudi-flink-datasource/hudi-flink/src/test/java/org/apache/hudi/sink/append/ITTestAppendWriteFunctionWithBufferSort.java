@@ -59,10 +59,11 @@ import java.util.Objects;
 /**
  * Integration tests for append write functions with buffer sorting using Flink MiniCluster.
  *
- * <p>Tests all buffer types (DISRUPTOR, BOUNDED_IN_MEMORY, NONE) with real Flink runtime.
+ * <p>Tests all buffer types (DISRUPTOR, BOUNDED_IN_MEMORY, CONTINUOUS_SORT, EXTERNAL_SORT, NONE) with real Flink runtime.
  *
  * @see AppendWriteFunctionWithDisruptorBufferSort
  * @see AppendWriteFunctionWithBIMBufferSort
+ * @see AppendWriteFunctionWithExternalSort
  * @see AppendWriteFunction
  */
 @ExtendWith(FlinkMiniCluster.class)
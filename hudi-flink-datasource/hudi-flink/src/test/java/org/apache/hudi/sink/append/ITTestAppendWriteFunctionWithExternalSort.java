@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.hudi.sink.append;
+
+import org.apache.hudi.configuration.FlinkOptions;
+import org.apache.hudi.sink.buffer.BufferType;
+import org.apache.hudi.sink.utils.TestFunctionWrapper;
+import org.apache.hudi.sink.utils.TestWriteBase;
+import org.apache.hudi.utils.TestConfigurations;
+import org.apache.hudi.utils.TestData;
+
+import org.apache.avro.generic.GenericRecord;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.table.data.GenericRowData;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.table.types.logical.IntType;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.table.types.logical.TimestampType;
+import org.apache.flink.table.types.logical.VarCharType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link AppendWriteFunctionWithExternalSort}.
+ */
+public class ITTestAppendWriteFunctionWithExternalSort extends TestWriteBase {
+  private Configuration conf;
+  private RowType rowType;
+
+  @TempDir
+  protected File tempFile;
+
+  @BeforeEach
+  public void before(@TempDir File tempDir) throws Exception {
+    this.conf = TestConfigurations.getDefaultConf(tempFile.getAbsolutePath());
+    this.conf.set(FlinkOptions.WRITE_BUFFER_TYPE, BufferType.EXTERNAL_SORT.name());
+    this.conf.set(FlinkOptions.WRITE_BUFFER_SPILL_PATH, tempDir.getAbsolutePath());
+    this.conf.set(FlinkOptions.OPERATION, "insert");
+    this.conf.set(FlinkOptions.WRITE_BUFFER_SORT_KEYS, "name,age");
+
+    List<RowType.RowField> fields = new ArrayList<>();
+    fields.add(new RowType.RowField("uuid", VarCharType.STRING_TYPE));
+    fields.add(new RowType.RowField("name", VarCharType.STRING_TYPE));
+    fields.add(new RowType.RowField("age", new IntType()));
+    fields.add(new RowType.RowField("ts", new TimestampType()));
+    fields.add(new RowType.RowField("partition", VarCharType.STRING_TYPE));
+    this.rowType = new RowType(fields);
+  }
+
+  @Test
+  public void testSortedResult() throws Exception {
+    List<RowData> inputData = Arrays.asList(
+        createRowData("uuid1", "Bob", 30, "1970-01-01 00:00:01.123", "p1"),
+        createRowData("uuid2", "Alice", 25, "1970-01-01 00:00:01.124", "p1"),
+        createRowData("uuid3", "Bob", 21, "1970-01-01 00:00:31.124", "p1")
+    );
+
+    // Expected result after sorting by name, then age
+    List<String> expected = Arrays.asList(
+        "uuid2,Alice,25,1970-01-01 00:00:01.124,p1",
+        "uuid3,Bob,21,1970-01-01 00:00:31.124,p1",
+        "uuid1,Bob,30,1970-01-01 00:00:01.123,p1");
+
+    TestWriteBase.TestHarness.instance()
+        .preparePipeline(tempFile, conf)
+        .consume(inputData)
+        .checkpoint(1)
+        .endInput();
+
+    List<GenericRecord> result = TestData.readAllData(new File(conf.get(FlinkOptions.PATH)), rowType, 1);
+    List<String> filteredResult =
+        result.stream().map(TestData::filterOutVariablesWithoutHudiMetadata).collect(Collectors.toList());
+    assertArrayEquals(expected.toArray(), filteredResult.toArray());
+  }
+
+  @Test
+  public void testSpilledRunsMergedInSortOrder() throws Exception {
+    AppendWriteFunctionWithExternalSort<?> writeFunction = writeScrambledRecords(5000, -1);
+
+    assertTrue(writeFunction.getNumSpilledRuns() > 1, "The sorted runs should be spilled more than once");
+    assertEquals(0, writeFunction.getNumIntermediateMerges());
+    assertSortedResult(5000);
+  }
+
+  @Test
+  public void testSpilledRunsMergedWithIntermediatePasses() throws Exception {
+    AppendWriteFunctionWithExternalSort<?> writeFunction = writeScrambledRecords(5000, 2);
+
+    assertTrue(writeFunction.getNumSpilledRuns() > 2, "The sorted runs should exceed the max fan-in");
+    assertEquals(writeFunction.getNumSpilledRuns() - 1, writeFunction.getNumIntermediateMerges());
+    assertSortedResult(5000);
+  }
+
+  /**
+   * Writes the records in a scrambled order with a very small buffer memory size so that the sorted runs are spilled.
+   *
+   * @param numRecords The number of records, large enough to exceed the buffer several times
+   * @param maxFanIn   The max fan-in of the merge, the default is used if it is not positive
+   */
+  private AppendWriteFunctionWithExternalSort<?> writeScrambledRecords(int numRecords, int maxFanIn) throws Exception {
+    this.conf.set(FlinkOptions.WRITE_TASK_MAX_SIZE, 200.1D);
+    this.conf.set(FlinkOptions.WRITE_MEMORY_SEGMENT_PAGE_SIZE, 4096);
+
+    TestFunctionWrapper<RowData> pipeline = TestData.getWritePipeline(tempFile.getAbsolutePath(), conf);
+    pipeline.openFunction();
+    AppendWriteFunctionWithExternalSort<?> writeFunction = (AppendWriteFunctionWithExternalSort<?>) pipeline.getWriteFunction();
+    if (maxFanIn > 0) {
+      writeFunction.setMaxFanIn(maxFanIn);
+    }
+    for (int i = 0; i < numRecords; i++) {
+      int id = (int) ((i * 7919L) % numRecords);
+      pipeline.invoke(createRowData("uuid" + id, String.format("Name%05d", id), id, "1970-01-01 00:00:01.123", "p1"));
+    }
+    // this triggers the merge and the data write
+    pipeline.endInput();
+    pipeline.close();
+    return writeFunction;
+  }
+
+  private void assertSortedResult(int numRecords) throws Exception {
+    List<GenericRecord> result = TestData.readAllData(new File(conf.get(FlinkOptions.PATH)), rowType, 1);
+    assertEquals(numRecords, result.size());
+    List<String> names = result.stream().map(record -> record.get("name").toString()).collect(Collectors.toList());
+    assertEquals(names.stream().sorted().collect(Collectors.toList()), names);
+  }
+
+  private GenericRowData createRowData(String uuid, String name, int age, String timestamp, String partition) {
+    return GenericRowData.of(StringData.fromString(uuid), StringData.fromString(name),
+        age, TimestampData.fromTimestamp(Timestamp.valueOf(timestamp)), StringData.fromString(partition));
+  }
+}
@@ -24,6 +24,8 @@ import org.apache.hudi.common.model.WriteOperationType;
 import org.apache.hudi.configuration.FlinkOptions;
 import org.apache.hudi.index.HoodieIndex;
 import org.apache.hudi.metrics.FlinkBucketAssignMetrics;
+import org.apache.hudi.metrics.FlinkIndexBackendMetrics;
+import org.apache.hudi.sink.partitioner.index.GlobalRecordLevelIndexBackend;
 import org.apache.hudi.utils.TestConfigurations;
 import org.apache.hudi.utils.TestData;
 
@@ -312,6 +314,87 @@ public class TestMinibatchBucketAssignFunction {
     assertEquals("I", duplicateRecord.getOperationType());
   }
 
+  @Test
+  public void testAsyncLookupKeepsArrivalOrder() throws Exception {
+    Configuration asyncConf = Configuration.fromMap(conf.toMap());
+    asyncConf.set(FlinkOptions.INDEX_RLI_LOOKUP_ASYNC_MAX_INFLIGHT_BATCHES, 2);
+
+    MinibatchBucketAssignFunction asyncFunction = new MinibatchBucketAssignFunction(asyncConf);
+    OneInputStreamOperatorTestHarness<HoodieFlinkInternalRow, HoodieFlinkInternalRow> asyncHarness =
+        new OneInputStreamOperatorTestHarness<>(new MiniBatchBucketAssignOperator(asyncFunction, new OperatorID()), 1, 1, 0);
+    asyncHarness.open();
+    try {
+      // the first batch updates 'id1' in its original partition
+      asyncHarness.processElement(new StreamRecord<>(insertRecord("id1", "par1", 1)));
+      for (int i = 1; i < 1000; i++) {
+        asyncHarness.processElement(new StreamRecord<>(insertRecord("async_key_" + i, "par5", 1)));
+      }
+      // the second batch changes the partition of 'id1' while the lookup of the first batch may be in flight
+      asyncHarness.processElement(new StreamRecord<>(insertRecord("id1", "par2", 2)));
+      for (int i = 1; i < 1000; i++) {
+        asyncHarness.processElement(new StreamRecord<>(insertRecord("async_key_" + (1000 + i), "par5", 2)));
+      }
+      asyncHarness.prepareSnapshotPreBarrier(1L);
+
+      List<HoodieFlinkInternalRow> output = asyncHarness.extractOutputValues();
+      assertEquals(2001, output.size(), "All the records of the in flight batches should be processed before the barrier");
+
+      assertEquals("id1", output.get(0).getRecordKey());
+      assertEquals("par1", output.get(0).getPartitionPath());
+      assertEquals("U", output.get(0).getInstantTime(), "the record is an update record");
+      for (int i = 1; i < 1000; i++) {
+        assertEquals("async_key_" + i, output.get(i).getRecordKey(), "records should be emitted in arrival order");
+        assertEquals("I", output.get(i).getInstantTime(), "the record is an insert record");
+      }
+
+      HoodieFlinkInternalRow delete = output.get(1000);
+      assertEquals("id1", delete.getRecordKey());
+      assertEquals("par1", delete.getPartitionPath());
+      assertEquals("-U", delete.getOperationType());
+      HoodieFlinkInternalRow insert = output.get(1001);
+      assertEquals("id1", insert.getRecordKey());
+      assertEquals("par2", insert.getPartitionPath());
+      assertEquals("I", insert.getOperationType());
+      assertEquals("async_key_1001", output.get(1002).getRecordKey());
+    } finally {
+      asyncHarness.close();
+    }
+  }
+
+  @Test
+  public void testAsyncLookupOfCachedBatch() throws Exception {
+    Configuration asyncConf = Configuration.fromMap(conf.toMap());
+    asyncConf.set(FlinkOptions.INDEX_RLI_LOOKUP_ASYNC_MAX_INFLIGHT_BATCHES, 2);
+
+    MinibatchBucketAssignFunction asyncFunction = new MinibatchBucketAssignFunction(asyncConf);
+    OneInputStreamOperatorTestHarness<HoodieFlinkInternalRow, HoodieFlinkInternalRow> asyncHarness =
+        new OneInputStreamOperatorTestHarness<>(new MiniBatchBucketAssignOperator(asyncFunction, new OperatorID()), 1, 1, 0);
+    asyncHarness.open();
+    try {
+      FlinkIndexBackendMetrics indexMetrics =
+          ((GlobalRecordLevelIndexBackend) asyncFunction.getDelegateFunction().getIndexBackend()).getMetrics();
+      // the first batch warms up the cache with the existing and the new keys
+      asyncHarness.processElement(new StreamRecord<>(insertRecord("id1", "par1", 1)));
+      for (int i = 1; i < 1000; i++) {
+        asyncHarness.processElement(new StreamRecord<>(insertRecord("cached_key_" + i, "par5", 1)));
+      }
+      asyncHarness.prepareSnapshotPreBarrier(1L);
+      assertEquals(0, indexMetrics.getInflightLookupBatches());
+
+      // every key of the second batch is served by the cache
+      asyncHarness.processElement(new StreamRecord<>(insertRecord("id1", "par1", 2)));
+      for (int i = 1; i < 1000; i++) {
+        asyncHarness.processElement(new StreamRecord<>(insertRecord("cached_key_" + i, "par5", 2)));
+      }
+      asyncHarness.prepareSnapshotPreBarrier(2L);
+
+      assertEquals(2000, asyncHarness.extractOutputValues().size());
+      assertEquals(0, indexMetrics.getInflightLookupBatches(), "The drained batches should not be counted as in flight");
+    } finally {
+      asyncHarness.close();
+    }
+  }
+
   @Test
   public void testCloseFunction() throws Exception {
     // Test that close doesn't throw exceptions
@@ -20,6 +20,7 @@ package org.apache.hudi.sink.partitioner.index;
 
 import org.apache.hudi.common.config.HoodieMetadataConfig;
 import org.apache.hudi.common.model.HoodieRecordGlobalLocation;
+import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.configuration.FlinkOptions;
 import org.apache.hudi.metrics.FlinkIndexBackendMetrics;
 import org.apache.hudi.sink.event.Correspondent;
@@ -44,6 +45,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -204,6 +206,38 @@ public class TestGlobalRecordLevelIndexBackend {
     }
   }
 
+  @Test
+  void testGetAsync() throws Exception {
+    TestData.writeData(TestData.DATA_SET_INSERT, conf);
+
+    try (GlobalRecordLevelIndexBackend backend = new GlobalRecordLevelIndexBackend(conf, -1)) {
+      Map<String, Gauge<?>> gauges = new HashMap<>();
+      backend.registerMetrics(captureGauges(gauges));
+
+      List<Pair<String, HoodieRecordGlobalLocation>> locations =
+          backend.getAsync(Arrays.asList("id1", "id2", "missing_key")).get();
+      assertEquals(2, locations.size());
+      assertEquals(1, ((Integer) gauges.get(FlinkIndexBackendMetrics.INFLIGHT_LOOKUP_BATCHES).getValue()).intValue());
+      // the fetched locations are not visible until they are applied
+      assertNull(backend.get("id1"));
+
+      // the location updated while the lookup is in flight is kept
+      HoodieRecordGlobalLocation newLocation = new HoodieRecordGlobalLocation("par5", "000000002", "file-id-5");
+      backend.update("id1", newLocation);
+      backend.updateIfAbsent(locations);
+      assertEquals(0, ((Integer) gauges.get(FlinkIndexBackendMetrics.INFLIGHT_LOOKUP_BATCHES).getValue()).intValue());
+      assertEquals(newLocation, backend.get("id1"));
+      assertEquals("par1", backend.get("id2").getPartitionPath());
+
+      // the cached keys are not fetched again, but the lookup is still counted until it is applied
+      List<Pair<String, HoodieRecordGlobalLocation>> cachedLocations = backend.getAsync(Arrays.asList("id1", "id2")).get();
+      assertTrue(cachedLocations.isEmpty());
+      assertEquals(1, ((Integer) gauges.get(FlinkIndexBackendMetrics.INFLIGHT_LOOKUP_BATCHES).getValue()).intValue());
+      backend.updateIfAbsent(cachedLocations);
+      assertEquals(0, ((Integer) gauges.get(FlinkIndexBackendMetrics.INFLIGHT_LOOKUP_BATCHES).getValue()).intValue());
+    }
+  }
+
   @Test
   void testRegisterMetricsIsIdempotent() throws Exception {
     // The second registerMetrics call must be a no-op and must not throw.
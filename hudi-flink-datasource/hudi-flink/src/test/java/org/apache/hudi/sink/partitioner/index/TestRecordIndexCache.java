@@ -194,6 +194,35 @@ public class TestRecordIndexCache {
     assertTrue(cache.getCaches().containsKey(4L));
   }
 
+  @Test
+  void testGetAfterEviction() {
+    Configuration conf = TestConfigurations.getDefaultConf(tempDir.getAbsolutePath());
+    conf.set(FlinkOptions.INDEX_RLI_CACHE_SIZE, 1L);
+    cache = new RecordIndexCache(conf, 1L);
+
+    HoodieRecordGlobalLocation location1 = new HoodieRecordGlobalLocation("partition1", "1001", "file_id1");
+    HoodieRecordGlobalLocation location2 = new HoodieRecordGlobalLocation("partition2", "1002", "file_id2");
+    for (int i = 0; i < 5000; i++) {
+      cache.update("k1_" + i, location1);
+    }
+    cache.addCheckpointCache(2L);
+    // key updated again in the later checkpoint
+    cache.update("k1_0", location2);
+    for (int i = 0; i < 5000; i++) {
+      cache.update("k2_" + i, location2);
+    }
+    cache.addCheckpointCache(3L);
+    cache.markAsEvictable(2L);
+    for (int i = 0; i < 1000; i++) {
+      cache.update("k3_" + i, location2);
+    }
+
+    assertFalse(cache.getCaches().containsKey(1L));
+    assertNull(cache.get("k1_1"));
+    assertEquals(location2, cache.get("k1_0"));
+    assertEquals(location2, cache.get("k2_0"));
+  }
+
   @Test
   void testClose() throws IOException {
     cache.addCheckpointCache(2L);
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.hudi.sink.partitioner.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link RecordKeyCheckpointIndex}.
+ */
+public class TestRecordKeyCheckpointIndex {
+
+  @Test
+  void testPutAndGet() {
+    RecordKeyCheckpointIndex index = new RecordKeyCheckpointIndex();
+    // enough keys to grow the table several times
+    for (int i = 0; i < 10000; i++) {
+      index.put(RecordKeyCheckpointIndex.hash("key" + i), i % 3);
+    }
+    assertEquals(10000, index.size());
+    for (int i = 0; i < 10000; i++) {
+      assertEquals(i % 3, index.get(RecordKeyCheckpointIndex.hash("key" + i)));
+    }
+    assertEquals(RecordKeyCheckpointIndex.NOT_FOUND, index.get(RecordKeyCheckpointIndex.hash("missing")));
+
+    // the latest checkpoint of the key is kept
+    index.put(RecordKeyCheckpointIndex.hash("key0"), 5L);
+    assertEquals(10000, index.size());
+    assertEquals(5L, index.get(RecordKeyCheckpointIndex.hash("key0")));
+  }
+
+  @Test
+  void testRemoveUpTo() {
+    RecordKeyCheckpointIndex index = new RecordKeyCheckpointIndex();
+    for (int i = 0; i < 3000; i++) {
+      index.put(RecordKeyCheckpointIndex.hash("key" + i), i / 1000);
+    }
+    index.removeUpTo(1L);
+    assertEquals(1000, index.size());
+    assertEquals(RecordKeyCheckpointIndex.NOT_FOUND, index.get(RecordKeyCheckpointIndex.hash("key0")));
+    assertEquals(RecordKeyCheckpointIndex.NOT_FOUND, index.get(RecordKeyCheckpointIndex.hash("key1000")));
+    assertEquals(2L, index.get(RecordKeyCheckpointIndex.hash("key2000")));
+
+    // the table shrinks with the removed entries, down to the initial capacity
+    long memorySize = index.memorySize();
+    index.removeUpTo(2L);
+    assertEquals(0, index.size());
+    assertTrue(index.memorySize() < memorySize);
+    assertEquals(16L * 1024, index.memorySize());
+
+    index.clear();
+    assertEquals(0, index.size());
+    assertEquals(RecordKeyCheckpointIndex.NOT_FOUND, index.get(RecordKeyCheckpointIndex.hash("key2000")));
+  }
+
+  @Test
+  void testHash() {
+    assertEquals(RecordKeyCheckpointIndex.hash("key1"), RecordKeyCheckpointIndex.hash("key1"));
+    assertNotEquals(RecordKeyCheckpointIndex.hash("key1"), RecordKeyCheckpointIndex.hash("key2"));
+    assertNotEquals(0L, RecordKeyCheckpointIndex.hash(""));
+  }
+}
@@ -30,7 +30,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -248,7 +250,50 @@ public class TestHoodieEnumeratorStateSerializer {
 
   @Test
   public void testGetVersion() {
-    assertEquals(1, serializer.getVersion());
+    assertEquals(3, serializer.getVersion());
+  }
+
+  @Test
+  public void testSerializeAndDeserializeInflightSplits() throws IOException {
+    Map<String, String> inflightSplits = new HashMap<>();
+    inflightSplits.put("split1", "file1");
+    inflightSplits.put("split2", "file2");
+    Map<String, Integer> fileGroupOwners = new HashMap<>();
+    fileGroupOwners.put("file1", 0);
+    fileGroupOwners.put("file2", 3);
+    HoodieSplitEnumeratorState original = new HoodieSplitEnumeratorState(
+        Collections.singletonList(new HoodieSourceSplitState(createTestSplit(3, "file1", "/p1"), HoodieSourceSplitStatus.UNASSIGNED)),
+        Option.of("20240122120000"),
+        Option.empty(),
+        inflightSplits,
+        fileGroupOwners,
+        4);
+
+    HoodieSplitEnumeratorState deserialized = serializer.deserialize(serializer.getVersion(), serializer.serialize(original));
+
+    assertEquals(1, deserialized.getPendingSplitStates().size());
+    assertEquals(inflightSplits, deserialized.getInflightSplits());
+    assertEquals(fileGroupOwners, deserialized.getFileGroupOwners());
+    assertEquals(4, deserialized.getParallelism());
+  }
+
+  @Test
+  public void testDeserializeVersion2State() throws IOException {
+    HoodieSplitEnumeratorState original = new HoodieSplitEnumeratorState(
+        Collections.singletonList(new HoodieSourceSplitState(createTestSplit(1, "file1", "/p1"), HoodieSourceSplitStatus.UNASSIGNED)),
+        Option.of("20240122120000"),
+        Option.of("offset-1"));
+    byte[] serialized = serializer.serialize(original);
+    // version 2 ends after the last enumerated instant offset, without the splits in flight, the owners and the parallelism
+    byte[] version2 = Arrays.copyOf(serialized, serialized.length - 3 * Integer.BYTES);
+
+    HoodieSplitEnumeratorState deserialized = serializer.deserialize(2, version2);
+
+    assertEquals(1, deserialized.getPendingSplitStates().size());
+    assertEquals("offset-1", deserialized.getLastEnumeratedInstantOffset().get());
+    assertTrue(deserialized.getInflightSplits().isEmpty());
+    assertTrue(deserialized.getFileGroupOwners().isEmpty());
+    assertEquals(-1, deserialized.getParallelism());
   }
 
   @Test
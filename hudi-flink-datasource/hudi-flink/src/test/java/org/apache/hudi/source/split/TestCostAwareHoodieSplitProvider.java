@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.hudi.source.split;
+
+import org.apache.hudi.common.util.Option;
+import org.apache.hudi.source.enumerator.HoodieEnumeratorStateSerializer;
+import org.apache.hudi.source.enumerator.HoodieSplitEnumeratorState;
+import org.apache.hudi.source.split.assign.HoodieSplitNumberAssigner;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test cases for {@link CostAwareHoodieSplitProvider}.
+ */
+public class TestCostAwareHoodieSplitProvider {
+
+  @Test
+  public void testAssignToLeastLoadedReader() {
+    CostAwareHoodieSplitProvider provider = new CostAwareHoodieSplitProvider(new HoodieSplitNumberAssigner(2), 2);
+    // the preferred reader of the assigner is taken on ties
+    provider.onDiscoveredSplits(Collections.singletonList(createTestSplit(1, "file1", 1, 100L)));
+    assertEquals(100L, provider.pendingSplitWeight(1));
+
+    // the splits preferring reader 1 go to reader 0, which has less pending weight
+    provider.onDiscoveredSplits(Arrays.asList(
+        createTestSplit(2, "file2", 2, 10L),
+        createTestSplit(3, "file3", 3, 10L)));
+    assertEquals(2, provider.pendingSplitCount(0));
+    assertEquals(20L, provider.pendingSplitWeight(0));
+    assertEquals(1, provider.pendingSplitCount(1));
+    assertEquals(100L, provider.pendingSplitWeight(1));
+    assertEquals(3, provider.pendingSplitCount());
+  }
+
+  @Test
+  public void testStealFromMostLoadedReader() {
+    CostAwareHoodieSplitProvider provider = new CostAwareHoodieSplitProvider(split -> 0, 2);
+    HoodieSourceSplit split1 = createTestSplit(1, "file1", 1, 100L);
+    HoodieSourceSplit split2 = createTestSplit(2, "file2", 2, 100L);
+    HoodieSourceSplit split3 = createTestSplit(3, "file3", 3, 100L);
+    provider.onDiscoveredSplits(Arrays.asList(split1, split2, split3));
+    assertEquals(2, provider.pendingSplitCount(0));
+    assertEquals(1, provider.pendingSplitCount(1));
+
+    assertEquals(split2.splitId(), provider.getNext(1, null).get().splitId());
+    // reader 1 is idle, it steals the oldest split of reader 0
+    Option<HoodieSourceSplit> stolen = provider.getNext(1, null);
+    assertTrue(stolen.isPresent());
+    assertEquals(split1.splitId(), stolen.get().splitId());
+    assertEquals(1, provider.pendingSplitCount(0));
+    assertEquals(100L, provider.pendingSplitWeight(0));
+
+    assertEquals(split3.splitId(), provider.getNext(0, null).get().splitId());
+    assertFalse(provider.getNext(0, null).isPresent());
+    assertFalse(provider.getNext(1, null).isPresent());
+  }
+
+  @Test
+  public void testSplitsOfSameFileGroupKeepOrder() {
+    CostAwareHoodieSplitProvider provider = new CostAwareHoodieSplitProvider(new HoodieSplitNumberAssigner(2), 2);
+    HoodieSourceSplit split1 = createTestSplit(0, "file1", 1, 100L);
+    HoodieSourceSplit split2 = createTestSplit(1, "file1", 2, 100L);
+    provider.onDiscoveredSplits(Arrays.asList(split1, split2));
+    // the second split follows the reader of its file group instead of the less loaded reader
+    assertEquals(2, provider.pendingSplitCount(0));
+
+    // the splits can't be stolen while another split of the file group is pending or in flight
+    assertFalse(provider.getNext(1, null).isPresent());
+    assertEquals(split1.splitId(), provider.getNext(0, null).get().splitId());
+    assertFalse(provider.getNext(1, null).isPresent());
+
+    provider.onCompletedSplits(Collections.singletonList(split1.splitId()));
+    assertEquals(split2.splitId(), provider.getNext(1, null).get().splitId());
+    assertEquals(0, provider.pendingSplitCount());
+  }
+
+  @Test
+  public void testOnUnassignedSplits() {
+    CostAwareHoodieSplitProvider provider = new CostAwareHoodieSplitProvider(split -> 0, 2);
+    HoodieSourceSplit split1 = createTestSplit(1, "file1", 1, 100L);
+    provider.onDiscoveredSplits(Collections.singletonList(split1));
+    assertTrue(provider.getNext(0, null).isPresent());
+
+    // the split returned by the failed reader can be read by any reader
+    provider.onUnassignedSplits(Collections.singletonList(split1));
+    assertEquals(1, provider.state().size());
+    assertEquals(split1.splitId(), provider.getNext(1, null).get().splitId());
+  }
+
+  @Test
+  public void testRestoredSplitsFollowReaderOfFileGroup() throws IOException {
+    CostAwareHoodieSplitProvider provider = new CostAwareHoodieSplitProvider(new HoodieSplitNumberAssigner(2), 2);
+    HoodieSourceSplit split1 = createTestSplit(0, "file1", 1, 100L);
+    HoodieSourceSplit split2 = createTestSplit(2, "file1", 2, 100L);
+    provider.onDiscoveredSplits(Arrays.asList(split1, split2));
+    // split1 is in flight at the checkpoint, it is restored by reader 0 and not by the enumerator
+    assertEquals(split1.splitId(), provider.getNext(0, null).get().splitId());
+
+    HoodieSplitEnumeratorState state = restoreState(provider, 2);
+    assertEquals(Collections.singletonMap(split1.splitId(), "file1"), state.getInflightSplits());
+    assertEquals(Collections.singletonMap("file1", 0), state.getFileGroupOwners());
+
+    CostAwareHoodieSplitProvider restored = new CostAwareHoodieSplitProvider(new HoodieSplitNumberAssigner(2), 2);
+    restored.onRestoredSplits(pendingSplits(state), state.getInflightSplits(), state.getFileGroupOwners());
+    // the pending split of file1 follows the reader of the restored split in flight
+    assertEquals(1, restored.pendingSplitCount(0));
+
+    // the new splits go to the less loaded reader
+    HoodieSourceSplit split3 = createTestSplit(3, "file3", 3, 10L);
+    HoodieSourceSplit split4 = createTestSplit(4, "file4", 4, 10L);
+    restored.onDiscoveredSplits(Arrays.asList(split3, split4));
+    assertEquals(2, restored.pendingSplitCount(1));
+    assertEquals(split3.splitId(), restored.getNext(1, null).get().splitId());
+    assertEquals(split4.splitId(), restored.getNext(1, null).get().splitId());
+
+    // the pending split of file1 is not stolen while the restored split is in flight,
+    // the completion of the other splits does not change it
+    restored.onCompletedSplits(Arrays.asList(split3.splitId(), split4.splitId()));
+    assertFalse(restored.getNext(1, null).isPresent());
+    assertEquals(1, restored.pendingSplitCount(0));
+
+    restored.onCompletedSplits(Collections.singletonList(split1.splitId()));
+    assertEquals(split2.splitId(), restored.getNext(1, null).get().splitId());
+  }
+
+  @Test
+  public void testRestoredSplitsHeldWhenReaderUnknown() throws IOException {
+    CostAwareHoodieSplitProvider provider = new CostAwareHoodieSplitProvider(new HoodieSplitNumberAssigner(2), 2);
+    HoodieSourceSplit split1 = createTestSplit(0, "file1", 1, 100L);
+    HoodieSourceSplit split2 = createTestSplit(2, "file1", 2, 100L);
+    provider.onDiscoveredSplits(Arrays.asList(split1, split2));
+    assertEquals(split1.splitId(), provider.getNext(0, null).get().splitId());
+
+    // the source is restored with another parallelism, the reader of split1 is unknown
+    HoodieSplitEnumeratorState state = restoreState(provider, 2);
+    CostAwareHoodieSplitProvider restored = new CostAwareHoodieSplitProvider(new HoodieSplitNumberAssigner(3), 3);
+    restored.onRestoredSplits(pendingSplits(state), state.getInflightSplits(), Collections.emptyMap());
+    HoodieSourceSplit split3 = createTestSplit(3, "file1", 3, 100L);
+    restored.onDiscoveredSplits(Collections.singletonList(split3));
+
+    // the splits of file1 are held, but still checkpointed
+    assertEquals(2, restored.pendingSplitCount());
+    assertEquals(2, restored.state().size());
+    for (int i = 0; i < 3; i++) {
+      assertFalse(restored.getNext(i, null).isPresent());
+    }
+    HoodieSplitEnumeratorState heldState = restoreState(restored, 3);
+    assertEquals(Collections.singletonMap(split1.splitId(), "file1"), heldState.getInflightSplits());
+    assertTrue(heldState.getFileGroupOwners().isEmpty());
+
+    // the reader of split1 reports it as completed, the held splits are read in order by one reader
+    restored.onCompletedSplits(Collections.singletonList(split1.splitId()));
+    assertEquals(2, restored.pendingSplitCount(2));
+    assertEquals(split2.splitId(), restored.getNext(2, null).get().splitId());
+    assertFalse(restored.getNext(1, null).isPresent());
+    assertEquals(split3.splitId(), restored.getNext(2, null).get().splitId());
+  }
+
+  /**
+   * Serializes the enumerator state of the provider and deserializes it as on restore.
+   */
+  private static HoodieSplitEnumeratorState restoreState(CostAwareHoodieSplitProvider provider, int parallelism) throws IOException {
+    HoodieEnumeratorStateSerializer serializer = new HoodieEnumeratorStateSerializer();
+    byte[] serialized = serializer.serialize(new HoodieSplitEnumeratorState(provider.state(), Option.empty(), Option.empty(),
+        provider.inflightSplits(), provider.fileGroupOwners(), parallelism));
+    return serializer.deserialize(serializer.getVersion(), serialized);
+  }
+
+  private static List<HoodieSourceSplit> pendingSplits(HoodieSplitEnumeratorState state) {
+    return state.getPendingSplitStates().stream().map(HoodieSourceSplitState::getSplit).collect(Collectors.toList());
+  }
+
+  private HoodieSourceSplit createTestSplit(int splitNum, String fileId, int commit, long fileSize) {
+    HoodieSourceSplit split = new HoodieSourceSplit(
+        splitNum,
+        null,
+        Option.of(Collections.singletonList("log_" + splitNum)),
+        "/table/path",
+        "/table/path/partition1",
+        "payload_combine",
+        "2026012603471700" + commit,
+        fileId,
+        Option.empty()
+    );
+    split.setFileSize(fileSize);
+    return split;
+  }
+}
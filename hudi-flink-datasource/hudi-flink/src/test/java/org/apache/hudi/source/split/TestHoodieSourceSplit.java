@@ -455,6 +455,26 @@ public class TestHoodieSourceSplit {
     assertTrue(result.contains("HoodieSourceSplit"));
   }
 
+  @Test
+  public void testGetWeight() {
+    HoodieSourceSplit split = new HoodieSourceSplit(
+        1,
+        "base-path",
+        Option.of(Arrays.asList("log1", "log2")),
+        "/table/path",
+        "/partition/path",
+        "payload_combine",
+        "19700101000000000",
+        "file-1",
+        Option.empty()
+    );
+    // falls back to the number of files when the size is unknown
+    assertEquals(3, split.getWeight());
+
+    split.setFileSize(1024L);
+    assertEquals(1024L, split.getWeight());
+  }
+
   @Test
   public void testClosedClosedInstantRange() {
     InstantRange instantRange = InstantRange.builder()
@@ -242,7 +242,7 @@ public class TestHoodieSourceSplitSerializer {
 
   @Test
   public void testGetVersion() {
-    assertEquals(1, serializer.getVersion());
+    assertEquals(2, serializer.getVersion());
   }
 
   @Test
@@ -1170,14 +1170,36 @@ public class TestHoodieSourceSplitSerializer {
     byte[] serialized = baos.toByteArray();
     out.close();
 
+    // the fields are written in the layout of version 1, without the file size
     UnsupportedOperationException exception = assertThrows(
         UnsupportedOperationException.class,
-        () -> serializer.deserialize(serializer.getVersion(), serialized)
+        () -> serializer.deserialize(1, serialized)
     );
 
     assertEquals("Composition Range is not supported.", exception.getMessage());
   }
 
+  @Test
+  public void testSerializeAndDeserializeFileSize() throws IOException {
+    HoodieSourceSplit original = new HoodieSourceSplit(
+        1,
+        "base-path",
+        Option.of(Arrays.asList("log1", "log2")),
+        "/table/path",
+        "/partition/path",
+        "payload_combine",
+        "19700101000000000",
+        "file-123",
+        Option.empty()
+    );
+    original.setFileSize(4096L);
+
+    HoodieSourceSplit deserialized = serializer.deserialize(serializer.getVersion(), serializer.serialize(original));
+
+    assertEquals(4096L, deserialized.getFileSize());
+    assertEquals(original, deserialized);
+  }
+
   // -------------------------------------------------------------------------
   //  CDC split serialization tests
   // -------------------------------------------------------------------------
@@ -18,7 +18,12 @@
 
 package org.apache.hudi.table.lookup;
 
+import org.apache.hudi.common.model.HoodieTableType;
+import org.apache.hudi.common.util.collection.Pair;
 import org.apache.hudi.configuration.FlinkOptions;
+import org.apache.hudi.storage.StoragePath;
+import org.apache.hudi.table.HoodieTableSource;
+import org.apache.hudi.util.SerializableSchema;
 import org.apache.hudi.util.StreamerUtil;
 import org.apache.hudi.utils.TestConfigurations;
 import org.apache.hudi.utils.TestData;
@@ -27,6 +32,8 @@ import org.apache.flink.configuration.Configuration;
 import org.apache.flink.table.data.GenericRowData;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.data.StringData;
+import org.apache.flink.table.data.TimestampData;
+import org.apache.flink.types.RowKind;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -34,12 +41,16 @@ import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import static org.apache.hudi.utils.TestData.insertRow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -98,6 +109,233 @@ class TestHoodieLookupFunction {
     }
   }
 
+  @Test
+  void testIncrementalRefreshAppliesChangesInPlace() throws Exception {
+    Configuration conf = getConf();
+    conf.set(FlinkOptions.TABLE_TYPE, HoodieTableType.MERGE_ON_READ.name());
+    conf.set(FlinkOptions.LOOKUP_JOIN_CACHE_REFRESH_MODE, FlinkOptions.LOOKUP_JOIN_CACHE_REFRESH_MODE_INCREMENTAL);
+    TestData.writeData(TestData.DATA_SET_INSERT, conf);
+    String firstCompletionTime = StreamerUtil.createMetaClient(conf).getActiveTimeline()
+        .getCommitsTimeline().filterCompletedInstants().lastInstant().get().getCompletionTime();
+
+    CountingLookupTableReader reader = new CountingLookupTableReader(TestData.DATA_SET_INSERT, conf);
+    HoodieLookupFunction function = newLookupFunction(reader, conf);
+    function.open(null);
+
+    try {
+      assertEquals(1, function.lookup(lookupKey("id1")).size(), "The first lookup should load the table into cache");
+      assertEquals(1, function.lookup(lookupKey("id2")).size());
+
+      TestData.writeData(TestData.DATA_SET_SINGLE_INSERT, conf);
+      reader.incrementalRows = Arrays.asList(
+          rowWithKind(RowKind.UPDATE_BEFORE, "id1", 23),
+          rowWithKind(RowKind.UPDATE_AFTER, "id1", 30),
+          rowWithKind(RowKind.DELETE, "id2", 33),
+          rowWithKind(RowKind.INSERT, "id9", 40));
+      setNextLoadTime(function, 0L);
+
+      Collection<RowData> matchedRows = function.lookup(lookupKey("id1"));
+      assertEquals(1, matchedRows.size(), "The updated row should replace the loaded one");
+      RowData updatedRow = matchedRows.iterator().next();
+      assertEquals(30, updatedRow.getInt(2));
+      assertEquals(RowKind.INSERT, updatedRow.getRowKind());
+      assertNull(function.lookup(lookupKey("id2")), "The deleted row should be removed from the cache");
+      assertEquals(1, function.lookup(lookupKey("id9")).size());
+      assertEquals(1, function.lookup(lookupKey("id3")).size(), "The unchanged rows should be kept");
+
+      assertEquals(1, reader.openCount, "The table should not be reloaded");
+      assertEquals(1, reader.incrementalOpenCount, "The changes should be read incrementally");
+      assertEquals(firstCompletionTime, reader.lastIncrementalOffset);
+    } finally {
+      function.close();
+    }
+  }
+
+  @Test
+  void testIncrementalRefreshKeepsRowsMovedToAnotherPartition() throws Exception {
+    Configuration conf = getConf();
+    conf.set(FlinkOptions.TABLE_TYPE, HoodieTableType.MERGE_ON_READ.name());
+    conf.set(FlinkOptions.LOOKUP_JOIN_CACHE_REFRESH_MODE, FlinkOptions.LOOKUP_JOIN_CACHE_REFRESH_MODE_INCREMENTAL);
+    TestData.writeData(TestData.DATA_SET_INSERT, conf);
+
+    CountingLookupTableReader reader = new CountingLookupTableReader(TestData.DATA_SET_INSERT, conf);
+    HoodieLookupFunction function = newLookupFunction(reader, conf);
+    function.open(null);
+
+    try {
+      assertEquals(1, function.lookup(lookupKey("id1")).size(), "The first lookup should load the table into cache");
+
+      TestData.writeData(TestData.DATA_SET_SINGLE_INSERT, conf);
+      // the inserts into the new partitions are read before the deletes from the old partitions
+      RowData keyOnlyDelete = GenericRowData.of(StringData.fromString("id2"), null, null, null, null);
+      keyOnlyDelete.setRowKind(RowKind.DELETE);
+      reader.incrementalRows = Arrays.asList(
+          rowWithKind(RowKind.INSERT, "id1", 30, "par2"),
+          rowWithKind(RowKind.INSERT, "id2", 31, "par3"),
+          rowWithKind(RowKind.DELETE, "id1", 23, "par1"),
+          keyOnlyDelete,
+          rowWithKind(RowKind.INSERT, "id9", 40, "par1"),
+          rowWithKind(RowKind.DELETE, "id9", 40, "par1"));
+      setNextLoadTime(function, 0L);
+
+      Collection<RowData> matchedRows = function.lookup(lookupKey("id1"));
+      assertEquals(1, matchedRows.size(), "The delete from the old partition should not remove the moved row");
+      assertEquals("par2", matchedRows.iterator().next().getString(4).toString());
+      matchedRows = function.lookup(lookupKey("id2"));
+      assertEquals(1, matchedRows.size(), "The delete without partition values should not remove the moved row");
+      assertEquals("par3", matchedRows.iterator().next().getString(4).toString());
+      assertNull(function.lookup(lookupKey("id9")), "The delete from the same partition should remove the row");
+      assertEquals(1, reader.incrementalOpenCount, "The changes should be read incrementally");
+    } finally {
+      function.close();
+    }
+  }
+
+  @Test
+  void testIncrementalRefreshOfMergeOnReadTable() throws Exception {
+    Configuration conf = getConf();
+    conf.set(FlinkOptions.TABLE_TYPE, HoodieTableType.MERGE_ON_READ.name());
+    testIncrementalRefreshFromTable(conf);
+  }
+
+  @Test
+  void testIncrementalRefreshOfCopyOnWriteTableWithCdc() throws Exception {
+    Configuration conf = getConf();
+    conf.set(FlinkOptions.TABLE_TYPE, HoodieTableType.COPY_ON_WRITE.name());
+    conf.set(FlinkOptions.CDC_ENABLED, true);
+    testIncrementalRefreshFromTable(conf);
+  }
+
+  @Test
+  void testIncrementalRefreshOfPartitionChangeInMergeOnReadTable() throws Exception {
+    Configuration conf = getConf();
+    conf.set(FlinkOptions.TABLE_TYPE, HoodieTableType.MERGE_ON_READ.name());
+    testIncrementalRefreshOfPartitionChange(conf);
+  }
+
+  @Test
+  void testIncrementalRefreshOfPartitionChangeInCopyOnWriteTableWithCdc() throws Exception {
+    Configuration conf = getConf();
+    conf.set(FlinkOptions.TABLE_TYPE, HoodieTableType.COPY_ON_WRITE.name());
+    conf.set(FlinkOptions.CDC_ENABLED, true);
+    testIncrementalRefreshOfPartitionChange(conf);
+  }
+
+  /**
+   * Refreshes the cache through the input formats of {@link HoodieTableSource} after upserts and deletes
+   * are committed to the table, and asserts the cache holds the latest snapshot of the table.
+   */
+  private void testIncrementalRefreshFromTable(Configuration conf) throws Exception {
+    conf.set(FlinkOptions.LOOKUP_JOIN_CACHE_REFRESH_MODE, FlinkOptions.LOOKUP_JOIN_CACHE_REFRESH_MODE_INCREMENTAL);
+    TestData.writeData(TestData.DATA_SET_INSERT, conf);
+
+    TableSourceLookupTableReader reader = newTableSourceReader(conf);
+    HoodieLookupFunction function = new HoodieLookupFunction(
+        reader,
+        TestConfigurations.ROW_TYPE,
+        new int[] {0},
+        Duration.ofDays(1),
+        conf);
+    function.open(null);
+
+    try {
+      TestData.assertRowDataEquals(lookupAll(function), TestData.DATA_SET_INSERT);
+
+      // updates id1 and id2, deletes id3 and id5, then inserts id10 in another commit
+      TestData.writeData(TestData.DATA_SET_UPDATE_DELETE, conf);
+      TestData.writeData(Collections.singletonList(insertRow(StringData.fromString("id10"), StringData.fromString("Ella"), 38,
+          TimestampData.fromEpochMillis(10), StringData.fromString("par4"))), conf);
+      setNextLoadTime(function, 0L);
+
+      String expected = "["
+          + "+I[id1, Danny, 24, 1970-01-01T00:00:00.001, par1], "
+          + "+I[id2, Stephen, 34, 1970-01-01T00:00:00.002, par1], "
+          + "+I[id4, Fabian, 31, 1970-01-01T00:00:00.004, par2], "
+          + "+I[id6, Emma, 20, 1970-01-01T00:00:00.006, par3], "
+          + "+I[id7, Bob, 44, 1970-01-01T00:00:00.007, par4], "
+          + "+I[id8, Han, 56, 1970-01-01T00:00:00.008, par4], "
+          + "+I[id10, Ella, 38, 1970-01-01T00:00:00.010, par4]]";
+      TestData.assertRowDataEquals(lookupAll(function), expected);
+
+      assertEquals(1, reader.openCount, "The table should not be reloaded");
+      assertEquals(1, reader.incrementalOpenCount, "The changes should be read incrementally");
+    } finally {
+      function.close();
+    }
+  }
+
+  /**
+   * Moves records to other partitions with the global index, which deletes them from the old partitions
+   * and inserts them into the new ones, and asserts the cache holds the moved rows after the refresh.
+   */
+  private void testIncrementalRefreshOfPartitionChange(Configuration conf) throws Exception {
+    conf.set(FlinkOptions.LOOKUP_JOIN_CACHE_REFRESH_MODE, FlinkOptions.LOOKUP_JOIN_CACHE_REFRESH_MODE_INCREMENTAL);
+    conf.set(FlinkOptions.INDEX_GLOBAL_ENABLED, true);
+    TestData.writeData(TestData.DATA_SET_INSERT, conf);
+
+    TableSourceLookupTableReader reader = newTableSourceReader(conf);
+    HoodieLookupFunction function = new HoodieLookupFunction(
+        reader,
+        TestConfigurations.ROW_TYPE,
+        new int[] {0},
+        Duration.ofDays(1),
+        conf);
+    function.open(null);
+
+    try {
+      TestData.assertRowDataEquals(lookupAll(function), TestData.DATA_SET_INSERT);
+
+      // loads the locations of the existing records, so that the writer sees the partition changes
+      conf.set(FlinkOptions.INDEX_BOOTSTRAP_ENABLED, true);
+      TestData.writeData(Arrays.asList(
+          insertRow(StringData.fromString("id1"), StringData.fromString("Danny"), 24,
+              TimestampData.fromEpochMillis(11), StringData.fromString("par2")),
+          insertRow(StringData.fromString("id8"), StringData.fromString("Han"), 57,
+              TimestampData.fromEpochMillis(12), StringData.fromString("par1"))), conf);
+      setNextLoadTime(function, 0L);
+
+      String expected = "["
+          + "+I[id1, Danny, 24, 1970-01-01T00:00:00.011, par2], "
+          + "+I[id2, Stephen, 33, 1970-01-01T00:00:00.002, par1], "
+          + "+I[id3, Julian, 53, 1970-01-01T00:00:00.003, par2], "
+          + "+I[id4, Fabian, 31, 1970-01-01T00:00:00.004, par2], "
+          + "+I[id5, Sophia, 18, 1970-01-01T00:00:00.005, par3], "
+          + "+I[id6, Emma, 20, 1970-01-01T00:00:00.006, par3], "
+          + "+I[id7, Bob, 44, 1970-01-01T00:00:00.007, par4], "
+          + "+I[id8, Han, 57, 1970-01-01T00:00:00.012, par1]]";
+      TestData.assertRowDataEquals(lookupAll(function), expected);
+
+      assertEquals(1, reader.openCount, "The table should not be reloaded");
+      assertEquals(1, reader.incrementalOpenCount, "The changes should be read incrementally");
+    } finally {
+      function.close();
+    }
+  }
+
+  private static TableSourceLookupTableReader newTableSourceReader(Configuration conf) {
+    HoodieTableSource tableSource = new HoodieTableSource(
+        SerializableSchema.create(TestConfigurations.TABLE_SCHEMA),
+        new StoragePath(conf.get(FlinkOptions.PATH)),
+        Arrays.asList(conf.get(FlinkOptions.PARTITION_PATH_FIELD).split(",")),
+        "default-par",
+        conf);
+    return new TableSourceLookupTableReader(tableSource, conf);
+  }
+
+  /**
+   * Looks up the keys {@code id1} to {@code id10}, which cover all the records of the tables written by the tests.
+   */
+  private static List<RowData> lookupAll(HoodieLookupFunction function) {
+    List<RowData> rows = new ArrayList<>();
+    for (int i = 1; i <= 10; i++) {
+      Collection<RowData> matchedRows = function.lookup(lookupKey("id" + i));
+      if (matchedRows != null) {
+        rows.addAll(matchedRows);
+      }
+    }
+    return rows;
+  }
+
   private HoodieLookupFunction newLookupFunction(CountingLookupTableReader reader, Configuration conf) {
     return new HoodieLookupFunction(
         reader,
@@ -114,7 +352,22 @@ class TestHoodieLookupFunction {
   }
 
   private static RowData lookupKey() {
-    return GenericRowData.of(StringData.fromString("id1"));
+    return lookupKey("id1");
+  }
+
+  private static RowData lookupKey(String recordKey) {
+    return GenericRowData.of(StringData.fromString(recordKey));
+  }
+
+  private static RowData rowWithKind(RowKind rowKind, String recordKey, int age) {
+    return rowWithKind(rowKind, recordKey, age, "par1");
+  }
+
+  private static RowData rowWithKind(RowKind rowKind, String recordKey, int age, String partition) {
+    RowData row = insertRow(StringData.fromString(recordKey), StringData.fromString("Danny"), age,
+        TimestampData.fromEpochMillis(1), StringData.fromString(partition));
+    row.setRowKind(rowKind);
+    return row;
   }
 
   private static long getNextLoadTime(HoodieLookupFunction function) throws Exception {
@@ -129,28 +382,66 @@ class TestHoodieLookupFunction {
     field.setLong(function, nextLoadTime);
   }
 
+  /**
+   * Lookup table reader over the input formats of the table source, counting the opens of the reader.
+   */
+  private static class TableSourceLookupTableReader extends HoodieLookupTableReader {
+    private int openCount;
+    private int incrementalOpenCount;
+
+    private TableSourceLookupTableReader(HoodieTableSource tableSource, Configuration conf) {
+      super(tableSource::getInputFormat, tableSource::getIncrementalLookupInputFormat, conf);
+    }
+
+    @Override
+    public void open() throws IOException {
+      openCount++;
+      super.open();
+    }
+
+    @Override
+    public String openIncremental(String completionTime) throws IOException {
+      incrementalOpenCount++;
+      return super.openIncremental(completionTime);
+    }
+  }
+
   private static class CountingLookupTableReader extends HoodieLookupTableReader {
     private final List<RowData> rows;
+    private List<RowData> incrementalRows = Collections.emptyList();
+    private List<RowData> rowsToRead;
     private int openCount;
+    private int incrementalOpenCount;
+    private String lastIncrementalOffset;
     private int nextIndex;
 
     private CountingLookupTableReader(List<RowData> rows, Configuration conf) {
-      super(() -> null, conf);
+      super(() -> null, offset -> Pair.of(null, offset), conf);
       this.rows = rows;
     }
 
     @Override
     public void open() {
       openCount++;
+      rowsToRead = rows;
+      nextIndex = 0;
+    }
+
+    @Override
+    public String openIncremental(String completionTime) {
+      incrementalOpenCount++;
+      lastIncrementalOffset = completionTime;
+      rowsToRead = incrementalRows;
       nextIndex = 0;
+      return completionTime;
     }
 
     @Override
     public RowData read(RowData reuse) {
-      if (nextIndex >= rows.size()) {
+      if (nextIndex >= rowsToRead.size()) {
         return null;
       }
-      return rows.get(nextIndex++);
+      return rowsToRead.get(nextIndex++);
     }
 
     @Override
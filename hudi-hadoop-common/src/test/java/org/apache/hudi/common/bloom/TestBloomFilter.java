@@ -20,11 +20,13 @@ package org.apache.hudi.common.bloom;
 
 import org.apache.hudi.common.util.hash.Hash;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -32,12 +34,13 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static org.apache.hudi.common.testutils.HoodieTestTable.readLastLineFromResourceFile;
+import static org.apache.hudi.common.util.StringUtils.getUTF8Bytes;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
- * Unit tests {@link SimpleBloomFilter} and {@link HoodieDynamicBoundedBloomFilter}.
+ * Unit tests {@link SimpleBloomFilter}, {@link HoodieDynamicBoundedBloomFilter} and {@link SplitBlockBloomFilter}.
  */
 public class TestBloomFilter {
 
@@ -46,7 +49,8 @@ public class TestBloomFilter {
   public static List<Arguments> bloomFilterTypeCodes() {
     return Arrays.asList(
         Arguments.of(BloomFilterTypeCode.SIMPLE.name()),
-        Arguments.of(BloomFilterTypeCode.DYNAMIC_V0.name())
+        Arguments.of(BloomFilterTypeCode.DYNAMIC_V0.name()),
+        Arguments.of(BloomFilterTypeCode.SPLIT_BLOCK.name())
     );
   }
 
@@ -65,6 +69,7 @@ public class TestBloomFilter {
       }
       for (java.lang.String key : inputs) {
         assertTrue(filter.mightContain(key), "Filter should have returned true for " + key);
+        assertTrue(filter.mightContain(getUTF8Bytes(key)), "Filter should have returned true for " + key);
       }
       for (int i = 0; i < 100; i++) {
         String randomKey = UUID.randomUUID().toString();
@@ -180,6 +185,46 @@ public class TestBloomFilter {
     }
   }
 
+  @Test
+  public void testSplitBlockBloomFilterFalsePositiveRate() {
+    int numEntries = 10000;
+    double errorRate = 0.01;
+    BloomFilter filter = BloomFilterFactory.createBloomFilter(
+        numEntries, errorRate, -1, BloomFilterTypeCode.SPLIT_BLOCK.name());
+    for (int i = 0; i < numEntries; i++) {
+      filter.add(String.format("key%d", i));
+    }
+    int numProbes = 100000;
+    int falsePositives = 0;
+    for (int i = numEntries; i < numEntries + numProbes; i++) {
+      if (filter.mightContain(String.format("key%d", i))) {
+        falsePositives++;
+      }
+    }
+    // The blocked layout is slightly less accurate than the standard bloom filter with the same size
+    assertTrue(falsePositives < numProbes * errorRate * 2, "Too many false positives: " + falsePositives);
+
+    BloomFilter recreatedFilter = BloomFilterFactory.fromByteBuffer(
+        ByteBuffer.wrap(getUTF8Bytes(filter.serializeToString())), BloomFilterTypeCode.SPLIT_BLOCK.name());
+    assertEquals(BloomFilterTypeCode.SPLIT_BLOCK, recreatedFilter.getBloomFilterTypeCode());
+    for (int i = 0; i < numEntries + 1000; i++) {
+      String key = String.format("key%d", i);
+      assertEquals(filter.mightContain(key), recreatedFilter.mightContain(key));
+    }
+  }
+
+  @Test
+  public void testSplitBlockBloomFilterHashOfUTF8Bytes() {
+    // The keys are hashed without encoding them, which must give the same hash as hashing their UTF-8 bytes
+    List<String> keys = Arrays.asList(
+        "", "a", "abcdefgh", "abcdefghi", UUID.randomUUID().toString(),
+        "cl\u00e9-\u00fcn\u00efc\u00f6d\u00e9", "\u952e\u503c-\u30ad\u30fc",
+        "emoji-\uD83D\uDE00-key", "lone-\uD83D-high", "lone-\uDE00-low", "high-at-end-\uD83D");
+    for (String key : keys) {
+      assertEquals(SplitBlockBloomFilter.hash(getUTF8Bytes(key)), SplitBlockBloomFilter.hashUTF8(key), key);
+    }
+  }
+
   public static List<Arguments> bloomFilterParams() {
     return Arrays.asList(
         Arguments.of("hadoop", BloomFilterTypeCode.SIMPLE.name(), 200, 0.000001, Hash.MURMUR_HASH, -1),
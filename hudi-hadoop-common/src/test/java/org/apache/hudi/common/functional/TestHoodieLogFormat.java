@@ -740,7 +740,12 @@ public class TestHoodieLogFormat extends HoodieCommonTestHarness {
     HoodieTableMetaClient metaClient = HoodieTestUtils.createMetaClient(basePath);
     metaClient.getTableConfig().setTableVersion(HoodieTableVersion.SIX);
     HoodieTableConfig.update(metaClient.getStorage(), metaClient.getMetaPath(), metaClient.getTableConfig().getProps());
-    testBasicAppendAndScanMultipleFiles(ExternalSpillableMap.DiskMapType.ROCKS_DB, true, true, true);
+    testBasicAppendAndScanMultipleFiles(ExternalSpillableMap.DiskMapType.ROCKS_DB, true, true, true, 0);
+  }
+
+  @Test
+  public void testBasicAppendAndScanMultipleFilesWithBlockPrefetch() throws Exception {
+    testBasicAppendAndScanMultipleFiles(ExternalSpillableMap.DiskMapType.BITCASK, false, true, false, 2);
   }
 
   @ParameterizedTest
@@ -748,13 +753,14 @@ public class TestHoodieLogFormat extends HoodieCommonTestHarness {
   public void testBasicAppendAndScanMultipleFiles(ExternalSpillableMap.DiskMapType diskMapType,
                                                   boolean isCompressionEnabled)
       throws IOException, URISyntaxException, InterruptedException {
-    testBasicAppendAndScanMultipleFiles(diskMapType, isCompressionEnabled, false, false);
+    testBasicAppendAndScanMultipleFiles(diskMapType, isCompressionEnabled, false, false, 0);
   }
 
   private void testBasicAppendAndScanMultipleFiles(ExternalSpillableMap.DiskMapType diskMapType,
                                                    boolean isCompressionEnabled,
                                                    boolean produceUncommittedLogBlocks,
-                                                   boolean preTableVersion8)
+                                                   boolean preTableVersion8,
+                                                   int logBlockPrefetchParallelism)
       throws IOException, URISyntaxException, InterruptedException {
     // Generate 4 delta-log files w/ random records
     HoodieSchema schema = HoodieSchemaUtils.addMetadataFields(getSimpleSchema());
@@ -786,6 +792,8 @@ public class TestHoodieLogFormat extends HoodieCommonTestHarness {
         .withSpillableMapBasePath(spillableBasePath)
         .withDiskMapType(diskMapType)
         .withBitCaskDiskMapCompressionEnabled(isCompressionEnabled)
+        // a tiny budget so that blocks are prefetched one at a time after the first one
+        .withLogBlockPrefetch(logBlockPrefetchParallelism, 1L)
         .build();
 
     List<IndexedRecord> scannedRecords = new ArrayList<>();
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.hudi.common.util.collection;
+
+import org.apache.hudi.common.serialization.DefaultSerializer;
+import org.apache.hudi.common.testutils.HoodieCommonTestHarness;
+import org.apache.hudi.common.util.DefaultSizeEstimator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests {@link ConcurrentExternalSpillableMap}.
+ */
+public class TestConcurrentExternalSpillableMap extends HoodieCommonTestHarness {
+
+  private static final String TEST_LOGGING_CONTEXT = "test_logging_context";
+  private static final int NUM_THREADS = 4;
+  private static final int NUM_RECORDS_PER_THREAD = 1000;
+
+  @BeforeEach
+  public void setUp() {
+    initPath();
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = ExternalSpillableMap.DiskMapType.class, names = {"BITCASK", "ROCKS_DB", "MEMORY_MAPPED"})
+  public void testConcurrentPutsAndUpserts(ExternalSpillableMap.DiskMapType diskMapType) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(NUM_THREADS);
+    try (ConcurrentExternalSpillableMap<String, String> records = new ConcurrentExternalSpillableMap<>(64 * 1024L, 8, basePath,
+        new DefaultSizeEstimator<>(), new DefaultSizeEstimator<>(), diskMapType, new DefaultSerializer<>(), false, TEST_LOGGING_CONTEXT)) {
+      // Each thread inserts its own keys, then updates them
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < NUM_THREADS; t++) {
+        int thread = t;
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < NUM_RECORDS_PER_THREAD; i++) {
+            records.put(key(thread, i), "value-" + i);
+          }
+          for (int i = 0; i < NUM_RECORDS_PER_THREAD; i++) {
+            records.put(key(thread, i), "updated-" + i);
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+
+      int numRecords = NUM_THREADS * NUM_RECORDS_PER_THREAD;
+      assertEquals(numRecords, records.size());
+      assertTrue(records.getDiskBasedMapNumEntries() > 0, "The map should spill to disk");
+      assertEquals(numRecords, records.getInMemoryMapNumEntries() + records.getDiskBasedMapNumEntries());
+      for (int t = 0; t < NUM_THREADS; t++) {
+        for (int i = 0; i < NUM_RECORDS_PER_THREAD; i++) {
+          assertEquals("updated-" + i, records.get(key(t, i)));
+        }
+      }
+
+      Set<String> expectedKeys = new HashSet<>();
+      for (int t = 0; t < NUM_THREADS; t++) {
+        for (int i = 0; i < NUM_RECORDS_PER_THREAD; i++) {
+          expectedKeys.add(key(t, i));
+        }
+      }
+      assertEquals(expectedKeys, records.keySet());
+      assertEquals(numRecords, records.values().size());
+      assertEquals(numRecords, records.valueStream().count());
+      assertTrue(records.values().stream().allMatch(value -> value.startsWith("updated-")));
+      List<String> filtered = new ArrayList<>();
+      records.iterator(key -> key.startsWith("key-0-")).forEachRemaining(filtered::add);
+      assertEquals(NUM_RECORDS_PER_THREAD, filtered.size());
+      assertEquals(numRecords, records.entrySet().stream().map(Map.Entry::getKey).collect(Collectors.toSet()).size());
+
+      assertEquals("updated-0", records.remove(key(0, 0)));
+      assertNull(records.get(key(0, 0)));
+      assertFalse(records.containsKey(key(0, 0)));
+      assertEquals(numRecords - 1, records.size());
+
+      records.clear();
+      assertTrue(records.isEmpty());
+      assertEquals(0, records.getCurrentInMemoryMapSize());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @ParameterizedTest
+  @EnumSource(value = ExternalSpillableMap.DiskMapType.class, names = {"BITCASK", "ROCKS_DB", "MEMORY_MAPPED"})
+  public void testSharedMemoryBudget(ExternalSpillableMap.DiskMapType diskMapType) throws Exception {
+    try (ConcurrentExternalSpillableMap<String, String> records = new ConcurrentExternalSpillableMap<>(64 * 1024L, 8, basePath,
+        new DefaultSizeEstimator<>(), new DefaultSizeEstimator<>(), diskMapType, new DefaultSerializer<>(), false, TEST_LOGGING_CONTEXT);
+         ExternalSpillableMap<String, String> expected = new ExternalSpillableMap<>(64 * 1024L, basePath,
+             new DefaultSizeEstimator<>(), new DefaultSizeEstimator<>(), diskMapType, new DefaultSerializer<>(), false, TEST_LOGGING_CONTEXT)) {
+      for (int i = 0; i < 2000; i++) {
+        records.put(key(0, i), "value-" + i);
+        expected.put(key(0, i), "value-" + i);
+      }
+      // The segments spill once the budget of the whole map is used, not the budget of each segment
+      long segmentsSlack = 8 * (expected.getCurrentInMemoryMapSize() / expected.getInMemoryMapNumEntries());
+      assertTrue(records.getCurrentInMemoryMapSize() <= expected.getCurrentInMemoryMapSize() + segmentsSlack);
+      assertTrue(Math.abs(records.getInMemoryMapNumEntries() - expected.getInMemoryMapNumEntries()) <= 8 * 100);
+    }
+  }
+
+  private static String key(int thread, int i) {
+    return "key-" + thread + "-" + i;
+  }
+}
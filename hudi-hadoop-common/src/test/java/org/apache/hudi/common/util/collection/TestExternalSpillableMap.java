@@ -464,12 +464,14 @@ public class TestExternalSpillableMap extends HoodieCommonTestHarness {
   }
 
   private static Stream<Arguments> testArguments() {
-    // Arguments : 1. Disk Map Type 2. isCompressionEnabled for BitCaskMap
+    // Arguments : 1. Disk Map Type 2. isCompressionEnabled for BitCaskMap and MemoryMappedDiskMap
     return Stream.of(
         arguments(ExternalSpillableMap.DiskMapType.BITCASK, false),
         arguments(ExternalSpillableMap.DiskMapType.ROCKS_DB, false),
         arguments(ExternalSpillableMap.DiskMapType.UNKNOWN, false),
-        arguments(ExternalSpillableMap.DiskMapType.BITCASK, true)
+        arguments(ExternalSpillableMap.DiskMapType.BITCASK, true),
+        arguments(ExternalSpillableMap.DiskMapType.MEMORY_MAPPED, false),
+        arguments(ExternalSpillableMap.DiskMapType.MEMORY_MAPPED, true)
     );
   }
 }
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.hudi.common.util.collection;
+
+import org.apache.hudi.common.model.HoodieAvroPayload;
+import org.apache.hudi.common.model.HoodieKey;
+import org.apache.hudi.common.model.HoodieRecord;
+import org.apache.hudi.common.model.HoodieRecordPayload;
+import org.apache.hudi.common.schema.HoodieSchemaUtils;
+import org.apache.hudi.common.serialization.DefaultSerializer;
+import org.apache.hudi.common.testutils.HoodieCommonTestHarness;
+import org.apache.hudi.common.testutils.SchemaTestUtil;
+import org.apache.hudi.common.testutils.SpillableMapTestUtils;
+import org.apache.hudi.common.util.Option;
+
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.generic.IndexedRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.apache.hudi.common.testutils.SchemaTestUtil.getSimpleSchema;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the memory-mapped disk map {@link MemoryMappedDiskMap}.
+ */
+public class TestMemoryMappedDiskMap extends HoodieCommonTestHarness {
+
+  @BeforeEach
+  public void setup() {
+    initPath();
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {false, true})
+  public void testSimpleInsert(boolean isCompressionEnabled) throws IOException, URISyntaxException {
+    try (MemoryMappedDiskMap records = new MemoryMappedDiskMap<>(basePath, new DefaultSerializer<>(), isCompressionEnabled)) {
+      SchemaTestUtil testUtil = new SchemaTestUtil();
+      List<IndexedRecord> iRecords = testUtil.generateHoodieTestRecords(0, 100);
+      List<String> recordKeys = SpillableMapTestUtils.upsertRecords(iRecords, records);
+
+      Map<String, IndexedRecord> originalRecords = iRecords.stream()
+          .collect(Collectors.toMap(k -> ((GenericRecord) k).get(HoodieRecord.RECORD_KEY_METADATA_FIELD).toString(), v -> v));
+
+      // make sure records have spilled to disk
+      assertTrue(records.sizeOfFileOnDiskInBytes() > 0);
+      assertEquals(recordKeys.size(), records.size());
+      assertEquals(new HashSet<>(recordKeys), records.keySet());
+      Iterator<HoodieRecord<? extends HoodieRecordPayload>> itr = records.iterator();
+      int count = 0;
+      while (itr.hasNext()) {
+        HoodieRecord<? extends HoodieRecordPayload> rec = itr.next();
+        IndexedRecord originalRecord = originalRecords.get(rec.getRecordKey());
+        HoodieAvroPayload payload = (HoodieAvroPayload) rec.getData();
+        Option<IndexedRecord> value = payload.getInsertValue(HoodieSchemaUtils.addMetadataFields(getSimpleSchema()).toAvroSchema());
+        assertEquals(originalRecord, value.get());
+        count++;
+      }
+      assertEquals(recordKeys.size(), count);
+
+      verifyCleanup(records);
+    }
+  }
+
+  @Test
+  public void testIteratorWithFilter() throws IOException, URISyntaxException {
+    try (MemoryMappedDiskMap records = new MemoryMappedDiskMap<>(basePath, new DefaultSerializer<>(), false)) {
+      SchemaTestUtil testUtil = new SchemaTestUtil();
+      List<String> recordKeys = SpillableMapTestUtils.upsertRecords(testUtil.generateHoodieTestRecords(0, 100), records);
+      Set<String> filteredKeys = new HashSet<>(recordKeys.subList(0, 10));
+
+      Iterator<HoodieRecord> itr = records.iterator(filteredKeys::contains);
+      Set<String> iteratedKeys = new HashSet<>();
+      while (itr.hasNext()) {
+        iteratedKeys.add(itr.next().getRecordKey());
+      }
+      assertEquals(filteredKeys, iteratedKeys);
+      assertEquals(recordKeys.size(), records.valueStream().count());
+    }
+  }
+
+  @Test
+  public void testUpsertAndRemove() throws IOException {
+    try (MemoryMappedDiskMap<String, String> records = new MemoryMappedDiskMap<>(basePath, new DefaultSerializer<>(), false)) {
+      // enough keys to grow the off-heap index a few times
+      int numKeys = 500_000;
+      Map<String, String> expected = new HashMap<>();
+      for (int i = 0; i < numKeys; i++) {
+        records.put("key" + i, "value" + i);
+        expected.put("key" + i, "value" + i);
+      }
+      Random random = new Random(0xDEED);
+      for (int i = 0; i < numKeys / 2; i++) {
+        String key = "key" + random.nextInt(numKeys);
+        if (random.nextBoolean()) {
+          records.put(key, "updated" + i);
+          expected.put(key, "updated" + i);
+        } else {
+          assertEquals(expected.remove(key), records.remove(key));
+          assertFalse(records.containsKey(key));
+        }
+      }
+
+      assertEquals(expected.size(), records.size());
+      for (int i = 0; i < numKeys; i++) {
+        assertEquals(expected.get("key" + i), records.get("key" + i));
+      }
+      assertNull(records.get("absent"));
+      assertNull(records.remove("absent"));
+
+      records.clear();
+      assertTrue(records.isEmpty());
+      assertNull(records.get("key0"));
+    }
+  }
+
+  @Test
+  public void testNonStringKeys() throws IOException {
+    try (MemoryMappedDiskMap<HoodieKey, String> records = new MemoryMappedDiskMap<>(basePath, new DefaultSerializer<>(), true)) {
+      HoodieKey key = new HoodieKey("key1", "partition1");
+      records.put(key, "value1");
+      records.put(new HoodieKey("key1", "partition2"), "value2");
+
+      assertEquals("value1", records.get(new HoodieKey("key1", "partition1")));
+      assertEquals("value2", records.get(new HoodieKey("key1", "partition2")));
+      assertTrue(records.keySet().contains(key));
+      assertEquals(2, records.entrySet().size());
+    }
+  }
+
+  private void verifyCleanup(MemoryMappedDiskMap<String, HoodieRecord> records) {
+    File basePathDir = new File(basePath);
+    assert Objects.requireNonNull(basePathDir.list()).length > 0;
+    records.close();
+    assertEquals(Objects.requireNonNull(basePathDir.list()).length, 0);
+  }
+}
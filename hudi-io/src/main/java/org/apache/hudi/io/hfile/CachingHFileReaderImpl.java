@@ -24,6 +24,8 @@ import org.apache.hudi.io.SeekableDataInputStream;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -38,40 +40,56 @@ public class CachingHFileReaderImpl extends HFileReaderImpl {
   // Store first config values to check against cache config
   private static volatile Integer INITIAL_CACHE_SIZE;
   private static volatile Integer INITIAL_CACHE_TTL;
+  private static volatile Long INITIAL_CACHE_SIZE_BYTES;
+  private static volatile Boolean INITIAL_CACHE_OFF_HEAP;
   private static final Object CACHE_LOCK = new Object();
 
   private final String filePath;
 
   public CachingHFileReaderImpl(SeekableDataInputStream stream, long fileSize, String filePath, int cacheSize, int cacheTtlMinutes) {
+    this(stream, fileSize, filePath, cacheSize, cacheTtlMinutes, -1L, false);
+  }
+
+  /**
+   * @param cacheSize           maximum number of cached blocks, used if {@code cacheSizeInBytes} is not positive.
+   * @param cacheTtlMinutes     TTL of the cached blocks in minutes.
+   * @param cacheSizeInBytes    maximum number of bytes of cached blocks; the cache is bounded by bytes if positive.
+   * @param offHeap             whether to store the raw block bytes off-heap; only applies if bounded by bytes.
+   */
+  public CachingHFileReaderImpl(SeekableDataInputStream stream, long fileSize, String filePath, int cacheSize, int cacheTtlMinutes,
+                                long cacheSizeInBytes, boolean offHeap) {
     super(stream, fileSize);
     this.filePath = filePath;
     // Initialize global cache with provided config (ignored if already initialized)
-    getGlobalCache(cacheSize, cacheTtlMinutes);
+    getGlobalCache(cacheSize, cacheTtlMinutes, cacheSizeInBytes, offHeap);
   }
 
   /**
    * Gets or creates the global cache shared by all CachingHFileReaderImpl instances.
    * Thread-safe singleton pattern with double-checked locking.
    */
-  private static HFileBlockCache getGlobalCache(int cacheSize, int cacheTtlMinutes) {
+  private static HFileBlockCache getGlobalCache(int cacheSize, int cacheTtlMinutes, long cacheSizeInBytes, boolean offHeap) {
     if (GLOBAL_BLOCK_CACHE == null) {
       synchronized (CACHE_LOCK) {
         if (GLOBAL_BLOCK_CACHE == null) {
-          log.info("Initializing global HFileBlockCache with size: {}, TTL: {} minutes.",
-              cacheSize, cacheTtlMinutes);
+          log.info("Initializing global HFileBlockCache with size: {}, size in bytes: {}, off-heap: {}, TTL: {} minutes.",
+              cacheSize, cacheSizeInBytes, offHeap, cacheTtlMinutes);
           // Store the config used for initialization
           INITIAL_CACHE_SIZE = cacheSize;
           INITIAL_CACHE_TTL = cacheTtlMinutes;
-          GLOBAL_BLOCK_CACHE = new HFileBlockCache(
-              cacheSize,
-              cacheTtlMinutes,
-              TimeUnit.MINUTES);
-        } else if (!INITIAL_CACHE_SIZE.equals(cacheSize) || !INITIAL_CACHE_TTL.equals(cacheTtlMinutes)) {
+          INITIAL_CACHE_SIZE_BYTES = cacheSizeInBytes;
+          INITIAL_CACHE_OFF_HEAP = offHeap;
+          GLOBAL_BLOCK_CACHE = cacheSizeInBytes > 0
+              ? new HFileBlockCache(cacheSizeInBytes, offHeap, cacheTtlMinutes, TimeUnit.MINUTES)
+              : new HFileBlockCache(cacheSize, cacheTtlMinutes, TimeUnit.MINUTES);
+        } else if (!INITIAL_CACHE_SIZE.equals(cacheSize) || !INITIAL_CACHE_TTL.equals(cacheTtlMinutes)
+            || !INITIAL_CACHE_SIZE_BYTES.equals(cacheSizeInBytes) || !INITIAL_CACHE_OFF_HEAP.equals(offHeap)) {
           // Log a warning if a different config is provided after initialization
           log.warn("HFile block cache is already initialized. The provided configuration is being ignored. "
-                  + "Existing config: [Size: {}, TTL: {} mins], Ignored config: [Size: {}, TTL: {} mins].",
-              INITIAL_CACHE_SIZE, INITIAL_CACHE_TTL,
-              cacheSize, cacheTtlMinutes);
+                  + "Existing config: [Size: {}, Size in bytes: {}, Off-heap: {}, TTL: {} mins], "
+                  + "Ignored config: [Size: {}, Size in bytes: {}, Off-heap: {}, TTL: {} mins].",
+              INITIAL_CACHE_SIZE, INITIAL_CACHE_SIZE_BYTES, INITIAL_CACHE_OFF_HEAP, INITIAL_CACHE_TTL,
+              cacheSize, cacheSizeInBytes, offHeap, cacheTtlMinutes);
         }
       }
     }
@@ -93,6 +111,40 @@ public class CachingHFileReaderImpl extends HFileReaderImpl {
     }
   }
 
+  @Override
+  protected List<HFileDataBlock> readDataBlocks(List<BlockIndexEntry> blocksToRead) throws IOException {
+    HFileDataBlock[] blocks = new HFileDataBlock[blocksToRead.size()];
+    int missingStart = -1;
+    for (int i = 0; i <= blocksToRead.size(); i++) {
+      HFileBlock cachedBlock = null;
+      if (i < blocksToRead.size()) {
+        cachedBlock = GLOBAL_BLOCK_CACHE.getBlock(getCacheKey(blocksToRead.get(i)));
+        if (cachedBlock == null) {
+          if (missingStart < 0) {
+            missingStart = i;
+          }
+          continue;
+        }
+        blocks[i] = (HFileDataBlock) cachedBlock;
+      }
+      if (missingStart >= 0) {
+        // Reads the adjacent blocks missing in the cache at once
+        List<BlockIndexEntry> missingBlocks = blocksToRead.subList(missingStart, i);
+        List<HFileDataBlock> readBlocks = super.readDataBlocks(missingBlocks);
+        for (int j = 0; j < readBlocks.size(); j++) {
+          GLOBAL_BLOCK_CACHE.putBlock(getCacheKey(missingBlocks.get(j)), readBlocks.get(j));
+          blocks[missingStart + j] = readBlocks.get(j);
+        }
+        missingStart = -1;
+      }
+    }
+    return Arrays.asList(blocks);
+  }
+
+  private HFileBlockCache.BlockCacheKey getCacheKey(BlockIndexEntry block) {
+    return new HFileBlockCache.BlockCacheKey(filePath, block.getOffset(), block.getSize());
+  }
+
   @Override
   public void close() throws IOException {
     // NOTE: Do not clear the shared cache when closing individual readers
@@ -127,6 +179,16 @@ public class CachingHFileReaderImpl extends HFileReaderImpl {
     return "HFileReader Cache Stats - Size: " + (GLOBAL_BLOCK_CACHE != null ? GLOBAL_BLOCK_CACHE.size() : 0);
   }
 
+  /**
+   * Gets the statistics of the global block cache shared by all the readers in the JVM.
+   *
+   * @return statistics of the global cache, or null if the cache is not initialized yet
+   */
+  public static HFileBlockCache.Stats getGlobalCacheStats() {
+    HFileBlockCache cache = GLOBAL_BLOCK_CACHE;
+    return cache != null ? cache.getStats() : null;
+  }
+
   /**
    * Clears the global cache. Should only be used for testing.
    */
@@ -138,6 +200,8 @@ public class CachingHFileReaderImpl extends HFileReaderImpl {
       }
       INITIAL_CACHE_SIZE = null;
       INITIAL_CACHE_TTL = null;
+      INITIAL_CACHE_SIZE_BYTES = null;
+      INITIAL_CACHE_OFF_HEAP = null;
     }
   }
 }
@@ -211,6 +211,14 @@ public abstract class HFileBlock {
     return onDiskSizeWithoutHeader + HFILEBLOCK_HEADER_SIZE;
   }
 
+  /**
+   * @return the size of the block after decompression, including the header and the checksum bytes,
+   * i.e., the number of bytes of {@link #byteBuff} that belong to this block once unpacked.
+   */
+  int getUncompressedSizeWithHeader() {
+    return HFILEBLOCK_HEADER_SIZE + uncompressedSizeWithoutHeader + sizeCheckSum;
+  }
+
   /**
    * Decodes and decompresses the block content if the block content is compressed.
    * <p>
@@ -234,6 +242,9 @@ public abstract class HFileBlock {
               HFILEBLOCK_HEADER_SIZE,
               byteBuff.length - HFILEBLOCK_HEADER_SIZE);
         }
+        // The compressed bytes are no longer needed once unpacked; release them so that
+        // cached blocks only retain the uncompressed content
+        compressedByteBuff = null;
       }
       isUnpacked = true;
     }
@@ -21,7 +21,12 @@ package org.apache.hudi.io.hfile;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.Callable;
@@ -30,16 +35,69 @@ import java.util.concurrent.TimeUnit;
 /**
  * Least Frequently Used (LFU) cache for HFile blocks to improve read performance by avoiding repeated block reads.
  * Uses Caffeine cache with configurable size and TTL. Thread-safe for concurrent access.
+ * <p>
+ * The cache supports two ways of bounding its footprint:
+ * <ul>
+ *   <li>by the number of blocks (see {@link #HFileBlockCache(int, long, TimeUnit)}), storing the decoded
+ *   {@link HFileBlock} instances on heap;</li>
+ *   <li>by bytes (see {@link #HFileBlockCache(long, boolean, long, TimeUnit)}), weighing each block by its
+ *   uncompressed size. In this mode the raw uncompressed block bytes can optionally be kept off-heap in an
+ *   {@link OffHeapBlockArena}, and the block is re-instantiated on each cache hit without decompression.</li>
+ * </ul>
  */
 public class HFileBlockCache {
 
-  private final Cache<BlockCacheKey, HFileBlock> cache;
+  // Page size of the off-heap arena; HFile blocks in the metadata table are typically tens of KB
+  static final int OFF_HEAP_PAGE_SIZE = 8 * 1024;
+  // Cached off-heap bytes are already unpacked, so they are parsed without decompression
+  private static final HFileContext UNPACKED_BLOCK_CONTEXT = HFileContext.builder().build();
+
+  private final Cache<BlockCacheKey, Object> cache;
+  private final OffHeapBlockArena arena;
 
   public HFileBlockCache(int maxCacheSize, long expireAfterWrite, TimeUnit timeUnit) {
     this.cache = Caffeine.newBuilder()
         .maximumSize(maxCacheSize)
         .expireAfterAccess(Duration.ofMillis(timeUnit.toMillis(expireAfterWrite)))
+        .recordStats()
         .build();
+    this.arena = null;
+  }
+
+  /**
+   * Creates a cache bounded by the total uncompressed size of the cached blocks.
+   *
+   * @param maxCacheSizeInBytes maximum number of bytes of cached blocks.
+   * @param offHeap             whether to store the raw block bytes off-heap.
+   * @param expireAfterWrite    TTL of a cached block since last access.
+   * @param timeUnit            time unit of the TTL.
+   */
+  public HFileBlockCache(long maxCacheSizeInBytes, boolean offHeap, long expireAfterWrite, TimeUnit timeUnit) {
+    Caffeine<Object, Object> builder = Caffeine.newBuilder()
+        .expireAfterAccess(Duration.ofMillis(timeUnit.toMillis(expireAfterWrite)))
+        .recordStats();
+    if (offHeap) {
+      this.arena = new OffHeapBlockArena(maxCacheSizeInBytes, OFF_HEAP_PAGE_SIZE);
+      this.cache = builder
+          .maximumWeight(arena.getCapacityInBytes())
+          // Frees the arena pages of evicted blocks synchronously so that they are reusable right away
+          .executor(Runnable::run)
+          // Off-heap entries are weighed by the pages they occupy in the arena
+          .<BlockCacheKey, Object>weigher((key, value) ->
+              ((OffHeapBlock) value).pages.length * arena.getPageSize())
+          .<BlockCacheKey, Object>removalListener((key, value, cause) -> {
+            if (value != null) {
+              ((OffHeapBlock) value).release();
+            }
+          })
+          .build();
+    } else {
+      this.arena = null;
+      this.cache = builder
+          .maximumWeight(maxCacheSizeInBytes)
+          .<BlockCacheKey, Object>weigher((key, value) -> ((HFileBlock) value).getUncompressedSizeWithHeader())
+          .build();
+    }
   }
 
   /**
@@ -49,7 +107,7 @@ public class HFileBlockCache {
    * @return cached block or null if not found
    */
   public HFileBlock getBlock(BlockCacheKey key) {
-    return cache.getIfPresent(key);
+    return toBlock(cache.getIfPresent(key));
   }
 
   /**
@@ -59,7 +117,10 @@ public class HFileBlockCache {
    * @param block the block to cache
    */
   public void putBlock(BlockCacheKey key, HFileBlock block) {
-    cache.put(key, block);
+    Object value = toCacheValue(block);
+    if (value != null) {
+      cache.put(key, value);
+    }
   }
   
   /**
@@ -71,14 +132,23 @@ public class HFileBlockCache {
    * @throws Exception if the loader throws an exception
    */
   public HFileBlock getOrCompute(BlockCacheKey key, Callable<HFileBlock> loader) throws Exception {
+    // Keeps the loaded block so that it is returned as is, without copying it back from off-heap
+    HFileBlock[] loaded = new HFileBlock[1];
     // Caffeine uses Function instead of Callable, so we need to wrap the Callable
-    return cache.get(key, (k) -> {
+    Object value = cache.get(key, (k) -> {
       try {
-        return loader.call();
+        loaded[0] = loader.call();
+        return toCacheValue(loaded[0]);
       } catch (Exception e) {
         throw new RuntimeException(e);
       }
     });
+    if (loaded[0] != null) {
+      return loaded[0];
+    }
+    HFileBlock block = toBlock(value);
+    // The off-heap entry may be evicted concurrently after the lookup, in which case the block is loaded again
+    return block != null ? block : loader.call();
   }
 
   /**
@@ -97,6 +167,26 @@ public class HFileBlockCache {
     return cache.estimatedSize();
   }
 
+  /**
+   * Gets the number of bytes of the cached blocks. Only available when the cache is bounded by bytes.
+   *
+   * @return weighted size of the cache in bytes, or -1 if the cache is bounded by the number of blocks
+   */
+  public long sizeInBytes() {
+    return cache.policy().eviction()
+        .map(eviction -> eviction.weightedSize().orElse(-1L))
+        .orElse(-1L);
+  }
+
+  /**
+   * @return a snapshot of the cache statistics.
+   */
+  public Stats getStats() {
+    CacheStats stats = cache.stats();
+    return new Stats(stats.hitCount(), stats.missCount(), stats.evictionCount(), size(), sizeInBytes(),
+        arena != null ? arena.getUsedBytes() : 0L);
+  }
+
   /**
    * Forces cache maintenance operations like eviction.
    * This is useful for testing to ensure consistent behavior.
@@ -105,6 +195,79 @@ public class HFileBlockCache {
     cache.cleanUp();
   }
 
+  private Object toCacheValue(HFileBlock block) {
+    if (block == null || arena == null) {
+      return block;
+    }
+    int length = Math.min(block.getUncompressedSizeWithHeader(), block.getByteBuff().length - block.startOffsetInBuff);
+    int[] pages = arena.store(block.getByteBuff(), block.startOffsetInBuff, length);
+    // Skips caching if the arena is full before the pending evictions are processed
+    return pages != null ? new OffHeapBlock(arena, pages, length) : null;
+  }
+
+  private static HFileBlock toBlock(Object value) {
+    if (value instanceof OffHeapBlock) {
+      byte[] bytes = ((OffHeapBlock) value).read();
+      if (bytes == null) {
+        return null;
+      }
+      try {
+        HFileBlock block = HFileBlock.parse(UNPACKED_BLOCK_CONTEXT, bytes, 0);
+        block.unpack();
+        return block;
+      } catch (IOException e) {
+        throw new IllegalStateException("Failed to parse HFile block from the off-heap cache", e);
+      }
+    }
+    return (HFileBlock) value;
+  }
+
+  /**
+   * Raw uncompressed bytes of a block stored in the {@link OffHeapBlockArena}.
+   */
+  private static class OffHeapBlock {
+    private final OffHeapBlockArena arena;
+    private final int[] pages;
+    private final int length;
+    private boolean released = false;
+
+    OffHeapBlock(OffHeapBlockArena arena, int[] pages, int length) {
+      this.arena = arena;
+      this.pages = pages;
+      this.length = length;
+    }
+
+    /**
+     * @return the block bytes copied on heap, or null if the pages have been released on eviction.
+     */
+    synchronized byte[] read() {
+      return released ? null : arena.read(pages, length);
+    }
+
+    synchronized void release() {
+      if (!released) {
+        released = true;
+        arena.free(pages);
+      }
+    }
+  }
+
+  /**
+   * Snapshot of the cache statistics.
+   */
+  @AllArgsConstructor
+  @Getter
+  @ToString
+  public static class Stats {
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+    private final long blockCount;
+    // -1 if the cache is bounded by the number of blocks
+    private final long sizeInBytes;
+    private final long offHeapUsedBytes;
+  }
+
   /**
    * Cache key for identifying blocks uniquely.
    */
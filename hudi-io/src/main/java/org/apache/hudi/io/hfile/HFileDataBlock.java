@@ -148,6 +148,37 @@ public class HFileDataBlock extends HFileBlock {
     return SEEK_TO_IN_RANGE;
   }
 
+  /**
+   * Looks up a range of sorted keys in the block with one sequential scan of the block.
+   *
+   * @param sortedKeys keys to look up, sorted lexicographically.
+   * @param start      index of the first key to look up, inclusive.
+   * @param end        index of the last key to look up, exclusive.
+   * @param matches    list to add the {@link KeyValue} pairs matching the keys to, in the
+   *                   order of the keys.
+   */
+  void lookUp(List<? extends Key> sortedKeys, int start, int end, List<KeyValue> matches) {
+    int keyIndex = start;
+    int relativeOffset = HFILEBLOCK_HEADER_SIZE;
+    KeyValue kv = null;
+    while (keyIndex < end && relativeOffset < uncompressedContentEndRelativeOffset) {
+      if (kv == null) {
+        kv = readKeyValue(relativeOffset);
+      }
+      int comp = kv.getKey().compareTo(sortedKeys.get(keyIndex));
+      if (comp < 0) {
+        relativeOffset += KEY_OFFSET + kv.getKeyLength() + kv.getValueLength() + ZERO_TS_VERSION_BYTE_LENGTH;
+        kv = null;
+      } else {
+        if (comp == 0) {
+          matches.add(kv);
+        }
+        // The key value is kept as the next lookup key may be the same key
+        keyIndex++;
+      }
+    }
+  }
+
   /**
    * Reads the key value at the offset.
    *
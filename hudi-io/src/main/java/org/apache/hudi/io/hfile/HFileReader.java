@@ -24,6 +24,8 @@ import org.apache.hudi.common.util.Option;
 import java.io.Closeable;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * HFile reader that supports seeks.
@@ -119,6 +121,21 @@ public interface HFileReader extends Closeable {
    */
   int seekTo(Key key) throws IOException;
 
+  /**
+   * Looks up multiple keys with one pass over the file, instead of calling {@link #seekTo(Key)}
+   * for each key. The block index is walked once, each data block containing any of the keys is
+   * read at most once, and adjacent data blocks are fetched with a single ranged read.
+   * <p>
+   * The lookup is independent of the position of the reader, which is not moved.
+   *
+   * @param sortedKeys keys to look up, sorted lexicographically.
+   * @return an iterator of the {@link KeyValue} pairs matching the keys, in the order of the keys;
+   * the keys without a match are skipped. If a key appears multiple times in the file, the first
+   * {@link KeyValue} of the key is returned, same as {@link #seekTo(Key)}.
+   * @throws IOException upon read errors.
+   */
+  Iterator<KeyValue> lookUp(List<? extends Key> sortedKeys) throws IOException;
+
   /**
    * Positions this reader at the start of the file.
    *
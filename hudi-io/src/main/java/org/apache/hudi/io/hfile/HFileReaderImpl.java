@@ -21,9 +21,12 @@ package org.apache.hudi.io.hfile;
 
 import org.apache.hudi.common.util.Option;
 import org.apache.hudi.common.util.ValidationUtils;
+import org.apache.hudi.exception.HoodieIOException;
 import org.apache.hudi.io.SeekableDataInputStream;
+import org.apache.hudi.io.compress.CompressionCodec;
 
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.apache.logging.log4j.util.Strings;
 
@@ -31,9 +34,14 @@ import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.TreeMap;
 
@@ -44,6 +52,8 @@ import static org.apache.hudi.io.hfile.HFileUtils.readMajorVersion;
  * Base implementation of {@link HFileReader} without caching. This provides the core functionality for reading HFile format data.
  */
 public class HFileReaderImpl implements HFileReader {
+  // Maximum number of bytes of adjacent data blocks fetched with one ranged read by lookUp
+  private static final long MAX_COALESCED_READ_SIZE = 8 * 1024 * 1024;
 
   protected final SeekableDataInputStream stream;
   protected final long fileSize;
@@ -199,6 +209,12 @@ public class HFileReaderImpl implements HFileReader {
             + "key=" + key + " cursor=" + cursor);
   }
 
+  @Override
+  public Iterator<KeyValue> lookUp(List<? extends Key> sortedKeys) throws IOException {
+    initializeMetadata();
+    return new KeyLookUpIterator(sortedKeys, getDataBlocksToLookUp(sortedKeys));
+  }
+
   @Override
   public boolean seekTo() throws IOException {
     initializeMetadata();
@@ -325,6 +341,82 @@ public class HFileReaderImpl implements HFileReader {
     return (HFileDataBlock) blockReader.nextBlock(HFileBlockType.DATA);
   }
 
+  /**
+   * Reads adjacent data blocks with one ranged read.
+   *
+   * @param blocksToRead the block index entries of adjacent data blocks, in the order of the offsets.
+   * @return the data blocks, in the same order.
+   * @throws IOException if there's an error reading the blocks
+   */
+  protected List<HFileDataBlock> readDataBlocks(List<BlockIndexEntry> blocksToRead) throws IOException {
+    long startOffset = blocksToRead.get(0).getOffset();
+    BlockIndexEntry lastBlock = blocksToRead.get(blocksToRead.size() - 1);
+    byte[] byteBuff = new byte[(int) (lastBlock.getOffset() + lastBlock.getSize() - startOffset)];
+    stream.seek(startOffset);
+    stream.readFully(byteBuff);
+
+    boolean isCompressed = context.getCompressionCodec() != CompressionCodec.NONE;
+    List<HFileDataBlock> blocks = new ArrayList<>(blocksToRead.size());
+    for (BlockIndexEntry blockToRead : blocksToRead) {
+      int offsetInBuff = (int) (blockToRead.getOffset() - startOffset);
+      // Uncompressed blocks are read in place, so they are copied out of the shared buffer
+      // to not retain the whole range with a cached block
+      HFileBlock block = isCompressed
+          ? HFileBlock.parse(context, byteBuff, offsetInBuff)
+          : HFileBlock.parse(context, Arrays.copyOfRange(byteBuff, offsetInBuff, offsetInBuff + blockToRead.getSize()), 0);
+      block.unpack();
+      if (block.getBlockType() != HFileBlockType.DATA) {
+        throw new IOException("Unexpected block type: " + block.getBlockType()
+            + "; expecting " + HFileBlockType.DATA);
+      }
+      blocks.add((HFileDataBlock) block);
+    }
+    return blocks;
+  }
+
+  /**
+   * Walks the block index once to find the data blocks that may contain the sorted keys.
+   *
+   * @param sortedKeys keys to look up, sorted lexicographically.
+   * @return the data blocks to read, each with the range of the keys to look up in the block.
+   */
+  private List<DataBlockLookUp> getDataBlocksToLookUp(List<? extends Key> sortedKeys) {
+    List<DataBlockLookUp> blocksToLookUp = new ArrayList<>();
+    if (trailer.getNumKeyValueEntries() == 0) {
+      return blocksToLookUp;
+    }
+    Option<Key> lastKey = fileInfo.getLastKey();
+    BlockIndexEntry currentEntry = null;
+    int start = 0;
+    int end = 0;
+    for (; end < sortedKeys.size(); end++) {
+      Key key = sortedKeys.get(end);
+      if (lastKey.isPresent() && key.compareTo(lastKey.get()) > 0) {
+        // This and the following keys are beyond the end of the file
+        break;
+      }
+      if (currentEntry != null && (!currentEntry.getNextBlockFirstKey().isPresent()
+          || key.compareTo(currentEntry.getNextBlockFirstKey().get()) < 0)) {
+        // The key belongs to the current block
+        continue;
+      }
+      Map.Entry<Key, BlockIndexEntry> floorEntry = dataBlockIndexEntryMap.floorEntry(key);
+      if (floorEntry == null) {
+        // The key is smaller than the first key of the file
+        continue;
+      }
+      if (currentEntry != null) {
+        blocksToLookUp.add(new DataBlockLookUp(currentEntry, start, end));
+      }
+      currentEntry = floorEntry.getValue();
+      start = end;
+    }
+    if (currentEntry != null) {
+      blocksToLookUp.add(new DataBlockLookUp(currentEntry, start, end));
+    }
+    return blocksToLookUp;
+  }
+
   private boolean isAtFirstKeyOfBlock(BlockIndexEntry indexEntry) {
     if (cursor.isValid()) {
       return cursor.getOffset() == indexEntry.getOffset() + HFILEBLOCK_HEADER_SIZE;
@@ -397,4 +489,80 @@ public class HFileReaderImpl implements HFileReader {
     // (6) Returns the combined index entry map
     return blockIndexEntryMap;
   }
+
+  /**
+   * A data block to read with the range of the sorted keys to look up in the block.
+   */
+  @AllArgsConstructor
+  private static class DataBlockLookUp {
+    private final BlockIndexEntry blockIndexEntry;
+    private final int start;
+    private final int end;
+  }
+
+  /**
+   * Iterator of the {@link KeyValue} pairs matching the sorted keys, which reads the data blocks
+   * on demand, coalescing the reads of adjacent data blocks.
+   */
+  private class KeyLookUpIterator implements Iterator<KeyValue> {
+    private final List<? extends Key> sortedKeys;
+    private final List<DataBlockLookUp> blocksToLookUp;
+    private final Queue<HFileDataBlock> fetchedBlocks = new LinkedList<>();
+    private int nextBlockIndex = 0;
+    private Iterator<KeyValue> matches = Collections.emptyIterator();
+
+    KeyLookUpIterator(List<? extends Key> sortedKeys, List<DataBlockLookUp> blocksToLookUp) {
+      this.sortedKeys = sortedKeys;
+      this.blocksToLookUp = blocksToLookUp;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!matches.hasNext()) {
+        if (nextBlockIndex >= blocksToLookUp.size()) {
+          return false;
+        }
+        if (fetchedBlocks.isEmpty()) {
+          fetchBlocks();
+        }
+        DataBlockLookUp blockLookUp = blocksToLookUp.get(nextBlockIndex++);
+        List<KeyValue> blockMatches = new ArrayList<>();
+        fetchedBlocks.poll().lookUp(sortedKeys, blockLookUp.start, blockLookUp.end, blockMatches);
+        matches = blockMatches.iterator();
+      }
+      return true;
+    }
+
+    @Override
+    public KeyValue next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return matches.next();
+    }
+
+    /**
+     * Fetches the next data blocks to look up which are adjacent in the file.
+     */
+    private void fetchBlocks() {
+      List<BlockIndexEntry> blocksToRead = new ArrayList<>();
+      BlockIndexEntry firstBlock = blocksToLookUp.get(nextBlockIndex).blockIndexEntry;
+      blocksToRead.add(firstBlock);
+      long endOffset = firstBlock.getOffset() + firstBlock.getSize();
+      for (int i = nextBlockIndex + 1; i < blocksToLookUp.size(); i++) {
+        BlockIndexEntry block = blocksToLookUp.get(i).blockIndexEntry;
+        if (block.getOffset() != endOffset
+            || block.getOffset() + block.getSize() - firstBlock.getOffset() > MAX_COALESCED_READ_SIZE) {
+          break;
+        }
+        blocksToRead.add(block);
+        endOffset = block.getOffset() + block.getSize();
+      }
+      try {
+        fetchedBlocks.addAll(readDataBlocks(blocksToRead));
+      } catch (IOException e) {
+        throw new HoodieIOException("Failed to read HFile data blocks for lookup", e);
+      }
+    }
+  }
 }
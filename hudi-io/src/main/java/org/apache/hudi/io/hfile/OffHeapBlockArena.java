@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.io.hfile;
+
+import org.apache.hudi.common.util.ValidationUtils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A fixed-capacity arena of off-heap memory used by {@link HFileBlockCache} to store raw block bytes
+ * outside of the JVM heap.
+ * <p>
+ * The arena is split into fixed-size pages which are carved out of direct {@link ByteBuffer} slabs
+ * allocated lazily on first use. A stored block occupies {@code ceil(length / pageSize)} pages which
+ * do not need to be contiguous, so freeing blocks never fragments the arena. The total amount of
+ * direct memory is bounded by the capacity given at construction time.
+ * <p>
+ * Page allocation and release are synchronized; reads of allocated pages are lock-free since a page
+ * is owned by exactly one block until it is freed.
+ */
+class OffHeapBlockArena {
+
+  private static final int PAGES_PER_SLAB = 64;
+
+  private final int pageSize;
+  private final int numPages;
+  private final ByteBuffer[] slabs;
+  // Stack of free page ids
+  private final int[] freePages;
+  private int numFreePages;
+
+  OffHeapBlockArena(long capacityInBytes, int pageSize) {
+    ValidationUtils.checkArgument(pageSize > 0, "Page size must be positive");
+    long pages = (capacityInBytes + pageSize - 1) / pageSize;
+    ValidationUtils.checkArgument(pages > 0 && pages <= Integer.MAX_VALUE,
+        "Invalid off-heap arena capacity: " + capacityInBytes);
+    this.pageSize = pageSize;
+    this.numPages = (int) pages;
+    this.slabs = new ByteBuffer[(numPages + PAGES_PER_SLAB - 1) / PAGES_PER_SLAB];
+    this.freePages = new int[numPages];
+    for (int i = 0; i < numPages; i++) {
+      // Hand out the lower page ids first so that slabs are allocated in order
+      freePages[i] = numPages - 1 - i;
+    }
+    this.numFreePages = numPages;
+  }
+
+  /**
+   * Copies the given bytes into the arena.
+   *
+   * @param bytes  source array.
+   * @param offset offset in the source array.
+   * @param length number of bytes to copy.
+   * @return ids of the pages holding the bytes, in order; {@code null} if the arena does not
+   * have enough free pages.
+   */
+  int[] store(byte[] bytes, int offset, int length) {
+    int[] pages = allocate(numPagesFor(length));
+    if (pages == null) {
+      return null;
+    }
+    int remaining = length;
+    int srcOffset = offset;
+    for (int page : pages) {
+      int len = Math.min(remaining, pageSize);
+      ByteBuffer buffer = pageBuffer(page);
+      buffer.put(bytes, srcOffset, len);
+      srcOffset += len;
+      remaining -= len;
+    }
+    return pages;
+  }
+
+  /**
+   * Copies bytes previously stored with {@link #store} back onto the heap.
+   *
+   * @param pages  ids of the pages holding the bytes.
+   * @param length number of bytes stored.
+   * @return a new array with the stored bytes.
+   */
+  byte[] read(int[] pages, int length) {
+    byte[] result = new byte[length];
+    int remaining = length;
+    int dstOffset = 0;
+    for (int page : pages) {
+      int len = Math.min(remaining, pageSize);
+      pageBuffer(page).get(result, dstOffset, len);
+      dstOffset += len;
+      remaining -= len;
+    }
+    return result;
+  }
+
+  /**
+   * Returns the pages to the arena so they can be reused.
+   */
+  synchronized void free(int[] pages) {
+    for (int page : pages) {
+      freePages[numFreePages++] = page;
+    }
+  }
+
+  int numPagesFor(int length) {
+    return (length + pageSize - 1) / pageSize;
+  }
+
+  int getPageSize() {
+    return pageSize;
+  }
+
+  long getCapacityInBytes() {
+    return (long) numPages * pageSize;
+  }
+
+  synchronized long getUsedBytes() {
+    return (long) (numPages - numFreePages) * pageSize;
+  }
+
+  private synchronized int[] allocate(int count) {
+    if (count > numFreePages) {
+      return null;
+    }
+    int[] pages = new int[count];
+    for (int i = 0; i < count; i++) {
+      int page = freePages[--numFreePages];
+      int slab = page / PAGES_PER_SLAB;
+      if (slabs[slab] == null) {
+        int pagesInSlab = Math.min(PAGES_PER_SLAB, numPages - slab * PAGES_PER_SLAB);
+        slabs[slab] = ByteBuffer.allocateDirect(pagesInSlab * pageSize);
+      }
+      pages[i] = page;
+    }
+    return pages;
+  }
+
+  /**
+   * @return a view of the page with independent position and limit, so that concurrent
+   * accesses to different pages of the same slab do not interfere.
+   */
+  private ByteBuffer pageBuffer(int page) {
+    ByteBuffer buffer = slabs[page / PAGES_PER_SLAB].duplicate();
+    int start = (page % PAGES_PER_SLAB) * pageSize;
+    buffer.limit(start + pageSize);
+    buffer.position(start);
+    return buffer;
+  }
+}
@@ -26,8 +26,10 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -139,6 +141,84 @@ public class TestHFileBlockCache {
     assertSame(preExistingBlock, cache.getBlock(preExistingKey), "Pre-existing block should remain untouched.");
   }
 
+  @Test
+  public void testBlockCacheBoundedBySize() {
+    HFileContext context = HFileContext.builder().build();
+    byte[] blockData = createUncompressedHFileBlockData(1000);
+    int blockSize = new MockHFileDataBlock(context, blockData, 0).getUncompressedSizeWithHeader();
+    // Room for two blocks only
+    HFileBlockCache cache = new HFileBlockCache(2L * blockSize + blockSize / 2, false, 30, TimeUnit.MINUTES);
+
+    for (int i = 0; i < 3; i++) {
+      cache.putBlock(new HFileBlockCache.BlockCacheKey("file", i * 2048L, blockSize),
+          new MockHFileDataBlock(context, blockData, 0));
+    }
+    cache.cleanUp();
+
+    assertEquals(2, cache.size());
+    assertEquals(2L * blockSize, cache.sizeInBytes());
+    HFileBlockCache.Stats stats = cache.getStats();
+    assertEquals(1, stats.getEvictionCount());
+    assertEquals(2L * blockSize, stats.getSizeInBytes());
+    assertEquals(0, stats.getOffHeapUsedBytes());
+  }
+
+  @Test
+  public void testOffHeapBlockCache() throws Exception {
+    HFileContext context = HFileContext.builder().build();
+    byte[] blockData = createUncompressedHFileBlockData(100);
+    HFileBlockCache cache = new HFileBlockCache(HFileBlockCache.OFF_HEAP_PAGE_SIZE * 2L, true, 30, TimeUnit.MINUTES);
+    AtomicInteger loaderExecutionCount = new AtomicInteger(0);
+    MockHFileDataBlock block = new MockHFileDataBlock(context, blockData, 0);
+    Callable<HFileBlock> loader = () -> {
+      loaderExecutionCount.incrementAndGet();
+      return block;
+    };
+
+    HFileBlockCache.BlockCacheKey key = new HFileBlockCache.BlockCacheKey("file", 0, blockData.length);
+    assertSame(block, cache.getOrCompute(key, loader));
+    HFileBlock cached = cache.getOrCompute(key, loader);
+    assertEquals(1, loaderExecutionCount.get());
+    // The block is re-instantiated from the off-heap bytes
+    assertNotSame(block, cached);
+    assertTrue(cached instanceof HFileDataBlock);
+    assertEquals(block.getUncompressedSizeWithHeader(), cached.getUncompressedSizeWithHeader());
+    assertArrayEquals(blockData, cached.getByteBuff());
+    assertEquals(HFileBlockCache.OFF_HEAP_PAGE_SIZE, cache.getStats().getOffHeapUsedBytes());
+
+    // Filling the cache beyond its capacity evicts blocks and frees their off-heap pages
+    for (int i = 1; i <= 4; i++) {
+      cache.putBlock(new HFileBlockCache.BlockCacheKey("file", i * 1024L, blockData.length), block);
+    }
+    cache.cleanUp();
+    assertTrue(cache.size() <= 2);
+    assertEquals(cache.size() * HFileBlockCache.OFF_HEAP_PAGE_SIZE, cache.getStats().getOffHeapUsedBytes());
+
+    cache.clear();
+    cache.cleanUp();
+    assertEquals(0, cache.getStats().getOffHeapUsedBytes());
+  }
+
+  /**
+   * Creates the bytes of an uncompressed HFile data block whose header sizes are consistent with the length of the bytes.
+   */
+  private static byte[] createUncompressedHFileBlockData(int dataSize) {
+    final int headerSize = HFileBlock.HFILEBLOCK_HEADER_SIZE;
+    final int checksumSize = HFileBlock.numChecksumBytes(headerSize + dataSize, 16384);
+    ByteBuffer buffer = ByteBuffer.allocate(headerSize + dataSize + checksumSize);
+    buffer.put(HFileBlockType.DATA.getMagic());
+    buffer.putInt(dataSize + checksumSize);
+    buffer.putInt(dataSize);
+    buffer.putLong(0L);
+    buffer.put(ChecksumType.NULL.getCode());
+    buffer.putInt(16384);
+    buffer.putInt(headerSize + dataSize);
+    for (int i = 0; i < dataSize; i++) {
+      buffer.put((byte) (i % 256));
+    }
+    return buffer.array();
+  }
+
   /**
    * Creates a valid HFile block data with proper header structure for testing. This mimics the structure expected by HFileBlock constructor.
    */
@@ -34,7 +34,10 @@ import org.junit.jupiter.params.provider.ValueSource;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -802,6 +805,74 @@ public class TestHFileReader {
     }
   }
 
+  static Stream<Arguments> testArgsLookUpSortedKeys() {
+    return Stream.of(
+        Arguments.of("/hfile/hudi_1_0_hbase_2_4_9_16KB_GZ_20000.hfile", 20000, KEY_CREATOR),
+        Arguments.of("/hfile/hudi_1_0_hbase_2_4_13_16KB_GZ_20000_fake_first_key.hfile", 20000, KEY_CREATOR_WITH_SUFFIX),
+        Arguments.of("/hfile/hudi_1_0_hbase_2_4_9_16KB_NONE_5000.hfile", 5000, KEY_CREATOR),
+        Arguments.of("/hfile/hudi_1_0_hbase_2_4_13_1KB_GZ_10000_large_keys_deep_index.hfile", 10000, LARGE_KEY_CREATOR)
+    );
+  }
+
+  @ParameterizedTest
+  @MethodSource("testArgsLookUpSortedKeys")
+  public void testLookUpSortedKeys(String filename,
+                                   int numEntries,
+                                   Function<Integer, String> keyCreator) throws IOException {
+    List<UTF8StringKey> lookUpKeys = new ArrayList<>();
+    List<Integer> expectedIndexes = new ArrayList<>();
+    // before the first key
+    lookUpKeys.add(new UTF8StringKey(""));
+    for (int i = 0; i < numEntries; i += 7) {
+      lookUpKeys.add(new UTF8StringKey(keyCreator.apply(i)));
+      expectedIndexes.add(i);
+      if (i % 3 == 0) {
+        // duplicate lookup key
+        lookUpKeys.add(new UTF8StringKey(keyCreator.apply(i)));
+        expectedIndexes.add(i);
+      }
+      // non-existent key in range
+      lookUpKeys.add(new UTF8StringKey(keyCreator.apply(i) + "a"));
+    }
+    // after the last key
+    lookUpKeys.add(new UTF8StringKey(keyCreator.apply(numEntries - 1) + "a"));
+
+    try (HFileReader reader = getHFileReader(filename)) {
+      Iterator<KeyValue> iterator = reader.lookUp(lookUpKeys);
+      for (int i : expectedIndexes) {
+        assertTrue(iterator.hasNext());
+        KeyValue keyValue = iterator.next();
+        assertEquals(new UTF8StringKey(keyCreator.apply(i)), keyValue.getKey());
+        assertEquals(VALUE_CREATOR.apply(i), getValue(keyValue));
+      }
+      assertFalse(iterator.hasNext());
+      // The lookup does not move the position of the reader
+      assertFalse(reader.isSeeked());
+      assertFalse(reader.lookUp(Collections.emptyList()).hasNext());
+    }
+  }
+
+  @Test
+  public void testLookUpSortedKeysWithNonUniqueKeys() throws IOException {
+    try (HFileReader reader = getHFileReader("/hfile/hudi_1_0_hbase_2_4_9_16KB_GZ_200_20_non_unique.hfile")) {
+      List<UTF8StringKey> lookUpKeys = new ArrayList<>();
+      for (int i = 0; i < 200; i += 2) {
+        lookUpKeys.add(new UTF8StringKey(KEY_CREATOR.apply(i)));
+      }
+      Iterator<KeyValue> iterator = reader.lookUp(lookUpKeys);
+      assertTrue(reader.seekTo());
+      for (UTF8StringKey key : lookUpKeys) {
+        // Same as seekTo, the first key value of the key is returned
+        assertEquals(SEEK_TO_FOUND, reader.seekTo(key));
+        assertTrue(iterator.hasNext());
+        KeyValue keyValue = iterator.next();
+        assertEquals(key, keyValue.getKey());
+        assertEquals(getValue(reader.getKeyValue().get()), getValue(keyValue));
+      }
+      assertFalse(iterator.hasNext());
+    }
+  }
+
   @Test
   public void testReadHFileWithoutKeyValueEntries() throws IOException {
     try (HFileReader reader = getHFileReader("/hfile/hudi_1_0_hbase_2_4_9_no_entry.hfile")) {
@@ -814,6 +885,9 @@ public class TestHFileReader {
       assertEquals(SEEK_TO_EOF, reader.seekTo(new UTF8StringKey("random")));
       assertFalse(reader.next());
     }
+    try (HFileReader reader = getHFileReader("/hfile/hudi_1_0_hbase_2_4_9_no_entry.hfile")) {
+      assertFalse(reader.lookUp(Collections.singletonList(new UTF8StringKey("random"))).hasNext());
+    }
     try (HFileReader reader = getHFileReader("/hfile/hudi_1_0_hbase_2_4_9_no_entry.hfile")) {
       reader.initializeMetadata();
       assertFalse(reader.isSeeked());
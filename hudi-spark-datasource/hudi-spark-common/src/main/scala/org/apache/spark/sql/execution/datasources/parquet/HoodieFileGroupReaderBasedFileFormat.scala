@@ -21,13 +21,13 @@ import org.apache.hudi.{HoodieFileIndex, HoodiePartitionCDCFileGroupMapping, Hoo
 import org.apache.hudi.cdc.{CDCFileGroupIterator, HoodieCDCFileGroupSplit, HoodieCDCFileIndex}
 import org.apache.hudi.client.common.HoodieSparkEngineContext
 import org.apache.hudi.client.utils.SparkInternalSchemaConverter
-import org.apache.hudi.common.config.{HoodieMemoryConfig, TypedProperties}
+import org.apache.hudi.common.config.{HoodieMemoryConfig, HoodieReaderConfig, TypedProperties}
 import org.apache.hudi.common.fs.FSUtils
 import org.apache.hudi.common.model.HoodieFileFormat
 import org.apache.hudi.common.schema.HoodieSchema
 import org.apache.hudi.common.schema.HoodieSchemaUtils
 import org.apache.hudi.common.table.{HoodieTableConfig, HoodieTableMetaClient, ParquetTableSchemaResolver}
-import org.apache.hudi.common.table.read.HoodieFileGroupReader
+import org.apache.hudi.common.table.read.{HoodieFileGroupReader, HoodieRecordBatch}
 import org.apache.hudi.common.util.{Option => HOption}
 import org.apache.hudi.common.util.collection.ClosableIterator
 import org.apache.hudi.data.CloseableIteratorListener
@@ -49,7 +49,7 @@ import org.apache.spark.sql.HoodieCatalystExpressionUtils.generateUnsafeProjecti
 import org.apache.spark.sql.SparkSession
 import org.apache.spark.sql.catalyst.InternalRow
 import org.apache.spark.sql.catalyst.expressions.{JoinedRow, UnsafeProjection}
-import org.apache.spark.sql.execution.datasources.{OutputWriterFactory, PartitionedFile, SparkColumnarFileReader}
+import org.apache.spark.sql.execution.datasources.{FileFormat, OutputWriterFactory, PartitionedFile, SparkColumnarFileReader}
 import org.apache.spark.sql.execution.datasources.orc.OrcUtils
 import org.apache.spark.sql.execution.vectorized.{OffHeapColumnVector, OnHeapColumnVector}
 import org.apache.spark.sql.hudi.MultipleColumnarFileFormatReader
@@ -280,6 +280,17 @@ class HoodieFileGroupReaderBasedFileFormat(tablePath: String,
     } else {
       baseFileReader
     }
+    // Vectorized reader returning columnar batches, for the file group reader to merge the parquet base files
+    // with the log records batch by batch
+    val batchMergeEnabled = options.get(HoodieReaderConfig.FILE_GROUP_READER_BATCH_MERGE_ENABLED.key)
+      .map(_.toBoolean).getOrElse(HoodieReaderConfig.FILE_GROUP_READER_BATCH_MERGE_ENABLED.defaultValue().booleanValue())
+    val batchMergeBaseFileReader = if (isMOR && supportVectorizedRead && batchMergeEnabled
+      && !isMultipleBaseFileFormatsEnabled && hoodieFileFormat == HoodieFileFormat.PARQUET) {
+      Some(spark.sparkContext.broadcast(buildBaseFileReader(spark, options + (FileFormat.OPTION_RETURNING_BATCH -> "true"),
+        augmentedStorageConf.unwrap(), dataStructType, enableVectorizedRead = true)))
+    } else {
+      None
+    }
 
     val broadcastedStorageConf = spark.sparkContext.broadcast(new SerializableConfiguration(augmentedStorageConf.unwrap()))
     val fileIndexProps: TypedProperties = HoodieFileIndex.getConfigProperties(spark, options, null)
@@ -303,7 +314,7 @@ class HoodieFileGroupReaderBasedFileFormat(tablePath: String,
             case Some(fileSlice) if !isCount && (requiredSchema.nonEmpty || fileSlice.getLogFiles.findAny().isPresent) =>
               val readerContext = new SparkFileFormatInternalRowReaderContext(
                 fileGroupBaseFileReader.value, filters, requiredFilters, storageConf, metaClient.getTableConfig,
-                sparkRequiredSchema = Some(requiredSchema))
+                sparkRequiredSchema = Some(requiredSchema), batchBaseFileReader = batchMergeBaseFileReader.map(_.value))
               readerContext.enableLogicalTimestampFieldRepair(storageConf.getBoolean(ENABLE_LOGICAL_TIMESTAMP_REPAIR, true))
               val props = metaClient.getTableConfig.getProps
               options.foreach(kv => props.setProperty(kv._1, kv._2))
@@ -328,9 +339,15 @@ class HoodieFileGroupReaderBasedFileFormat(tablePath: String,
                 .withLength(baseFileLength)
                 .withShouldUseRecordPosition(shouldUseRecordPosition)
                 .build()
+              // The base file batches without log records are passed through whole when merging batch by batch
+              val recordIterator = if (batchMergeBaseFileReader.isDefined) {
+                HoodieRecordBatch.flatten(reader.getClosableBatchIterator)
+              } else {
+                reader.getClosableIterator
+              }
               // Append partition values to rows and project to output schema
               appendPartitionAndProject(
-                reader.getClosableIterator,
+                recordIterator,
                 requestedStructType,
                 remainingPartitionSchema,
                 outputSchema,
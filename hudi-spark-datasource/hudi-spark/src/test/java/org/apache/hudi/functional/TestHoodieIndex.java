@@ -50,6 +50,8 @@ import org.apache.hudi.config.HoodieWriteConfig;
 import org.apache.hudi.index.HoodieIndex;
 import org.apache.hudi.index.HoodieIndex.IndexType;
 import org.apache.hudi.index.HoodieIndexUtils;
+import org.apache.hudi.index.HoodiePreferredLocationRDD;
+import org.apache.hudi.index.RecordIndexLookupLocalityRegistry;
 import org.apache.hudi.keygen.KeyGenerator;
 import org.apache.hudi.keygen.RawTripTestPayloadKeyGenerator;
 import org.apache.hudi.keygen.constant.KeyGeneratorType;
@@ -362,6 +364,35 @@ public class TestHoodieIndex extends TestHoodieMetadataBase {
     recordLocations.foreach(entry -> assertEquals(recordKeyToPartitionPathMap.get(entry._1.getRecordKey()), entry._1.getPartitionPath(), "PartitionPath mismatch"));
   }
 
+  @Test
+  public void testRecordIndexLookupLocalityAcrossUpserts() throws Exception {
+    setUp(IndexType.RECORD_INDEX, true, true);
+    config.setValue(HoodieIndexConfig.RECORD_INDEX_LOOKUP_LOCALITY_ENABLE, "true");
+    writeClient = getHoodieWriteClient(config);
+
+    // Each upsert creates a new index through the write client, the locality of the lookups is kept across them
+    List<HoodieRecord> records = getInserts();
+    for (int i = 0; i < 3; i++) {
+      String newCommitTime = writeClient.startCommit();
+      JavaRDD<WriteStatus> writeStatues = writeClient.upsert(jsc.parallelize(records, 1), newCommitTime);
+      assertNoWriteErrors(writeStatues.collect());
+      writeClient.commit(newCommitTime, writeStatues);
+      records = getUpdates(records);
+    }
+
+    Option<RecordIndexLookupLocalityRegistry.TableLocality> locality =
+        RecordIndexLookupLocalityRegistry.getIfPresent(metaClient.getBasePath().toString());
+    assertTrue(locality.isPresent());
+    // The last upsert scheduled its lookups on the executors of the file groups in the previous one
+    assertTrue(locality.get().getNumBatchesWithPreferredLocations() > 0);
+    Map<Integer, String> fileGroupLocations = locality.get().getFileGroupLocations();
+    assertFalse(fileGroupLocations.isEmpty());
+    fileGroupLocations.values().forEach(location -> assertEquals(HoodiePreferredLocationRDD.currentExecutorLocation(), location));
+    // The lookups of the last upsert ran on the same executors
+    assertFalse(locality.get().collectLookupStats().isEmpty());
+    assertEquals(fileGroupLocations, locality.get().getFileGroupLocations());
+  }
+
   @ParameterizedTest
   @MethodSource("indexTypeParams")
   public void testTagLocationDuringUpdatesAndFailures(IndexType indexType, boolean populateMetaFields, boolean enableMetadataIndex) throws Exception {
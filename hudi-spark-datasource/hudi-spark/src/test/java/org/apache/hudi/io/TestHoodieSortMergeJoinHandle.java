@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.hudi.io;
+
+import org.apache.hudi.avro.HoodieBloomFilterWriteSupport;
+import org.apache.hudi.client.SparkRDDWriteClient;
+import org.apache.hudi.client.WriteStatus;
+import org.apache.hudi.common.config.HoodieMetadataConfig;
+import org.apache.hudi.common.config.RecordMergeMode;
+import org.apache.hudi.common.engine.LocalTaskContextSupplier;
+import org.apache.hudi.common.model.HoodieAvroRecord;
+import org.apache.hudi.common.model.HoodieKey;
+import org.apache.hudi.common.model.HoodieRecord;
+import org.apache.hudi.common.model.HoodieWriteStat;
+import org.apache.hudi.common.model.OverwriteWithLatestAvroPayload;
+import org.apache.hudi.common.model.SerializableIndexedRecord;
+import org.apache.hudi.common.model.WriteOperationType;
+import org.apache.hudi.common.table.HoodieTableConfig;
+import org.apache.hudi.common.table.HoodieTableMetaClient;
+import org.apache.hudi.common.table.view.FileSystemViewStorageConfig;
+import org.apache.hudi.common.testutils.HoodieTestDataGenerator;
+import org.apache.hudi.common.util.HoodieRecordUtils;
+import org.apache.hudi.common.util.Option;
+import org.apache.hudi.common.util.ParquetUtils;
+import org.apache.hudi.config.HoodieIndexConfig;
+import org.apache.hudi.config.HoodieWriteConfig;
+import org.apache.hudi.execution.bulkinsert.BulkInsertSortMode;
+import org.apache.hudi.index.HoodieIndex;
+import org.apache.hudi.keygen.constant.KeyGeneratorOptions;
+import org.apache.hudi.storage.StoragePath;
+import org.apache.hudi.table.HoodieSparkCopyOnWriteTable;
+
+import org.apache.avro.generic.GenericRecord;
+import org.apache.spark.api.java.JavaRDD;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import static org.apache.hudi.common.table.timeline.HoodieTimeline.COMMIT_ACTION;
+import static org.apache.hudi.common.testutils.HoodieTestDataGenerator.TRIP_EXAMPLE_SCHEMA;
+import static org.apache.hudi.testutils.Assertions.assertNoWriteErrors;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Unit tests {@link HoodieSortMergeJoinHandle}.
+ */
+public class TestHoodieSortMergeJoinHandle extends BaseTestHandle {
+
+  private static final String ORDERING_FIELD = "timestamp";
+  private static final String PARTITION_PATH = HoodieTestDataGenerator.DEFAULT_PARTITION_PATHS[0];
+  private static final List<String> BASE_KEYS = Arrays.asList(
+      "key-010", "key-020", "key-030", "key-040", "key-050", "key-060", "key-070", "key-080", "key-090", "key-100");
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  public void testMergeWithBaseFile(boolean sortedBaseFile) throws IOException {
+    metaClient.getStorage().deleteDirectory(metaClient.getBasePath());
+    Properties properties = new Properties();
+    properties.put(KeyGeneratorOptions.RECORDKEY_FIELD_NAME.key(), "_row_key");
+    properties.put(KeyGeneratorOptions.PARTITIONPATH_FIELD_NAME.key(), "partition_path");
+    properties.put(HoodieTableConfig.ORDERING_FIELDS.key(), ORDERING_FIELD);
+    properties.put(HoodieTableConfig.RECORD_MERGE_MODE.key(), RecordMergeMode.COMMIT_TIME_ORDERING.name());
+    initMetaClient(getTableType(), properties);
+
+    HoodieTestDataGenerator dataGenerator = new HoodieTestDataGenerator(new String[] {PARTITION_PATH});
+    // the base file written before the sort merge is enabled keeps the order of the input records
+    List<String> baseKeys = new ArrayList<>(BASE_KEYS);
+    if (!sortedBaseFile) {
+      Collections.reverse(baseKeys);
+    }
+    String commit1 = writeBaseFile(dataGenerator, baseKeys);
+
+    HoodieWriteConfig config = getHoodieWriteConfigBuilder()
+        .withIndexConfig(HoodieIndexConfig.newBuilder()
+            .withIndexType(HoodieIndex.IndexType.BUCKET)
+            .withBucketIndexEngineType(HoodieIndex.BucketIndexEngineType.SIMPLE)
+            .withIndexKeyField("_row_key")
+            .withBucketNum("1")
+            .enableBucketIndexSortMerge(true)
+            .build())
+        .build();
+    metaClient = HoodieTableMetaClient.reload(metaClient);
+    HoodieSparkCopyOnWriteTable table = (HoodieSparkCopyOnWriteTable) HoodieSparkCopyOnWriteTable.create(config, context, metaClient);
+    String fileId = table.getFileSystemView().getAllFileGroups(PARTITION_PATH).collect(Collectors.toList()).get(0).getFileGroupId().getFileId();
+    assertEquals(sortedBaseFile, HoodieSortMergeJoinHandle.isBaseFileSortedByRecordKey(table, PARTITION_PATH, fileId, Option.empty()));
+
+    String instantTime = "002";
+    List<HoodieRecord> incomingRecords = new ArrayList<>();
+    // inserts before, between and after the keys of the base file
+    incomingRecords.add(toRecord(dataGenerator, instantTime, "key-005", "rider-insert", false));
+    incomingRecords.add(toRecord(dataGenerator, instantTime, "key-015", "rider-insert", false));
+    incomingRecords.add(toRecord(dataGenerator, instantTime, "key-020", "rider-update", false));
+    incomingRecords.add(toRecord(dataGenerator, instantTime, "key-030", "rider-delete", true));
+    // duplicate keys, the last of the records with the same key wins
+    incomingRecords.add(toRecord(dataGenerator, instantTime, "key-040", "rider-first", false));
+    incomingRecords.add(toRecord(dataGenerator, instantTime, "key-040", "rider-last", false));
+    incomingRecords.add(toRecord(dataGenerator, instantTime, "key-050", "rider-update", false));
+    incomingRecords.add(toRecord(dataGenerator, instantTime, "key-090", "rider-delete", true));
+    incomingRecords.add(toRecord(dataGenerator, instantTime, "key-110", "rider-insert", false));
+    incomingRecords.add(toRecord(dataGenerator, instantTime, "key-115", "rider-first", false));
+    incomingRecords.add(toRecord(dataGenerator, instantTime, "key-115", "rider-last", false));
+
+    HoodieMergeHandle mergeHandle = HoodieMergeHandleFactory.create(WriteOperationType.UPSERT, config, instantTime, table,
+        incomingRecords.iterator(), PARTITION_PATH, fileId, new LocalTaskContextSupplier(), Option.empty());
+    // an unsorted base file is merged with the default merge handle instead
+    assertEquals(sortedBaseFile ? HoodieSortMergeJoinHandle.class : HoodieWriteMergeHandle.class, mergeHandle.getClass());
+    mergeHandle.doMerge();
+    WriteStatus writeStatus = (WriteStatus) mergeHandle.close().get(0);
+
+    HoodieWriteStat stat = writeStatus.getStat();
+    assertEquals(0, writeStatus.getTotalErrorRecords());
+    assertEquals(commit1, stat.getPrevCommit());
+    assertEquals(12, stat.getNumWrites());
+    assertEquals(3, stat.getNumUpdateWrites());
+    assertEquals(4, stat.getNumInserts());
+    assertEquals(2, stat.getNumDeletes());
+
+    List<GenericRecord> actualRecords = new ParquetUtils().readAvroRecords(metaClient.getStorage(),
+        new StoragePath(metaClient.getBasePath(), stat.getPath()));
+    List<String> actualKeys = actualRecords.stream().map(record -> record.get("_row_key").toString()).collect(Collectors.toList());
+    List<String> expectedKeys = Arrays.asList("key-005", "key-010", "key-015", "key-020", "key-040", "key-050", "key-060",
+        "key-070", "key-080", "key-100", "key-110", "key-115");
+    // the writer records in the footer whether the keys are sorted, so that the next merge does not read them to check it
+    assertEquals(String.valueOf(sortedBaseFile), new ParquetUtils().readFooter(metaClient.getStorage(), true,
+            new StoragePath(metaClient.getBasePath(), stat.getPath()), HoodieBloomFilterWriteSupport.HOODIE_RECORD_KEYS_SORTED_FOOTER)
+        .get(HoodieBloomFilterWriteSupport.HOODIE_RECORD_KEYS_SORTED_FOOTER));
+    if (sortedBaseFile) {
+      // the merged base file is sorted by record key as well
+      assertEquals(expectedKeys, actualKeys);
+    } else {
+      assertEquals(expectedKeys, actualKeys.stream().sorted().collect(Collectors.toList()));
+    }
+    Map<String, String> actualRiders = actualRecords.stream()
+        .collect(Collectors.toMap(record -> record.get("_row_key").toString(), record -> record.get("rider").toString()));
+    assertEquals("rider-insert", actualRiders.get("key-005"));
+    assertEquals("rider-base", actualRiders.get("key-010"));
+    assertEquals("rider-insert", actualRiders.get("key-015"));
+    assertEquals("rider-update", actualRiders.get("key-020"));
+    assertEquals("rider-last", actualRiders.get("key-040"));
+    assertEquals("rider-update", actualRiders.get("key-050"));
+    assertEquals("rider-base", actualRiders.get("key-100"));
+    assertEquals("rider-insert", actualRiders.get("key-110"));
+    assertEquals("rider-last", actualRiders.get("key-115"));
+    assertFalse(actualRiders.containsKey("key-030"));
+    assertFalse(actualRiders.containsKey("key-090"));
+  }
+
+  private String writeBaseFile(HoodieTestDataGenerator dataGenerator, List<String> keys) {
+    // the records are written in the given order with a single bulk insert task
+    HoodieWriteConfig config = getHoodieWriteConfigBuilder()
+        .withBulkInsertSortMode(BulkInsertSortMode.NONE.name())
+        .withBulkInsertParallelism(1)
+        .build();
+    try (SparkRDDWriteClient client = getHoodieWriteClient(config)) {
+      String instantTime = client.startCommit();
+      List<HoodieRecord> records = keys.stream()
+          .map(key -> toRecord(dataGenerator, instantTime, key, "rider-base", false))
+          .collect(Collectors.toList());
+      JavaRDD<HoodieRecord> writeRecords = jsc.parallelize(records, 1);
+      List<WriteStatus> statuses = client.bulkInsert(writeRecords, instantTime).collect();
+      assertNoWriteErrors(statuses);
+      client.commit(instantTime, jsc.parallelize(statuses), Option.empty(), COMMIT_ACTION, Collections.emptyMap(), Option.empty());
+      return instantTime;
+    }
+  }
+
+  private HoodieRecord toRecord(HoodieTestDataGenerator dataGenerator, String instantTime, String key, String rider, boolean isDelete) {
+    GenericRecord genericRecord = (GenericRecord) ((SerializableIndexedRecord) dataGenerator.generateInserts(instantTime, 1).get(0).getData()).getData();
+    genericRecord.put("_row_key", key);
+    genericRecord.put("rider", rider);
+    genericRecord.put(HoodieRecord.HOODIE_IS_DELETED_FIELD, isDelete);
+    return new HoodieAvroRecord<>(new HoodieKey(key, PARTITION_PATH),
+        HoodieRecordUtils.loadPayload(OverwriteWithLatestAvroPayload.class.getName(), genericRecord, (Comparable) genericRecord.get(ORDERING_FIELD)), null,
+        (Comparable) genericRecord.get(ORDERING_FIELD), isDelete);
+  }
+
+  private HoodieWriteConfig.Builder getHoodieWriteConfigBuilder() {
+    return getConfigBuilder(basePath)
+        .withPopulateMetaFields(true)
+        .withFileSystemViewConfig(FileSystemViewStorageConfig.newBuilder().withRemoteServerPort(timelineServicePort).build())
+        .withMetadataConfig(HoodieMetadataConfig.newBuilder().enable(false).build())
+        .withKeyGenerator(KeyGeneratorForDataGeneratorRecords.class.getCanonicalName())
+        .withSchema(TRIP_EXAMPLE_SCHEMA);
+  }
+}
@@ -21,7 +21,7 @@ import org.apache.hudi.{DataSourceReadOptions, DataSourceUtils, DataSourceWriteO
 import org.apache.hudi.DataSourceWriteOptions._
 import org.apache.hudi.HoodieConversionUtils.toJavaOption
 import org.apache.hudi.client.SparkRDDWriteClient
-import org.apache.hudi.common.config.{HoodieMemoryConfig, HoodieMetadataConfig, HoodieStorageConfig, RecordMergeMode}
+import org.apache.hudi.common.config.{HoodieMemoryConfig, HoodieMetadataConfig, HoodieReaderConfig, HoodieStorageConfig, RecordMergeMode}
 import org.apache.hudi.common.config.TimestampKeyGeneratorConfig.{TIMESTAMP_INPUT_DATE_FORMAT, TIMESTAMP_OUTPUT_DATE_FORMAT, TIMESTAMP_TIMEZONE_FORMAT, TIMESTAMP_TYPE_FIELD}
 import org.apache.hudi.common.model._
 import org.apache.hudi.common.model.HoodieRecord.HoodieRecordType
@@ -734,6 +734,74 @@ class TestMORDataSource extends HoodieSparkClientTestBase with SparkDatasetMixin
     hudiSnapshotDF2.limit(1).collect
   }
 
+  @ParameterizedTest
+  @EnumSource(value = classOf[HoodieRecordType], names = Array("AVRO", "SPARK"))
+  def testBatchMergeSnapshotRead(recordType: HoodieRecordType) {
+    var (writeOpts, readOpts) = getWriterReaderOpts(recordType)
+    // the latest write wins, so that every update and delete shows up in the snapshot
+    writeOpts = writeOpts ++ Map(HoodieWriteConfig.RECORD_MERGE_MODE.key -> RecordMergeMode.COMMIT_TIME_ORDERING.name)
+
+    spark.conf.set("spark.sql.parquet.enableVectorizedReader", true)
+    // Small columnar batches, so that each base file is read in several batches
+    // and the last ones come after the log records of the file group are exhausted
+    spark.conf.set("spark.sql.parquet.columnarReaderBatchSize", 8)
+    val schema = HoodieTestDataGenerator.SHORT_TRIP_SCHEMA
+    val records1 = recordsToStrings(dataGen.generateInsertsAsPerSchema("001", 300, schema)).asScala.toSeq
+    val inputDF1 = spark.read.json(spark.sparkContext.parallelize(records1, 2))
+    inputDF1.write.format("org.apache.hudi")
+      .options(writeOpts)
+      .option("hoodie.compact.inline", "false")
+      .option(DataSourceWriteOptions.OPERATION.key, DataSourceWriteOptions.INSERT_OPERATION_OPT_VAL)
+      .option(DataSourceWriteOptions.TABLE_TYPE.key, DataSourceWriteOptions.MOR_TABLE_TYPE_OPT_VAL)
+      .mode(SaveMode.Overwrite)
+      .save(basePath)
+
+    // Updates and deletes go to the log files
+    val records2 = recordsToStrings(dataGen.generateUniqueUpdatesAsPerSchema("002", 30, schema)).asScala.toSeq
+    spark.read.json(spark.sparkContext.parallelize(records2, 2))
+      .write.format("org.apache.hudi")
+      .options(writeOpts)
+      .mode(SaveMode.Append)
+      .save(basePath)
+    val records3 = recordsToStrings(dataGen.generateUniqueUpdatesAsPerSchema("003", 10, schema)).asScala.toSeq
+    spark.read.json(spark.sparkContext.parallelize(records3, 2))
+      .write.format("org.apache.hudi")
+      .options(writeOpts)
+      .option(DataSourceWriteOptions.OPERATION.key, DataSourceWriteOptions.DELETE_OPERATION_OPT_VAL)
+      .mode(SaveMode.Append)
+      .save(basePath)
+
+    def readSnapshot(batchMerge: Boolean): java.util.List[Row] = spark.read.format("org.apache.hudi")
+      .options(readOpts)
+      .option(DataSourceReadOptions.QUERY_TYPE.key, DataSourceReadOptions.QUERY_TYPE_SNAPSHOT_OPT_VAL)
+      .option(HoodieReaderConfig.FILE_GROUP_READER_BATCH_MERGE_ENABLED.key, batchMerge.toString)
+      .load(basePath)
+      .sort("_row_key")
+      .collectAsList()
+
+    try {
+      val rowPathRows = readSnapshot(batchMerge = false)
+      val batchPathRows = readSnapshot(batchMerge = true)
+      assertEquals(290, rowPathRows.size())
+      assertEquals(rowPathRows, batchPathRows)
+      // the updated values are visible through both paths
+      val updatedKeys = spark.read.json(spark.sparkContext.parallelize(records2, 2))
+        .select("_row_key", "fare").collectAsList().asScala
+        .map(r => r.getString(0) -> r.get(1)).toMap
+      val deletedKeys = spark.read.json(spark.sparkContext.parallelize(records3, 2))
+        .select("_row_key").collectAsList().asScala.map(_.getString(0)).toSet
+      batchPathRows.asScala.foreach { row =>
+        val key = row.getAs[String]("_row_key")
+        assertFalse(deletedKeys.contains(key))
+        if (updatedKeys.contains(key)) {
+          assertEquals(updatedKeys(key), row.getAs[Any]("fare"))
+        }
+      }
+    } finally {
+      spark.conf.unset("spark.sql.parquet.columnarReaderBatchSize")
+    }
+  }
+
   @ParameterizedTest
   @EnumSource(value = classOf[HoodieRecordType], names = Array("AVRO", "SPARK"))
   def testPreCombineFieldForReadMOR(recordType: HoodieRecordType): Unit = {
@@ -23,6 +23,7 @@ import org.apache.hudi.common.table.marker.MarkerOperation;
 import org.apache.hudi.common.table.timeline.HoodieInstant;
 import org.apache.hudi.common.table.timeline.HoodieTimeline;
 import org.apache.hudi.common.table.timeline.dto.BaseFileDTO;
+import org.apache.hudi.common.table.timeline.dto.BinaryDTOCodec;
 import org.apache.hudi.common.table.timeline.dto.ClusteringOpDTO;
 import org.apache.hudi.common.table.timeline.dto.CompactionOpDTO;
 import org.apache.hudi.common.table.timeline.dto.FileGroupDTO;
@@ -52,6 +53,8 @@ import io.javalin.Javalin;
 import io.javalin.http.BadRequestResponse;
 import io.javalin.http.Context;
 import io.javalin.http.Handler;
+import io.javalin.http.Header;
+import io.javalin.http.HttpCode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.hadoop.security.UserGroupInformation;
 
@@ -76,6 +79,7 @@ public class RequestHandler {
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new AfterburnerModule());
   private static final TypeReference<List<String>> LIST_TYPE_REFERENCE = new TypeReference<List<String>>() {
   };
+  private static final String RESPONSE_CACHE_KEY_ATTRIBUTE = "hoodie.view.response.cache.key";
 
   private final TimelineService.Config timelineServiceConfig;
   private final FileSystemViewManager viewManager;
@@ -87,6 +91,7 @@ public class RequestHandler {
   private RemotePartitionerHandler partitionerHandler;
   private final Registry metricsRegistry = Registry.getRegistry("TimelineService");
   private final ScheduledExecutorService asyncResultService;
+  private final ViewResponseCache responseCache;
 
   public RequestHandler(Javalin app, StorageConfiguration<?> conf, TimelineService.Config timelineServiceConfig,
                         FileSystemViewManager viewManager) {
@@ -110,6 +115,11 @@ public class RequestHandler {
     } else {
       this.asyncResultService = null;
     }
+    if (timelineServiceConfig.viewResponseCacheMaxMB > 0) {
+      this.responseCache = new ViewResponseCache(timelineServiceConfig.viewResponseCacheMaxMB * 1024L * 1024L);
+    } else {
+      this.responseCache = null;
+    }
   }
 
   /**
@@ -202,6 +212,15 @@ public class RequestHandler {
     }
   }
 
+  /**
+   * Drops the responses cached for the view of the table, after the view is synced or cleared.
+   */
+  public void invalidateCachedResponses(String basePath) {
+    if (responseCache != null) {
+      responseCache.invalidate(basePath);
+    }
+  }
+
   private void writeValueAsString(Context ctx, Object obj) throws JsonProcessingException {
     if (timelineServiceConfig.async) {
       writeValueAsStringAsync(ctx, obj);
@@ -212,19 +231,47 @@ public class RequestHandler {
 
   private void writeValueAsStringSync(Context ctx, Object obj) throws JsonProcessingException {
     String result = jsonifyResult(ctx, obj, metricsRegistry);
+    cacheResponse(ctx, result);
     ctx.result(result);
   }
 
   private void writeValueAsStringAsync(Context ctx, Object obj) {
     ctx.future(CompletableFuture.supplyAsync(() -> {
       try {
-        return jsonifyResult(ctx, obj, metricsRegistry);
+        String result = jsonifyResult(ctx, obj, metricsRegistry);
+        cacheResponse(ctx, result);
+        return result;
       } catch (JsonProcessingException e) {
         throw new HoodieException("Failed to JSON encode the value", e);
       }
     }, asyncResultService));
   }
 
+  /**
+   * Writes the data transfer objects in the binary encoding if requested by the client, or in JSON.
+   * The binary encoding is streamed to the client as the objects are encoded.
+   */
+  private <T> void writeDTOs(Context ctx, List<T> dtos, BinaryDTOCodec.Writer<T> writer) throws JsonProcessingException {
+    if (isBinaryFormatRequested(ctx)) {
+      metricsRegistry.add("WRITE_BINARY_CNT", 1);
+      ctx.contentType(BinaryDTOCodec.CONTENT_TYPE);
+      ctx.result(BinaryDTOCodec.encode(dtos, writer));
+    } else {
+      writeValueAsString(ctx, dtos);
+    }
+  }
+
+  private static boolean isBinaryFormatRequested(Context ctx) {
+    return RemoteHoodieTableFileSystemView.BINARY_FORMAT.equals(ctx.queryParam(RemoteHoodieTableFileSystemView.FORMAT_PARAM));
+  }
+
+  private void cacheResponse(Context ctx, String result) {
+    String key = ctx.attribute(RESPONSE_CACHE_KEY_ATTRIBUTE);
+    if (key != null) {
+      responseCache.put(ctx.queryParam(RemoteHoodieTableFileSystemView.BASEPATH_PARAM), key, result);
+    }
+  }
+
   /**
    * Register Timeline API calls.
    */
@@ -251,7 +298,7 @@ public class RequestHandler {
       List<BaseFileDTO> dtos = dataFileHandler.getLatestDataFiles(
           getBasePathParam(ctx),
           getPartitionParam(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, BaseFileDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.LATEST_PARTITION_DATA_FILE_URL, new ViewHandler(ctx -> {
@@ -260,13 +307,13 @@ public class RequestHandler {
           getBasePathParam(ctx),
           getPartitionParam(ctx),
           getFileIdParam(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, BaseFileDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.LATEST_ALL_DATA_FILES_URL, new ViewHandler(ctx -> {
       metricsRegistry.add("LATEST_ALL_DATA_FILES", 1);
       List<BaseFileDTO> dtos = dataFileHandler.getLatestDataFiles(getBasePathParam(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, BaseFileDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.LATEST_DATA_FILES_BEFORE_ON_INSTANT_URL, new ViewHandler(ctx -> {
@@ -275,7 +322,7 @@ public class RequestHandler {
           getBasePathParam(ctx),
           getPartitionParam(ctx),
           getMaxInstantParamMandatory(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, BaseFileDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.ALL_LATEST_BASE_FILES_BEFORE_ON_INSTANT_URL, new ViewHandler(ctx -> {
@@ -293,7 +340,7 @@ public class RequestHandler {
           getPartitionParam(ctx),
           ctx.queryParamAsClass(RemoteHoodieTableFileSystemView.INSTANT_PARAM, String.class).get(),
           getFileIdParam(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, BaseFileDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.ALL_DATA_FILES_URL, new ViewHandler(ctx -> {
@@ -301,7 +348,7 @@ public class RequestHandler {
       List<BaseFileDTO> dtos = dataFileHandler.getAllDataFiles(
           getBasePathParam(ctx),
           getPartitionParam(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, BaseFileDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.LATEST_DATA_FILES_RANGE_INSTANT_URL, new ViewHandler(ctx -> {
@@ -309,7 +356,7 @@ public class RequestHandler {
       List<BaseFileDTO> dtos = dataFileHandler.getLatestDataFilesInRange(
           getBasePathParam(ctx),
           getInstantsParam(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, BaseFileDTO::write);
     }, true));
   }
 
@@ -322,7 +369,7 @@ public class RequestHandler {
       List<FileSliceDTO> dtos = sliceHandler.getLatestFileSlices(
           getBasePathParam(ctx),
           getPartitionParam(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, FileSliceDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.LATEST_PARTITION_SLICES_INFLIGHT_URL, new ViewHandler(ctx -> {
@@ -330,7 +377,7 @@ public class RequestHandler {
       List<FileSliceDTO> dtos = sliceHandler.getLatestFileSlicesIncludingInflight(
           getBasePathParam(ctx),
           getPartitionParam(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, FileSliceDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.LATEST_PARTITION_SLICES_STATELESS_URL, new ViewHandler(ctx -> {
@@ -338,7 +385,7 @@ public class RequestHandler {
       List<FileSliceDTO> dtos = sliceHandler.getLatestFileSlicesStateless(
           getBasePathParam(ctx),
           getPartitionParam(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, FileSliceDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.LATEST_PARTITION_SLICE_URL, new ViewHandler(ctx -> {
@@ -347,7 +394,7 @@ public class RequestHandler {
           getBasePathParam(ctx),
           getPartitionParam(ctx),
           getFileIdParam(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, FileSliceDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.LATEST_PARTITION_UNCOMPACTED_SLICES_URL, new ViewHandler(ctx -> {
@@ -355,7 +402,7 @@ public class RequestHandler {
       List<FileSliceDTO> dtos = sliceHandler.getLatestUnCompactedFileSlices(
           getBasePathParam(ctx),
           getPartitionParam(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, FileSliceDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.ALL_SLICES_URL, new ViewHandler(ctx -> {
@@ -363,7 +410,7 @@ public class RequestHandler {
       List<FileSliceDTO> dtos = sliceHandler.getAllFileSlices(
           getBasePathParam(ctx),
           getPartitionParam(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, FileSliceDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.LATEST_SLICES_RANGE_INSTANT_URL, new ViewHandler(ctx -> {
@@ -371,7 +418,7 @@ public class RequestHandler {
       List<FileSliceDTO> dtos = sliceHandler.getLatestFileSliceInRange(
           getBasePathParam(ctx),
           getInstantsParam(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, FileSliceDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.LATEST_SLICES_MERGED_BEFORE_ON_INSTANT_URL, new ViewHandler(ctx -> {
@@ -380,7 +427,7 @@ public class RequestHandler {
           getBasePathParam(ctx),
           getPartitionParam(ctx),
           getMaxInstantParamMandatory(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, FileSliceDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.LATEST_SLICES_MERGED_BEFORE_ON_INSTANT_INFLIGHT_URL, new ViewHandler(ctx -> {
@@ -390,7 +437,7 @@ public class RequestHandler {
           getPartitionParam(ctx),
           getMaxInstantParamMandatory(ctx),
           getCurrentInstantParamMandatory(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, FileSliceDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.LATEST_SLICE_MERGED_BEFORE_ON_INSTANT_URL, new ViewHandler(ctx -> {
@@ -400,7 +447,7 @@ public class RequestHandler {
           getPartitionParam(ctx),
           getMaxInstantParamMandatory(ctx),
           getFileIdParam(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, FileSliceDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.LATEST_SLICES_BEFORE_ON_INSTANT_URL, new ViewHandler(ctx -> {
@@ -410,7 +457,7 @@ public class RequestHandler {
           getPartitionParam(ctx),
           getMaxInstantParamMandatory(ctx),
           getIncludeFilesInPendingCompactionParam(ctx));
-      writeValueAsString(ctx, dtos);
+      writeDTOs(ctx, dtos, FileSliceDTO::write);
     }, true));
 
     app.get(RemoteHoodieTableFileSystemView.ALL_LATEST_SLICES_BEFORE_ON_INSTANT_URL, new ViewHandler(ctx -> {
@@ -451,7 +498,9 @@ public class RequestHandler {
 
     app.post(RemoteHoodieTableFileSystemView.REFRESH_TABLE_URL, new ViewHandler(ctx -> {
       metricsRegistry.add("REFRESH_TABLE", 1);
-      boolean success = sliceHandler.refreshTable(getBasePathParam(ctx));
+      String basePath = getBasePathParam(ctx);
+      boolean success = sliceHandler.refreshTable(basePath);
+      invalidateCachedResponses(basePath);
       writeValueAsString(ctx, success);
     }, false));
 
@@ -608,7 +657,9 @@ public class RequestHandler {
           }
 
           long handleBeginMs = System.currentTimeMillis();
-          handler.handle(context);
+          if (!refreshCheck || !respondFromCache(context)) {
+            handler.handle(context);
+          }
           long handleEndMs = System.currentTimeMillis();
           handleTimeTaken = handleEndMs - handleBeginMs;
 
@@ -654,6 +705,42 @@ public class RequestHandler {
       });
     }
 
+    /**
+     * Responds to a request on the file system view with the response cached for the current version
+     * of the view, or with no content if the client already has the response of that version. Otherwise,
+     * marks the response of the request to be cached once serialized.
+     *
+     * @return true if the request has been responded to.
+     */
+    private boolean respondFromCache(Context ctx) {
+      if (responseCache == null || !ctx.method().equals("GET")) {
+        return false;
+      }
+      String basePath = ctx.queryParam(RemoteHoodieTableFileSystemView.BASEPATH_PARAM);
+      HoodieTimeline localTimeline = viewManager.getFileSystemView(basePath).getTimeline();
+      String eTag = responseCache.getETag(basePath, localTimeline, ctx.path(), ctx.queryParamMap());
+      ctx.header(Header.ETAG, eTag);
+      if (eTag.equals(ctx.header(Header.IF_NONE_MATCH))) {
+        metricsRegistry.add("VIEW_RESPONSE_NOT_MODIFIED", 1);
+        ctx.status(HttpCode.NOT_MODIFIED);
+        return true;
+      }
+      if (isBinaryFormatRequested(ctx)) {
+        // Only the JSON responses are cached, the binary ones are cheap to encode
+        return false;
+      }
+      String key = responseCache.getKey(basePath, localTimeline, ctx.path(), ctx.queryParamMap());
+      Option<String> cachedResponse = responseCache.get(key);
+      if (cachedResponse.isPresent()) {
+        metricsRegistry.add("VIEW_RESPONSE_CACHE_HIT", 1);
+        ctx.result(cachedResponse.get());
+        return true;
+      }
+      metricsRegistry.add("VIEW_RESPONSE_CACHE_MISS", 1);
+      ctx.attribute(RESPONSE_CACHE_KEY_ATTRIBUTE, key);
+      return false;
+    }
+
     /**
      * Determines if local view of table's timeline is behind that of client's view.
      */
@@ -697,6 +784,7 @@ public class RequestHandler {
                 lastKnownInstantFromClient, localTimeline.lastInstant());
           }
           view.sync();
+          invalidateCachedResponses(basePath);
           return true;
         }
       }
@@ -118,6 +118,12 @@ public class TimelineService {
     @Parameter(names = {"--compress"}, description = "Compress output using gzip")
     public boolean compress = true;
 
+    @Builder.Default
+    @Parameter(names = {"--view-response-cache-max-mb"},
+        description = "Maximum memory in MB used to cache the serialized responses of the file system view APIs,"
+            + " which are shared by the requests made against the same version of the view of a table. 0 disables the cache")
+    public int viewResponseCacheMaxMB = 0;
+
     @Builder.Default
     @Parameter(names = {"--enable-marker-requests", "-em"}, description = "Enable handling of marker-related requests")
     public boolean enableMarkerRequests = false;
@@ -292,6 +298,9 @@ public class TimelineService {
 
   public void unregisterBasePath(String basePath) {
     fsViewsManager.clearFileSystemView(basePath);
+    if (requestHandler != null) {
+      requestHandler.invalidateCachedResponses(basePath);
+    }
   }
 
   public static void main(String[] args) throws Exception {
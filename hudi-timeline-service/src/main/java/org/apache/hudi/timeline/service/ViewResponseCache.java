@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.timeline.service;
+
+import org.apache.hudi.common.table.timeline.HoodieTimeline;
+import org.apache.hudi.common.table.view.RemoteHoodieTableFileSystemView;
+import org.apache.hudi.common.util.Option;
+import org.apache.hudi.common.util.StringUtils;
+import org.apache.hudi.common.util.hash.HashID;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache of the serialized responses of the file system view APIs, shared by all the requests to the
+ * timeline server.
+ * <p>
+ * A response is cached for a snapshot of the view of a table, identified by the version of the view
+ * and the hash of its timeline. The version is bumped whenever the view of the table is synced or
+ * cleared, so that the requests made against a new snapshot never see the responses of an older one,
+ * while the concurrent requests made against the same snapshot share the serialized responses
+ * instead of querying the view and serializing the results again.
+ * <p>
+ * The entity tag of a response identifies both the snapshot of the view and the request, so that a
+ * client only gets a not modified response for the very request it made before.
+ */
+class ViewResponseCache {
+
+  private static final char KEY_SEPARATOR = '\u0000';
+  // Query parameters describing the state of the client, which do not change the response
+  private static final Set<String> CLIENT_STATE_PARAMS = new HashSet<>(Arrays.asList(
+      RemoteHoodieTableFileSystemView.LAST_INSTANT_TS,
+      RemoteHoodieTableFileSystemView.TIMELINE_HASH,
+      RemoteHoodieTableFileSystemView.REFRESH_OFF));
+
+  private final Cache<String, String> responses;
+  private final Map<String, AtomicLong> viewVersions = new ConcurrentHashMap<>();
+
+  ViewResponseCache(long maxSizeInBytes) {
+    this.responses = Caffeine.newBuilder()
+        .maximumWeight(maxSizeInBytes)
+        .weigher((String key, String response) -> (key.length() + response.length()) * Character.BYTES)
+        .build();
+  }
+
+  /**
+   * @return the entity tag of the response to a request on the view of the table with the given timeline.
+   */
+  String getETag(String basePath, HoodieTimeline timeline, String requestPath, Map<String, List<String>> queryParams) {
+    String requestHash = StringUtils.toHexString(HashID.hash(getRequest(requestPath, queryParams), HashID.Size.BITS_128));
+    return "\"" + getViewVersion(basePath) + "-" + timeline.getTimelineHash() + "-" + requestHash + "\"";
+  }
+
+  /**
+   * @return the key of the response to a request on the view of the table with the given timeline.
+   */
+  String getKey(String basePath, HoodieTimeline timeline, String requestPath, Map<String, List<String>> queryParams) {
+    return getKeyPrefix(basePath, getViewVersion(basePath)) + timeline.getTimelineHash() + KEY_SEPARATOR
+        + getRequest(requestPath, queryParams);
+  }
+
+  Option<String> get(String key) {
+    return Option.ofNullable(responses.getIfPresent(key));
+  }
+
+  /**
+   * Caches the response to a request on the view of the table, unless the view has moved to a new
+   * version since the key of the request was computed: such a response could never be served again.
+   */
+  void put(String basePath, String key, String response) {
+    String prefix = getKeyPrefix(basePath, getViewVersion(basePath));
+    if (!key.startsWith(prefix)) {
+      return;
+    }
+    responses.put(key, response);
+    // The view may have been invalidated concurrently, after the version check
+    if (!key.startsWith(getKeyPrefix(basePath, getViewVersion(basePath)))) {
+      responses.invalidate(key);
+    }
+  }
+
+  /**
+   * Moves the view of the table to a new version, after it is synced or cleared, and drops the
+   * responses cached for the older versions.
+   */
+  void invalidate(String basePath) {
+    viewVersions.computeIfAbsent(basePath, k -> new AtomicLong()).incrementAndGet();
+    String prefix = basePath + KEY_SEPARATOR;
+    responses.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+  }
+
+  private static String getKeyPrefix(String basePath, long viewVersion) {
+    return basePath + KEY_SEPARATOR + viewVersion + KEY_SEPARATOR;
+  }
+
+  private static String getRequest(String requestPath, Map<String, List<String>> queryParams) {
+    StringBuilder request = new StringBuilder(requestPath);
+    // Sorts the parameters so that the same request always maps to the same key
+    new TreeMap<>(queryParams).forEach((name, values) -> {
+      if (!CLIENT_STATE_PARAMS.contains(name)) {
+        request.append(KEY_SEPARATOR).append(name).append('=').append(String.join(",", values));
+      }
+    });
+    return request.toString();
+  }
+
+  private long getViewVersion(String basePath) {
+    AtomicLong version = viewVersions.get(basePath);
+    return version == null ? 0 : version.get();
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.hudi.timeline.service;
+
+import org.apache.hudi.common.table.timeline.HoodieTimeline;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.apache.hudi.common.table.view.RemoteHoodieTableFileSystemView.BASEPATH_PARAM;
+import static org.apache.hudi.common.table.view.RemoteHoodieTableFileSystemView.LAST_INSTANT_TS;
+import static org.apache.hudi.common.table.view.RemoteHoodieTableFileSystemView.LATEST_PARTITION_DATA_FILES_URL;
+import static org.apache.hudi.common.table.view.RemoteHoodieTableFileSystemView.LATEST_PARTITION_SLICES_URL;
+import static org.apache.hudi.common.table.view.RemoteHoodieTableFileSystemView.PARTITION_PARAM;
+import static org.apache.hudi.common.table.view.RemoteHoodieTableFileSystemView.TIMELINE_HASH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TestViewResponseCache {
+
+  private static final String BASE_PATH = "file:/tmp/table";
+
+  @Test
+  void testResponsesSharedByClientsOfSameView() {
+    ViewResponseCache cache = new ViewResponseCache(1024 * 1024);
+    HoodieTimeline timeline = mockTimeline("hash1");
+    String key = cache.getKey(BASE_PATH, timeline, LATEST_PARTITION_SLICES_URL, queryParams("p1", "001", "hash1"));
+    assertFalse(cache.get(key).isPresent());
+    cache.put(BASE_PATH, key, "[]");
+
+    // The state of the client is not part of the key
+    assertEquals(key, cache.getKey(BASE_PATH, timeline, LATEST_PARTITION_SLICES_URL, queryParams("p1", "002", "hash0")));
+    assertEquals("[]", cache.get(key).get());
+    assertNotEquals(key, cache.getKey(BASE_PATH, timeline, LATEST_PARTITION_SLICES_URL, queryParams("p2", "001", "hash1")));
+    assertNotEquals(key, cache.getKey(BASE_PATH, mockTimeline("hash2"), LATEST_PARTITION_SLICES_URL, queryParams("p1", "001", "hash1")));
+  }
+
+  @Test
+  void testInvalidate() {
+    ViewResponseCache cache = new ViewResponseCache(1024 * 1024);
+    HoodieTimeline timeline = mockTimeline("hash1");
+    String eTag = cache.getETag(BASE_PATH, timeline, LATEST_PARTITION_SLICES_URL, queryParams("p1", "001", "hash1"));
+    String key = cache.getKey(BASE_PATH, timeline, LATEST_PARTITION_SLICES_URL, queryParams("p1", "001", "hash1"));
+    cache.put(BASE_PATH, key, "[]");
+    String otherTableKey = cache.getKey(BASE_PATH + "2", timeline, LATEST_PARTITION_SLICES_URL, queryParams("p1", "001", "hash1"));
+    cache.put(BASE_PATH + "2", otherTableKey, "[]");
+
+    cache.invalidate(BASE_PATH);
+    assertFalse(cache.get(key).isPresent());
+    assertNotEquals(eTag, cache.getETag(BASE_PATH, timeline, LATEST_PARTITION_SLICES_URL, queryParams("p1", "001", "hash1")));
+    assertNotEquals(key, cache.getKey(BASE_PATH, timeline, LATEST_PARTITION_SLICES_URL, queryParams("p1", "001", "hash1")));
+    assertTrue(cache.get(otherTableKey).isPresent());
+  }
+
+  @Test
+  void testETagIdentifiesRequest() {
+    ViewResponseCache cache = new ViewResponseCache(1024 * 1024);
+    HoodieTimeline timeline = mockTimeline("hash1");
+    String eTag = cache.getETag(BASE_PATH, timeline, LATEST_PARTITION_SLICES_URL, queryParams("p1", "001", "hash1"));
+
+    // The state of the client is not part of the entity tag
+    assertEquals(eTag, cache.getETag(BASE_PATH, timeline, LATEST_PARTITION_SLICES_URL, queryParams("p1", "002", "hash0")));
+    assertNotEquals(eTag, cache.getETag(BASE_PATH, timeline, LATEST_PARTITION_SLICES_URL, queryParams("p2", "001", "hash1")));
+    assertNotEquals(eTag, cache.getETag(BASE_PATH, timeline, LATEST_PARTITION_DATA_FILES_URL, queryParams("p1", "001", "hash1")));
+    assertNotEquals(eTag, cache.getETag(BASE_PATH, mockTimeline("hash2"), LATEST_PARTITION_SLICES_URL, queryParams("p1", "001", "hash1")));
+  }
+
+  @Test
+  void testResponseOfOlderViewVersionNotCached() {
+    ViewResponseCache cache = new ViewResponseCache(1024 * 1024);
+    HoodieTimeline timeline = mockTimeline("hash1");
+    String key = cache.getKey(BASE_PATH, timeline, LATEST_PARTITION_SLICES_URL, queryParams("p1", "001", "hash1"));
+
+    // The view is synced while the response is computed
+    cache.invalidate(BASE_PATH);
+    cache.put(BASE_PATH, key, "[]");
+    assertFalse(cache.get(key).isPresent());
+  }
+
+  private static HoodieTimeline mockTimeline(String timelineHash) {
+    HoodieTimeline timeline = mock(HoodieTimeline.class);
+    when(timeline.getTimelineHash()).thenReturn(timelineHash);
+    return timeline;
+  }
+
+  private static Map<String, List<String>> queryParams(String partition, String lastInstant, String timelineHash) {
+    Map<String, List<String>> params = new HashMap<>();
+    params.put(BASEPATH_PARAM, Collections.singletonList(BASE_PATH));
+    params.put(PARTITION_PARAM, Collections.singletonList(partition));
+    params.put(LAST_INSTANT_TS, Collections.singletonList(lastInstant));
+    params.put(TIMELINE_HASH, Collections.singletonList(timelineHash));
+    return params;
+  }
+}
@@ -167,12 +167,17 @@ public class TestRemoteHoodieTableFileSystemView extends TestHoodieTableFileSyst
         activeTimeline.getCommitsTimeline().filterCompletedInstants());
   }
 
-  private static RemoteHoodieTableFileSystemView initFsView(HoodieTableMetaClient metaClient,
-                                                            int serverPort,
-                                                            boolean enableRetries) {
+  protected boolean isBinaryEncodingEnabled() {
+    return false;
+  }
+
+  private RemoteHoodieTableFileSystemView initFsView(HoodieTableMetaClient metaClient,
+                                                     int serverPort,
+                                                     boolean enableRetries) {
     FileSystemViewStorageConfig.Builder builder = FileSystemViewStorageConfig.newBuilder().withRemoteServerHost("localhost")
         .withRemoteServerPort(serverPort)
-        .withRemoteTimelineClientTimeoutSecs(DEFAULT_READ_TIMEOUT_SECS);
+        .withRemoteTimelineClientTimeoutSecs(DEFAULT_READ_TIMEOUT_SECS)
+        .withRemoteBinaryEncoding(isBinaryEncodingEnabled());
     if (enableRetries) {
       builder.withRemoteTimelineClientTimeoutSecs(300)
           .withRemoteTimelineClientRetry(true)
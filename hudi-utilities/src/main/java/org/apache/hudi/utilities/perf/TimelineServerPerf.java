@@ -111,8 +111,12 @@ public class TimelineServerPerf implements Serializable {
     Collections.shuffle(allPartitionPaths);
     List<String> selected = allPartitionPaths.stream().filter(p -> !p.contains("error")).limit(cfg.maxPartitions)
         .collect(Collectors.toList());
-    SyncableFileSystemView fsView =
-        new RemoteHoodieTableFileSystemView(this.hostAddr, cfg.serverPort, metaClient);
+    SyncableFileSystemView fsView = new RemoteHoodieTableFileSystemView(metaClient,
+        FileSystemViewStorageConfig.newBuilder()
+            .withRemoteServerHost(this.hostAddr)
+            .withRemoteServerPort(cfg.serverPort)
+            .withRemoteBinaryEncoding(cfg.binaryEncoding)
+            .build());
 
     String reportDir = cfg.reportDir;
     metaClient.getStorage().createDirectory(new StoragePath(reportDir));
@@ -160,8 +164,9 @@ public class TimelineServerPerf implements Serializable {
       List<FileSlice> slices = fsView.getLatestFileSlices(p).collect(Collectors.toList());
       String fileId = slices.isEmpty() ? "dummyId"
           : slices.get(new Random(Double.doubleToLongBits(Math.random())).nextInt(slices.size())).getFileId();
+      boolean lookupPartition = cfg.lookupPartition;
       IntStream.range(0, concurrency).forEach(i -> futures.add(executor.schedule(() -> runOneRound(fsView, p, fileId,
-          i, numIterations), 0, TimeUnit.NANOSECONDS)));
+          i, numIterations, lookupPartition), 0, TimeUnit.NANOSECONDS)));
       futures.forEach(x -> {
         try {
           result.add(x.get());
@@ -176,15 +181,23 @@ public class TimelineServerPerf implements Serializable {
   }
 
   private static PerfStats runOneRound(SyncableFileSystemView fsView, String partition, String fileId, int id,
-      int numIterations) {
+      int numIterations, boolean lookupPartition) {
     Histogram latencyHistogram = new Histogram(new UniformReservoir(10000));
     for (int i = 0; i < numIterations; i++) {
       long beginTs = System.currentTimeMillis();
-      Option<FileSlice> c = fsView.getLatestFileSlice(partition, fileId);
-      long endTs = System.currentTimeMillis();
-      System.out.println("Latest File Slice for part=" + partition + ", fileId=" + fileId + ", Slice=" + c + ", Time="
-          + (endTs - beginTs));
-      latencyHistogram.update(endTs - beginTs);
+      if (lookupPartition) {
+        long numSlices = fsView.getLatestFileSlices(partition).count();
+        long endTs = System.currentTimeMillis();
+        System.out.println("Latest File Slices for part=" + partition + ", NumSlices=" + numSlices + ", Time="
+            + (endTs - beginTs));
+        latencyHistogram.update(endTs - beginTs);
+      } else {
+        Option<FileSlice> c = fsView.getLatestFileSlice(partition, fileId);
+        long endTs = System.currentTimeMillis();
+        System.out.println("Latest File Slice for part=" + partition + ", fileId=" + fileId + ", Slice=" + c + ", Time="
+            + (endTs - beginTs));
+        latencyHistogram.update(endTs - beginTs);
+      }
     }
     return new PerfStats(partition, id, latencyHistogram.getSnapshot());
   }
@@ -311,6 +324,14 @@ public class TimelineServerPerf implements Serializable {
     @Parameter(names = {"--rocksdb-path", "-rp"}, description = "Root directory for RocksDB")
     public String rocksDBPath = FileSystemViewStorageConfig.ROCKSDB_BASE_PATH.defaultValue();
 
+    @Parameter(names = {"--binary-encoding", "-be"},
+        description = "Request the file slices from the timeline server in the binary encoding instead of JSON")
+    public Boolean binaryEncoding = false;
+
+    @Parameter(names = {"--lookup-partition", "-lp"},
+        description = "Look up all the latest file slices of the partition in each iteration instead of a single file slice")
+    public Boolean lookupPartition = false;
+
     @Parameter(names = {"--wait-for-manual-queries", "-ww"})
     public Boolean waitForManualQueries = false;
 